@@ -0,0 +1,43 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.3" // https://plugins.gradle.org/plugin/me.champeau.jmh
+}
+
+tasks.withType<PublishToMavenRepository>().configureEach { enabled = false }
+tasks.withType<PublishToMavenLocal>().configureEach { enabled = false }
+
+val bytefacetsCollectionsVersion = extra["bytefacetsCollectionsVersion"] as String
+val grpcVersion = extra["grpcVersion"] as String
+val nettyVersion = extra["nettyVersion"] as String
+val protobufVersion = extra["protobufVersion"] as String
+val jmhCoreVersion = "1.37" // https://mvnrepository.com/artifact/org.openjdk.jmh/jmh-core
+
+dependencies {
+    jmh(project(":spinel"))
+    jmh("com.bytefacets:bytefacets-collections:${bytefacetsCollectionsVersion}")
+
+    // gRPC transport suites
+    jmh(project(":grpc"))
+    jmh("io.grpc:grpc-inprocess:${grpcVersion}")
+    jmh("io.grpc:grpc-protobuf:${grpcVersion}")
+    jmh("io.grpc:grpc-stub:${grpcVersion}")
+    jmh("io.netty:netty-transport:${nettyVersion}")
+    jmh("com.google.protobuf:protobuf-java:${protobufVersion}")
+}
+
+// Run all suites with `./gradlew :benchmarks:jmh`, or a subset with
+// `./gradlew :benchmarks:jmh -Pjmh.includes=GroupBy`
+jmh {
+    jmhVersion.set(jmhCoreVersion)
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+    fork.set(1)
+    warmupIterations.set(3)
+    warmup.set("2s")
+    iterations.set(5)
+    timeOnIteration.set("2s")
+    // gc profiler reports allocation rate (gc.alloc.rate) and bytes per operation (gc.alloc.rate.norm)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    jvmArgs.set(listOf("-Xms2g", "-Xmx2g"))
+}
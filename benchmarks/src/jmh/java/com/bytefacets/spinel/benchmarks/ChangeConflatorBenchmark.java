@@ -0,0 +1,70 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.SourceTable.sourceTable;
+import static com.bytefacets.spinel.conflation.ChangeConflatorBuilder.changeConflator;
+
+import com.bytefacets.spinel.benchmarks.SourceTable.Column;
+import com.bytefacets.spinel.conflation.ChangeConflator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Change batches through a ChangeConflator. Each invocation changes the same {@code batchSize} rows
+ * {@code updatesPerRow} times, alternating between two fields, and then releases the pending
+ * changes. With more than one update per row, the source produces {@code updatesPerRow} times as
+ * many change notifications as the conflator releases.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChangeConflatorBenchmark {
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    @Param({"1", "4"})
+    public int updatesPerRow;
+
+    private SourceTable source;
+    private ChangeConflator conflator;
+    private RowSink sink;
+
+    @Setup
+    public void setUp() {
+        source = sourceTable("Source", "", rowCount, 64, 1024);
+        conflator =
+                changeConflator("Conflator")
+                        .initialCapacity(rowCount)
+                        .maxPendingRows(rowCount)
+                        .build();
+        sink = new RowSink();
+        source.output().attachInput(conflator.input());
+        conflator.output().attachInput(sink);
+    }
+
+    @Benchmark
+    public long conflateAndRelease(final RowCounters counters) {
+        final long before = sink.rows();
+        for (int i = 0; i < updatesPerRow; i++) {
+            if (i != 0) {
+                source.rewind(batchSize);
+            }
+            source.change(
+                    (i & 1) == 0 ? Column.Value1 : Column.Value2, batchSize, 1, Integer.MAX_VALUE);
+        }
+        conflator.firePendingChanges();
+        counters.record(batchSize * updatesPerRow, sink.rows() - before);
+        return sink.checksum();
+    }
+}
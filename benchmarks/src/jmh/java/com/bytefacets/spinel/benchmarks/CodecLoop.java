@@ -0,0 +1,80 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.grpc.receive.GrpcDecoder.grpcDecoder;
+import static com.bytefacets.spinel.grpc.receive.SchemaBuilder.schemaBuilder;
+import static com.bytefacets.spinel.grpc.send.GrpcEncoder.grpcEncoder;
+import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
+
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.grpc.proto.SubscriptionResponse;
+import com.bytefacets.spinel.grpc.receive.GrpcDecoder;
+import com.bytefacets.spinel.grpc.send.GrpcEncoder;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.Schema;
+import com.google.protobuf.InvalidProtocolBufferException;
+import jakarta.annotation.Nullable;
+
+/**
+ * Terminal input which sends every update through the gRPC codec on the calling thread: each
+ * update is encoded by a GrpcEncoder, serialized and parsed as it would be on the wire, and applied
+ * to a GrpcDecoder whose output feeds a {@link RowSink}.
+ */
+public final class CodecLoop implements TransformInput {
+    private final GrpcEncoder encoder = grpcEncoder(1);
+    private final GrpcDecoder decoder;
+    private final RowSink sink = new RowSink();
+    private long messages;
+    private long wireBytes;
+
+    public CodecLoop(final int initialSize) {
+        this.decoder =
+                grpcDecoder(schemaBuilder(matrixStoreFieldFactory(initialSize, 4096, i -> {})));
+        decoder.output().attachInput(sink);
+    }
+
+    public RowSink sink() {
+        return sink;
+    }
+
+    public long messages() {
+        return messages;
+    }
+
+    public long wireBytes() {
+        return wireBytes;
+    }
+
+    @Override
+    public void schemaUpdated(@Nullable final Schema schema) {
+        send(encoder.encodeSchema(schema));
+    }
+
+    @Override
+    public void rowsAdded(final IntIterable rows) {
+        send(encoder.encodeAdd(rows));
+    }
+
+    @Override
+    public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+        send(encoder.encodeChange(rows, changedFields));
+    }
+
+    @Override
+    public void rowsRemoved(final IntIterable rows) {
+        send(encoder.encodeRemove(rows));
+    }
+
+    private void send(final SubscriptionResponse message) {
+        final byte[] bytes = message.toByteArray();
+        messages++;
+        wireBytes += bytes.length;
+        try {
+            decoder.accept(SubscriptionResponse.parseFrom(bytes));
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
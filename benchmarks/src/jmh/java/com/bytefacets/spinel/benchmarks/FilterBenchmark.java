@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.SourceTable.sourceTable;
+import static com.bytefacets.spinel.filter.FilterBuilder.filter;
+import static com.bytefacets.spinel.filter.lib.IntPredicate.intPredicate;
+
+import com.bytefacets.spinel.benchmarks.SourceTable.Column;
+import com.bytefacets.spinel.filter.Filter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Steady-state change batches through a Filter which passes rows with an even Value1. Changes to
+ * Value2 are forwarded as changes; changes to Value1 flip each row across the predicate, producing
+ * an add or a remove downstream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FilterBenchmark {
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    private SourceTable source;
+    private RowSink sink;
+
+    @Setup
+    public void setUp() {
+        source = sourceTable("Source", "", rowCount, 64, 1024);
+        final Filter filter =
+                filter("Filter").where(intPredicate("Value1", v -> (v & 1) == 0)).build();
+        sink = new RowSink();
+        source.output().attachInput(filter.input());
+        filter.output().attachInput(sink);
+    }
+
+    @Benchmark
+    public long changeUnreferencedField(final RowCounters counters) {
+        final long before = sink.rows();
+        source.change(Column.Value2, batchSize, 1, Integer.MAX_VALUE);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+
+    @Benchmark
+    public long changePredicateField(final RowCounters counters) {
+        final long before = sink.rows();
+        source.change(Column.Value1, batchSize, 1, Integer.MAX_VALUE);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+}
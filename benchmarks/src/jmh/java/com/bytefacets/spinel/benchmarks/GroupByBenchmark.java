@@ -0,0 +1,73 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.SourceTable.sourceTable;
+import static com.bytefacets.spinel.groupby.GroupByBuilder.groupBy;
+import static com.bytefacets.spinel.groupby.lib.SumFactory.sumToInt;
+
+import com.bytefacets.spinel.benchmarks.SourceTable.Column;
+import com.bytefacets.spinel.groupby.GroupBy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Steady-state change batches through a GroupBy on Group with a count and a sum of Value1. Changes
+ * to Value1 keep rows in their groups; changes to Group move each row to the next group, which
+ * exercises the changed-group path (removing from the old group and adding to the new one).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GroupByBenchmark {
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"64", "4096"})
+    public int groupCount;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    private SourceTable source;
+    private RowSink sink;
+
+    @Setup
+    public void setUp() {
+        source = sourceTable("Source", "", rowCount, groupCount, 1024);
+        final GroupBy groupBy =
+                groupBy("GroupBy")
+                        .groupByFields("Group")
+                        .includeCountField("Count")
+                        .addAggregation(sumToInt("Value1", "Total"))
+                        .initialInboundSize(rowCount)
+                        .initialOutboundSize(groupCount)
+                        .build();
+        sink = new RowSink();
+        source.output().attachInput(groupBy.input());
+        groupBy.parentOutput().attachInput(sink);
+    }
+
+    @Benchmark
+    public long changeAggregatedField(final RowCounters counters) {
+        final long before = sink.rows();
+        source.change(Column.Value1, batchSize, 1, Integer.MAX_VALUE);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+
+    @Benchmark
+    public long changeGroupField(final RowCounters counters) {
+        final long before = sink.rows();
+        source.change(Column.Group, batchSize, 1, groupCount);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+}
@@ -0,0 +1,55 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.WireTable.wireTable;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Steady-state changes through the gRPC codec without a channel: each batch is encoded by a
+ * GrpcEncoder, serialized, parsed and applied by a GrpcDecoder on the benchmark thread. Comparing
+ * this with {@link GrpcTransportBenchmark} separates the codec cost from the transport cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GrpcCodecBenchmark {
+    @Param({"Int4", "Mixed8", "Mixed32"})
+    public WireTable.Shape shape;
+
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    private WireTable source;
+    private CodecLoop codec;
+
+    @Setup
+    public void setUp() {
+        source = wireTable("Wire", shape, rowCount);
+        codec = new CodecLoop(rowCount);
+        source.output().attachInput(codec);
+    }
+
+    @Benchmark
+    public long changes(final RowCounters counters, final WireCounters wire) {
+        final long rowsBefore = codec.sink().rows();
+        final long messagesBefore = codec.messages();
+        final long bytesBefore = codec.wireBytes();
+        source.change(batchSize);
+        counters.record(batchSize, codec.sink().rows() - rowsBefore);
+        wire.record(codec.messages() - messagesBefore, codec.wireBytes() - bytesBefore);
+        return codec.sink().checksum();
+    }
+}
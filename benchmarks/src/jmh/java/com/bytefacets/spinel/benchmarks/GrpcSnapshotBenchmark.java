@@ -0,0 +1,102 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.InProcessTransport.inProcessTransport;
+import static com.bytefacets.spinel.benchmarks.WireTable.wireTable;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Initial snapshot cost of a populated table over gRPC. Each invocation is one snapshot:
+ *
+ * <ul>
+ *   <li>Codec: attaches a {@link CodecLoop} to the table, which encodes, serializes, parses and
+ *       decodes the schema and every row on the benchmark thread
+ *   <li>InProcess: connects a new GrpcClient to the GrpcService over an in-process channel and
+ *       waits until every row has been delivered to the client's output
+ * </ul>
+ *
+ * <p>The snapshot of the table is one message, so the larger cases need more heap than the other
+ * suites.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class GrpcSnapshotBenchmark {
+    private static final String OUTPUT = "wire";
+
+    @Param({"Codec", "InProcess"})
+    public String path;
+
+    @Param({"Int4", "Mixed8", "Mixed32"})
+    public WireTable.Shape shape;
+
+    @Param({"100000", "1000000"})
+    public int rowCount;
+
+    private WireTable source;
+    private InProcessTransport transport;
+    private InProcessTransport.Connection connection;
+    private CodecLoop codec;
+
+    @Setup
+    public void setUp() {
+        source = wireTable("Wire", shape, rowCount);
+        switch (path) {
+            case "Codec" -> codec = new CodecLoop(rowCount);
+            case "InProcess" -> transport = inProcessTransport(OUTPUT, source);
+            default -> throw new IllegalArgumentException("Unknown path: " + path);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (transport != null) {
+            transport.close();
+        }
+    }
+
+    @Benchmark
+    public long snapshot(final RowCounters counters, final WireCounters wire) {
+        if (codec != null) {
+            final long rowsBefore = codec.sink().rows();
+            final long messagesBefore = codec.messages();
+            final long bytesBefore = codec.wireBytes();
+            source.output().attachInput(codec);
+            counters.record(rowCount, codec.sink().rows() - rowsBefore);
+            wire.record(codec.messages() - messagesBefore, codec.wireBytes() - bytesBefore);
+            return codec.sink().checksum();
+        }
+        final long messagesBefore = transport.messages();
+        final long bytesBefore = transport.wireBytes();
+        connection = transport.connect(OUTPUT, rowCount);
+        final long delivered = connection.sink().awaitRows(rowCount);
+        counters.record(rowCount, delivered);
+        wire.record(transport.messages() - messagesBefore, transport.wireBytes() - bytesBefore);
+        return delivered;
+    }
+
+    @TearDown(Level.Invocation)
+    public void detach() {
+        if (codec != null) {
+            source.output().detachInput(codec);
+        }
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.InProcessTransport.inProcessTransport;
+import static com.bytefacets.spinel.benchmarks.WireTable.wireTable;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Steady-state changes from a table on a GrpcService to a GrpcClient over an in-process channel.
+ * Each invocation fires a batch on the server's data thread and waits until the client's output
+ * has delivered it, so one batch is in flight at a time. The throughput score of {@code changes}
+ * is round trips per second, and {@code changeLatency} samples the end-to-end latency from the
+ * table change, through GrpcEncoder and GrpcDecoder, to the client's output.
+ */
+@State(Scope.Thread)
+public class GrpcTransportBenchmark {
+    private static final String OUTPUT = "wire";
+
+    @Param({"Int4", "Mixed8", "Mixed32"})
+    public WireTable.Shape shape;
+
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    private WireTable source;
+    private InProcessTransport transport;
+    private InProcessTransport.Connection connection;
+    private Runnable changeTask;
+    private long expectedRows;
+
+    @Setup
+    public void setUp() {
+        source = wireTable("Wire", shape, rowCount);
+        transport = inProcessTransport(OUTPUT, source);
+        connection = transport.connect(OUTPUT, rowCount);
+        expectedRows = connection.sink().awaitRows(rowCount);
+        changeTask = () -> source.change(batchSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        connection.close();
+        transport.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long changes(final RowCounters counters, final WireCounters wire) {
+        return roundTrip(counters, wire);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long changeLatency(final RowCounters counters, final WireCounters wire) {
+        return roundTrip(counters, wire);
+    }
+
+    private long roundTrip(final RowCounters counters, final WireCounters wire) {
+        final long rowsBefore = expectedRows;
+        final long messagesBefore = transport.messages();
+        final long bytesBefore = transport.wireBytes();
+        expectedRows += batchSize;
+        transport.serverLoop().execute(changeTask);
+        final long delivered = connection.sink().awaitRows(expectedRows);
+        counters.record(batchSize, delivered - rowsBefore);
+        wire.record(transport.messages() - messagesBefore, transport.wireBytes() - bytesBefore);
+        return delivered;
+    }
+}
@@ -0,0 +1,180 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.comms.SubscriptionConfig.subscriptionConfig;
+import static com.bytefacets.spinel.comms.send.DefaultSubscriptionProvider.defaultSubscriptionProvider;
+import static com.bytefacets.spinel.comms.send.RegisteredOutputsTable.registeredOutputsTable;
+import static com.bytefacets.spinel.grpc.receive.GrpcClientBuilder.grpcClient;
+import static com.bytefacets.spinel.grpc.receive.GrpcSourceBuilder.grpcSource;
+import static com.bytefacets.spinel.grpc.send.GrpcServiceBuilder.grpcService;
+
+import com.bytefacets.spinel.comms.ConnectionInfo;
+import com.bytefacets.spinel.comms.send.RegisteredOutputsTable;
+import com.bytefacets.spinel.grpc.receive.GrpcClient;
+import com.bytefacets.spinel.grpc.receive.GrpcSource;
+import com.bytefacets.spinel.grpc.send.GrpcService;
+import com.bytefacets.spinel.transform.OutputProvider;
+import com.google.protobuf.MessageLite;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A GrpcService and GrpcClients connected by an in-process gRPC channel. The service and the
+ * clients each run on their own data thread, as they would across a network, so the benchmark
+ * thread hands changes to the server thread and waits for them to arrive on the client.
+ *
+ * <p>The in-process transport passes messages across without serializing them, so this measures
+ * the session, stream and threading costs; {@link CodecLoop} measures serialization. Each message
+ * received is still sized with {@code getSerializedSize()}, so the wire bytes are those a network
+ * transport would send.
+ */
+public final class InProcessTransport implements AutoCloseable {
+    private final String serverName;
+    private final EventLoop serverLoop = new DefaultEventLoop(r -> new Thread(r, "server-data"));
+    private final EventLoop clientLoop = new DefaultEventLoop(r -> new Thread(r, "client-data"));
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong wireBytes = new AtomicLong();
+    private final ClientInterceptor wireTap = new WireTap();
+    private final Server server;
+
+    /** Starts a service which exposes the output under the given name. */
+    public static InProcessTransport inProcessTransport(
+            final String outputName, final OutputProvider output) {
+        return new InProcessTransport(outputName, output);
+    }
+
+    private InProcessTransport(final String outputName, final OutputProvider output) {
+        this.serverName = "benchmark-" + outputName + "-" + System.nanoTime();
+        final RegisteredOutputsTable registeredOutputs = registeredOutputsTable();
+        registeredOutputs.register(outputName, output);
+        final GrpcService service =
+                grpcService(defaultSubscriptionProvider(registeredOutputs), serverLoop).build();
+        try {
+            this.server =
+                    InProcessServerBuilder.forName(serverName)
+                            .executor(serverLoop)
+                            .addService(service)
+                            .build()
+                            .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** The server's data thread, which owns the registered outputs once clients subscribe. */
+    public EventLoop serverLoop() {
+        return serverLoop;
+    }
+
+    /** The number of messages received by all clients. */
+    public long messages() {
+        return messages.get();
+    }
+
+    /** The serialized size of the messages received by all clients. */
+    public long wireBytes() {
+        return wireBytes.get();
+    }
+
+    /**
+     * Creates a client on a new channel, subscribes it to the output and connects it. The output's
+     * snapshot is delivered to the connection's sink on the client thread.
+     */
+    public Connection connect(final String outputName, final int initialSize) {
+        return new Connection(outputName, initialSize);
+    }
+
+    @Override
+    public void close() {
+        server.shutdownNow();
+        serverLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+        clientLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    /** A client subscription to the output, with its own channel. */
+    public final class Connection implements AutoCloseable {
+        private final RemoteSink sink = new RemoteSink();
+        private final ManagedChannel channel;
+        private final GrpcClient client;
+
+        private Connection(final String outputName, final int initialSize) {
+            this.channel =
+                    InProcessChannelBuilder.forName(serverName)
+                            .maxInboundMessageSize(Integer.MAX_VALUE)
+                            .build();
+            this.client =
+                    grpcClient(channel, clientLoop)
+                            .connectionInfo(new ConnectionInfo("benchmark", serverName))
+                            .withSpecializer(stub -> stub.withInterceptors(wireTap))
+                            .build();
+            final GrpcSource source =
+                    grpcSource(client, outputName)
+                            .subscription(subscriptionConfig(outputName).defaultAll().build())
+                            .initialSize(initialSize)
+                            .chunkSize(4096)
+                            .build();
+            source.output().attachInput(sink);
+            client.connect();
+        }
+
+        public RemoteSink sink() {
+            return sink;
+        }
+
+        @Override
+        public void close() {
+            client.disconnect();
+            channel.shutdownNow();
+        }
+    }
+
+    /** Counts the messages received by the clients and their serialized size. */
+    private final class WireTap implements ClientInterceptor {
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+                final MethodDescriptor<ReqT, RespT> method,
+                final CallOptions callOptions,
+                final Channel next) {
+            return new ForwardingClientCall.SimpleForwardingClientCall<>(
+                    next.newCall(method, callOptions)) {
+                @Override
+                public void start(final Listener<RespT> listener, final Metadata headers) {
+                    super.start(new CountingListener<>(listener), headers);
+                }
+            };
+        }
+    }
+
+    private final class CountingListener<RespT>
+            extends ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT> {
+        private CountingListener(final ClientCall.Listener<RespT> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void onMessage(final RespT message) {
+            if (message instanceof MessageLite lite) {
+                messages.incrementAndGet();
+                wireBytes.addAndGet(lite.getSerializedSize());
+            }
+            super.onMessage(message);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.SourceTable.sourceTable;
+import static com.bytefacets.spinel.join.JoinBuilder.lookupJoin;
+
+import com.bytefacets.spinel.benchmarks.SourceTable.Column;
+import com.bytefacets.spinel.join.Join;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Steady-state change batches through an outer lookup join of {@code rowCount} left rows onto
+ * {@code keyCount} right rows, joined on LKey = RKey. Each right row is referenced by {@code
+ * rowCount / keyCount} left rows, so right-side changes fan out.
+ *
+ * <ul>
+ *   <li>changeLeftValue: left rows change a non-key field
+ *   <li>changeLeftKey: left rows move to the next join key
+ *   <li>changeRightValue: right rows change a non-key field, fanning out to their left rows
+ *   <li>changeRightKey: right rows toggle between a referenced and an unreferenced key, which
+ *       re-maps the right row and un-matches or re-matches its left rows
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LookupJoinBenchmark {
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"1024"})
+    public int keyCount;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    private SourceTable left;
+    private SourceTable right;
+    private RowSink sink;
+
+    @Setup
+    public void setUp() {
+        left = sourceTable("Left", "L", rowCount, 64, keyCount);
+        right = sourceTable("Right", "R", keyCount, 64, keyCount);
+        final Join join =
+                lookupJoin("Join")
+                        .outer()
+                        .joinOn(List.of("LKey"), List.of("RKey"), keyCount)
+                        .withInitialLeftCapacity(rowCount)
+                        .withInitialRightCapacity(keyCount)
+                        .build();
+        sink = new RowSink();
+        right.output().attachInput(join.rightInput());
+        left.output().attachInput(join.leftInput());
+        join.output().attachInput(sink);
+    }
+
+    @Benchmark
+    public long changeLeftValue(final RowCounters counters) {
+        final long before = sink.rows();
+        left.change(Column.Value1, batchSize, 1, Integer.MAX_VALUE);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+
+    @Benchmark
+    public long changeLeftKey(final RowCounters counters) {
+        final long before = sink.rows();
+        left.change(Column.Key, batchSize, 1, keyCount);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+
+    @Benchmark
+    public long changeRightValue(final RowCounters counters) {
+        final long before = sink.rows();
+        right.change(Column.Value1, batchSize, 1, Integer.MAX_VALUE);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+
+    @Benchmark
+    public long changeRightKey(final RowCounters counters) {
+        final long before = sink.rows();
+        right.change(Column.Key, batchSize, keyCount, 2 * keyCount);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+}
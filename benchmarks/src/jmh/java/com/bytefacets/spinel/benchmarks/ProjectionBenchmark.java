@@ -0,0 +1,92 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.SourceTable.sourceTable;
+import static com.bytefacets.spinel.projection.ProjectionBuilder.projection;
+
+import com.bytefacets.spinel.benchmarks.SourceTable.Column;
+import com.bytefacets.spinel.projection.Projection;
+import com.bytefacets.spinel.projection.lib.IntFieldCalculation;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.IntField;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Steady-state change batches through a Projection which aliases Value1, omits Key and adds a lazy
+ * calculation of Value1 + Value2. Changes to Value1 are mapped to the alias and the calculation;
+ * changes to Group are forwarded without touching the calculation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProjectionBenchmark {
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    private SourceTable source;
+    private RowSink sink;
+
+    @Setup
+    public void setUp() {
+        source = sourceTable("Source", "", rowCount, 64, 1024);
+        final Projection projection =
+                projection("Projection")
+                        .inboundAlias("Value1", "Price")
+                        .omit("Key")
+                        .lazyCalculation("Total", new Sum())
+                        .build();
+        sink = new RowSink();
+        source.output().attachInput(projection.input());
+        projection.output().attachInput(sink);
+    }
+
+    @Benchmark
+    public long changeCalculationInput(final RowCounters counters) {
+        final long before = sink.rows();
+        source.change(Column.Value1, batchSize, 1, Integer.MAX_VALUE);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+
+    @Benchmark
+    public long changeForwardedField(final RowCounters counters) {
+        final long before = sink.rows();
+        source.change(Column.Group, batchSize, 1, 64);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+
+    private static final class Sum implements IntFieldCalculation {
+        private IntField value1;
+        private IntField value2;
+
+        @Override
+        public int calculate(final int row) {
+            return value1.valueAt(row) + value2.valueAt(row);
+        }
+
+        @Override
+        public void bindToSchema(final FieldResolver fieldResolver) {
+            value1 = (IntField) fieldResolver.findField("Value1");
+            value2 = (IntField) fieldResolver.findField("Value2");
+        }
+
+        @Override
+        public void unbindSchema() {
+            value1 = null;
+            value2 = null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.Schema;
+import jakarta.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RowSink} on a client's data thread which publishes the number of rows delivered, so the
+ * benchmark thread can wait for an update to arrive.
+ */
+public final class RemoteSink implements TransformInput {
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private final RowSink sink = new RowSink();
+    private volatile long delivered;
+
+    /** Spins until at least {@code target} rows have been delivered, and returns the count. */
+    public long awaitRows(final long target) {
+        final long start = System.nanoTime();
+        long current = delivered;
+        while (current < target) {
+            if (System.nanoTime() - start > TIMEOUT_NANOS) {
+                throw new IllegalStateException(
+                        "Timed out waiting for " + target + " rows; delivered " + current);
+            }
+            Thread.onSpinWait();
+            current = delivered;
+        }
+        return current;
+    }
+
+    public long delivered() {
+        return delivered;
+    }
+
+    @Override
+    public void schemaUpdated(@Nullable final Schema schema) {
+        sink.schemaUpdated(schema);
+    }
+
+    @Override
+    public void rowsAdded(final IntIterable rows) {
+        sink.rowsAdded(rows);
+        delivered = sink.rows();
+    }
+
+    @Override
+    public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+        sink.rowsChanged(rows, changedFields);
+        delivered = sink.rows();
+    }
+
+    @Override
+    public void rowsRemoved(final IntIterable rows) {
+        sink.rowsRemoved(rows);
+        delivered = sink.rows();
+    }
+}
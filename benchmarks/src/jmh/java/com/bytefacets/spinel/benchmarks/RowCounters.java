@@ -0,0 +1,33 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary JMH counters. In throughput mode, JMH reports {@code sourceRows} as source rows
+ * modified per second, and {@code sinkRows} as rows delivered to the terminal input per second.
+ * Nanoseconds per row is {@code 1e9 / sourceRows}. Divide {@code gc.alloc.rate.norm} (bytes per
+ * batch, from the gc profiler) by the batch size to get bytes per row.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class RowCounters {
+    public long sourceRows;
+    public long sinkRows;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        sourceRows = 0;
+        sinkRows = 0;
+    }
+
+    void record(final int source, final long delivered) {
+        sourceRows += source;
+        sinkRows += delivered;
+    }
+}
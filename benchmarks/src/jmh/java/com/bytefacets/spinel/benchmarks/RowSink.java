@@ -0,0 +1,78 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.IntField;
+import com.bytefacets.spinel.schema.Schema;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Terminal input for benchmarks. Every notified row is visited, and every Int field in the schema
+ * is read for added and changed rows, which is the minimum work a real consumer such as an encoder
+ * would do. Reading forces lazily calculated and mapped fields to resolve, and the checksum keeps
+ * the JIT from eliding the work.
+ */
+public final class RowSink implements TransformInput {
+    private final IntConsumer readRow = this::readRow;
+    private final IntConsumer countRow = this::countRow;
+    private IntField[] intFields = new IntField[0];
+    private long rows;
+    private long checksum;
+
+    public long rows() {
+        return rows;
+    }
+
+    public long checksum() {
+        return checksum;
+    }
+
+    @Override
+    public void schemaUpdated(@Nullable final Schema schema) {
+        if (schema == null) {
+            intFields = new IntField[0];
+            return;
+        }
+        final List<IntField> fields = new ArrayList<>(schema.size());
+        for (int i = 0, len = schema.size(); i < len; i++) {
+            if (schema.fieldAt(i).field() instanceof IntField intField) {
+                fields.add(intField);
+            }
+        }
+        intFields = fields.toArray(new IntField[0]);
+    }
+
+    @Override
+    public void rowsAdded(final IntIterable rows) {
+        rows.forEach(readRow);
+    }
+
+    @Override
+    public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+        rows.forEach(readRow);
+    }
+
+    @Override
+    public void rowsRemoved(final IntIterable rows) {
+        rows.forEach(countRow);
+    }
+
+    private void readRow(final int row) {
+        long sum = checksum;
+        for (final IntField field : intFields) {
+            sum += field.valueAt(row);
+        }
+        checksum = sum;
+        rows++;
+    }
+
+    private void countRow(final int row) {
+        rows++;
+    }
+}
@@ -0,0 +1,120 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.SourceTable.sourceTable;
+import static com.bytefacets.spinel.conflation.ChangeConflatorBuilder.changeConflator;
+import static com.bytefacets.spinel.filter.FilterBuilder.filter;
+import static com.bytefacets.spinel.filter.lib.IntPredicate.intPredicate;
+import static com.bytefacets.spinel.groupby.GroupByBuilder.groupBy;
+import static com.bytefacets.spinel.groupby.lib.SumFactory.sumToInt;
+import static com.bytefacets.spinel.join.JoinBuilder.lookupJoin;
+import static com.bytefacets.spinel.projection.ProjectionBuilder.projection;
+import static com.bytefacets.spinel.union.UnionBuilder.union;
+
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.conflation.ChangeConflator;
+import com.bytefacets.spinel.filter.Filter;
+import com.bytefacets.spinel.groupby.GroupBy;
+import com.bytefacets.spinel.join.Join;
+import com.bytefacets.spinel.projection.Projection;
+import com.bytefacets.spinel.union.Union;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Initial snapshot cost: each invocation detaches the operator from a populated source and attaches
+ * it again, which clears the operator and then replays every source row through it to the sink.
+ * For the join, the right side stays attached and the left side is replayed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotBenchmark {
+    @Param({"Filter", "GroupBy", "LookupJoin", "Projection", "Union", "ChangeConflator"})
+    public String operator;
+
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    private TransformOutput upstream;
+    private TransformInput operatorInput;
+    private RowSink sink;
+
+    @Setup
+    public void setUp() {
+        final SourceTable source = sourceTable("Source", "", rowCount, 64, 1024);
+        sink = new RowSink();
+        upstream = source.output();
+        switch (operator) {
+            case "Filter" -> {
+                final Filter filter =
+                        filter("Filter").where(intPredicate("Value1", v -> (v & 1) == 0)).build();
+                operatorInput = filter.input();
+                filter.output().attachInput(sink);
+            }
+            case "GroupBy" -> {
+                final GroupBy groupBy =
+                        groupBy("GroupBy")
+                                .groupByFields("Group")
+                                .includeCountField("Count")
+                                .addAggregation(sumToInt("Value1", "Total"))
+                                .initialInboundSize(rowCount)
+                                .build();
+                operatorInput = groupBy.input();
+                groupBy.parentOutput().attachInput(sink);
+            }
+            case "LookupJoin" -> {
+                final SourceTable left = sourceTable("Left", "L", rowCount, 64, 1024);
+                final SourceTable right = sourceTable("Right", "R", 1024, 64, 1024);
+                final Join join =
+                        lookupJoin("Join")
+                                .outer()
+                                .joinOn(List.of("LKey"), List.of("RKey"), 1024)
+                                .withInitialLeftCapacity(rowCount)
+                                .build();
+                right.output().attachInput(join.rightInput());
+                upstream = left.output();
+                operatorInput = join.leftInput();
+                join.output().attachInput(sink);
+            }
+            case "Projection" -> {
+                final Projection projection =
+                        projection("Projection").inboundAlias("Value1", "Price").build();
+                operatorInput = projection.input();
+                projection.output().attachInput(sink);
+            }
+            case "Union" -> {
+                final Union union = union("Union").initialSize(rowCount).build();
+                operatorInput = union.newInput("s1");
+                union.output().attachInput(sink);
+            }
+            case "ChangeConflator" -> {
+                final ChangeConflator conflator =
+                        changeConflator("Conflator").initialCapacity(rowCount).build();
+                operatorInput = conflator.input();
+                conflator.output().attachInput(sink);
+            }
+            default -> throw new IllegalArgumentException("Unknown operator: " + operator);
+        }
+        upstream.attachInput(operatorInput);
+    }
+
+    @Benchmark
+    public long detachAndAttach(final RowCounters counters) {
+        final long before = sink.rows();
+        upstream.detachInput(operatorInput);
+        upstream.attachInput(operatorInput);
+        counters.record(rowCount, sink.rows() - before);
+        return sink.checksum();
+    }
+}
@@ -0,0 +1,102 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.SourceTable.sourceTable;
+import static com.bytefacets.spinel.table.IntIndexedStructTableBuilder.intIndexedStructTable;
+
+import com.bytefacets.spinel.benchmarks.SourceTable.Column;
+import com.bytefacets.spinel.table.IntIndexedStructTable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Baseline cost of the sources themselves: change batches written through an IntIndexedTable's
+ * writable fields, and through an IntIndexedStructTable's facade, each delivered straight to a
+ * sink. Operator benchmarks include this cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SourceBenchmark {
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    private SourceTable indexedTable;
+    private RowSink indexedSink;
+    private IntIndexedStructTable<Row> structTable;
+    private Row facade;
+    private RowSink structSink;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        indexedTable = sourceTable("Source", "", rowCount, 64, 1024);
+        indexedSink = new RowSink();
+        indexedTable.output().attachInput(indexedSink);
+
+        structTable =
+                intIndexedStructTable("StructSource", Row.class)
+                        .initialSize(rowCount)
+                        .chunkSize(4096)
+                        .build();
+        facade = structTable.createFacade();
+        for (int id = 0; id < rowCount; id++) {
+            structTable.beginAdd(id, facade).setGroup(id % 64).setValue1(id).setValue2(id);
+            structTable.endAdd();
+        }
+        structTable.fireChanges();
+        structSink = new RowSink();
+        structTable.output().attachInput(structSink);
+    }
+
+    @Benchmark
+    public long indexedTableChange(final RowCounters counters) {
+        final long before = indexedSink.rows();
+        indexedTable.change(Column.Value1, batchSize, 1, Integer.MAX_VALUE);
+        counters.record(batchSize, indexedSink.rows() - before);
+        return indexedSink.checksum();
+    }
+
+    @Benchmark
+    public long structTableUpsert(final RowCounters counters) {
+        final long before = structSink.rows();
+        for (int i = 0; i < batchSize; i++) {
+            final int id = cursor;
+            cursor = id + 1 == rowCount ? 0 : id + 1;
+            final Row row = structTable.beginUpsert(id, facade);
+            row.setValue1(row.getValue1() + 1);
+            structTable.endUpsert();
+        }
+        structTable.fireChanges();
+        counters.record(batchSize, structSink.rows() - before);
+        return structSink.checksum();
+    }
+
+    /** Struct shape for the IntIndexedStructTable source; Id is the key. */
+    public interface Row {
+        int getId();
+
+        int getGroup();
+
+        int getValue1();
+
+        int getValue2();
+
+        Row setGroup(int value);
+
+        Row setValue1(int value);
+
+        Row setValue2(int value);
+    }
+}
@@ -0,0 +1,121 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.transform.OutputProvider;
+
+/**
+ * An IntIndexedTable source with the columns Id (key), Group, Key, Value1 and Value2, each
+ * prefixed so two sources can be joined without colliding. Rows are populated with ids {@code
+ * [0, rowCount)}; Group is {@code id % groupCount} and Key is {@code id % keyCount}.
+ *
+ * <p>Change batches walk the ids round-robin, so successive batches touch different rows and the
+ * whole table is cycled through during a measurement iteration.
+ */
+public final class SourceTable implements OutputProvider {
+    private final IntIndexedTable table;
+    private final IntWritableField[] columns = new IntWritableField[Column.values().length];
+    private final int rowCount;
+    private int cursor;
+
+    public enum Column {
+        Group,
+        Key,
+        Value1,
+        Value2
+    }
+
+    public static SourceTable sourceTable(
+            final String name,
+            final String prefix,
+            final int rowCount,
+            final int groupCount,
+            final int keyCount) {
+        return new SourceTable(name, prefix, rowCount, groupCount, keyCount);
+    }
+
+    private SourceTable(
+            final String name,
+            final String prefix,
+            final int rowCount,
+            final int groupCount,
+            final int keyCount) {
+        this.rowCount = rowCount;
+        this.table =
+                intIndexedTable(name)
+                        .keyFieldName(prefix + "Id")
+                        .initialSize(rowCount)
+                        .chunkSize(4096)
+                        .addFields(
+                                intField(prefix + Column.Group),
+                                intField(prefix + Column.Key),
+                                intField(prefix + Column.Value1),
+                                intField(prefix + Column.Value2))
+                        .build();
+        for (Column column : Column.values()) {
+            columns[column.ordinal()] = table.writableField(prefix + column);
+        }
+        populate(groupCount, keyCount);
+    }
+
+    private void populate(final int groupCount, final int keyCount) {
+        for (int id = 0; id < rowCount; id++) {
+            final int row = table.beginAdd(id);
+            column(Column.Group).setValueAt(row, id % groupCount);
+            column(Column.Key).setValueAt(row, id % keyCount);
+            column(Column.Value1).setValueAt(row, id);
+            column(Column.Value2).setValueAt(row, id);
+            table.endAdd();
+        }
+        table.fireChanges();
+    }
+
+    public IntIndexedTable table() {
+        return table;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public TransformOutput output() {
+        return table.output();
+    }
+
+    /**
+     * Changes the column on the next {@code batchSize} rows to {@code (value + step) % modulus} and
+     * fires the batch.
+     */
+    public void change(
+            final Column column, final int batchSize, final int step, final int modulus) {
+        final IntWritableField field = column(column);
+        for (int i = 0; i < batchSize; i++) {
+            final int row = table.beginChange(nextId());
+            field.setValueAt(row, (field.valueAt(row) + step) % modulus);
+            table.endChange();
+        }
+        table.fireChanges();
+    }
+
+    /** Moves the round-robin cursor back so the next batch re-visits the previous rows. */
+    public void rewind(final int count) {
+        cursor = Math.floorMod(cursor - count, rowCount);
+    }
+
+    private IntWritableField column(final Column column) {
+        return columns[column.ordinal()];
+    }
+
+    private int nextId() {
+        final int id = cursor;
+        cursor = id + 1 == rowCount ? 0 : id + 1;
+        return id;
+    }
+}
@@ -0,0 +1,63 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.benchmarks.SourceTable.sourceTable;
+import static com.bytefacets.spinel.union.UnionBuilder.union;
+
+import com.bytefacets.spinel.benchmarks.SourceTable.Column;
+import com.bytefacets.spinel.union.Union;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Steady-state change batches through a Union of two sources of {@code rowCount} rows each. Changes
+ * alternate between the two inputs so both row mappings stay warm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UnionBenchmark {
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    private SourceTable source1;
+    private SourceTable source2;
+    private RowSink sink;
+    private boolean flip;
+
+    @Setup
+    public void setUp() {
+        source1 = sourceTable("Source1", "", rowCount, 64, 1024);
+        source2 = sourceTable("Source2", "", rowCount, 64, 1024);
+        final Union union =
+                union("Union")
+                        .initialSize(2 * rowCount)
+                        .inputIdFieldName("SourceId")
+                        .inputNameFieldName("SourceName")
+                        .build();
+        sink = new RowSink();
+        union.output().attachInput(sink);
+        source1.output().attachInput(union.newInput("s1"));
+        source2.output().attachInput(union.newInput("s2"));
+    }
+
+    @Benchmark
+    public long changeValue(final RowCounters counters) {
+        final long before = sink.rows();
+        flip = !flip;
+        (flip ? source1 : source2).change(Column.Value1, batchSize, 1, Integer.MAX_VALUE);
+        counters.record(batchSize, sink.rows() - before);
+        return sink.checksum();
+    }
+}
@@ -0,0 +1,32 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary JMH counters for the transport suites. In throughput mode, JMH reports {@code messages}
+ * as SubscriptionResponse messages per second and {@code wireBytes} as their serialized bytes per
+ * second. Bytes per row on the wire is {@code wireBytes / sourceRows} from {@link RowCounters}.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class WireCounters {
+    public long messages;
+    public long wireBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        messages = 0;
+        wireBytes = 0;
+    }
+
+    void record(final long messageCount, final long bytes) {
+        messages += messageCount;
+        wireBytes += bytes;
+    }
+}
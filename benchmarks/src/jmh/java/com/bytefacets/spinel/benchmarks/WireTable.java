@@ -0,0 +1,186 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.benchmarks;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.doubleField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.genericField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.longField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.schema.DoubleWritableField;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.schema.GenericWritableField;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.schema.LongWritableField;
+import com.bytefacets.spinel.schema.StringWritableField;
+import com.bytefacets.spinel.schema.TypeId;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.table.IntIndexedTableBuilder;
+import com.bytefacets.spinel.transform.OutputProvider;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An IntIndexedTable source for the transport suites, keyed by Id, whose fields follow a {@link
+ * Shape}. Rows are populated with ids {@code [0, rowCount)}. String and Generic values are taken
+ * from fixed pools, so changes do not allocate values and the encoded sizes are stable.
+ *
+ * <p>Change batches rewrite every field of the next {@code batchSize} rows, walking the ids
+ * round-robin, so the bytes per row on the wire reflect the full width of the shape.
+ */
+public final class WireTable implements OutputProvider {
+    private static final int POOL_SIZE = 1024;
+    private static final String[] STRINGS = new String[POOL_SIZE];
+    private static final Object[] GENERICS = new Object[POOL_SIZE];
+    private final IntIndexedTable table;
+    private final Column[] columns;
+    private final int rowCount;
+    private int cursor;
+    private int version;
+
+    static {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            STRINGS[i] = "Symbol-" + i;
+            GENERICS[i] = (i & 1) == 0 ? (Object) (i * 0.25) : "Venue-" + i;
+        }
+    }
+
+    /** The field layouts measured by the transport suites. */
+    public enum Shape {
+        /** 4 Int fields. */
+        Int4,
+        /** 8 fields: 2 each of Int, Long and Double, then one String and one Generic. */
+        Mixed8,
+        /** 32 fields: the Mixed8 layout repeated 4 times. */
+        Mixed32
+    }
+
+    public static WireTable wireTable(final String name, final Shape shape, final int rowCount) {
+        return new WireTable(name, shape, rowCount);
+    }
+
+    private WireTable(final String name, final Shape shape, final int rowCount) {
+        this.rowCount = rowCount;
+        final List<FieldDescriptor> descriptors = new ArrayList<>();
+        switch (shape) {
+            case Int4 -> addInts(descriptors, 4);
+            case Mixed8 -> addMixed(descriptors, 1);
+            case Mixed32 -> addMixed(descriptors, 4);
+            default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+        final IntIndexedTableBuilder builder =
+                intIndexedTable(name).keyFieldName("Id").initialSize(rowCount).chunkSize(4096);
+        descriptors.forEach(builder::addField);
+        this.table = builder.build();
+        this.columns = new Column[descriptors.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = column(descriptors.get(i));
+        }
+        populate();
+    }
+
+    private static void addInts(final List<FieldDescriptor> descriptors, final int count) {
+        for (int i = 0; i < count; i++) {
+            descriptors.add(intField("Int" + i));
+        }
+    }
+
+    private static void addMixed(final List<FieldDescriptor> descriptors, final int repeats) {
+        for (int r = 0; r < repeats; r++) {
+            descriptors.add(intField("Int" + (2 * r)));
+            descriptors.add(intField("Int" + (2 * r + 1)));
+            descriptors.add(longField("Long" + (2 * r)));
+            descriptors.add(longField("Long" + (2 * r + 1)));
+            descriptors.add(doubleField("Double" + (2 * r)));
+            descriptors.add(doubleField("Double" + (2 * r + 1)));
+            descriptors.add(stringField("String" + r));
+            descriptors.add(genericField("Generic" + r));
+        }
+    }
+
+    private Column column(final FieldDescriptor descriptor) {
+        final String name = descriptor.name();
+        return switch (descriptor.fieldType()) {
+            case TypeId.Int -> {
+                final IntWritableField field = table.writableField(name);
+                yield (row, value) -> field.setValueAt(row, value);
+            }
+            case TypeId.Long -> {
+                final LongWritableField field = table.writableField(name);
+                yield (row, value) -> field.setValueAt(row, value * 1_000_003L);
+            }
+            case TypeId.Double -> {
+                final DoubleWritableField field = table.writableField(name);
+                yield (row, value) -> field.setValueAt(row, value * 0.01);
+            }
+            case TypeId.String -> {
+                final StringWritableField field = table.writableField(name);
+                yield (row, value) -> field.setValueAt(row, STRINGS[value & (POOL_SIZE - 1)]);
+            }
+            case TypeId.Generic -> {
+                final GenericWritableField field = table.writableField(name);
+                yield (row, value) -> field.setValueAt(row, GENERICS[value & (POOL_SIZE - 1)]);
+            }
+            default -> throw new IllegalArgumentException("Unsupported field: " + descriptor);
+        };
+    }
+
+    private void populate() {
+        for (int id = 0; id < rowCount; id++) {
+            final int row = table.beginAdd(id);
+            writeRow(row, id);
+            table.endAdd();
+        }
+        table.fireChanges();
+    }
+
+    public IntIndexedTable table() {
+        return table;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /** The number of fields in the schema, including the key. */
+    public int width() {
+        return columns.length + 1;
+    }
+
+    @Override
+    public TransformOutput output() {
+        return table.output();
+    }
+
+    /** Rewrites every field on the next {@code batchSize} rows and fires the batch. */
+    public void change(final int batchSize) {
+        version++;
+        for (int i = 0; i < batchSize; i++) {
+            final int id = nextId();
+            final int row = table.beginChange(id);
+            writeRow(row, id + version);
+            table.endChange();
+        }
+        table.fireChanges();
+    }
+
+    private void writeRow(final int row, final int value) {
+        for (final Column column : columns) {
+            column.write(row, value);
+        }
+    }
+
+    private int nextId() {
+        final int id = cursor;
+        cursor = id + 1 == rowCount ? 0 : id + 1;
+        return id;
+    }
+
+    @FunctionalInterface
+    private interface Column {
+        void write(int row, int value);
+    }
+}
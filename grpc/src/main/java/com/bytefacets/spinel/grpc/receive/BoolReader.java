@@ -9,6 +9,7 @@ import com.bytefacets.spinel.grpc.proto.DataUpdate;
 import com.bytefacets.spinel.grpc.proto.ResponseType;
 import com.bytefacets.spinel.schema.BoolWritableField;
 import com.bytefacets.spinel.schema.FieldList;
+import com.google.protobuf.ByteString;
 import java.util.BitSet;
 
 final class BoolReader implements TypeReader {
@@ -38,8 +39,16 @@ final class BoolReader implements TypeReader {
         final int fieldId = data.getFieldId();
         final var field = (BoolWritableField) fields.fieldAt(fieldId).field();
         final int rowCt = msg.getRowsCount();
-        for (int i = 0; i < rowCt; i++) {
-            field.setValueAt(msg.getRows(i), data.getValues(i));
+        if (data.getValuesCount() != 0) {
+            for (int i = 0; i < rowCt; i++) {
+                field.setValueAt(msg.getRows(i), data.getValues(i));
+            }
+        } else {
+            final ByteString packedValues = data.getPackedValues();
+            for (int i = 0; i < rowCt; i++) {
+                final boolean value = (packedValues.byteAt(i >>> 3) & (1 << (i & 7))) != 0;
+                field.setValueAt(msg.getRows(i), value);
+            }
         }
     }
 }
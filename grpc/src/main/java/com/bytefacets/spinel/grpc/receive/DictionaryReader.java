@@ -0,0 +1,77 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.grpc.receive;
+
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.grpc.proto.DataUpdate;
+import com.bytefacets.spinel.grpc.proto.DictionaryData;
+import com.bytefacets.spinel.grpc.proto.ResponseType;
+import com.bytefacets.spinel.schema.FieldList;
+import com.bytefacets.spinel.schema.SchemaField;
+import com.bytefacets.spinel.schema.StringWritableField;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Reads dictionary-encoded String fields, keeping the entries received for each dictionary so that
+ * the codes can be decoded into the client's String fields. Fields which share a dictionary on the
+ * sender share its entries. The entries are discarded with the schema, as the sender numbers its
+ * dictionaries afresh for each schema it sends.
+ */
+final class DictionaryReader implements TypeReader {
+    private final List<List<String>> dictionaries = new ArrayList<>();
+    private FieldList fields;
+    private BitSet changedFieldIds;
+
+    @Override
+    public void setContext(final FieldList fields, final BitSet changedFieldIds) {
+        this.fields = requireNonNull(fields, "fields");
+        this.changedFieldIds = requireNonNull(changedFieldIds, "changedFieldIds");
+        dictionaries.clear();
+    }
+
+    @Override
+    public void read(final DataUpdate msg, final ResponseType op) {
+        if (msg.getDictionaryDataCount() != 0) {
+            for (int d = 0, len = msg.getDictionaryDataCount(); d < len; d++) {
+                final var data = msg.getDictionaryData(d);
+                if (op.equals(ResponseType.RESPONSE_TYPE_CHG)) {
+                    changedFieldIds.set(data.getFieldId());
+                }
+                readField(msg, data);
+            }
+        }
+    }
+
+    private void readField(final DataUpdate msg, final DictionaryData data) {
+        final int fieldId = data.getFieldId();
+        final List<String> entries = entriesFor(data.getDictionaryId());
+        for (int i = 0, len = data.getEntriesCount(); i < len; i++) {
+            final int code = data.getFirstCode() + i;
+            if (code == entries.size()) {
+                entries.add(data.getEntries(i));
+            }
+        }
+        final SchemaField schemaField = fields.fieldAt(fieldId);
+        final var field = (StringWritableField) schemaField.field();
+        final int rowCt = msg.getRowsCount();
+        for (int i = 0; i < rowCt; i++) {
+            field.setValueAt(msg.getRows(i), entries.get(data.getCodes(i)));
+        }
+    }
+
+    private List<String> entriesFor(final int dictionaryId) {
+        while (dictionaries.size() <= dictionaryId) {
+            dictionaries.add(null);
+        }
+        List<String> entries = dictionaries.get(dictionaryId);
+        if (entries == null) {
+            entries = new ArrayList<>();
+            entries.add(null); // code 0 is null
+            dictionaries.set(dictionaryId, entries);
+        }
+        return entries;
+    }
+}
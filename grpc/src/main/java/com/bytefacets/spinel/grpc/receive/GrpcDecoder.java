@@ -22,7 +22,12 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-final class GrpcDecoder implements ChangeDecoder<SubscriptionResponse> {
+/**
+ * Applies the SubscriptionResponse messages produced by a GrpcEncoder to an output whose fields are
+ * created by the SchemaBuilder. A GrpcClient creates one per subscription; it can also be paired
+ * directly with a GrpcEncoder, e.g. to measure the codec without a channel.
+ */
+public final class GrpcDecoder implements ChangeDecoder<SubscriptionResponse> {
     private static final Logger log = LoggerFactory.getLogger(GrpcDecoder.class);
     private final BitSet changedFieldIds = new BitSet();
     private final StateChange stateChange = StateChange.stateChange(changedFieldIds);
@@ -32,7 +37,7 @@ final class GrpcDecoder implements ChangeDecoder<SubscriptionResponse> {
     private final List<TypeReader> readers = new ArrayList<>(TypeId.Max);
     private final SchemaBuilder schemaBuilder;
 
-    static GrpcDecoder grpcDecoder(final SchemaBuilder schemaBuilder) {
+    public static GrpcDecoder grpcDecoder(final SchemaBuilder schemaBuilder) {
         return new GrpcDecoder(schemaBuilder);
     }
 
@@ -47,6 +52,7 @@ final class GrpcDecoder implements ChangeDecoder<SubscriptionResponse> {
         readers.add(new DoubleReader());
         readers.add(new FloatReader());
         readers.add(new GenericReader());
+        readers.add(new DictionaryReader());
     }
 
     @Override
@@ -69,7 +75,7 @@ final class GrpcDecoder implements ChangeDecoder<SubscriptionResponse> {
         }
     }
 
-    TransformOutput output() {
+    public TransformOutput output() {
         return outputManager.output();
     }
 
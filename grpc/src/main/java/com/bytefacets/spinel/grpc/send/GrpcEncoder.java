@@ -10,6 +10,7 @@ import com.bytefacets.spinel.grpc.codec.ObjectEncoderImpl;
 import com.bytefacets.spinel.grpc.proto.BoolData;
 import com.bytefacets.spinel.grpc.proto.ByteData;
 import com.bytefacets.spinel.grpc.proto.DataUpdate;
+import com.bytefacets.spinel.grpc.proto.DictionaryData;
 import com.bytefacets.spinel.grpc.proto.DoubleData;
 import com.bytefacets.spinel.grpc.proto.FieldDefinition;
 import com.bytefacets.spinel.grpc.proto.FloatData;
@@ -25,6 +26,7 @@ import com.bytefacets.spinel.schema.BoolField;
 import com.bytefacets.spinel.schema.ByteField;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.CharField;
+import com.bytefacets.spinel.schema.DictionaryStringField;
 import com.bytefacets.spinel.schema.DoubleField;
 import com.bytefacets.spinel.schema.FieldBitSet;
 import com.bytefacets.spinel.schema.FloatField;
@@ -34,11 +36,23 @@ import com.bytefacets.spinel.schema.LongField;
 import com.bytefacets.spinel.schema.Schema;
 import com.bytefacets.spinel.schema.SchemaField;
 import com.bytefacets.spinel.schema.ShortField;
+import com.bytefacets.spinel.schema.StringDictionary;
 import com.bytefacets.spinel.schema.StringField;
 import com.bytefacets.spinel.schema.TypeId;
 import com.google.protobuf.ByteString;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
+/**
+ * Encodes the schema and row changes of an output as SubscriptionResponse messages.
+ *
+ * <p>Dictionary-encoded String fields are sent as codes. Each dictionary entry is sent once per
+ * subscription, the first time a field of its dictionary is encoded after the entry is added, and
+ * the receiver keeps the entries to decode the codes. Fields sharing a dictionary share its
+ * entries.
+ */
 public final class GrpcEncoder implements ChangeEncoder<SubscriptionResponse> {
     private final ObjectEncoderImpl objectEncoder = ObjectEncoderImpl.encoder();
     private final BitSet allFields = new BitSet();
@@ -46,6 +60,10 @@ public final class GrpcEncoder implements ChangeEncoder<SubscriptionResponse> {
     private final IntVector rowIdBuffer = new IntVector(64);
     private final int subscriptionId;
     private byte[] byteArray = new byte[64];
+    // per field id, the id on the wire of the field's dictionary, or -1
+    private int[] fieldDictionaryIds = new int[0];
+    // per dictionary id, the first code not yet sent
+    private int[] dictionaryCodesSent = new int[0];
     private Schema schema;
 
     private GrpcEncoder(final int subscriptionId) {
@@ -60,6 +78,7 @@ public final class GrpcEncoder implements ChangeEncoder<SubscriptionResponse> {
     public SubscriptionResponse encodeSchema(final Schema schema) {
         this.schema = schema;
         allFields.clear();
+        assignDictionaryIds(schema);
         final var update =
                 SubscriptionResponse.newBuilder()
                         .setResponseType(ResponseType.RESPONSE_TYPE_SCHEMA);
@@ -181,7 +200,16 @@ public final class GrpcEncoder implements ChangeEncoder<SubscriptionResponse> {
             final DataUpdate.Builder builder, final IntVector rowIds, final SchemaField field) {
         final BoolField f = (BoolField) field.field();
         final BoolData.Builder data = BoolData.newBuilder().setFieldId(field.fieldId());
-        rowIds.forEach(row -> data.addValues(f.valueAt(row)));
+        final int rowCount = rowIds.size();
+        final int byteCount = (rowCount + 7) >>> 3;
+        byteArray = ByteArray.ensureSize(byteArray, byteCount);
+        Arrays.fill(byteArray, 0, byteCount, (byte) 0);
+        for (int i = 0; i < rowCount; i++) {
+            if (f.valueAt(rowIds.valueAt(i))) {
+                byteArray[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        data.setPackedValues(ByteString.copyFrom(byteArray, 0, byteCount));
         builder.addBoolData(data.build());
     }
 
@@ -225,6 +253,25 @@ public final class GrpcEncoder implements ChangeEncoder<SubscriptionResponse> {
         builder.addFloatData(data.build());
     }
 
+    private void assignDictionaryIds(final Schema schema) {
+        final Map<StringDictionary, Integer> dictionaryIds = new IdentityHashMap<>();
+        fieldDictionaryIds = new int[schema != null ? schema.size() : 0];
+        Arrays.fill(fieldDictionaryIds, -1);
+        if (schema != null) {
+            schema.forEachField(
+                    f -> {
+                        if (f.field() instanceof DictionaryStringField dictionaryField) {
+                            fieldDictionaryIds[f.fieldId()] =
+                                    dictionaryIds.computeIfAbsent(
+                                            dictionaryField.dictionary(),
+                                            d -> dictionaryIds.size());
+                        }
+                    });
+        }
+        dictionaryCodesSent = new int[dictionaryIds.size()];
+        Arrays.fill(dictionaryCodesSent, StringDictionary.NULL_CODE + 1);
+    }
+
     private void addDoubleField(
             final DataUpdate.Builder builder, final IntVector rowIds, final SchemaField field) {
         final DoubleField f = (DoubleField) field.field();
@@ -235,12 +282,38 @@ public final class GrpcEncoder implements ChangeEncoder<SubscriptionResponse> {
 
     private void addStringField(
             final DataUpdate.Builder builder, final IntVector rowIds, final SchemaField field) {
+        if (field.field() instanceof DictionaryStringField dictionaryField) {
+            addDictionaryField(builder, rowIds, field.fieldId(), dictionaryField);
+            return;
+        }
         final StringField f = (StringField) field.field();
         final StringData.Builder data = StringData.newBuilder().setFieldId(field.fieldId());
         rowIds.forEach(row -> data.addValues(f.valueAt(row)));
         builder.addStringData(data.build());
     }
 
+    private void addDictionaryField(
+            final DataUpdate.Builder builder,
+            final IntVector rowIds,
+            final int fieldId,
+            final DictionaryStringField f) {
+        final StringDictionary dictionary = f.dictionary();
+        final int dictionaryId = fieldDictionaryIds[fieldId];
+        final int firstCode = dictionaryCodesSent[dictionaryId];
+        final int codeLimit = dictionary.codeLimit();
+        final DictionaryData.Builder data =
+                DictionaryData.newBuilder()
+                        .setFieldId(fieldId)
+                        .setDictionaryId(dictionaryId)
+                        .setFirstCode(firstCode);
+        for (int code = firstCode; code < codeLimit; code++) {
+            data.addEntries(dictionary.decode(code));
+        }
+        dictionaryCodesSent[dictionaryId] = codeLimit;
+        rowIds.forEach(row -> data.addCodes(f.codeAt(row)));
+        builder.addDictionaryData(data.build());
+    }
+
     private void addGenericField(
             final DataUpdate.Builder builder, final IntVector rowIds, final SchemaField field) {
         final GenericField f = (GenericField) field.field();
@@ -12,10 +12,12 @@ import com.bytefacets.spinel.grpc.proto.DataServiceGrpc;
 import com.bytefacets.spinel.grpc.proto.SubscriptionRequest;
 import com.bytefacets.spinel.grpc.proto.SubscriptionResponse;
 import com.bytefacets.spinel.grpc.send.auth.GrpcConnectedSessionInfo;
+import com.bytefacets.spinel.trace.LatencyRegistry;
 import io.grpc.Context;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.netty.channel.EventLoop;
+import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,10 +55,19 @@ public final class GrpcService extends DataServiceGrpc.DataServiceImplBase {
     private static final ConnectedSessionInfo EMPTY = GrpcConnectedSessionInfo.EMPTY;
     private final SubscriptionProvider subscriptionProvider;
     private final EventLoop dataEventLoop;
+    private final LatencyRegistry latencyRegistry;
 
     GrpcService(final SubscriptionProvider subscriptionProvider, final EventLoop dataEventLoop) {
+        this(subscriptionProvider, dataEventLoop, null);
+    }
+
+    GrpcService(
+            final SubscriptionProvider subscriptionProvider,
+            final EventLoop dataEventLoop,
+            final @Nullable LatencyRegistry latencyRegistry) {
         this.subscriptionProvider = requireNonNull(subscriptionProvider, "subscriptionProvider");
         this.dataEventLoop = requireNonNull(dataEventLoop, "dataEventLoop");
+        this.latencyRegistry = latencyRegistry;
     }
 
     /**
@@ -78,6 +89,7 @@ public final class GrpcService extends DataServiceGrpc.DataServiceImplBase {
                         subscriptionProvider,
                         sessionStream,
                         dataEventLoop,
+                        latencyRegistry,
                         this::sessionCompleted)
                 .requestHandler();
     }
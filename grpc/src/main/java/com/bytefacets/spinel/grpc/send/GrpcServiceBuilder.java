@@ -5,11 +5,14 @@ package com.bytefacets.spinel.grpc.send;
 import static java.util.Objects.requireNonNull;
 
 import com.bytefacets.spinel.comms.send.SubscriptionProvider;
+import com.bytefacets.spinel.trace.LatencyRegistry;
 import io.netty.channel.EventLoop;
+import jakarta.annotation.Nullable;
 
 public final class GrpcServiceBuilder {
     private final SubscriptionProvider subscriptionProvider;
     private final EventLoop dataEventLoop;
+    private LatencyRegistry latencyRegistry;
 
     private GrpcServiceBuilder(
             final SubscriptionProvider subscriptionProvider, final EventLoop dataEventLoop) {
@@ -22,7 +25,19 @@ public final class GrpcServiceBuilder {
         return new GrpcServiceBuilder(subscriptionProvider, dataEventLoop);
     }
 
+    /**
+     * When set, each subscription records the latency from the source table fire until its updates
+     * are handed to the gRPC stream. The histograms are registered under
+     * "session/output#subscriptionId" for the life of the subscription.
+     *
+     * @see com.bytefacets.spinel.trace.UpdateTrace
+     */
+    public GrpcServiceBuilder latencyRegistry(final @Nullable LatencyRegistry latencyRegistry) {
+        this.latencyRegistry = latencyRegistry;
+        return this;
+    }
+
     public GrpcService build() {
-        return new GrpcService(subscriptionProvider, dataEventLoop);
+        return new GrpcService(subscriptionProvider, dataEventLoop, latencyRegistry);
     }
 }
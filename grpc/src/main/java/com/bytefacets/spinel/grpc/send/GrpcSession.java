@@ -20,9 +20,11 @@ import com.bytefacets.spinel.grpc.proto.Response;
 import com.bytefacets.spinel.grpc.proto.ResponseType;
 import com.bytefacets.spinel.grpc.proto.SubscriptionRequest;
 import com.bytefacets.spinel.grpc.proto.SubscriptionResponse;
+import com.bytefacets.spinel.trace.LatencyRegistry;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.netty.channel.EventLoop;
+import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -42,15 +44,22 @@ final class GrpcSession {
     private final Consumer<GrpcSession> onComplete;
     private final SenderErrorEval errorEval;
     private final String logPrefix;
+    private final LatencyRegistry latencyRegistry;
 
     static GrpcSession createSession(
             final ConnectedSessionInfo sessionInfo,
             final SubscriptionProvider subscriptionProvider,
             final ServerCallStreamObserver<SubscriptionResponse> outputStream,
             final EventLoop dataEventLoop,
+            final @Nullable LatencyRegistry latencyRegistry,
             final Consumer<GrpcSession> onComplete) {
         return new GrpcSession(
-                sessionInfo, subscriptionProvider, outputStream, dataEventLoop, onComplete);
+                sessionInfo,
+                subscriptionProvider,
+                outputStream,
+                dataEventLoop,
+                latencyRegistry,
+                onComplete);
     }
 
     GrpcSession(
@@ -59,6 +68,17 @@ final class GrpcSession {
             final ServerCallStreamObserver<SubscriptionResponse> outputStream,
             final EventLoop dataEventLoop,
             final Consumer<GrpcSession> onComplete) {
+        this(sessionInfo, subscriptionProvider, outputStream, dataEventLoop, null, onComplete);
+    }
+
+    GrpcSession(
+            final ConnectedSessionInfo sessionInfo,
+            final SubscriptionProvider subscriptionProvider,
+            final ServerCallStreamObserver<SubscriptionResponse> outputStream,
+            final EventLoop dataEventLoop,
+            final @Nullable LatencyRegistry latencyRegistry,
+            final Consumer<GrpcSession> onComplete) {
+        this.latencyRegistry = latencyRegistry;
         this.subscriptionProvider = requireNonNull(subscriptionProvider, "subscriptionProvider");
         this.dataEventLoop = requireNonNull(dataEventLoop, "dataEventLoop");
         this.onComplete = requireNonNull(onComplete, "onComplete");
@@ -82,21 +102,33 @@ final class GrpcSession {
         final SubscriptionConfig config = toConfig(createRequest);
         final List<ModificationRequest> initialModifications =
                 msgHelp.readModifications(createRequest);
+        final int subscriptionId = request.getSubscriptionId();
+        final SubscriptionEvent event =
+                SubscriptionEvent.started(
+                        logPrefix,
+                        createRequest.getName(),
+                        subscriptionId,
+                        SubscriptionEvent.CREATE);
+        boolean success = false;
         try {
             final SubscriptionContainer subscriptionContainer =
                     subscriptionProvider.getSubscription(sessionInfo, config, initialModifications);
             if (subscriptionContainer != null) {
-                final int subscriptionId = request.getSubscriptionId();
-                final GrpcSink adapter = grpcSink(subscriptionId, outputStream);
-                final var resources = new SubscriptionResources(subscriptionContainer, adapter);
+                final GrpcSink adapter = createSink(subscriptionId, config);
+                final var resources =
+                        new SubscriptionResources(
+                                subscriptionContainer, adapter, createRequest.getName());
                 subscriptions.put(subscriptionId, resources);
                 // connection to the output must be done on the data thread
                 Connector.connectOutputToInput(subscriptionContainer, adapter);
+                success = true;
             } else {
                 outputStream.onNext(outputNotFound(request, createRequest.getName()));
             }
         } catch (Exception ex) {
             outputStream.onNext(error(request, createRequest.getName(), ex));
+        } finally {
+            event.complete(success);
         }
     }
 
@@ -122,14 +154,35 @@ final class GrpcSession {
     // on data thread
     private void internalClose() {
         log.info("{} Closing session", logPrefix);
-        subscriptions.forEachValue(SubscriptionResources::close);
+        subscriptions.forEachEntry(this::closeSubscription);
         subscriptions.clear();
     }
 
+    private void closeSubscription(final int entry) {
+        final SubscriptionResources resources = subscriptions.getValueAt(entry);
+        final SubscriptionEvent event =
+                SubscriptionEvent.started(
+                        logPrefix,
+                        resources.output(),
+                        subscriptions.getKeyAt(entry),
+                        SubscriptionEvent.TERMINATE);
+        resources.close();
+        event.complete(true);
+    }
+
     private void cancelled() {
         log.info("Client cancelled connection");
     }
 
+    private GrpcSink createSink(final int subscriptionId, final SubscriptionConfig config) {
+        if (latencyRegistry == null) {
+            return grpcSink(subscriptionId, outputStream);
+        }
+        final String latencyName =
+                logPrefix + "/" + config.remoteOutputName() + "#" + subscriptionId;
+        return grpcSink(subscriptionId, outputStream, latencyRegistry, latencyName);
+    }
+
     /**
      * Server should be created with executor event loop corresponding to the data thread, so all
      * callbacks will be on the data event loop.
@@ -243,7 +296,7 @@ final class GrpcSession {
     }
 
     private record SubscriptionResources(
-            SubscriptionContainer subscriptionContainer, GrpcSink sink) {
+            SubscriptionContainer subscriptionContainer, GrpcSink sink, String output) {
         ModificationResponse apply(
                 final ModificationAddRemove addRemove, final ModificationRequest descriptor) {
             if (addRemove.equals(ModificationAddRemove.ADD)) {
@@ -12,6 +12,9 @@ import com.bytefacets.spinel.comms.send.ChangeEncoder;
 import com.bytefacets.spinel.grpc.proto.SubscriptionResponse;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.trace.LatencyHistogram;
+import com.bytefacets.spinel.trace.LatencyRegistry;
+import com.bytefacets.spinel.trace.UpdateTrace;
 import com.bytefacets.spinel.transform.InputProvider;
 import io.grpc.stub.StreamObserver;
 import jakarta.annotation.Nullable;
@@ -20,18 +23,44 @@ public final class GrpcSink implements InputProvider {
     private final Input input = new Input();
     private final ChangeEncoder<SubscriptionResponse> encoder;
     private final StreamObserver<SubscriptionResponse> streamOutput;
+    private final LatencyRegistry latencyRegistry;
+    private final String latencyName;
+    private final LatencyHistogram latency;
     private TransformOutput source;
 
     static GrpcSink grpcSink(
             final int subscriptionId, final StreamObserver<SubscriptionResponse> streamOutput) {
-        return new GrpcSink(grpcEncoder(subscriptionId), streamOutput);
+        return new GrpcSink(grpcEncoder(subscriptionId), streamOutput, null, null);
+    }
+
+    /**
+     * Creates a sink which records, into a histogram registered under latencyName, the time from
+     * the source fire until each update is handed to the stream.
+     *
+     * @see com.bytefacets.spinel.trace.UpdateTrace
+     */
+    static GrpcSink grpcSink(
+            final int subscriptionId,
+            final StreamObserver<SubscriptionResponse> streamOutput,
+            final @Nullable LatencyRegistry latencyRegistry,
+            final String latencyName) {
+        return new GrpcSink(
+                grpcEncoder(subscriptionId), streamOutput, latencyRegistry, latencyName);
     }
 
     private GrpcSink(
             final ChangeEncoder<SubscriptionResponse> encoder,
-            final StreamObserver<SubscriptionResponse> streamOutput) {
+            final StreamObserver<SubscriptionResponse> streamOutput,
+            final @Nullable LatencyRegistry latencyRegistry,
+            final @Nullable String latencyName) {
         this.encoder = requireNonNull(encoder, "encoder");
         this.streamOutput = requireNonNull(streamOutput, "streamOutput");
+        this.latencyRegistry = latencyRegistry;
+        this.latencyName = latencyName;
+        this.latency =
+                latencyRegistry != null
+                        ? latencyRegistry.histogram(requireNonNull(latencyName, "latencyName"))
+                        : null;
     }
 
     @Override
@@ -43,6 +72,20 @@ public final class GrpcSink implements InputProvider {
         if (source != null) {
             source.detachInput(input);
         }
+        if (latencyRegistry != null) {
+            latencyRegistry.remove(latencyName);
+        }
+    }
+
+    /** The histogram of update latencies, or null if this sink is not recording them. */
+    public @Nullable LatencyHistogram latency() {
+        return latency;
+    }
+
+    private void recordLatency() {
+        if (latency != null) {
+            UpdateTrace.recordElapsed(latency);
+        }
     }
 
     private final class Input implements TransformInput {
@@ -59,16 +102,19 @@ public final class GrpcSink implements InputProvider {
         @Override
         public void rowsAdded(final IntIterable rows) {
             streamOutput.onNext(encoder.encodeAdd(rows));
+            recordLatency();
         }
 
         @Override
         public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
             streamOutput.onNext(encoder.encodeChange(rows, changedFields));
+            recordLatency();
         }
 
         @Override
         public void rowsRemoved(final IntIterable rows) {
             streamOutput.onNext(encoder.encodeRemove(rows));
+            recordLatency();
         }
     }
 }
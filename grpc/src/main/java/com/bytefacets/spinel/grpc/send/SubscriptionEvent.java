@@ -0,0 +1,58 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.grpc.send;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event for a gRPC subscription being created or terminated by a {@link GrpcSession}. Create
+ * events cover connecting the subscription, which includes sending the initial snapshot.
+ */
+@Name(SubscriptionEvent.NAME)
+@Label("gRPC Subscription")
+@Category({"Spinel", "gRPC"})
+@Description("A gRPC subscription being created or terminated")
+@StackTrace(false)
+public final class SubscriptionEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.bytefacets.spinel.grpc.Subscription";
+    static final String CREATE = "create";
+    static final String TERMINATE = "terminate";
+
+    @Label("Session")
+    String session;
+
+    @Label("Output")
+    String output;
+
+    @Label("Subscription Id")
+    int subscriptionId;
+
+    @Label("Action")
+    String action;
+
+    @Label("Success")
+    boolean success;
+
+    static SubscriptionEvent started(
+            final String session,
+            final String output,
+            final int subscriptionId,
+            final String action) {
+        final SubscriptionEvent event = new SubscriptionEvent();
+        event.begin();
+        event.session = session;
+        event.output = output;
+        event.subscriptionId = subscriptionId;
+        event.action = action;
+        return event;
+    }
+
+    void complete(final boolean success) {
+        this.success = success;
+        commit();
+    }
+}
@@ -3,25 +3,36 @@
 package com.bytefacets.spinel.grpc;
 
 import static com.bytefacets.spinel.printer.OutputLoggerBuilder.logger;
+import static com.bytefacets.spinel.schema.FieldDescriptor.boolField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.dictionaryStringField;
 import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
 import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.bytefacets.spinel.comms.receive.ChangeDecoder;
+import com.bytefacets.spinel.grpc.proto.DataUpdate;
 import com.bytefacets.spinel.grpc.proto.Response;
 import com.bytefacets.spinel.grpc.proto.ResponseType;
 import com.bytefacets.spinel.grpc.proto.SubscriptionResponse;
 import com.bytefacets.spinel.grpc.receive.ReceivePackageAccess;
 import com.bytefacets.spinel.grpc.send.GrpcSink;
 import com.bytefacets.spinel.grpc.send.SendPackageAccess;
+import com.bytefacets.spinel.schema.BoolWritableField;
 import com.bytefacets.spinel.schema.Metadata;
+import com.bytefacets.spinel.schema.StringWritableField;
 import com.bytefacets.spinel.table.IntIndexedTable;
 import com.bytefacets.spinel.testing.IntTableHandle;
 import com.bytefacets.spinel.validation.Key;
 import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.Validation;
 import com.bytefacets.spinel.validation.ValidationOperator;
 import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +47,7 @@ public final class CodecTest {
     private final ValidationOperator validation =
             new ValidationOperator(new String[] {"Id"}, "Value1", "Value2");
     private final RowData.RowDataTemplate template = RowData.template("Value1", "Value2");
+    private final List<SubscriptionResponse> sent = new ArrayList<>();
     private IntIndexedTable table;
     private IntTableHandle tableHandle;
     private GrpcSink sendingAdapter;
@@ -163,6 +175,172 @@ public final class CodecTest {
         }
     }
 
+    @Nested
+    class PackedBoolTests {
+        private final ValidationOperator flagValidation =
+                new ValidationOperator(new String[] {"Id"}, "Flag");
+
+        @BeforeEach
+        void setUp() {
+            table =
+                    intIndexedTable("table")
+                            .addFields(boolField("Flag"))
+                            .keyFieldName("Id")
+                            .build();
+            wire(flagValidation);
+            flagValidation.clearChanges();
+        }
+
+        @AfterEach
+        void tearDown() {
+            flagValidation.assertNoActiveValidation();
+        }
+
+        @Test
+        void shouldSendPackedValues() {
+            for (int key = 0; key < 20; key++) {
+                upsertFlag(key, key % 3 == 0);
+            }
+            table.fireChanges();
+            final Validation expected = flagValidation.expect();
+            for (int key = 0; key < 20; key++) {
+                expected.added(key(key), flag(key % 3 == 0));
+            }
+            expected.validate();
+        }
+
+        @Test
+        void shouldSendEightRowsPerByte() {
+            for (int key = 0; key < 20; key++) {
+                upsertFlag(key, true);
+            }
+            table.fireChanges();
+            final var data = sent.getLast().getData().getBoolData(0);
+            assertThat(data.getValuesCount(), equalTo(0));
+            assertThat(data.getPackedValues().size(), equalTo(3));
+            flagValidation.clearChanges();
+        }
+
+        @Test
+        void shouldSendChangedValues() {
+            upsertFlag(1, true);
+            upsertFlag(2, false);
+            table.fireChanges();
+            flagValidation.clearChanges();
+            // when
+            upsertFlag(1, false);
+            upsertFlag(2, true);
+            table.fireChanges();
+            // then
+            flagValidation
+                    .expect()
+                    .changed(key(1), flag(false))
+                    .changed(key(2), flag(true))
+                    .validate();
+        }
+
+        private void upsertFlag(final int key, final boolean value) {
+            final BoolWritableField flag = table.writableField("Flag");
+            flag.setValueAt(table.beginUpsert(key), value);
+            table.endUpsert();
+        }
+
+        private RowData flag(final boolean value) {
+            return new RowData(Map.of("Flag", value));
+        }
+    }
+
+    @Nested
+    class DictionaryTests {
+        private final ValidationOperator symbolValidation =
+                new ValidationOperator(new String[] {"Id"}, "Sym", "Venue");
+
+        @BeforeEach
+        void setUp() {
+            table =
+                    intIndexedTable("table")
+                            .addFields(dictionaryStringField("Sym"), dictionaryStringField("Venue"))
+                            .keyFieldName("Id")
+                            .build();
+            wire(symbolValidation);
+            symbolValidation.clearChanges();
+        }
+
+        @AfterEach
+        void tearDown() {
+            symbolValidation.assertNoActiveValidation();
+        }
+
+        @Test
+        void shouldSendValues() {
+            upsertSymbol(1, "AAPL", "XNAS");
+            upsertSymbol(2, "MSFT", "XNAS");
+            upsertSymbol(3, null, null);
+            table.fireChanges();
+            symbolValidation
+                    .expect()
+                    .added(key(1), symbol("AAPL", "XNAS"))
+                    .added(key(2), symbol("MSFT", "XNAS"))
+                    .added(key(3), symbol(null, null))
+                    .validate();
+        }
+
+        @Test
+        void shouldSendEachEntryOnce() {
+            upsertSymbol(1, "AAPL", "XNAS");
+            upsertSymbol(2, "MSFT", "XNAS");
+            table.fireChanges();
+            final var first = sent.getLast().getData();
+            upsertSymbol(3, "IBM", "XNYS");
+            upsertSymbol(4, "MSFT", "XNYS");
+            table.fireChanges();
+            final var second = sent.getLast().getData();
+            assertThat(entries(first), contains("AAPL", "XNAS", "MSFT"));
+            assertThat(entries(second), contains("IBM", "XNYS"));
+            assertThat(second.getDictionaryData(0).getFirstCode(), equalTo(4));
+            symbolValidation
+                    .expect()
+                    .added(key(1), symbol("AAPL", "XNAS"))
+                    .added(key(2), symbol("MSFT", "XNAS"))
+                    .added(key(3), symbol("IBM", "XNYS"))
+                    .added(key(4), symbol("MSFT", "XNYS"))
+                    .validate();
+        }
+
+        @Test
+        void shouldShareDictionaryBetweenFields() {
+            upsertSymbol(1, "AAPL", "XNAS");
+            table.fireChanges();
+            final var data = sent.getLast().getData();
+            assertThat(data.getDictionaryDataCount(), equalTo(2));
+            assertThat(
+                    data.getDictionaryData(0).getDictionaryId(),
+                    equalTo(data.getDictionaryData(1).getDictionaryId()));
+            assertThat(entries(data), contains("AAPL", "XNAS"));
+            symbolValidation.expect().added(key(1), symbol("AAPL", "XNAS")).validate();
+        }
+
+        private void upsertSymbol(final int key, final String sym, final String venue) {
+            final int row = table.beginUpsert(key);
+            ((StringWritableField) table.writableField("Sym")).setValueAt(row, sym);
+            ((StringWritableField) table.writableField("Venue")).setValueAt(row, venue);
+            table.endUpsert();
+        }
+
+        private List<String> entries(final DataUpdate data) {
+            final List<String> entries = new ArrayList<>();
+            data.getDictionaryDataList().forEach(d -> entries.addAll(d.getEntriesList()));
+            return entries;
+        }
+
+        private RowData symbol(final String sym, final String venue) {
+            final Map<String, Object> data = new HashMap<>();
+            data.put("Sym", sym);
+            data.put("Venue", venue);
+            return new RowData(data);
+        }
+    }
+
     @Test
     void shouldNotThrowWhenUnknownResponseType() {
         wire();
@@ -186,30 +364,39 @@ public final class CodecTest {
     }
 
     private void wire() {
+        wire(validation);
+    }
+
+    private void wire(final ValidationOperator target) {
         // client ---------
         receiver = ReceivePackageAccess.decoder();
         if (print) {
             receiver.output().attachInput(logger().build().input());
         }
         // receiver goes to the validator
-        receiver.output().attachInput(validation.input());
+        receiver.output().attachInput(target.input());
 
         // server ---------
         // wire the sender directly to the receiver
-        sendingAdapter = sendPkg.sink(5, () -> 0, new MockNetwork(receiver));
+        sendingAdapter = sendPkg.sink(5, () -> 0, new MockNetwork(receiver, sent));
         // table goes to the sender
         table.output().attachInput(sendingAdapter.input());
     }
 
     private static final class MockNetwork implements StreamObserver<SubscriptionResponse> {
         private final ChangeDecoder<SubscriptionResponse> decoder;
+        private final List<SubscriptionResponse> sent;
 
-        private MockNetwork(final ChangeDecoder<SubscriptionResponse> decoder) {
+        private MockNetwork(
+                final ChangeDecoder<SubscriptionResponse> decoder,
+                final List<SubscriptionResponse> sent) {
             this.decoder = decoder;
+            this.sent = sent;
         }
 
         @Override
         public void onNext(final SubscriptionResponse subscriptionResponse) {
+            sent.add(subscriptionResponse);
             decoder.accept(subscriptionResponse);
         }
 
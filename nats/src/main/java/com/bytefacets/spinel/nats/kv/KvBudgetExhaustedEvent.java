@@ -0,0 +1,36 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.nats.kv;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event for a {@link KvDataQueue} run which used up its time budget and rescheduled itself
+ * with updates still pending. The duration is the time spent processing before giving up the event
+ * loop.
+ */
+@Name(KvBudgetExhaustedEvent.NAME)
+@Label("KV Budget Exhausted")
+@Category({"Spinel", "NATS"})
+@Description("A NATS KV data queue yielding the event loop with updates still pending")
+@StackTrace(false)
+public final class KvBudgetExhaustedEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.bytefacets.spinel.nats.KvBudgetExhausted";
+
+    @Label("Time Budget")
+    @Timespan(Timespan.NANOSECONDS)
+    long budget;
+
+    @Label("Processed")
+    @Description("Updates processed before the budget was used up")
+    int processed;
+
+    @Label("Pending")
+    @Description("Updates still queued when the budget was used up")
+    int pending;
+}
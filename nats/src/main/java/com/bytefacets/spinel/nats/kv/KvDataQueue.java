@@ -8,6 +8,7 @@ import io.nats.client.api.KeyValueEntry;
 import io.nats.client.api.KeyValueOperation;
 import io.nats.client.api.KeyValueWatcher;
 import io.netty.channel.EventLoop;
+import jakarta.annotation.Nullable;
 import java.time.Duration;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
@@ -16,6 +17,8 @@ import java.util.function.LongSupplier;
 
 /** Carries updates from a NATS KeyValueWatcher onto an EventLoop for processing. */
 final class KvDataQueue implements Runnable {
+    private static final jdk.jfr.EventType BUDGET_EXHAUSTED =
+            jdk.jfr.EventType.getEventType(KvBudgetExhaustedEvent.class);
     private final AtomicBoolean signal = new AtomicBoolean();
     private final EventLoop eventLoop;
     private final Listener listener;
@@ -59,11 +62,15 @@ final class KvDataQueue implements Runnable {
     @Override
     public void run() {
         signal.set(false);
+        final KvBudgetExhaustedEvent event = beginBudgetEvent();
         final long endBudget = nanoSupplier.getAsLong() + timeBudgetNanos;
+        int processed = 0;
         while (!updates.isEmpty()) {
             final var update = updates.removeFirst();
             process(update);
+            processed++;
             if (nanoSupplier.getAsLong() >= endBudget) {
+                budgetExhausted(event, processed);
                 listener.fireChanges();
                 // fire again because we're not done
                 scheduleForMore();
@@ -73,6 +80,30 @@ final class KvDataQueue implements Runnable {
         listener.fireChanges();
     }
 
+    /** Begins a KvBudgetExhaustedEvent if it is enabled, or returns null. */
+    private static @Nullable KvBudgetExhaustedEvent beginBudgetEvent() {
+        if (!BUDGET_EXHAUSTED.isEnabled()) {
+            return null;
+        }
+        final KvBudgetExhaustedEvent event = new KvBudgetExhaustedEvent();
+        event.begin();
+        return event;
+    }
+
+    private void budgetExhausted(
+            final @Nullable KvBudgetExhaustedEvent event, final int processed) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.budget = timeBudgetNanos;
+            event.processed = processed;
+            event.pending = updates.size();
+            event.commit();
+        }
+    }
+
     private void scheduleForMore() {
         eventLoop.schedule(this, 1, TimeUnit.NANOSECONDS);
     }
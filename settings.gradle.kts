@@ -8,6 +8,7 @@ pluginManagement {
 }
 
 include("spinel")
+include("benchmarks")
 include("examples")
 include("grpc")
 include("spring-examples")
@@ -22,7 +22,14 @@ template_processor {
             "BoolIndexedStructTable.java",
             "BoolIndexedStructTableBuilder.java",
             "BoolRowInterner.java",
-            "BoolTableHandle.java"))
+            "BoolTableHandle.java",
+            "BoolMappedTableStorage.java",
+            "BoolIndexCompactor.java",
+            "BoolPersistentIndexedTableBuilder.java",
+            "StringMappedTableStorage.java",
+            "StringPersistentIndexedTableBuilder.java",
+            "GenericMappedTableStorage.java",
+            "GenericPersistentIndexedTableBuilder.java"))
     }
     test {
         excludedFiles.set(listOf(
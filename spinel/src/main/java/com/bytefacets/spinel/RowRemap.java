@@ -0,0 +1,76 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel;
+
+import com.bytefacets.collections.functional.IntIntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.collections.vector.IntVector;
+
+/**
+ * The rows moved by a source which renumbers its rows, e.g. when a table is compacted. Each moved
+ * row keeps its values under its new row. A row moved to is never the row another row is moved
+ * from, and is not in use before the move.
+ *
+ * @see TransformInput#rowsRemapping(RowRemap)
+ * @see TransformInput#rowsRemapped(RowRemap)
+ */
+public final class RowRemap {
+    private final IntVector fromRows;
+    private final IntVector toRows;
+
+    private RowRemap(final int initialSize) {
+        this.fromRows = new IntVector(initialSize);
+        this.toRows = new IntVector(initialSize);
+    }
+
+    public static RowRemap rowRemap(final int initialSize) {
+        return new RowRemap(Math.max(initialSize, 1));
+    }
+
+    /** Records that the values of fromRow move to toRow. */
+    public void add(final int fromRow, final int toRow) {
+        fromRows.append(fromRow);
+        toRows.append(toRow);
+    }
+
+    /** The number of rows moved. */
+    public int size() {
+        return fromRows.size();
+    }
+
+    public boolean isEmpty() {
+        return fromRows.isEmpty();
+    }
+
+    /** The old row of the moved row at the index, from 0 to size - 1. */
+    public int fromRow(final int index) {
+        return fromRows.valueAt(index);
+    }
+
+    /** The new row of the moved row at the index, from 0 to size - 1. */
+    public int toRow(final int index) {
+        return toRows.valueAt(index);
+    }
+
+    /** The old rows of the moved rows. */
+    public IntIterable fromRows() {
+        return fromRows;
+    }
+
+    /** The new rows of the moved rows, in the same order as {@link #fromRows()}. */
+    public IntIterable toRows() {
+        return toRows;
+    }
+
+    /** Calls back the consumer with (fromRow, toRow) for each moved row. */
+    public void forEach(final IntIntConsumer consumer) {
+        for (int i = 0, len = fromRows.size(); i < len; i++) {
+            consumer.accept(fromRows.valueAt(i), toRows.valueAt(i));
+        }
+    }
+
+    public void clear() {
+        fromRows.clear();
+        toRows.clear();
+    }
+}
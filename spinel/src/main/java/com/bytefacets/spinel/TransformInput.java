@@ -17,4 +17,21 @@ public interface TransformInput {
     void rowsChanged(IntIterable rows, ChangedFieldSet changedFields);
 
     void rowsRemoved(IntIterable rows);
+
+    /**
+     * Called before the source moves the rows in the remap, while the fields still read the values
+     * of each moved row at its old row. By default, the old rows are removed, and an input which
+     * keeps state by row can override this and {@link #rowsRemapped} to move its state instead.
+     */
+    default void rowsRemapping(final RowRemap remap) {
+        rowsRemoved(remap.fromRows());
+    }
+
+    /**
+     * Called after the source has moved the rows in the remap, when the fields read the values of
+     * each moved row at its new row. By default, the new rows are added.
+     */
+    default void rowsRemapped(final RowRemap remap) {
+        rowsAdded(remap.toRows());
+    }
 }
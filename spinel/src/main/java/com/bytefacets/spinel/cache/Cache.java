@@ -4,20 +4,23 @@ package com.bytefacets.spinel.cache;
 
 import static com.bytefacets.spinel.exception.FieldNotFoundException.fieldNotFound;
 import static com.bytefacets.spinel.exception.SchemaNotBoundException.schemaNotBound;
-import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
 import static java.util.Objects.requireNonNull;
 
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.collections.hash.IntGenericIndexedMap;
 import com.bytefacets.collections.hash.StringGenericIndexedMap;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.Field;
 import com.bytefacets.spinel.schema.FieldCopier;
 import com.bytefacets.spinel.schema.FieldCopierFactory;
 import com.bytefacets.spinel.schema.FieldDescriptor;
 import com.bytefacets.spinel.schema.FieldList;
+import com.bytefacets.spinel.schema.FieldListFactory;
 import com.bytefacets.spinel.schema.FieldResolver;
-import com.bytefacets.spinel.schema.MatrixStoreFieldFactory;
+import com.bytefacets.spinel.schema.FieldStorage;
 import com.bytefacets.spinel.schema.Metadata;
 import com.bytefacets.spinel.schema.Schema;
 import com.bytefacets.spinel.schema.SchemaField;
@@ -29,16 +32,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-public final class Cache {
-    private final MatrixStoreFieldFactory matrixStoreFactory;
+public final class Cache implements RetainedSize {
+    private final FieldListFactory fieldFactory;
     private final IntGenericIndexedMap<FieldCopier> inboundIdToCopier;
     private final StringGenericIndexedMap<SchemaField> fieldMap;
     private final Resolver resolver = new Resolver();
     private final Copier copier = new Copier();
+    private final IntConsumer allCopiersFirer = this::fireAllCopiers;
     private Schema cacheSchema;
 
-    Cache(final Set<String> fields, final int initialSize, final int chunkSize) {
-        this.matrixStoreFactory = matrixStoreFieldFactory(initialSize, chunkSize, i -> {});
+    Cache(
+            final Set<String> fields,
+            final int initialSize,
+            final int chunkSize,
+            final FieldStorage fieldStorage) {
+        this.fieldFactory = fieldStorage.fieldListFactory(initialSize, chunkSize, i -> {});
         this.inboundIdToCopier = new IntGenericIndexedMap<>(Math.max(1, fields.size()), 1d);
         this.fieldMap = new StringGenericIndexedMap<>(Math.max(1, fields.size()), 1d);
         requireNonNull(fields, "fields").forEach(fieldMap::add);
@@ -52,6 +60,12 @@ public final class Cache {
         return cacheSchema;
     }
 
+    /** The estimated bytes retained by the cached fields. */
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.schemaFieldBytes(cacheSchema);
+    }
+
     public void unbind() {
         cacheSchema = null;
         resolver.isBoundToSchema = false;
@@ -65,7 +79,7 @@ public final class Cache {
 
     public void bind(final Schema inSchema) {
         final Map<Byte, List<FieldDescriptor>> typeMap = buildTypeMap(inSchema);
-        final FieldList cacheFields = matrixStoreFactory.createFieldList(fieldMap, typeMap);
+        final FieldList cacheFields = fieldFactory.createFieldList(fieldMap, typeMap);
         buildAndMapCache(inSchema, cacheFields);
         cacheSchema = Schema.schema(inSchema.name() + ".cache", cacheFields);
         resolver.isBoundToSchema = true;
@@ -100,7 +114,7 @@ public final class Cache {
     }
 
     public void updateAll(final IntIterable rows) {
-        rows.forEach(this::fireAllCopiers);
+        rows.forEach(allCopiersFirer);
     }
 
     private void fireAllCopiers(final int row) {
@@ -113,17 +127,19 @@ public final class Cache {
 
     /** Copier separated out to avoid object allocation as lambda */
     private final class Copier {
+        private final IntConsumer rowCopier = this::copyChangedRowFields;
+        private final IntConsumer fieldCopier = this::copyField;
         private int row;
         private ChangedFieldSet changed;
 
         private void applyChanges(final IntIterable rows, final ChangedFieldSet changed) {
             this.changed = changed;
-            rows.forEach(this::copyChangedRowFields);
+            rows.forEach(rowCopier);
         }
 
         private void copyChangedRowFields(final int row) {
             this.row = row;
-            changed.forEach(this::copyField);
+            changed.forEach(fieldCopier);
         }
 
         private void copyField(final int inFieldId) {
@@ -2,6 +2,9 @@
 // SPDX-License-Identifier: MIT
 package com.bytefacets.spinel.cache;
 
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.schema.FieldStorage;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -10,6 +13,7 @@ public final class CacheBuilder {
     private final Set<String> cacheFieldNames = new LinkedHashSet<>();
     private int initialSize = 128;
     private int chunkSize = 128;
+    private FieldStorage fieldStorage = FieldStorage.OnHeap;
 
     private CacheBuilder() {}
 
@@ -18,7 +22,7 @@ public final class CacheBuilder {
     }
 
     public Cache build() {
-        return new Cache(cacheFieldNames, initialSize, chunkSize);
+        return new Cache(cacheFieldNames, initialSize, chunkSize, fieldStorage);
     }
 
     public CacheBuilder cacheFields(final String... fieldNames) {
@@ -36,6 +40,12 @@ public final class CacheBuilder {
         return this;
     }
 
+    /** Where the values of the cached fields are stored; {@link FieldStorage#OnHeap} by default. */
+    public CacheBuilder fieldStorage(final FieldStorage fieldStorage) {
+        this.fieldStorage = requireNonNull(fieldStorage, "fieldStorage");
+        return this;
+    }
+
     // VisibleForTests
     Set<String> cacheFields() {
         return Set.copyOf(cacheFieldNames);
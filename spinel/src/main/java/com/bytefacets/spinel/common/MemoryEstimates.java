@@ -0,0 +1,97 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.common;
+
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.TypeId;
+import jakarta.annotation.Nullable;
+import java.util.BitSet;
+
+/**
+ * Helpers for {@link RetainedSize} estimates, assuming a 64-bit JVM with compressed oops, so 12
+ * byte object headers, 16 byte array headers, 4 byte references and 8 byte alignment.
+ *
+ * <p>Hash collections from bytefacets-collections do not expose their capacity, so they are
+ * estimated from their current entries with a per-entry overhead for the bucket and chain. This
+ * under-counts a collection which has grown and since been emptied.
+ */
+public final class MemoryEstimates {
+    public static final int OBJECT_HEADER_BYTES = 12;
+    public static final int ARRAY_HEADER_BYTES = 16;
+    public static final int REFERENCE_BYTES = 4;
+
+    /** The overhead per entry in an indexed hash collection: a bucket head and a chain link. */
+    public static final int INDEXED_ENTRY_BYTES = 8;
+
+    private MemoryEstimates() {}
+
+    /** The bytes used to store a value of the type, or a reference for String and Generic. */
+    public static int bytesPerValue(final byte typeId) {
+        return switch (typeId) {
+            case TypeId.Bool, TypeId.Byte -> 1;
+            case TypeId.Short, TypeId.Char -> 2;
+            case TypeId.Int, TypeId.Float -> 4;
+            case TypeId.Long, TypeId.Double -> 8;
+            default -> REFERENCE_BYTES;
+        };
+    }
+
+    /** The bytes retained by an array of the given length and element size. */
+    public static long arrayBytes(final int length, final int elementBytes) {
+        return align(ARRAY_HEADER_BYTES + (long) length * elementBytes);
+    }
+
+    public static long arrayBytes(@Nullable final int[] array) {
+        return array != null ? arrayBytes(array.length, Integer.BYTES) : 0;
+    }
+
+    public static long arrayBytes(@Nullable final long[] array) {
+        return array != null ? arrayBytes(array.length, Long.BYTES) : 0;
+    }
+
+    public static long arrayBytes(@Nullable final Object[] array) {
+        return array != null ? arrayBytes(array.length, REFERENCE_BYTES) : 0;
+    }
+
+    public static long bitSetBytes(@Nullable final BitSet bitSet) {
+        return bitSet != null
+                ? align(OBJECT_HEADER_BYTES + 8) + arrayBytes(bitSet.size() / Long.SIZE, Long.BYTES)
+                : 0;
+    }
+
+    /**
+     * The bytes retained by a chunked store of one value per row which has been written up to
+     * rowLimit, and which allocates whole chunks of chunkSize rows, starting from initialSize.
+     */
+    public static long chunkedBytes(
+            final int rowLimit, final int initialSize, final int chunkSize, final int elementBytes) {
+        final long rows = Math.max(rowLimit, initialSize);
+        final long chunks = (rows + chunkSize - 1) / chunkSize;
+        return chunks * arrayBytes(chunkSize, elementBytes)
+                + arrayBytes((int) chunks, REFERENCE_BYTES);
+    }
+
+    /** The estimated bytes retained by an indexed hash collection with the given entries. */
+    public static long indexedSetBytes(final int entries, final int keyBytes) {
+        return (long) entries * (keyBytes + INDEXED_ENTRY_BYTES);
+    }
+
+    /**
+     * The total retained bytes of the fields in the schema which implement RetainedSize. Mapped
+     * fields do not, so only the fields stored by the schema's owner are counted.
+     */
+    public static long schemaFieldBytes(@Nullable final Schema schema) {
+        if (schema == null) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0, size = schema.size(); i < size; i++) {
+            total += RetainedSize.retainedBytesOf(schema.fieldAt(i).field());
+        }
+        return total;
+    }
+
+    private static long align(final long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
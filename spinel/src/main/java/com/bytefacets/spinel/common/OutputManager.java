@@ -6,13 +6,17 @@ import static java.util.Objects.requireNonNull;
 
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.spinel.RowProvider;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.jfr.NotifyEvent;
+import com.bytefacets.spinel.jfr.SpinelEvents;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.Schema;
 import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 /**
  * Operators use the OutputManager to standardize management of notifications to the inputs
@@ -24,6 +28,7 @@ public final class OutputManager implements InputNotifier {
     private final TransformOutput output;
     private final ArrayList<TransformInput> iterable = new ArrayList<>(2);
     private Schema schema;
+    private OutputMetrics metrics;
 
     public static OutputManager outputManager(final RowProvider rowProvider) {
         return new OutputManager(rowProvider);
@@ -41,10 +46,43 @@ public final class OutputManager implements InputNotifier {
         return schema;
     }
 
+    /**
+     * Starts recording {@link OutputMetrics} for notifications from this OutputManager. While
+     * metrics are disabled, notifications are not measured and nothing is allocated.
+     */
+    public OutputMetrics enableMetrics() {
+        return enableMetrics(System::nanoTime);
+    }
+
+    /** Starts recording metrics, timing the callbacks by the given clock, e.g. in tests. */
+    OutputMetrics enableMetrics(final LongSupplier nanoClock) {
+        if (metrics == null) {
+            final OutputMetrics newMetrics = new OutputMetrics(nanoClock);
+            for (int i = 0, size = subscriptions.size(); i < size; i++) {
+                newMetrics.subscriberAdded(subscriptions.get(i));
+            }
+            metrics = newMetrics;
+        }
+        return metrics;
+    }
+
+    /** Stops recording metrics and discards the counters. */
+    public void disableMetrics() {
+        metrics = null;
+    }
+
+    /** The metrics being recorded, or null if metrics are not enabled. */
+    public @Nullable OutputMetrics metrics() {
+        return metrics;
+    }
+
     private void copyIterable() {
         iterable.clear();
         iterable.ensureCapacity(subscriptions.size());
-        subscriptions.forEach(iterable::add); // addAll has an allocation of Object[]
+        // addAll has an allocation of Object[], and a method reference here would allocate too
+        for (int i = 0, size = subscriptions.size(); i < size; i++) {
+            iterable.add(subscriptions.get(i));
+        }
     }
 
     /**
@@ -57,6 +95,9 @@ public final class OutputManager implements InputNotifier {
     void addInput(final TransformInput input) {
         if (!subscriptions.contains(input)) {
             subscriptions.add(input);
+            if (metrics != null) {
+                metrics.subscriberAdded(input);
+            }
             initializeSubscription(output, input);
         }
     }
@@ -67,6 +108,9 @@ public final class OutputManager implements InputNotifier {
      */
     void removeInput(final TransformInput input) {
         if (subscriptions.remove(input)) {
+            if (metrics != null) {
+                metrics.subscriberRemoved(input);
+            }
             terminateSubscription(input);
         }
     }
@@ -79,10 +123,42 @@ public final class OutputManager implements InputNotifier {
         }
     }
 
+    /**
+     * Notifies the inputs that the rows in the remap are about to move, while the fields still read
+     * their values at the old rows.
+     *
+     * @see TransformInput#rowsRemapping(RowRemap)
+     */
+    public void notifyRemapping(final RowRemap remap) {
+        assertSchema();
+        copyIterable();
+        for (int i = 0, size = iterable.size(); i < size; i++) {
+            iterable.get(i).rowsRemapping(remap);
+        }
+    }
+
+    /**
+     * Notifies the inputs that the rows in the remap have moved, and the fields read their values
+     * at the new rows.
+     *
+     * @see TransformInput#rowsRemapped(RowRemap)
+     */
+    public void notifyRemapped(final RowRemap remap) {
+        assertSchema();
+        copyIterable();
+        for (int i = 0, size = iterable.size(); i < size; i++) {
+            iterable.get(i).rowsRemapped(remap);
+        }
+    }
+
     @Override
     public void notifyAdds(final IntIterable rows) {
         assertSchema();
         copyIterable();
+        if (metrics != null || SpinelEvents.isNotifyEnabled()) {
+            notifyInstrumented(EventType.add, rows, null);
+            return;
+        }
         for (int i = 0, size = iterable.size(); i < size; i++) {
             iterable.get(i).rowsAdded(rows);
         }
@@ -92,6 +168,10 @@ public final class OutputManager implements InputNotifier {
     public void notifyChanges(final IntIterable rows, final ChangedFieldSet changedFields) {
         assertSchema();
         copyIterable();
+        if (metrics != null || SpinelEvents.isNotifyEnabled()) {
+            notifyInstrumented(EventType.change, rows, changedFields);
+            return;
+        }
         for (int i = 0, size = iterable.size(); i < size; i++) {
             iterable.get(i).rowsChanged(rows, changedFields);
         }
@@ -101,11 +181,47 @@ public final class OutputManager implements InputNotifier {
     public void notifyRemoves(final IntIterable rows) {
         assertSchema();
         copyIterable();
+        if (metrics != null || SpinelEvents.isNotifyEnabled()) {
+            notifyInstrumented(EventType.remove, rows, null);
+            return;
+        }
         for (int i = 0, size = iterable.size(); i < size; i++) {
             iterable.get(i).rowsRemoved(rows);
         }
     }
 
+    /**
+     * Notifies the inputs while recording OutputMetrics, if enabled, and a {@link NotifyEvent} per
+     * input, if enabled in a JFR recording.
+     */
+    private void notifyInstrumented(
+            final EventType type,
+            final IntIterable rows,
+            final @Nullable ChangedFieldSet changedFields) {
+        final OutputMetrics metrics = this.metrics;
+        final boolean events = SpinelEvents.isNotifyEnabled();
+        if (metrics != null) {
+            metrics.recordBatch(type, rows);
+        }
+        for (int i = 0, size = iterable.size(); i < size; i++) {
+            final TransformInput input = iterable.get(i);
+            final NotifyEvent event = events ? SpinelEvents.beginNotify() : null;
+            final long start = metrics != null ? metrics.nanoTime() : 0;
+            switch (type) {
+                case add -> input.rowsAdded(rows);
+                case change -> input.rowsChanged(rows, changedFields);
+                case remove -> input.rowsRemoved(rows);
+                default -> throw new IllegalArgumentException("Unknown EventType: " + type);
+            }
+            if (metrics != null) {
+                metrics.recordCallback(input, metrics.nanoTime() - start);
+            }
+            if (event != null) {
+                SpinelEvents.endNotify(event, schema.name(), input, type, rows);
+            }
+        }
+    }
+
     private void initializeSubscription(final TransformOutput output, final TransformInput input) {
         input.setSource(output);
         final var schema = output.schema();
@@ -126,7 +242,8 @@ public final class OutputManager implements InputNotifier {
         }
     }
 
-    private final class Output implements TransformOutput {
+    private final class Output
+            implements TransformOutput, OutputMetricsProvider, SubscriberProvider {
         private final RowProvider rowProvider;
 
         private Output(final RowProvider rowProvider) {
@@ -152,5 +269,25 @@ public final class OutputManager implements InputNotifier {
         public void detachInput(final TransformInput input) {
             removeInput(input);
         }
+
+        @Override
+        public OutputMetrics enableMetrics() {
+            return OutputManager.this.enableMetrics();
+        }
+
+        @Override
+        public void disableMetrics() {
+            OutputManager.this.disableMetrics();
+        }
+
+        @Override
+        public @Nullable OutputMetrics metrics() {
+            return metrics;
+        }
+
+        @Override
+        public List<TransformInput> subscribers() {
+            return List.copyOf(subscriptions);
+        }
     }
 }
@@ -0,0 +1,180 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.common;
+
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.collections.vector.IntVector;
+import com.bytefacets.spinel.TransformInput;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Runtime counters for the notifications sent from an OutputManager: rows and batches per event
+ * type, a distribution of batch sizes, and the time spent inside each subscribed input's callback.
+ * Counters are cumulative until {@link #reset()}.
+ *
+ * <p>Batch sizes are recorded in power-of-two buckets: bucket 0 holds empty batches, and bucket
+ * {@code b > 0} holds sizes in {@code [2^(b-1), 2^b - 1]}.
+ *
+ * <p>OutputMetrics are only created when enabled on the OutputManager, and are not thread-safe;
+ * read them on the thread which drives the notifications.
+ *
+ * @see OutputManager#enableMetrics()
+ */
+public final class OutputMetrics {
+    public static final int BATCH_SIZE_BUCKETS = 32;
+    private static final int EVENT_TYPES = EventType.values().length;
+    private final long[] rows = new long[EVENT_TYPES];
+    private final long[] batches = new long[EVENT_TYPES];
+    private final long[] batchSizeHistogram = new long[BATCH_SIZE_BUCKETS];
+    private final List<TransformInput> subscribers = new ArrayList<>(2);
+    private final IntConsumer rowCounter = this::countRow;
+    private final LongSupplier nanoClock;
+    private long[] subscriberNanos = new long[2];
+    private long notifyNanos;
+    private int batchRows;
+
+    OutputMetrics(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /** The number of rows notified for the event type. */
+    public long rows(final EventType type) {
+        return rows[type.ordinal()];
+    }
+
+    /** The number of notifications for the event type. */
+    public long batches(final EventType type) {
+        return batches[type.ordinal()];
+    }
+
+    /** The number of notifications whose size fell in the given bucket. */
+    public long batchSizeCount(final int bucket) {
+        return batchSizeHistogram[bucket];
+    }
+
+    /**
+     * The upper bound of the batch size bucket containing the given percentile (0-100) of
+     * notifications, or 0 if there have been none.
+     */
+    public int batchSizePercentile(final double percentile) {
+        long total = 0;
+        for (long count : batchSizeHistogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long threshold = Math.max(1, (long) Math.ceil(total * percentile / 100d));
+        long cumulative = 0;
+        for (int bucket = 0; bucket < BATCH_SIZE_BUCKETS; bucket++) {
+            cumulative += batchSizeHistogram[bucket];
+            if (cumulative >= threshold) {
+                return bucketUpperBound(bucket);
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /** The number of inputs currently subscribed to the output. */
+    public int fanOut() {
+        return subscribers.size();
+    }
+
+    /**
+     * The total time spent inside subscribed inputs' callbacks. This is inclusive of any further
+     * downstream notifications made during those callbacks.
+     */
+    public long notifyNanos() {
+        return notifyNanos;
+    }
+
+    /**
+     * The time spent inside the given input's callbacks while it has been subscribed, or 0 if it
+     * is not subscribed.
+     */
+    public long nanosFor(final TransformInput input) {
+        final int index = indexOf(input);
+        return index != -1 ? subscriberNanos[index] : 0;
+    }
+
+    /** Clears the counters. The subscriber list is retained. */
+    public void reset() {
+        Arrays.fill(rows, 0);
+        Arrays.fill(batches, 0);
+        Arrays.fill(batchSizeHistogram, 0);
+        Arrays.fill(subscriberNanos, 0);
+        notifyNanos = 0;
+    }
+
+    static int bucketOf(final int batchSize) {
+        return Math.min(BATCH_SIZE_BUCKETS - 1, 32 - Integer.numberOfLeadingZeros(batchSize));
+    }
+
+    static int bucketUpperBound(final int bucket) {
+        return bucket == 0 ? 0 : (int) Math.min(Integer.MAX_VALUE, (1L << bucket) - 1);
+    }
+
+    /** The clock by which callbacks are timed. */
+    long nanoTime() {
+        return nanoClock.getAsLong();
+    }
+
+    void recordBatch(final EventType type, final IntIterable batch) {
+        final int size = batchSize(batch);
+        rows[type.ordinal()] += size;
+        batches[type.ordinal()]++;
+        batchSizeHistogram[bucketOf(size)]++;
+    }
+
+    /** Operators notify batches held in an IntVector, so only other iterables are counted. */
+    private int batchSize(final IntIterable batch) {
+        if (batch instanceof IntVector vector) {
+            return vector.size();
+        }
+        batchRows = 0;
+        batch.forEach(rowCounter);
+        return batchRows;
+    }
+
+    void recordCallback(final TransformInput input, final long nanos) {
+        notifyNanos += nanos;
+        final int index = indexOf(input);
+        if (index != -1) {
+            subscriberNanos[index] += nanos;
+        }
+    }
+
+    void subscriberAdded(final TransformInput input) {
+        if (subscribers.size() == subscriberNanos.length) {
+            subscriberNanos = Arrays.copyOf(subscriberNanos, subscriberNanos.length * 2);
+        }
+        subscriberNanos[subscribers.size()] = 0;
+        subscribers.add(input);
+    }
+
+    void subscriberRemoved(final TransformInput input) {
+        final int index = indexOf(input);
+        if (index != -1) {
+            final int last = subscribers.size() - 1;
+            System.arraycopy(subscriberNanos, index + 1, subscriberNanos, index, last - index);
+            subscribers.remove(index);
+        }
+    }
+
+    private int indexOf(final TransformInput input) {
+        for (int i = 0, len = subscribers.size(); i < len; i++) {
+            if (subscribers.get(i) == input) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void countRow(final int row) {
+        batchRows++;
+    }
+}
@@ -0,0 +1,21 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.common;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Implemented by outputs which can record {@link OutputMetrics}. Outputs created by an {@link
+ * OutputManager} implement this interface.
+ */
+public interface OutputMetricsProvider {
+    /** Starts recording metrics if not already started, and returns them. */
+    OutputMetrics enableMetrics();
+
+    /** Stops recording metrics and discards the counters. */
+    void disableMetrics();
+
+    /** The metrics being recorded, or null if metrics are not enabled. */
+    @Nullable
+    OutputMetrics metrics();
+}
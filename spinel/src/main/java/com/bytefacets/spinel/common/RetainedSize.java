@@ -0,0 +1,26 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.common;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Implemented by operators and their internal stores to report an estimate of the heap they
+ * retain. Estimates cover the arrays and collections owned by the component, including capacity
+ * which is allocated but unused, but not the objects referenced from String or Generic values,
+ * and not fields which are mapped from another operator.
+ *
+ * <p>Estimates are computed when called, sometimes by iterating internal structures, so they
+ * should be read periodically on the thread which drives the topology, not on every update.
+ *
+ * @see MemoryEstimates
+ */
+public interface RetainedSize {
+    /** The estimated number of bytes retained. */
+    long retainedBytes();
+
+    /** The retained bytes of the object if it implements RetainedSize, otherwise 0. */
+    static long retainedBytesOf(@Nullable final Object object) {
+        return object instanceof RetainedSize size ? size.retainedBytes() : 0;
+    }
+}
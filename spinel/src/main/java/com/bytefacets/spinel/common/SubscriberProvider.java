@@ -0,0 +1,15 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.common;
+
+import com.bytefacets.spinel.TransformInput;
+import java.util.List;
+
+/**
+ * Implemented by outputs which can list the inputs subscribed to them. Outputs created by an {@link
+ * OutputManager} implement this interface.
+ */
+public interface SubscriberProvider {
+    /** A copy of the inputs currently subscribed, in the order they were attached. */
+    List<TransformInput> subscribers();
+}
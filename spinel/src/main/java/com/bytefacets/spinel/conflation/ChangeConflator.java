@@ -9,6 +9,7 @@ import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.collections.hash.IntIndexedSet;
 import com.bytefacets.collections.vector.IntVector;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.TransformOutput;
 import com.bytefacets.spinel.common.OutputManager;
@@ -79,8 +80,8 @@ public final class ChangeConflator implements InputProvider, OutputProvider {
         private TransformOutput source;
 
         private Input(final int initialCapacity, final int maxPendingRows) {
-            this.pending = new Pending(initialCapacity, maxPendingRows);
             this.fieldSet = FieldBitSet.fieldBitSet();
+            this.pending = new Pending(initialCapacity, maxPendingRows);
         }
 
         @Override
@@ -118,12 +119,31 @@ public final class ChangeConflator implements InputProvider, OutputProvider {
             }
         }
 
+        /** Fires the pending changes first, as they are held by the old rows. */
+        @Override
+        public void rowsRemapping(final RowRemap remap) {
+            if (!pending.pendingRows.isEmpty()) {
+                pending.fire();
+            }
+            outputManager.notifyRemapping(remap);
+        }
+
+        @Override
+        public void rowsRemapped(final RowRemap remap) {
+            outputManager.notifyRemapped(remap);
+        }
+
         private final class Pending implements IntIterable {
             private final int batchSize;
             private final IntIndexedSet pendingRowsSet;
             private final IntIndexedSet tmpRemovedRows;
             // store the unique rows in an array to preserve arrival order
             private final IntVector pendingRows;
+            // consumers are held to avoid allocating a lambda per notification
+            private final IntConsumer batchCollector = this::addToBatch;
+            private final IntConsumer pendingRowRemover;
+            private final IntConsumer removedRowCollector;
+            private final IntConsumer changedFieldConsumer;
             private FieldMapping fieldMapping;
             private ChangedFieldSet inboundChangedFields;
             private boolean fieldChangesNeedApplying;
@@ -133,12 +153,15 @@ public final class ChangeConflator implements InputProvider, OutputProvider {
                 this.pendingRows = new IntVector(batchSize);
                 this.pendingRowsSet = new IntIndexedSet(initialCapacity);
                 this.tmpRemovedRows = new IntIndexedSet(16);
+                this.pendingRowRemover = pendingRowsSet::remove;
+                this.removedRowCollector = tmpRemovedRows::add;
+                this.changedFieldConsumer = fieldSet::fieldChanged;
             }
 
             private void fire() {
                 outputManager.notifyChanges(this, fieldSet);
                 fieldSet.clear();
-                forEach(pendingRowsSet::remove);
+                forEach(pendingRowRemover);
                 tmpRemovedRows.clear();
                 pendingRows.clear();
                 fieldChangesNeedApplying = true;
@@ -147,7 +170,7 @@ public final class ChangeConflator implements InputProvider, OutputProvider {
             private void applyInboundFieldChangesIfNecessary() {
                 if (fieldChangesNeedApplying && inboundChangedFields != null) {
                     fieldMapping.translateInboundChangeSet(
-                            inboundChangedFields, fieldSet::fieldChanged);
+                            inboundChangedFields, changedFieldConsumer);
                     fieldChangesNeedApplying = false;
                 }
             }
@@ -156,7 +179,7 @@ public final class ChangeConflator implements InputProvider, OutputProvider {
                     final IntIterable rows, final ChangedFieldSet inboundChangedFields) {
                 this.inboundChangedFields = inboundChangedFields;
                 this.fieldChangesNeedApplying = true;
-                rows.forEach(this::addToBatch);
+                rows.forEach(batchCollector);
                 this.inboundChangedFields = null;
                 this.fieldChangesNeedApplying = false;
             }
@@ -185,7 +208,7 @@ public final class ChangeConflator implements InputProvider, OutputProvider {
             }
 
             private boolean captureRemoved(final IntIterable rows) {
-                rows.forEach(tmpRemovedRows::add);
+                rows.forEach(removedRowCollector);
                 return !tmpRemovedRows.isEmpty();
             }
         }
@@ -11,21 +11,36 @@ import static com.bytefacets.spinel.gen.DynamicClassUtils.writeMethod;
 import static java.util.Objects.requireNonNull;
 
 import com.bytefacets.spinel.gen.ClassBuilder;
+import com.bytefacets.spinel.schema.DirectAccessFields;
 import com.bytefacets.spinel.schema.FieldResolver;
 import com.bytefacets.spinel.schema.SchemaBindable;
 import com.bytefacets.spinel.schema.TypeId;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.stream.Collectors;
 import javassist.ClassPool;
 import javassist.CtClass;
 
+/**
+ * Generates the implementation of a struct interface over the fields of a schema. In direct-access
+ * mode, each getter and setter first tries the concrete field classes listed by {@link
+ * DirectAccessFields}, which the JIT can inline, and falls back to the Field interfaces for other
+ * fields. A direct setter writes the value without the FieldChangeListener callback and marks the
+ * field in the words of the resolver's FieldChangeMarks with a single OR.
+ */
 final class StructFacadeBuilder implements ClassBuilder {
     private final Inspector inspector;
+    private final boolean directAccess;
     private ClassPool pool;
 
     StructFacadeBuilder(final Inspector inspector) {
+        this(inspector, false);
+    }
+
+    StructFacadeBuilder(final Inspector inspector, final boolean directAccess) {
         this.inspector = requireNonNull(inspector, "inspector");
+        this.directAccess = directAccess;
     }
 
     @Override
@@ -82,20 +97,48 @@ final class StructFacadeBuilder implements ClassBuilder {
         private String getterMethod(final FieldInfo info, final byte typeId) {
             final String cast =
                     typeId == TypeId.Generic ? "(" + info.type().getSimpleName() + ")" : "";
+            final StringBuilder direct = new StringBuilder();
+            for (int i = 0; i < directClasses(typeId).size(); i++) {
+                final String ref = directRef(info, i);
+                direct.append(
+                        String.format(
+                                "if (%s != null) { return %s%s.valueAt(row); } ", ref, cast, ref));
+            }
             return String.format(
-                    "public %s %s() { return %s_f%s.valueAt(row); }",
-                    info.type().getSimpleName(), info.getterMethodName(), cast, info.getName());
+                    "public %s %s() { %sreturn %s_f%s.valueAt(row); }",
+                    info.type().getSimpleName(),
+                    info.getterMethodName(),
+                    direct,
+                    cast,
+                    info.getName());
         }
 
-        private String setterMethod(final FieldInfo info) {
+        private String setterMethod(final FieldInfo info, final byte typeId) {
             final String returnType = info.setterReturnType().getTypeName();
             final String returnStatement =
                     returnType.equals("void") ? "" : validateFluidReturn(info);
+            final String earlyReturn = returnStatement.isEmpty() ? "return;" : returnStatement;
+            final StringBuilder direct = new StringBuilder();
+            for (int i = 0; i < directClasses(typeId).size(); i++) {
+                final String ref = directRef(info, i);
+                direct.append(
+                        String.format(
+                                "if (_marks != null && %s != null) { "
+                                        + "%s.setValueUnmarked(row, value); "
+                                        + "_marks[_w%s] = _marks[_w%s] | _b%s; %s } ",
+                                ref,
+                                ref,
+                                info.getName(),
+                                info.getName(),
+                                info.getName(),
+                                earlyReturn));
+            }
             return String.format(
-                    "public %s %s(%s value) { _f%s.setValueAt(row, value); %s }",
+                    "public %s %s(%s value) { %s_f%s.setValueAt(row, value); %s }",
                     returnType,
                     info.setterMethodName(),
                     info.type().getName(),
+                    direct,
                     info.getName(),
                     returnStatement);
         }
@@ -121,20 +164,36 @@ final class StructFacadeBuilder implements ClassBuilder {
             return String.format("private %s _f%s;", fieldType, info.getName());
         }
 
+        private List<Class<?>> directClasses(final byte typeId) {
+            return directAccess ? DirectAccessFields.directFieldClasses(typeId) : List.of();
+        }
+
+        private String directRef(final FieldInfo info, final int index) {
+            return String.format("_d%s_%d", info.getName(), index);
+        }
+
         private void defineClass() {
             noArgConstructor(type, dynamicClass);
             writeRowHandlers();
             bind.append("public void bindToSchema(FieldResolver fieldResolver) {\n");
             unbind.append("public void unbindSchema() {\n");
+            if (directAccess) {
+                writeField(type, dynamicClass, "private long[] _marks;");
+                bind.append("FieldChangeMarks marks = fieldResolver.fieldChangeMarks();\n");
+                bind.append("_marks = null;\n");
+                bind.append("if (marks != null) { _marks = marks.words(); }\n");
+                unbind.append("_marks = null;\n");
+            }
             for (FieldInfo fieldInfo : typeInfo.fields()) {
                 final String name = fieldInfo.getName();
                 final byte typeId = TypeId.toId(fieldInfo.type());
                 final String typeName = TypeId.toTypeName(typeId);
                 writeField(type, dynamicClass, fieldDeclaration(fieldInfo, typeName));
-                defineGetterIfNecessary(fieldInfo, typeId);
-                defineSetterIfNecessary(fieldInfo, typeId);
                 bind.append(bindStatement(name, typeName));
                 unbind.append(unbindStatement(name));
+                defineDirectAccess(fieldInfo, typeId);
+                defineGetterIfNecessary(fieldInfo, typeId);
+                defineSetterIfNecessary(fieldInfo, typeId);
             }
             bind.append("}\n");
             unbind.append("}\n");
@@ -142,6 +201,39 @@ final class StructFacadeBuilder implements ClassBuilder {
             writeMethod(type, dynamicClass, unbind.toString());
         }
 
+        /**
+         * Declares a reference for each concrete field class of the type, of which bind sets the
+         * one matching the bound field, and the word and bit with which a setter marks the field.
+         */
+        private void defineDirectAccess(final FieldInfo fieldInfo, final byte typeId) {
+            final List<Class<?>> classes = directClasses(typeId);
+            if (classes.isEmpty()) {
+                return;
+            }
+            final String name = fieldInfo.getName();
+            if (fieldInfo.isWritable()) {
+                writeField(type, dynamicClass, String.format("private int _w%s;", name));
+                writeField(type, dynamicClass, String.format("private long _b%s;", name));
+            }
+            for (int i = 0; i < classes.size(); i++) {
+                final String className = classes.get(i).getName();
+                final String ref = directRef(fieldInfo, i);
+                writeField(type, dynamicClass, String.format("private %s %s;", className, ref));
+                bind.append(
+                        String.format(
+                                "if (_f%s instanceof %s) { %s = (%s) _f%s; ",
+                                name, className, ref, className, name));
+                if (fieldInfo.isWritable()) {
+                    bind.append(
+                            String.format(
+                                    "_w%s = %s.fieldId() >>> 6; _b%s = 1L << %s.fieldId(); ",
+                                    name, ref, name, ref));
+                }
+                bind.append(String.format("} else { %s = null; }%n", ref));
+                unbind.append(String.format("%s = null;%n", ref));
+            }
+        }
+
         private String unbindStatement(final String name) {
             return String.format("_f%s = null;\n", name);
         }
@@ -156,7 +248,7 @@ final class StructFacadeBuilder implements ClassBuilder {
                 if (typeId == TypeId.Generic) {
                     addToClasspath(pool, fieldInfo.type());
                 }
-                writeMethod(type, dynamicClass, setterMethod(fieldInfo));
+                writeMethod(type, dynamicClass, setterMethod(fieldInfo, typeId));
             }
         }
 
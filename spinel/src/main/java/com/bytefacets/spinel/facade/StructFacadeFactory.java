@@ -7,15 +7,38 @@ import static com.bytefacets.spinel.gen.DynamicClassFactory.dynamicClassFactory;
 import com.bytefacets.spinel.gen.DynamicClassFactory;
 
 public final class StructFacadeFactory {
-    private static final StructFacadeFactory instance = new StructFacadeFactory();
+    private static final StructFacadeFactory instance = new StructFacadeFactory(false);
+    private static final StructFacadeFactory directAccessInstance = new StructFacadeFactory(true);
     private final DynamicClassFactory factory;
+    private final boolean directAccess;
 
     public static StructFacadeFactory structFacadeFactory() {
         return instance;
     }
 
-    private StructFacadeFactory() {
-        factory = dynamicClassFactory(new StructFacadeBuilder(Inspector.typeInspector()));
+    /**
+     * Creates facades which, when bound to fields of a MatrixStoreFieldFactory or an
+     * ArrayFieldFactory, call the concrete field classes directly rather than through the Field
+     * interfaces, and mark the fields they write with a single bit operation when the resolver
+     * provides {@link com.bytefacets.spinel.schema.FieldChangeMarks}. Other fields are accessed
+     * through their interfaces, as by the default facades.
+     *
+     * @see com.bytefacets.spinel.schema.DirectAccessFields
+     */
+    public static StructFacadeFactory directAccessFacadeFactory() {
+        return directAccessInstance;
+    }
+
+    private StructFacadeFactory(final boolean directAccess) {
+        this.directAccess = directAccess;
+        this.factory =
+                dynamicClassFactory(
+                        new StructFacadeBuilder(Inspector.typeInspector(), directAccess));
+    }
+
+    /** Whether this factory creates direct-access facades. */
+    public boolean directAccess() {
+        return directAccess;
     }
 
     public <T> T createFacade(final Class<T> type) {
@@ -0,0 +1,76 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.schema.BoolField;
+import com.bytefacets.spinel.schema.Cast;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.PackedBoolField;
+import java.util.Objects;
+
+/**
+ * A RowPredicate which passes rows where a Bool field equals a value. It is equivalent to the jexl
+ * expression {@code field == true}, but when the field is a {@link PackedBoolField} it tests 64
+ * rows at a time from the words of the field.
+ */
+public final class BoolEqualsPredicate implements PackedRowPredicate {
+    private final String fieldName;
+    private final boolean value;
+    private BoolField field;
+    private PackedBoolField packedField;
+
+    public static BoolEqualsPredicate boolEquals(final String fieldName, final boolean value) {
+        return new BoolEqualsPredicate(fieldName, value);
+    }
+
+    BoolEqualsPredicate(final String fieldName, final boolean value) {
+        this.fieldName = requireNonNull(fieldName, "fieldName");
+        this.value = value;
+    }
+
+    @Override
+    public boolean testRow(final int row) {
+        return field.valueAt(row) == value;
+    }
+
+    @Override
+    public boolean testsWords() {
+        return packedField != null && packedField.packed();
+    }
+
+    @Override
+    public long testWord(final int wordIndex) {
+        final long word = packedField.wordAt(wordIndex);
+        return value ? word : ~word;
+    }
+
+    @Override
+    public void bindToSchema(final FieldResolver fieldResolver) {
+        field = Cast.toBoolField(fieldResolver.getField(fieldName));
+        if (field instanceof PackedBoolField packed) {
+            packedField = packed;
+        }
+    }
+
+    @Override
+    public void unbindSchema() {
+        field = null;
+        packedField = null;
+    }
+
+    @SuppressWarnings("NeedBraces")
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final BoolEqualsPredicate that = (BoolEqualsPredicate) o;
+        return fieldName.equals(that.fieldName) && value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, value);
+    }
+}
@@ -8,11 +8,15 @@ import static com.bytefacets.spinel.schema.SchemaFieldResolver.schemaFieldResolv
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.collections.hash.IntIndexedSet;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
 import com.bytefacets.spinel.common.StateChange;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.FieldMapping;
@@ -22,6 +26,7 @@ import com.bytefacets.spinel.schema.SchemaFieldResolver;
 import com.bytefacets.spinel.transform.InputProvider;
 import com.bytefacets.spinel.transform.OutputProvider;
 import jakarta.annotation.Nullable;
+import java.util.Arrays;
 import java.util.BitSet;
 
 /**
@@ -41,6 +46,10 @@ import java.util.BitSet;
  * re-evaluated and if the test for the row changes, a row ADD or REMOVE will be forwarded to the
  * output accordingly.
  *
+ * <p>When the RowPredicate is a {@link PackedRowPredicate} which can test words, the added rows and
+ * the rows re-evaluated after an update are tested 64 rows at a time: each word of rows is tested
+ * once, and the result of each row is read from the word.
+ *
  * <p>If there is no RowPredicate, the Filter can be built to either always forward rows, or to
  * never forward rows. Once a RowPredicate is set however, all the active rows will be re-evaluated
  * according to the RowPredicate.
@@ -48,7 +57,7 @@ import java.util.BitSet;
  * @see RowPredicate
  * @see FilterBuilder
  */
-public final class Filter implements InputProvider, OutputProvider {
+public final class Filter implements InputProvider, OutputProvider, RetainedSize {
     private final OutputManager outputManager;
     private final Input input;
     private final String name;
@@ -74,6 +83,12 @@ public final class Filter implements InputProvider, OutputProvider {
         return outputManager.output();
     }
 
+    /** The estimated bytes retained by the set of passing rows. */
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.indexedSetBytes(input.passingRows.size(), Integer.BYTES);
+    }
+
     private final class Input implements TransformInput {
         private final RowPredicate defaultPredicate;
         private final IntIndexedSet passingRows;
@@ -81,16 +96,28 @@ public final class Filter implements InputProvider, OutputProvider {
         private final BitSet fieldDependencies = new BitSet();
         private final SchemaFieldResolver fieldResolver =
                 schemaFieldResolver(fieldDependencies::set);
+        // row and field consumers are held to avoid allocating a lambda per notification
+        private final IntConsumer addProcessor = this::processAdd;
+        private final IntConsumer changeRetester = this::retestChange;
+        private final IntConsumer changeForwarder = this::forwardChangeIfNecessary;
+        private final IntConsumer removeForwarder = this::forwardRemoveIfNecessary;
+        private final IntConsumer changedFieldConsumer;
+        private final IntConsumer removedRowConsumer;
         private FieldMapping fieldMapping;
         private Schema inboundSchema;
         private TransformOutput source;
         private RowPredicate predicate;
+        private PackedRowPredicate packedPredicate;
+        private int scannedWordIndex = -1;
+        private long scannedWord;
 
         private Input(final int initialSize, final RowPredicate defaultPredicate) {
             this.passingRows = new IntIndexedSet(initialSize);
             this.defaultPredicate = requireNonNull(defaultPredicate, "defaultPredicate");
             this.stateChange = StateChange.stateChange();
-            this.predicate = defaultPredicate;
+            setPredicate(defaultPredicate);
+            this.changedFieldConsumer = stateChange::changeField;
+            this.removedRowConsumer = passingRows::freeReservedEntry;
         }
 
         private void bindPredicate() {
@@ -104,15 +131,42 @@ public final class Filter implements InputProvider, OutputProvider {
         private void updatePredicate(final RowPredicate newPredicate) {
             if (this.predicate != newPredicate) {
                 this.predicate.unbindSchema();
-                this.predicate = newPredicate;
+                setPredicate(newPredicate);
                 bindPredicate();
                 if (source != null) {
+                    beginScan();
                     source.rowProvider().forEach(this::retestPredicateChange);
                     fire();
                 }
             }
         }
 
+        private void setPredicate(final RowPredicate newPredicate) {
+            this.predicate = newPredicate;
+            this.packedPredicate =
+                    newPredicate instanceof PackedRowPredicate packed ? packed : null;
+        }
+
+        /**
+         * Begins testing a batch of rows with {@link #scanRow}. Words tested in an earlier batch
+         * are discarded, as the values of their rows may have changed since.
+         */
+        private void beginScan() {
+            scannedWordIndex = -1;
+        }
+
+        private boolean scanRow(final int inRow) {
+            if (packedPredicate == null || !packedPredicate.testsWords()) {
+                return predicate.testRow(inRow);
+            }
+            final int wordIndex = inRow >>> 6;
+            if (wordIndex != scannedWordIndex) {
+                scannedWord = packedPredicate.testWord(wordIndex);
+                scannedWordIndex = wordIndex;
+            }
+            return (scannedWord & (1L << inRow)) != 0;
+        }
+
         @Override
         public void setSource(final TransformOutput output) {
             this.source = output;
@@ -147,34 +201,87 @@ public final class Filter implements InputProvider, OutputProvider {
 
         @Override
         public void rowsAdded(final IntIterable rows) {
-            rows.forEach(
-                    inRow -> {
-                        if (predicate.testRow(inRow)) {
-                            final int outboundRow = passingRows.add(inRow);
-                            stateChange.addRow(outboundRow);
-                        }
-                    });
+            beginScan();
+            rows.forEach(addProcessor);
             fire();
         }
 
         @Override
         public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
-            fieldMapping.translateInboundChangeSet(changedFields, stateChange::changeField);
+            fieldMapping.translateInboundChangeSet(changedFields, changedFieldConsumer);
             final boolean retest = changedFields.intersects(fieldDependencies);
             if (retest) {
-                rows.forEach(this::retestChange);
+                rows.forEach(changeRetester);
             } else {
-                rows.forEach(this::forwardChangeIfNecessary);
+                rows.forEach(changeForwarder);
             }
             fire();
         }
 
         @Override
         public void rowsRemoved(final IntIterable rows) {
-            rows.forEach(this::forwardRemoveIfNecessary);
+            rows.forEach(removeForwarder);
             fire();
         }
 
+        @Override
+        public void rowsRemapping(final RowRemap remap) {}
+
+        /**
+         * Maps the outbound rows of the moved rows to their new inbound rows. The outbound rows
+         * do not change, so nothing is forwarded. As the set cannot change the key of an entry, it
+         * is rebuilt by adding the inbound rows in outbound row order, with a placeholder for each
+         * free outbound row which is then removed.
+         */
+        @Override
+        public void rowsRemapped(final RowRemap remap) {
+            final BitSet outboundRows = new BitSet();
+            passingRows.forEachEntry(outboundRows::set);
+            final int[] inRows = new int[outboundRows.length()];
+            Arrays.fill(inRows, -1);
+            for (int row = outboundRows.nextSetBit(0);
+                    row >= 0;
+                    row = outboundRows.nextSetBit(row + 1)) {
+                inRows[row] = passingRows.getKeyAt(row);
+            }
+            boolean moved = false;
+            for (int i = 0, len = remap.size(); i < len; i++) {
+                final int outboundRow = passingRows.lookupEntry(remap.fromRow(i));
+                if (outboundRow != -1) {
+                    inRows[outboundRow] = remap.toRow(i);
+                    moved = true;
+                }
+            }
+            if (moved) {
+                rebuildPassingRows(inRows);
+            }
+        }
+
+        private void rebuildPassingRows(final int[] inRows) {
+            passingRows.clear();
+            for (int outboundRow = 0; outboundRow < inRows.length; outboundRow++) {
+                // a placeholder for a free outbound row, which cannot be an inbound row
+                final int inRow =
+                        inRows[outboundRow] != -1 ? inRows[outboundRow] : -1 - outboundRow;
+                if (passingRows.add(inRow) != outboundRow) {
+                    throw new IllegalStateException(
+                            "Cannot remap " + name + ": set did not assign row " + outboundRow);
+                }
+            }
+            for (int outboundRow = 0; outboundRow < inRows.length; outboundRow++) {
+                if (inRows[outboundRow] == -1) {
+                    passingRows.removeAt(outboundRow);
+                }
+            }
+        }
+
+        private void processAdd(final int inRow) {
+            if (scanRow(inRow)) {
+                final int outboundRow = passingRows.add(inRow);
+                stateChange.addRow(outboundRow);
+            }
+        }
+
         private void forwardRemoveIfNecessary(final int inRow) {
             final int outbound = passingRows.lookupEntry(inRow);
             if (outbound != -1) {
@@ -191,7 +298,7 @@ public final class Filter implements InputProvider, OutputProvider {
         }
 
         private void retestPredicateChange(final int inRow) {
-            if (predicate.testRow(inRow)) {
+            if (scanRow(inRow)) {
                 final int sizeBefore = passingRows.size();
                 final int outboundRow = passingRows.add(inRow);
                 if (sizeBefore != passingRows.size()) {
@@ -223,7 +330,7 @@ public final class Filter implements InputProvider, OutputProvider {
         }
 
         private void fire() {
-            stateChange.fire(outputManager, passingRows::freeReservedEntry);
+            stateChange.fire(outputManager, removedRowConsumer);
         }
     }
 }
@@ -0,0 +1,23 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.filter;
+
+/**
+ * A RowPredicate which can test 64 consecutive rows at once. When the Filter tests a batch of added
+ * rows, or re-tests all rows after the predicate is updated, it tests each word of rows once with
+ * this predicate and reads the result of each row from the word.
+ */
+public interface PackedRowPredicate extends RowPredicate {
+    /**
+     * Whether the fields to which the predicate is bound can be tested a word at a time. If not,
+     * the Filter tests each row with {@link #testRow}.
+     */
+    boolean testsWords();
+
+    /**
+     * Tests the rows from {@code wordIndex * 64} to {@code wordIndex * 64 + 63}, returning a word in
+     * which bit {@code n} is set if row {@code wordIndex * 64 + n} passes. Only called when
+     * {@link #testsWords()} is true.
+     */
+    long testWord(int wordIndex);
+}
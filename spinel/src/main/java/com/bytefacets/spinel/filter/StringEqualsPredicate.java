@@ -0,0 +1,89 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.schema.Cast;
+import com.bytefacets.spinel.schema.DictionaryStringField;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.StringDictionary;
+import com.bytefacets.spinel.schema.StringField;
+import jakarta.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * A RowPredicate which passes rows where a String field equals a value. It is equivalent to the
+ * jexl expression {@code field == "value"}, but when the field is a {@link DictionaryStringField}
+ * it compares the int code of each row with the code of the value, without reading the Strings.
+ *
+ * <p>A value which is not yet in the dictionary is looked up again only when the dictionary grows.
+ */
+public final class StringEqualsPredicate implements RowPredicate {
+    private final String fieldName;
+    private final String value;
+    private StringField field;
+    private DictionaryStringField dictionaryField;
+    private int code = StringDictionary.NOT_FOUND;
+    private int lookupLimit;
+
+    public static StringEqualsPredicate stringEquals(
+            final String fieldName, @Nullable final String value) {
+        return new StringEqualsPredicate(fieldName, value);
+    }
+
+    StringEqualsPredicate(final String fieldName, @Nullable final String value) {
+        this.fieldName = requireNonNull(fieldName, "fieldName");
+        this.value = value;
+    }
+
+    @Override
+    public boolean testRow(final int row) {
+        if (dictionaryField != null) {
+            return codeOfValue() != StringDictionary.NOT_FOUND
+                    && dictionaryField.codeAt(row) == code;
+        }
+        return Objects.equals(field.valueAt(row), value);
+    }
+
+    private int codeOfValue() {
+        if (code == StringDictionary.NOT_FOUND) {
+            final StringDictionary dictionary = dictionaryField.dictionary();
+            if (dictionary.codeLimit() != lookupLimit) {
+                lookupLimit = dictionary.codeLimit();
+                code = dictionary.lookup(value);
+            }
+        }
+        return code;
+    }
+
+    @Override
+    public void bindToSchema(final FieldResolver fieldResolver) {
+        field = Cast.toStringField(fieldResolver.getField(fieldName));
+        if (field instanceof DictionaryStringField dictionary) {
+            dictionaryField = dictionary;
+        }
+    }
+
+    @Override
+    public void unbindSchema() {
+        field = null;
+        dictionaryField = null;
+        code = StringDictionary.NOT_FOUND;
+        lookupLimit = 0;
+    }
+
+    @SuppressWarnings("NeedBraces")
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final StringEqualsPredicate that = (StringEqualsPredicate) o;
+        return fieldName.equals(that.fieldName) && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, value);
+    }
+}
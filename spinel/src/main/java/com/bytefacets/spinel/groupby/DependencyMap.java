@@ -5,7 +5,9 @@ package com.bytefacets.spinel.groupby;
 import static com.bytefacets.spinel.exception.FieldNotFoundException.fieldNotFound;
 
 import com.bytefacets.collections.arrays.GenericArray;
+import com.bytefacets.collections.functional.GenericConsumer;
 import com.bytefacets.collections.functional.GenericIterator;
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.hash.GenericIndexedSet;
 import com.bytefacets.collections.queue.GenericHydraDeque;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
@@ -26,11 +28,14 @@ class DependencyMap {
     private final GenericIterator<AggregationFunction> triggerIterator =
             inboundTriggers.iterator(0);
     private final GenericIndexedSet<AggregationFunction> changedFunctions;
+    private final GenericConsumer<AggregationFunction> changedFunctionCollector;
+    private final IntConsumer inboundChangeTranslator = this::translateInboundChange;
     private int groupFieldId = -1;
     private int groupCountFieldId = -1;
 
     DependencyMap(final int aggFunctionCount) {
         changedFunctions = new GenericIndexedSet<>(Math.max(1, aggFunctionCount), 1f);
+        changedFunctionCollector = changedFunctions::add;
     }
 
     void reset() {
@@ -60,21 +65,20 @@ class DependencyMap {
     GenericIndexedSet<AggregationFunction> translateInboundChangeFields(
             final ChangedFieldSet inboundChanges) {
         changedFunctions.clear();
-        inboundChanges.forEach(
-                inboundChange -> {
-                    if (inboundChange < inboundFieldReferences.length) {
-                        final BitSet outboundFieldIds = inboundFieldReferences[inboundChange];
-                        if (outboundFieldIds != null) {
-                            outboundFieldChanges.or(outboundFieldIds);
-                        }
-                    }
-                    inboundTriggers
-                            .iterator(inboundChange, triggerIterator)
-                            .forEach(changedFunctions::add);
-                });
+        inboundChanges.forEach(inboundChangeTranslator);
         return changedFunctions;
     }
 
+    private void translateInboundChange(final int inboundChange) {
+        if (inboundChange < inboundFieldReferences.length) {
+            final BitSet outboundFieldIds = inboundFieldReferences[inboundChange];
+            if (outboundFieldIds != null) {
+                outboundFieldChanges.or(outboundFieldIds);
+            }
+        }
+        inboundTriggers.iterator(inboundChange, triggerIterator).forEach(changedFunctionCollector);
+    }
+
     void mapInboundFieldIdToOutboundFieldId(final int inFieldId, final int outFieldId) {
         getOrCreateBitSet(inFieldId).set(outFieldId);
     }
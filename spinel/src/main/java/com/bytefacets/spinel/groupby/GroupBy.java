@@ -7,13 +7,19 @@ import static com.bytefacets.spinel.common.OutputManager.outputManager;
 import static com.bytefacets.spinel.common.StateChangeSet.stateChangeSet;
 import static java.util.Objects.requireNonNull;
 
+import com.bytefacets.collections.functional.GenericConsumer;
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.collections.hash.GenericIndexedSet;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.TransformOutput;
 import com.bytefacets.spinel.cache.Cache;
 import com.bytefacets.spinel.common.BitSetRowProvider;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
 import com.bytefacets.spinel.common.StateChangeSet;
 import com.bytefacets.spinel.interner.RowInterner;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
@@ -25,8 +31,9 @@ import com.bytefacets.spinel.transform.OutputProvider;
 import jakarta.annotation.Nullable;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.function.Consumer;
 
-public final class GroupBy implements InputProvider, OutputProvider {
+public final class GroupBy implements InputProvider, OutputProvider, RetainedSize {
     private final GroupFunctionBinding groupFunctionBinding;
     private final GroupMapping groupMapping;
     private final GroupBySchemaBuilder schemaBuilder;
@@ -79,6 +86,18 @@ public final class GroupBy implements InputProvider, OutputProvider {
         return childOutput.output();
     }
 
+    /**
+     * The estimated bytes retained by the group mapping, the group interner, the aggregated fields,
+     * any cache of inbound fields, and any aggregation functions which implement RetainedSize.
+     */
+    @Override
+    public long retainedBytes() {
+        return groupMapping.retainedBytes()
+                + groupFunction.retainedBytes()
+                + MemoryEstimates.schemaFieldBytes(parentOutput.schema())
+                + input.retainedBytes();
+    }
+
     private final class Input implements TransformInput {
         private final DependencyMap dependencyMap;
         private final FieldBitSet fieldBitSet;
@@ -91,6 +110,25 @@ public final class GroupBy implements InputProvider, OutputProvider {
         private final BitSet activeGroups = new BitSet();
         private final BitSetRowProvider parentRowProvider =
                 BitSetRowProvider.bitSetRowProvider(activeGroups);
+        private AggregationFunction currentFunction;
+        // consumers are held to avoid allocating a lambda per notification
+        private final IntConsumer addedRowProcessor = this::processRowAdded;
+        private final IntConsumer changedRowRegrouper = this::processRowChangeForPossibleNewGroup;
+        private final IntConsumer changedRowProcessor = this::processRowChangeInStableGroup;
+        private final IntConsumer removedRowProcessor = this::processRowRemoved;
+        private final IntIntConsumer remappingRowProcessor = this::processRowRemapping;
+        private final IntIntConsumer remappedRowProcessor = this::processRowRemapped;
+        private final IntConsumer childFieldChangeConsumer = childFieldBitSet::fieldChanged;
+        private final IntConsumer freedGroupConsumer = group -> groupFunction.freeEntry(group);
+        private final Consumer<AggregationFunction> functionUpdater = this::updateFunction;
+        private final GenericConsumer<AggregationFunction> changedFunctionUpdater =
+                this::updateFunction;
+        private final GroupRowMods.GroupUpdateMethod groupRowsAdded =
+                (group, rows) -> currentFunction.groupRowsAdded(group, rows);
+        private final GroupRowMods.GroupUpdateMethod groupRowsChanged =
+                (group, rows) -> currentFunction.groupRowsChanged(group, rows);
+        private final GroupRowMods.GroupUpdateMethod groupRowsRemoved =
+                (group, rows) -> currentFunction.groupRowsRemoved(group, rows);
         private TransformOutput source;
         private Schema inboundSchema;
         private Cache cache;
@@ -107,6 +145,19 @@ public final class GroupBy implements InputProvider, OutputProvider {
             this.rowsRemovedFromGroups = new GroupRowMods(16);
         }
 
+        private long retainedBytes() {
+            long functionBytes = 0;
+            for (final AggregationFunction function : aggregationFunctions) {
+                functionBytes += RetainedSize.retainedBytesOf(function);
+            }
+            return RetainedSize.retainedBytesOf(cache)
+                    + MemoryEstimates.bitSetBytes(activeGroups)
+                    + rowsAddedToGroups.retainedBytes()
+                    + rowsChangedInGroups.retainedBytes()
+                    + rowsRemovedFromGroups.retainedBytes()
+                    + functionBytes;
+        }
+
         @Override
         public void setSource(@Nullable final TransformOutput output) {
             this.source = output; // UPCOMING: this was passing tests without this line
@@ -150,7 +201,7 @@ public final class GroupBy implements InputProvider, OutputProvider {
 
         @Override
         public void rowsAdded(final IntIterable rows) {
-            rows.forEach(row -> processRowAddedToGroup(groupFunction.intern(row), row));
+            rows.forEach(addedRowProcessor);
             updateAllFunctions();
             fire();
             cache.updateAll(rows);
@@ -172,28 +223,14 @@ public final class GroupBy implements InputProvider, OutputProvider {
             fire();
             cache.updateSelected(rows, changedFields);
             //
-            childFieldMapping.translateInboundChangeSet(
-                    changedFields, childFieldBitSet::fieldChanged);
+            childFieldMapping.translateInboundChangeSet(changedFields, childFieldChangeConsumer);
             childOutput.notifyChanges(rows, childFieldBitSet);
         }
 
         private void processChangesForPossibleChangedGroups(
                 final IntIterable rows,
                 final GenericIndexedSet<AggregationFunction> changedFunctions) {
-            rows.forEach(
-                    row -> {
-                        final int newGroup = groupFunction.intern(row);
-                        final int oldGroup = groupMapping.groupOfInboundRow(row);
-                        if (newGroup == oldGroup) {
-                            processGroupUpdateFromChange(newGroup, row);
-                        } else {
-                            if (childGroupFieldId != -1) {
-                                childFieldBitSet.fieldChanged(childGroupFieldId);
-                            }
-                            processRowRemovedFromGroup(oldGroup, row); // must remove first
-                            processRowAddedToGroup(newGroup, row);
-                        }
-                    });
+            rows.forEach(changedRowRegrouper);
             if (rowsAddedToGroups.isEmpty() && rowsRemovedFromGroups.isEmpty()) {
                 updateChangedFunctions(changedFunctions);
             } else {
@@ -205,28 +242,91 @@ public final class GroupBy implements InputProvider, OutputProvider {
                 final IntIterable rows,
                 final GenericIndexedSet<AggregationFunction> changedFunctions) {
             if (!changedFunctions.isEmpty()) {
-                rows.forEach(
-                        row -> {
-                            final int oldGroup = groupMapping.groupOfInboundRow(row);
-                            processGroupUpdateFromChange(oldGroup, row);
-                        });
+                rows.forEach(changedRowProcessor);
                 updateChangedFunctions(changedFunctions);
             }
         }
 
         @Override
         public void rowsRemoved(final IntIterable rows) {
-            rows.forEach(
-                    row -> {
-                        final int group = groupMapping.groupOfInboundRow(row);
-                        processRowRemovedFromGroup(group, row);
-                    });
+            rows.forEach(removedRowProcessor);
             updateAllFunctions();
             fire();
             cache.updateAll(rows);
             childOutput.notifyRemoves(rows);
         }
 
+        /** Removes the old rows from the aggregations while their values can still be read. */
+        @Override
+        public void rowsRemapping(final RowRemap remap) {
+            remap.forEach(remappingRowProcessor);
+            updateAllFunctions();
+            resetRemap();
+            childOutput.notifyRemapping(remap);
+        }
+
+        /**
+         * Moves the old rows of each group to their new rows, and adds the new rows to the
+         * aggregations, which then hold the same values, so no change is notified for the groups.
+         */
+        @Override
+        public void rowsRemapped(final RowRemap remap) {
+            remap.forEach(remappedRowProcessor);
+            updateAllFunctions();
+            resetRemap();
+            cache.updateAll(remap.toRows());
+            groupMapping.trim();
+            childOutput.notifyRemapped(remap);
+        }
+
+        private void processRowRemapping(final int fromRow, final int toRow) {
+            final int group = groupMapping.groupOfInboundRow(fromRow);
+            if (group != -1) {
+                rowsRemovedFromGroups.addGroupRow(group, fromRow);
+            }
+        }
+
+        private void processRowRemapped(final int fromRow, final int toRow) {
+            final int group = groupMapping.groupOfInboundRow(fromRow);
+            if (group != -1) {
+                groupMapping.unmapRow(fromRow);
+                groupMapping.mapRowToGroup(toRow, group);
+                rowsAddedToGroups.addGroupRow(group, toRow);
+            }
+        }
+
+        private void resetRemap() {
+            fieldBitSet.clear();
+            rowsAddedToGroups.reset();
+            rowsRemovedFromGroups.reset();
+        }
+
+        private void processRowAdded(final int row) {
+            processRowAddedToGroup(groupFunction.intern(row), row);
+        }
+
+        private void processRowChangeForPossibleNewGroup(final int row) {
+            final int newGroup = groupFunction.intern(row);
+            final int oldGroup = groupMapping.groupOfInboundRow(row);
+            if (newGroup == oldGroup) {
+                processGroupUpdateFromChange(newGroup, row);
+            } else {
+                if (childGroupFieldId != -1) {
+                    childFieldBitSet.fieldChanged(childGroupFieldId);
+                }
+                processRowRemovedFromGroup(oldGroup, row); // must remove first
+                processRowAddedToGroup(newGroup, row);
+            }
+        }
+
+        private void processRowChangeInStableGroup(final int row) {
+            processGroupUpdateFromChange(groupMapping.groupOfInboundRow(row), row);
+        }
+
+        private void processRowRemoved(final int row) {
+            processRowRemovedFromGroup(groupMapping.groupOfInboundRow(row), row);
+        }
+
         private void processRowAddedToGroup(final int group, final int row) {
             final int oldCount = groupMapping.groupCount(group);
             groupMapping.mapRowToGroup(row, group);
@@ -260,21 +360,23 @@ public final class GroupBy implements InputProvider, OutputProvider {
 
         private void updateChangedFunctions(
                 final GenericIndexedSet<AggregationFunction> changedFunctions) {
-            changedFunctions.forEach(this::updateFunction);
+            changedFunctions.forEach(changedFunctionUpdater);
         }
 
         private void updateAllFunctions() {
-            aggregationFunctions.forEach(this::updateFunction);
+            aggregationFunctions.forEach(functionUpdater);
         }
 
         private void updateFunction(final AggregationFunction function) {
-            rowsAddedToGroups.fire(function::groupRowsAdded);
-            rowsChangedInGroups.fire(function::groupRowsChanged);
-            rowsRemovedFromGroups.fire(function::groupRowsRemoved);
+            currentFunction = function;
+            rowsAddedToGroups.fire(groupRowsAdded);
+            rowsChangedInGroups.fire(groupRowsChanged);
+            rowsRemovedFromGroups.fire(groupRowsRemoved);
+            currentFunction = null;
         }
 
         private void fire() {
-            stateChange.fire(parentOutput, groupFunction::freeEntry);
+            stateChange.fire(parentOutput, freedGroupConsumer);
 
             rowsAddedToGroups.reset();
             rowsChangedInGroups.reset();
@@ -4,28 +4,56 @@ package com.bytefacets.spinel.groupby;
 
 import com.bytefacets.collections.arrays.IntArray;
 import com.bytefacets.collections.bi.CompactOneToMany;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.schema.IntField;
 import com.bytefacets.spinel.schema.RowIdentityField;
 import com.bytefacets.spinel.schema.RowMapper;
+import java.util.Arrays;
 
 final class GroupMapping {
     private static final int NO_GROUP = -1;
+    private final int initialInRowSize;
     private int[] rowToGroupId;
+    private int mappedRows;
     private final CompactOneToMany groupToChildRowMapping;
     private final RowMapper passThruRowMapper = new FirstGroupRowMapper();
 
     GroupMapping(final int initialGroupSize, final int initialInRowSize) {
+        this.initialInRowSize = initialInRowSize;
         this.rowToGroupId = IntArray.create(initialInRowSize, NO_GROUP);
         this.groupToChildRowMapping =
                 new CompactOneToMany(initialGroupSize, initialInRowSize, true);
     }
 
+    /** Clears the mapping, releasing the row to group array grown beyond its initial size. */
     void reset() {
-        IntArray.fill(rowToGroupId, NO_GROUP);
+        if (rowToGroupId.length > initialInRowSize) {
+            rowToGroupId = IntArray.create(initialInRowSize, NO_GROUP);
+        } else {
+            IntArray.fill(rowToGroupId, NO_GROUP);
+        }
+        mappedRows = 0;
+    }
+
+    /**
+     * Releases the row to group array above the highest mapped row, e.g. after the source
+     * compacted its rows, keeping at least the initial size.
+     */
+    void trim() {
+        int length = rowToGroupId.length;
+        while (length > initialInRowSize && rowToGroupId[length - 1] == NO_GROUP) {
+            length--;
+        }
+        if (length < rowToGroupId.length) {
+            rowToGroupId = Arrays.copyOf(rowToGroupId, length);
+        }
     }
 
     void mapRowToGroup(final int row, final int group) {
-        rowToGroupId = IntArray.ensureEntry(rowToGroupId, row);
+        rowToGroupId = IntArray.ensureEntry(rowToGroupId, row, NO_GROUP);
+        if (rowToGroupId[row] == NO_GROUP) {
+            mappedRows++;
+        }
         rowToGroupId[row] = group;
         groupToChildRowMapping.put(group, row);
     }
@@ -42,6 +70,17 @@ final class GroupMapping {
         final int oldGroup = rowToGroupId[row];
         groupToChildRowMapping.remove(oldGroup, row);
         rowToGroupId[row] = NO_GROUP;
+        mappedRows--;
+    }
+
+    /**
+     * The estimated bytes retained by the row to group array, which grows to the highest inbound
+     * row, and by the group to row mapping, estimated from the number of mapped rows.
+     */
+    long retainedBytes() {
+        // each mapping entry holds the group, the row and links to the next and previous rows
+        return MemoryEstimates.arrayBytes(rowToGroupId)
+                + MemoryEstimates.indexedSetBytes(mappedRows, 4 * Integer.BYTES);
     }
 
     IntField parentGroupIdField() {
@@ -6,10 +6,13 @@ import com.bytefacets.collections.arrays.IntArray;
 import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.collections.hash.IntIndexedSet;
+import com.bytefacets.spinel.common.MemoryEstimates;
 
 final class GroupRowMods {
     private final IntIndexedSet set;
     private final Iterator iterator = new Iterator();
+    private final IntConsumer entryNotifier = this::notifyEntry;
+    private GroupUpdateMethod method;
     private int nextPosition = 0;
     private int[] heads;
     private int[] nexts;
@@ -39,15 +42,27 @@ final class GroupRowMods {
         }
     }
 
+    long retainedBytes() {
+        return MemoryEstimates.arrayBytes(heads)
+                + MemoryEstimates.arrayBytes(nexts)
+                + MemoryEstimates.arrayBytes(values);
+    }
+
     void fire(final GroupUpdateMethod consumer) {
         if (set.isEmpty()) {
             return;
         }
-        set.forEachEntry(
-                groupEntry -> {
-                    iterator.init(groupEntry);
-                    consumer.notifyGroupRows(iterator.group, iterator);
-                });
+        method = consumer;
+        try {
+            set.forEachEntry(entryNotifier);
+        } finally {
+            method = null;
+        }
+    }
+
+    private void notifyEntry(final int groupEntry) {
+        iterator.init(groupEntry);
+        method.notifyGroupRows(iterator.group, iterator);
     }
 
     interface GroupUpdateMethod {
@@ -79,6 +94,7 @@ final class GroupRowMods {
             IntArray.fill(nexts, -1, 0, nextPosition);
             IntArray.fill(heads, -1, 0, set.size());
             set.clear();
+            nextPosition = 0;
         }
     }
 
@@ -4,7 +4,9 @@ package com.bytefacets.spinel.groupby;
 
 import static com.bytefacets.spinel.facade.DefaultValueImplFactory.defaultValueImplFactory;
 import static com.bytefacets.spinel.facade.StructFacadeFactory.structFacadeFactory;
+import static java.util.Objects.requireNonNull;
 
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.spinel.common.EventType;
 import com.bytefacets.spinel.facade.DefaultValueImplFactory;
@@ -60,6 +62,9 @@ public final class RecordAggregationFunction<INPUT, OUTPUT> implements Aggregati
     private final INPUT inputFacade;
     private final OUTPUT outputFacade;
     private final FacadeMover<INPUT, OUTPUT> mover;
+    private final IntConsumer addProcessor = this::processAdd;
+    private final IntConsumer changeProcessor = this::processChange;
+    private final IntConsumer removeProcessor = this::processRemove;
 
     /**
      * User implementation of the aggregation logic.
@@ -97,6 +102,26 @@ public final class RecordAggregationFunction<INPUT, OUTPUT> implements Aggregati
                 defaultValueImplFactory());
     }
 
+    /**
+     * Creates the function with facades from the given factory, e.g. {@link
+     * StructFacadeFactory#directAccessFacadeFactory()}, whose getters read on-heap fields without
+     * going through the Field interfaces. The group values are still written through the fields,
+     * whose listener tracks the changes of the group-by.
+     */
+    public static <INPUT, OUTPUT>
+            RecordAggregationFunction<INPUT, OUTPUT> recordAggregationFunction(
+                    final Class<INPUT> inputType,
+                    final Class<OUTPUT> outputType,
+                    final Accumulator<INPUT, OUTPUT> accumulator,
+                    final StructFacadeFactory facadeFactory) {
+        return new RecordAggregationFunction<>(
+                inputType,
+                outputType,
+                accumulator,
+                requireNonNull(facadeFactory, "facadeFactory"),
+                defaultValueImplFactory());
+    }
+
     RecordAggregationFunction(
             final Class<INPUT> inputType,
             final Class<OUTPUT> outputType,
@@ -145,19 +170,19 @@ public final class RecordAggregationFunction<INPUT, OUTPUT> implements Aggregati
     @Override
     public void groupRowsAdded(final int group, final IntIterable rows) {
         mover.moveOutput(group);
-        rows.forEach(this::processAdd);
+        rows.forEach(addProcessor);
     }
 
     @Override
     public void groupRowsChanged(final int group, final IntIterable rows) {
         mover.moveOutput(group);
-        rows.forEach(this::processChange);
+        rows.forEach(changeProcessor);
     }
 
     @Override
     public void groupRowsRemoved(final int group, final IntIterable rows) {
         mover.moveOutput(group);
-        rows.forEach(this::processRemove);
+        rows.forEach(removeProcessor);
     }
 
     private void processAdd(final int row) {
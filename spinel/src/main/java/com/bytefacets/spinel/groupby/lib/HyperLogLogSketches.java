@@ -0,0 +1,126 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.groupby.lib;
+
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+import java.util.Arrays;
+
+/**
+ * A HyperLogLog sketch for each group, stored in one array of byte registers, 2^precision per
+ * group. A sketch estimates the number of distinct hashes offered to it within a relative error of
+ * about 1.04 / sqrt(2^precision), but cannot forget a hash, so it suits insert-mostly streams.
+ *
+ * <p>The sum of 2^-register and the number of empty registers of each group are maintained as the
+ * registers rise, so an estimate is O(1) rather than a pass over the registers.
+ */
+final class HyperLogLogSketches implements RetainedSize {
+    private final int precision;
+    private final int registerCount;
+    private final double alphaMM;
+    private byte[] registers;
+    private double[] inverseSums;
+    private int[] emptyRegisters;
+
+    HyperLogLogSketches(final int precision, final int initialGroups) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision must be in [4, 16], but was " + precision);
+        }
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+        this.alphaMM = alpha(registerCount) * registerCount * registerCount;
+        this.registers = new byte[initialGroups * registerCount];
+        this.inverseSums = new double[initialGroups];
+        this.emptyRegisters = new int[initialGroups];
+        for (int group = 0; group < initialGroups; group++) {
+            clear(group);
+        }
+    }
+
+    /** Offers the hash to the group's sketch, returning true if the sketch changed. */
+    boolean offer(final int group, final long hash) {
+        ensureGroup(group);
+        final long mixed = mix(hash);
+        final int index = (int) (mixed >>> (64 - precision));
+        final int rank = Math.min(Long.numberOfLeadingZeros(mixed << precision), 64 - precision) + 1;
+        final int offset = group * registerCount + index;
+        final int current = registers[offset];
+        if (rank <= current) {
+            return false;
+        }
+        registers[offset] = (byte) rank;
+        inverseSums[group] += Math.scalb(1.0, -rank) - Math.scalb(1.0, -current);
+        if (current == 0) {
+            emptyRegisters[group]--;
+        }
+        return true;
+    }
+
+    /** The estimated number of distinct hashes offered to the group since it was cleared. */
+    long estimate(final int group) {
+        if (group >= inverseSums.length) {
+            return 0;
+        }
+        final double raw = alphaMM / inverseSums[group];
+        final int empty = emptyRegisters[group];
+        if (raw <= 2.5 * registerCount && empty != 0) {
+            // linear counting is more accurate while many registers are empty
+            return Math.round(registerCount * Math.log((double) registerCount / empty));
+        }
+        return Math.round(raw);
+    }
+
+    void clear(final int group) {
+        if (group < inverseSums.length) {
+            Arrays.fill(registers, group * registerCount, (group + 1) * registerCount, (byte) 0);
+            inverseSums[group] = registerCount;
+            emptyRegisters[group] = registerCount;
+        }
+    }
+
+    void clearAll() {
+        for (int group = 0; group < inverseSums.length; group++) {
+            clear(group);
+        }
+    }
+
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.arrayBytes(registers.length, Byte.BYTES)
+                + MemoryEstimates.arrayBytes(inverseSums.length, Double.BYTES)
+                + MemoryEstimates.arrayBytes(emptyRegisters);
+    }
+
+    private void ensureGroup(final int group) {
+        final int oldGroups = inverseSums.length;
+        if (group >= oldGroups) {
+            final int newGroups = Math.max(group + 1, oldGroups * 2);
+            registers = Arrays.copyOf(registers, newGroups * registerCount);
+            inverseSums = Arrays.copyOf(inverseSums, newGroups);
+            emptyRegisters = Arrays.copyOf(emptyRegisters, newGroups);
+            for (int newGroup = oldGroups; newGroup < newGroups; newGroup++) {
+                clear(newGroup);
+            }
+        }
+    }
+
+    /** Spreads the bits of the hash, so that nearby values land in unrelated registers. */
+    private static long mix(final long hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static double alpha(final int registerCount) {
+        return switch (registerCount) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / registerCount);
+        };
+    }
+}
@@ -0,0 +1,255 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.groupby.lib;
+
+import com.bytefacets.collections.arrays.IntArray;
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+import com.bytefacets.spinel.groupby.AggregationFunction;
+import com.bytefacets.spinel.groupby.AggregationSetupVisitor;
+import com.bytefacets.spinel.schema.Cast;
+import com.bytefacets.spinel.schema.DoubleWritableField;
+import com.bytefacets.spinel.schema.Field;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.Metadata;
+import com.bytefacets.spinel.schema.TypeId;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Creates aggregations of quantiles, such as the p50, p95 and p99, of a numeric field in each
+ * group, as Double fields. The quantiles of one aggregation share a {@link QuantileSketches
+ * sketch} per group, of fixed size, which supports removal, so changed and removed rows are
+ * reflected exactly as added ones are.
+ *
+ * <p>A quantile field is only set when its estimate moves by more than the change epsilon,
+ * relative to the value last set, so that a noisy stream does not mark it changed on every update.
+ * The value of an empty group is NaN.
+ */
+public final class QuantileFactory {
+    /** The default relative accuracy of 1%, for which a sketch has about 19KB per group. */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private QuantileFactory() {}
+
+    public static QuantileField quantileField(final double quantile, final String fieldName) {
+        return new QuantileField(quantile, fieldName, Metadata.EMPTY);
+    }
+
+    public static QuantileField quantileField(
+            final double quantile, final String fieldName, final Metadata metadata) {
+        return new QuantileField(quantile, fieldName, metadata);
+    }
+
+    public static AggregationFunction quantiles(
+            final String inputFieldName, final QuantileField... quantileFields) {
+        return new QuantileAggregation(
+                inputFieldName, DEFAULT_RELATIVE_ACCURACY, 0, quantileFields);
+    }
+
+    /**
+     * @param relativeAccuracy the relative error, in (0, 1), of an estimate
+     * @param changeEpsilon the relative move of an estimate, from the value last set, below which
+     *     the quantile field is not set; zero sets it whenever the estimate moves
+     */
+    public static AggregationFunction quantiles(
+            final String inputFieldName,
+            final double relativeAccuracy,
+            final double changeEpsilon,
+            final QuantileField... quantileFields) {
+        return new QuantileAggregation(
+                inputFieldName, relativeAccuracy, changeEpsilon, quantileFields);
+    }
+
+    /** An outbound field holding the estimated value at the quantile, in [0, 1]. */
+    public record QuantileField(double quantile, String fieldName, Metadata metadata) {
+        public QuantileField {
+            if (!(quantile >= 0 && quantile <= 1)) {
+                throw new IllegalArgumentException(
+                        "quantile must be in [0, 1], but was " + quantile);
+            }
+            Objects.requireNonNull(fieldName, "fieldName");
+            Objects.requireNonNull(metadata, "metadata");
+        }
+    }
+
+    private static final class QuantileAggregation implements AggregationFunction, RetainedSize {
+        private final String inboundFieldName;
+        private final QuantileField[] quantileFields;
+        private final double changeEpsilon;
+        private final QuantileSketches sketches;
+        private final DoubleWritableField[] outboundFields;
+        private final IntConsumer addProcessor = this::processAdd;
+        private final IntConsumer changeProcessor = this::processChange;
+        private final IntConsumer removeProcessor = this::processRemove;
+        private int[] rowGroups = IntArray.create(64, -1);
+        // the bucket of the value of each row, or -1 if the value is not counted
+        private int[] rowBuckets = new int[64];
+        private int currentGroup;
+        private IntToDoubleFunction inboundValues;
+
+        private QuantileAggregation(
+                final String inboundFieldName,
+                final double relativeAccuracy,
+                final double changeEpsilon,
+                final QuantileField[] quantileFields) {
+            this.inboundFieldName = Objects.requireNonNull(inboundFieldName, "inboundFieldName");
+            if (quantileFields.length == 0) {
+                throw new IllegalArgumentException("At least one quantile field is required");
+            }
+            if (!(changeEpsilon >= 0)) {
+                throw new IllegalArgumentException(
+                        "changeEpsilon must not be negative, but was " + changeEpsilon);
+            }
+            this.quantileFields = quantileFields.clone();
+            this.changeEpsilon = changeEpsilon;
+            this.sketches = new QuantileSketches(relativeAccuracy, 16);
+            this.outboundFields = new DoubleWritableField[quantileFields.length];
+        }
+
+        @Override
+        public void collectFieldReferences(final AggregationSetupVisitor visitor) {
+            visitor.addInboundField(inboundFieldName);
+            for (final QuantileField quantileField : quantileFields) {
+                visitor.addOutboundField(
+                        new FieldDescriptor(
+                                TypeId.Double,
+                                quantileField.fieldName(),
+                                quantileField.metadata()));
+            }
+        }
+
+        @Override
+        public void bindToSchema(
+                final FieldResolver previousResolver,
+                final FieldResolver currentResolver,
+                final FieldResolver outboundResolver) {
+            reset();
+            this.inboundValues = valueReader(currentResolver.getField(inboundFieldName));
+            for (int i = 0; i < quantileFields.length; i++) {
+                outboundFields[i] =
+                        (DoubleWritableField)
+                                outboundResolver.findDoubleField(quantileFields[i].fieldName());
+            }
+        }
+
+        @Override
+        public void unbindSchema() {
+            reset();
+            inboundValues = null;
+            Arrays.fill(outboundFields, null);
+        }
+
+        private void reset() {
+            sketches.clearAll();
+            Arrays.fill(rowGroups, -1);
+        }
+
+        @Override
+        public void groupRowsAdded(final int group, final IntIterable rows) {
+            currentGroup = group;
+            rows.forEach(addProcessor);
+            publish(group);
+        }
+
+        @Override
+        public void groupRowsChanged(final int group, final IntIterable rows) {
+            currentGroup = group;
+            rows.forEach(changeProcessor);
+            publish(group);
+        }
+
+        @Override
+        public void groupRowsRemoved(final int group, final IntIterable rows) {
+            currentGroup = group;
+            rows.forEach(removeProcessor);
+            publish(group);
+        }
+
+        private void processAdd(final int row) {
+            rowGroups = IntArray.ensureEntry(rowGroups, row, -1);
+            rowBuckets = IntArray.ensureEntry(rowBuckets, row);
+            final int oldGroup = rowGroups[row];
+            if (oldGroup != -1) {
+                // the row moved from another group, whose remove is notified after this add
+                leave(row);
+                publish(oldGroup);
+            }
+            enter(row, sketches.bucketOf(inboundValues.applyAsDouble(row)));
+        }
+
+        private void processChange(final int row) {
+            final int bucket = sketches.bucketOf(inboundValues.applyAsDouble(row));
+            if (bucket != rowBuckets[row]) {
+                leave(row);
+                enter(row, bucket);
+            }
+        }
+
+        private void processRemove(final int row) {
+            if (row < rowGroups.length && rowGroups[row] == currentGroup) {
+                leave(row);
+            }
+        }
+
+        private void enter(final int row, final int bucket) {
+            rowGroups[row] = currentGroup;
+            rowBuckets[row] = bucket;
+            if (bucket != -1) {
+                sketches.add(currentGroup, bucket);
+            }
+        }
+
+        private void leave(final int row) {
+            if (rowBuckets[row] != -1) {
+                sketches.remove(rowGroups[row], rowBuckets[row]);
+            }
+            rowGroups[row] = -1;
+        }
+
+        private void publish(final int group) {
+            for (int i = 0; i < quantileFields.length; i++) {
+                final double estimate = sketches.quantile(group, quantileFields[i].quantile());
+                final DoubleWritableField outboundField = outboundFields[i];
+                if (hasMoved(outboundField.valueAt(group), estimate)) {
+                    outboundField.setValueAt(group, estimate);
+                }
+            }
+        }
+
+        private boolean hasMoved(final double current, final double estimate) {
+            if (Double.isNaN(current) || Double.isNaN(estimate)) {
+                // an emptied group is always set, so that the group can be reused
+                return Double.isNaN(current) != Double.isNaN(estimate);
+            }
+            return Math.abs(estimate - current) > changeEpsilon * Math.abs(current);
+        }
+
+        /** The estimated bytes retained by the sketches and the groups and buckets of the rows. */
+        @Override
+        public long retainedBytes() {
+            return sketches.retainedBytes()
+                    + MemoryEstimates.arrayBytes(rowGroups)
+                    + MemoryEstimates.arrayBytes(rowBuckets);
+        }
+
+        private static IntToDoubleFunction valueReader(final Field field) {
+            return switch (field.typeId()) {
+                case TypeId.Byte -> Cast.toByteField(field)::valueAt;
+                case TypeId.Short -> Cast.toShortField(field)::valueAt;
+                case TypeId.Int -> Cast.toIntField(field)::valueAt;
+                case TypeId.Long -> Cast.toLongField(field)::valueAt;
+                case TypeId.Float -> Cast.toFloatField(field)::valueAt;
+                case TypeId.Double -> Cast.toDoubleField(field)::valueAt;
+                default ->
+                        throw new IllegalArgumentException(
+                                "Quantiles require a numeric field, but typeId was "
+                                        + field.typeId());
+            };
+        }
+    }
+}
@@ -0,0 +1,149 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.groupby.lib;
+
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+import java.util.Arrays;
+
+/**
+ * A quantile sketch for each group, in the manner of DDSketch: a histogram of counts over buckets
+ * whose bounds grow geometrically, so any quantile is estimated within the given relative accuracy
+ * of a value offered to the group. Unlike t-digest or KLL, a value can be removed as exactly as it
+ * was added, by decrementing its bucket.
+ *
+ * <p>The buckets cover magnitudes from {@value #MIN_MAGNITUDE} to {@value #MAX_MAGNITUDE} of either
+ * sign; smaller magnitudes count as zero, and larger ones fall in the outermost bucket. Each group
+ * has the same fixed number of buckets, stored as a Fenwick tree so that adding, removing and
+ * finding the bucket of a rank are each O(log buckets).
+ */
+final class QuantileSketches implements RetainedSize {
+    static final double MIN_MAGNITUDE = 1e-9;
+    static final double MAX_MAGNITUDE = 1e12;
+    private final double logGamma;
+    // the bucket of zero, which is also the number of buckets of each sign
+    private final int zeroBucket;
+    private final int bucketCount;
+    private final int highestStep;
+    private final double[] magnitudes;
+    private int[] trees;
+    private int[] counts;
+
+    QuantileSketches(final double relativeAccuracy, final int initialGroups) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException(
+                    "relativeAccuracy must be in (0, 1), but was " + relativeAccuracy);
+        }
+        final double gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.zeroBucket = (int) Math.ceil(Math.log(MAX_MAGNITUDE / MIN_MAGNITUDE) / logGamma);
+        this.bucketCount = 2 * zeroBucket + 1;
+        this.highestStep = Integer.highestOneBit(bucketCount);
+        // the value of magnitude bucket k, whose bounds are MIN * gamma^(k-1) and MIN * gamma^k,
+        // is the one within the relative accuracy of both bounds
+        this.magnitudes = new double[zeroBucket + 1];
+        for (int k = 1; k <= zeroBucket; k++) {
+            magnitudes[k] = MIN_MAGNITUDE * 2 * Math.pow(gamma, k) / (gamma + 1);
+        }
+        this.trees = new int[initialGroups * bucketCount];
+        this.counts = new int[initialGroups];
+    }
+
+    /** The bucket of the value, or -1 if the value is NaN and cannot be counted. */
+    int bucketOf(final double value) {
+        if (Double.isNaN(value)) {
+            return -1;
+        }
+        final double magnitude = Math.abs(value);
+        if (magnitude <= MIN_MAGNITUDE) {
+            return zeroBucket;
+        }
+        final double k = Math.ceil(Math.log(magnitude / MIN_MAGNITUDE) / logGamma);
+        final int offset = (int) Math.max(1, Math.min(k, zeroBucket));
+        return value > 0 ? zeroBucket + offset : zeroBucket - offset;
+    }
+
+    void add(final int group, final int bucket) {
+        ensureGroup(group);
+        update(group, bucket, 1);
+        counts[group]++;
+    }
+
+    void remove(final int group, final int bucket) {
+        update(group, bucket, -1);
+        counts[group]--;
+    }
+
+    int count(final int group) {
+        return group < counts.length ? counts[group] : 0;
+    }
+
+    /**
+     * The estimated value at the quantile, in [0, 1], of the values in the group, which is the
+     * lower of the two middle values for a median of an even count; NaN if the group is empty.
+     */
+    double quantile(final int group, final double quantile) {
+        final int count = count(group);
+        if (count == 0) {
+            return Double.NaN;
+        }
+        final int rank = (int) Math.floor(quantile * (count - 1));
+        return valueOf(bucketAtRank(group, rank));
+    }
+
+    void clear(final int group) {
+        if (group < counts.length) {
+            Arrays.fill(trees, group * bucketCount, (group + 1) * bucketCount, 0);
+            counts[group] = 0;
+        }
+    }
+
+    void clearAll() {
+        Arrays.fill(trees, 0);
+        Arrays.fill(counts, 0);
+    }
+
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.arrayBytes(trees)
+                + MemoryEstimates.arrayBytes(counts)
+                + MemoryEstimates.arrayBytes(magnitudes.length, Double.BYTES);
+    }
+
+    private void update(final int group, final int bucket, final int delta) {
+        final int base = group * bucketCount - 1;
+        for (int i = bucket + 1; i <= bucketCount; i += i & -i) {
+            trees[base + i] += delta;
+        }
+    }
+
+    /** Descends the group's Fenwick tree to the first bucket whose cumulative count passes rank. */
+    private int bucketAtRank(final int group, final int rank) {
+        final int base = group * bucketCount - 1;
+        int bucket = 0;
+        int remaining = rank + 1;
+        for (int step = highestStep; step > 0; step >>= 1) {
+            final int next = bucket + step;
+            if (next <= bucketCount && trees[base + next] < remaining) {
+                bucket = next;
+                remaining -= trees[base + next];
+            }
+        }
+        return bucket;
+    }
+
+    private double valueOf(final int bucket) {
+        return bucket >= zeroBucket
+                ? magnitudes[bucket - zeroBucket]
+                : -magnitudes[zeroBucket - bucket];
+    }
+
+    private void ensureGroup(final int group) {
+        final int oldGroups = counts.length;
+        if (group >= oldGroups) {
+            final int newGroups = Math.max(group + 1, oldGroups * 2);
+            trees = Arrays.copyOf(trees, newGroups * bucketCount);
+            counts = Arrays.copyOf(counts, newGroups);
+        }
+    }
+}
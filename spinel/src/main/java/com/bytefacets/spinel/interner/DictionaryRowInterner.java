@@ -0,0 +1,55 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.interner;
+
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.hash.IntIndexedSet;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.schema.DictionaryStringField;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.TypeId;
+
+/** Interns rows by the dictionary code of a String field, rather than by the String. */
+public final class DictionaryRowInterner implements RowInterner {
+    private final String sourceFieldName;
+    private final IntIndexedSet set;
+    private DictionaryStringField field;
+
+    public static DictionaryRowInterner dictionaryInterner(
+            final String fieldName, final IntIndexedSet set) {
+        return new DictionaryRowInterner(fieldName, set);
+    }
+
+    private DictionaryRowInterner(final String sourceFieldName, final IntIndexedSet set) {
+        this.sourceFieldName = requireNonNull(sourceFieldName, "sourceFieldName");
+        this.set = requireNonNull(set, "set");
+    }
+
+    @Override
+    public void bindToSchema(final FieldResolver fieldResolver) {
+        field = (DictionaryStringField) fieldResolver.getField(sourceFieldName);
+    }
+
+    @Override
+    public void unbindSchema() {
+        field = null;
+        set.clear();
+    }
+
+    @Override
+    public int intern(final int row) {
+        return set.add(field.codeAt(row));
+    }
+
+    @Override
+    public void freeEntry(final int entry) {
+        set.removeAt(entry);
+    }
+
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.indexedSetBytes(
+                set.size(), MemoryEstimates.bytesPerValue(TypeId.Int));
+    }
+}
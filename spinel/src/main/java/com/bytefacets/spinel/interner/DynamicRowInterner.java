@@ -5,6 +5,7 @@ package com.bytefacets.spinel.interner;
 import static com.bytefacets.spinel.interner.InternSetProvider.internSetProvider;
 import static java.util.Objects.requireNonNull;
 
+import com.bytefacets.spinel.schema.DictionaryStringField;
 import com.bytefacets.spinel.schema.Field;
 import com.bytefacets.spinel.schema.FieldResolver;
 import java.util.List;
@@ -39,6 +40,11 @@ public final class DynamicRowInterner implements RowInterner {
         resolvedInterner.freeEntry(entry);
     }
 
+    @Override
+    public long retainedBytes() {
+        return resolvedInterner != null ? resolvedInterner.retainedBytes() : 0;
+    }
+
     @Override
     public void bindToSchema(final FieldResolver fieldResolver) {
         if (fieldNames.isEmpty()) {
@@ -47,7 +53,8 @@ public final class DynamicRowInterner implements RowInterner {
             resolvedInterner = singleFieldInterner(fieldNames.get(0), fieldResolver);
         } else {
             resolvedInterner =
-                    new TupleInterner(fieldNames, setProvider.getOrCreateTupleSet(initialCapacity));
+                    new TupleInterner(
+                            fieldNames, setProvider.getOrCreateTupleSet(initialCapacity), true);
         }
         resolvedInterner.bindToSchema(fieldResolver);
     }
@@ -55,6 +62,10 @@ public final class DynamicRowInterner implements RowInterner {
     private RowInterner singleFieldInterner(
             final String fieldName, final FieldResolver fieldResolver) {
         final Field field = fieldResolver.getField(fieldName);
+        if (field instanceof DictionaryStringField) {
+            return DictionaryRowInterner.dictionaryInterner(
+                    fieldName, setProvider.getOrCreateIntSet(initialCapacity));
+        }
         return InternerFactory.interner(fieldName, field.typeId(), initialCapacity, setProvider);
     }
 
@@ -3,7 +3,6 @@
 package com.bytefacets.spinel.interner;
 
 import java.util.Arrays;
-import java.util.Objects;
 
 @SuppressWarnings("NeedBraces")
 final class MixedTuple implements OpaqueTuple {
@@ -25,6 +24,6 @@ final class MixedTuple implements OpaqueTuple {
 
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(value), Arrays.hashCode(objects));
+        return 31 * Arrays.hashCode(value) + Arrays.hashCode(objects);
     }
 }
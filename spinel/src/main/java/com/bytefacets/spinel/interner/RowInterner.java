@@ -2,10 +2,17 @@
 // SPDX-License-Identifier: MIT
 package com.bytefacets.spinel.interner;
 
+import com.bytefacets.spinel.common.RetainedSize;
 import com.bytefacets.spinel.schema.SchemaBindable;
 
-public interface RowInterner extends SchemaBindable {
+public interface RowInterner extends SchemaBindable, RetainedSize {
     int intern(int row);
 
     void freeEntry(int entry);
+
+    /** The estimated bytes retained by the interned values; 0 unless the interner stores them. */
+    @Override
+    default long retainedBytes() {
+        return 0;
+    }
 }
@@ -4,12 +4,12 @@ package com.bytefacets.spinel.jdbc.source;
 
 import static com.bytefacets.spinel.common.DefaultNameSupplier.resolveName;
 import static com.bytefacets.spinel.jdbc.source.JdbcSourceBindingProvider.jdbcSourceBindingProvider;
-import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
 import static com.bytefacets.spinel.transform.BuilderSupport.builderSupport;
 import static com.bytefacets.spinel.transform.TransformContext.continuation;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 
+import com.bytefacets.spinel.schema.FieldStorage;
 import com.bytefacets.spinel.transform.BuilderSupport;
 import com.bytefacets.spinel.transform.TransformContext;
 import com.bytefacets.spinel.transform.TransformContinuation;
@@ -25,6 +25,7 @@ public final class JdbcSourceBuilder {
     private JdbcToFieldNamer jdbcToFieldNamer = DEFAULT_NAMER;
     private int initialSize = 128;
     private int chunkSize = 128;
+    private FieldStorage fieldStorage = FieldStorage.OnHeap;
     private int batchSize = 128;
 
     private JdbcSourceBuilder(final String name) {
@@ -70,6 +71,12 @@ public final class JdbcSourceBuilder {
         return this;
     }
 
+    /** Where the values of the fields are stored; {@link FieldStorage#OnHeap} by default. */
+    public JdbcSourceBuilder fieldStorage(final FieldStorage fieldStorage) {
+        this.fieldStorage = requireNonNull(fieldStorage, "fieldStorage");
+        return this;
+    }
+
     public JdbcSourceBuilder batchSize(final int batchSize) {
         this.batchSize = batchSize;
         return this;
@@ -101,6 +108,6 @@ public final class JdbcSourceBuilder {
                 name,
                 bindingProvider,
                 jdbcToFieldNamer,
-                matrixStoreFieldFactory(initialSize, chunkSize, x -> {}));
+                fieldStorage.fieldListFactory(initialSize, chunkSize, x -> {}));
     }
 }
@@ -6,7 +6,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.bytefacets.collections.hash.StringGenericIndexedMap;
 import com.bytefacets.spinel.schema.FieldDescriptor;
-import com.bytefacets.spinel.schema.MatrixStoreFieldFactory;
+import com.bytefacets.spinel.schema.FieldListFactory;
 import com.bytefacets.spinel.schema.Schema;
 import com.bytefacets.spinel.schema.SchemaField;
 import java.sql.ResultSetMetaData;
@@ -18,7 +18,7 @@ import java.util.Map;
 final class JdbcSourceSchemaBuilder {
     private final String name;
     private final JdbcSourceBindingProvider bindingProvider;
-    private final MatrixStoreFieldFactory fieldFactory;
+    private final FieldListFactory fieldFactory;
     private final List<ResultSetBinding> bindings = new ArrayList<>();
     private final JdbcToFieldNamer jdbcToFieldNamer;
 
@@ -26,7 +26,7 @@ final class JdbcSourceSchemaBuilder {
             final String name,
             final JdbcSourceBindingProvider bindingProvider,
             final JdbcToFieldNamer jdbcToFieldNamer,
-            final MatrixStoreFieldFactory fieldFactory) {
+            final FieldListFactory fieldFactory) {
         this.name = requireNonNull(name, "name");
         this.bindingProvider = requireNonNull(bindingProvider, "bindingProvider");
         this.fieldFactory = requireNonNull(fieldFactory, "fieldFactory");
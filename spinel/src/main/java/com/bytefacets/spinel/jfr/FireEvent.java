@@ -0,0 +1,39 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JFR event for a table firing its pending changes. The duration covers the synchronous
+ * notification of everything downstream of the table.
+ *
+ * <p>The default threshold keeps the event cheap enough for an always-on recording; a recording can
+ * lower it to see every fire.
+ */
+@Name(FireEvent.NAME)
+@Label("Table Fire")
+@Category("Spinel")
+@Description("A table firing its pending changes to its subscribers")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class FireEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.bytefacets.spinel.Fire";
+
+    @Label("Table")
+    String table;
+
+    @Label("Rows Added")
+    int added;
+
+    @Label("Rows Changed")
+    int changed;
+
+    @Label("Rows Removed")
+    int removed;
+}
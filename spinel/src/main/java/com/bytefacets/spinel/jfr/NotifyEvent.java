@@ -0,0 +1,40 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JFR event for one notification from an operator's output to one of its subscribed inputs. The
+ * duration is inclusive of any further downstream notifications made by the input.
+ *
+ * @see FireEvent
+ */
+@Name(NotifyEvent.NAME)
+@Label("Operator Notification")
+@Category("Spinel")
+@Description("An operator output notifying one subscribed input of added, changed or removed rows")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class NotifyEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.bytefacets.spinel.Notify";
+
+    @Label("Output")
+    @Description("The schema name of the notifying output")
+    String output;
+
+    @Label("Input")
+    @Description("The class of the notified input")
+    String input;
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Rows")
+    int rows;
+}
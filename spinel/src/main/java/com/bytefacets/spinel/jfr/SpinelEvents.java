@@ -0,0 +1,93 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.jfr;
+
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.common.EventType;
+import jakarta.annotation.Nullable;
+import jdk.jfr.Event;
+
+/**
+ * Emits the Spinel JFR events from the hot paths. The events are only allocated while a recording
+ * has them enabled, so sources and operators do not allocate when JFR is off or the events are
+ * disabled.
+ */
+public final class SpinelEvents {
+    private static final jdk.jfr.EventType FIRE = jdk.jfr.EventType.getEventType(FireEvent.class);
+    private static final jdk.jfr.EventType NOTIFY =
+            jdk.jfr.EventType.getEventType(NotifyEvent.class);
+
+    private SpinelEvents() {}
+
+    public static boolean isFireEnabled() {
+        return FIRE.isEnabled();
+    }
+
+    public static boolean isNotifyEnabled() {
+        return NOTIFY.isEnabled();
+    }
+
+    /** Begins a FireEvent if it is enabled, or returns null. */
+    public static @Nullable FireEvent beginFire() {
+        if (!FIRE.isEnabled()) {
+            return null;
+        }
+        final FireEvent event = new FireEvent();
+        event.begin();
+        return event;
+    }
+
+    /** Ends the event from {@link #beginFire()} and commits it if it passed its threshold. */
+    public static void endFire(
+            @Nullable final FireEvent event,
+            final String table,
+            final int added,
+            final int changed,
+            final int removed) {
+        if (event != null && endAndCheck(event)) {
+            event.table = table;
+            event.added = added;
+            event.changed = changed;
+            event.removed = removed;
+            event.commit();
+        }
+    }
+
+    /** Begins a NotifyEvent. Callers check {@link #isNotifyEnabled()} once per batch. */
+    public static NotifyEvent beginNotify() {
+        final NotifyEvent event = new NotifyEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event from {@link #beginNotify()} and commits it if it passed its threshold. The
+     * rows are only counted when the event is committed.
+     */
+    public static void endNotify(
+            final NotifyEvent event,
+            final String output,
+            final TransformInput input,
+            final EventType type,
+            final IntIterable rows) {
+        if (endAndCheck(event)) {
+            event.output = output;
+            event.input = input.getClass().getName();
+            event.eventType = type.name();
+            event.rows = count(rows);
+            event.commit();
+        }
+    }
+
+    private static boolean endAndCheck(final Event event) {
+        event.end();
+        return event.shouldCommit();
+    }
+
+    private static int count(final IntIterable rows) {
+        final int[] count = new int[1];
+        rows.forEach(row -> count[0]++);
+        return count[0];
+    }
+}
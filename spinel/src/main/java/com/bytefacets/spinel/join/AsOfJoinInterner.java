@@ -0,0 +1,66 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.join;
+
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.interner.RowInterner;
+import com.bytefacets.spinel.schema.Cast;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.LongField;
+
+/**
+ * A JoinInterner for an as-of join, which interns the join keys with the given interner, and also
+ * resolves the Long timestamp fields of both sides. As the timestamp fields are resolved like the
+ * key fields, a change to a timestamp re-evaluates the row's join, as a change to a key does.
+ */
+final class AsOfJoinInterner implements JoinInterner {
+    private final JoinInterner keyInterner;
+    private final String leftTimestampFieldName;
+    private final String rightTimestampFieldName;
+    private LongField leftTimestamp;
+    private LongField rightTimestamp;
+
+    AsOfJoinInterner(
+            final JoinInterner keyInterner,
+            final String leftTimestampFieldName,
+            final String rightTimestampFieldName) {
+        this.keyInterner = requireNonNull(keyInterner, "keyInterner");
+        this.leftTimestampFieldName =
+                requireNonNull(leftTimestampFieldName, "leftTimestampFieldName");
+        this.rightTimestampFieldName =
+                requireNonNull(rightTimestampFieldName, "rightTimestampFieldName");
+    }
+
+    @Override
+    public void bindToSchemas(final FieldResolver leftResolver, final FieldResolver rightResolver) {
+        keyInterner.bindToSchemas(leftResolver, rightResolver);
+        leftTimestamp = Cast.toLongField(leftResolver.getField(leftTimestampFieldName));
+        rightTimestamp = Cast.toLongField(rightResolver.getField(rightTimestampFieldName));
+    }
+
+    @Override
+    public void unbindSchemas() {
+        keyInterner.unbindSchemas();
+        leftTimestamp = null;
+        rightTimestamp = null;
+    }
+
+    @Override
+    public RowInterner left() {
+        return keyInterner.left();
+    }
+
+    @Override
+    public RowInterner right() {
+        return keyInterner.right();
+    }
+
+    LongField leftTimestamp() {
+        return leftTimestamp;
+    }
+
+    LongField rightTimestamp() {
+        return rightTimestamp;
+    }
+}
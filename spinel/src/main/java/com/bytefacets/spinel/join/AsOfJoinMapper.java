@@ -0,0 +1,330 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.join;
+
+import static com.bytefacets.spinel.sort.OrderStatisticTree.orderStatisticTree;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.arrays.IntArray;
+import com.bytefacets.collections.arrays.LongArray;
+import com.bytefacets.collections.functional.IntIntConsumer;
+import com.bytefacets.spinel.RowProvider;
+import com.bytefacets.spinel.common.BitSetRowProvider;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.schema.RowMapper;
+import com.bytefacets.spinel.sort.OrderStatisticTree;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+/**
+ * Binds each left row to the right row with the same join key and the latest timestamp at or
+ * before the left row's timestamp. Rows with equal keys and timestamps are ordered by row, so the
+ * highest right row of a timestamp is the one bound.
+ *
+ * <p>The rows of each side are kept in an order-statistic tree ordered by join key and then by
+ * timestamp, so the rows of a key are contiguous and in time order. Binding a left row is a search
+ * of the right tree, which is O(log n). The left rows bound to a right row are those of its key
+ * with timestamps from its own up to that of the next right row of the key, so when a right row is
+ * added, changed or removed, only the left rows in that range are re-bound. The keys and
+ * timestamps of the rows are copied, so that the trees stay ordered while a row's fields change.
+ */
+final class AsOfJoinMapper implements JoinMapper {
+    private static final int UNSET = -1;
+    private final AsOfJoinInterner interner;
+    private final JoinListener listener;
+    private final BitSet activeRows;
+    private final BitSetRowProvider rowProvider;
+    private final boolean outer;
+    private final int leftInitialCapacity;
+    private final int rightInitialCapacity;
+    private final OrderStatisticTree leftTree;
+    private final OrderStatisticTree rightTree;
+    // search consumers and tests are held to avoid allocating a lambda per search
+    private final IntIntConsumer rebinder = (position, leftRow) -> rebind(leftRow);
+    private final IntIntConsumer updater = (position, leftRow) -> notifyUpdated(leftRow);
+    private final IntPredicate leftBeforeSearch = this::isLeftBeforeSearch;
+    private final IntPredicate leftAtOrBeforeSearch = this::isLeftAtOrBeforeSearch;
+    private final IntPredicate rightAtOrBeforeSearch = this::isRightAtOrBeforeSearch;
+    private int[] leftRowToKey;
+    private long[] leftTimes;
+    private int[] leftToRight;
+    private int[] rightRowToKey;
+    private long[] rightTimes;
+    private int searchKey;
+    private long searchTime;
+
+    AsOfJoinMapper(
+            final AsOfJoinInterner interner,
+            final JoinListener listener,
+            final int leftInitialCapacity,
+            final int rightInitialCapacity,
+            final boolean outer) {
+        this.interner = requireNonNull(interner, "interner");
+        this.listener = requireNonNull(listener, "listener");
+        this.activeRows = new BitSet(leftInitialCapacity);
+        this.rowProvider = BitSetRowProvider.bitSetRowProvider(activeRows);
+        this.leftInitialCapacity = leftInitialCapacity;
+        this.rightInitialCapacity = rightInitialCapacity;
+        this.leftTree = orderStatisticTree(leftInitialCapacity, this::compareLeft);
+        this.rightTree = orderStatisticTree(rightInitialCapacity, this::compareRight);
+        this.leftRowToKey = IntArray.create(leftInitialCapacity, UNSET);
+        this.leftTimes = new long[leftInitialCapacity];
+        this.leftToRight = IntArray.create(leftInitialCapacity, UNSET);
+        this.rightRowToKey = IntArray.create(rightInitialCapacity, UNSET);
+        this.rightTimes = new long[rightInitialCapacity];
+        this.outer = outer;
+    }
+
+    @Override
+    public RowProvider rowProvider() {
+        return rowProvider;
+    }
+
+    @Override
+    public JoinInterner interner() {
+        return interner;
+    }
+
+    @Override
+    public RowMapper leftMapper() {
+        return row -> row;
+    }
+
+    @Override
+    public RowMapper rightMapper() {
+        return row -> row >= 0 && row < leftToRight.length ? leftToRight[row] : -1;
+    }
+
+    /** Clears the mappings, releasing the arrays grown beyond their initial capacities. */
+    @Override
+    public void clear() {
+        leftTree.clear();
+        rightTree.clear();
+        leftRowToKey = reset(leftRowToKey, leftInitialCapacity);
+        leftToRight = reset(leftToRight, leftInitialCapacity);
+        rightRowToKey = reset(rightRowToKey, rightInitialCapacity);
+        if (leftTimes.length > leftInitialCapacity) {
+            leftTimes = new long[leftInitialCapacity];
+        }
+        if (rightTimes.length > rightInitialCapacity) {
+            rightTimes = new long[rightInitialCapacity];
+        }
+        activeRows.clear();
+    }
+
+    private static int[] reset(final int[] array, final int initialCapacity) {
+        if (array.length > initialCapacity) {
+            return IntArray.create(initialCapacity, UNSET);
+        }
+        Arrays.fill(array, UNSET);
+        return array;
+    }
+
+    @Override
+    public void leftRowAdd(final int leftRow) {
+        leftRowToKey = IntArray.ensureEntry(leftRowToKey, leftRow, UNSET);
+        leftTimes = LongArray.ensureEntry(leftTimes, leftRow, 0L);
+        leftToRight = IntArray.ensureEntry(leftToRight, leftRow, UNSET);
+        copyLeftKeyAndTime(leftRow);
+        leftTree.insert(leftRow);
+        final int rightRow = lookup(leftRowToKey[leftRow], leftTimes[leftRow]);
+        leftToRight[leftRow] = rightRow;
+        if (outer || rightRow != UNSET) {
+            activeRows.set(leftRow);
+            listener.joinAdded(leftRow);
+        }
+    }
+
+    @Override
+    public void rightRowAdd(final int rightRow) {
+        rightRowToKey = IntArray.ensureEntry(rightRowToKey, rightRow, UNSET);
+        rightTimes = LongArray.ensureEntry(rightTimes, rightRow, 0L);
+        copyRightKeyAndTime(rightRow);
+        rightTree.insert(rightRow);
+        forEachLeftRowBoundTo(rightRow, rebinder);
+    }
+
+    @Override
+    public void leftRowChange(final int leftRow, final boolean reEvalKey) {
+        if (reEvalKey) {
+            leftTree.remove(leftRow);
+            copyLeftKeyAndTime(leftRow);
+            leftTree.insert(leftRow);
+            if (rebind(leftRow)) {
+                return;
+            }
+        }
+        notifyUpdated(leftRow);
+    }
+
+    @Override
+    public void rightRowChange(final int rightRow, final boolean reEvalKey) {
+        if (reEvalKey) {
+            // the left rows bound to the old position of the right row are re-bound after it moves,
+            // so that each is re-bound to its final right row rather than to an interim one
+            final int oldKey = rightRowToKey[rightRow];
+            final long oldTime = rightTimes[rightRow];
+            final int oldNext = nextRightRowOfKey(rightRow);
+            rightTree.remove(rightRow);
+            copyRightKeyAndTime(rightRow);
+            rightTree.insert(rightRow);
+            forEachLeftRowInRange(oldKey, oldTime, oldNext, rebinder);
+            forEachLeftRowBoundTo(rightRow, rebinder);
+        }
+        forEachLeftRowBoundTo(rightRow, updater);
+    }
+
+    @Override
+    public void leftRowRemove(final int leftRow) {
+        leftTree.remove(leftRow);
+        leftRowToKey[leftRow] = UNSET;
+        leftToRight[leftRow] = UNSET;
+        if (activeRows.get(leftRow)) {
+            activeRows.clear(leftRow);
+            listener.joinRemoved(leftRow);
+        }
+    }
+
+    @Override
+    public void rightRowRemove(final int rightRow) {
+        final int key = rightRowToKey[rightRow];
+        final long time = rightTimes[rightRow];
+        final int next = nextRightRowOfKey(rightRow);
+        rightTree.remove(rightRow);
+        rightRowToKey[rightRow] = UNSET;
+        forEachLeftRowInRange(key, time, next, rebinder);
+    }
+
+    @Override
+    public void cleanUpRemovedRow(final int outRow) {}
+
+    /**
+     * The bytes retained by the trees of the left and right rows, and by the copied keys and
+     * timestamps and the bindings, which grow to the highest left and right rows.
+     */
+    @Override
+    public long retainedBytes() {
+        return leftTree.retainedBytes()
+                + rightTree.retainedBytes()
+                + MemoryEstimates.arrayBytes(leftRowToKey)
+                + MemoryEstimates.arrayBytes(leftTimes)
+                + MemoryEstimates.arrayBytes(leftToRight)
+                + MemoryEstimates.arrayBytes(rightRowToKey)
+                + MemoryEstimates.arrayBytes(rightTimes)
+                + MemoryEstimates.bitSetBytes(activeRows);
+    }
+
+    private void copyLeftKeyAndTime(final int leftRow) {
+        leftRowToKey[leftRow] = interner.left().intern(leftRow);
+        leftTimes[leftRow] = interner.leftTimestamp().valueAt(leftRow);
+    }
+
+    private void copyRightKeyAndTime(final int rightRow) {
+        rightRowToKey[rightRow] = interner.right().intern(rightRow);
+        rightTimes[rightRow] = interner.rightTimestamp().valueAt(rightRow);
+    }
+
+    /** The latest right row of the key at or before the time, or UNSET if there is none. */
+    private int lookup(final int key, final long time) {
+        searchKey = key;
+        searchTime = time;
+        final int rightRow = rightTree.select(rightTree.countWhile(rightAtOrBeforeSearch) - 1);
+        return rightRow != UNSET && rightRowToKey[rightRow] == key ? rightRow : UNSET;
+    }
+
+    /** Binds the left row to its latest right row, returning true if the binding changed. */
+    private boolean rebind(final int leftRow) {
+        final int oldRight = leftToRight[leftRow];
+        final int newRight = lookup(leftRowToKey[leftRow], leftTimes[leftRow]);
+        if (oldRight == newRight) {
+            return false;
+        }
+        leftToRight[leftRow] = newRight;
+        final boolean oldActive = activeRows.get(leftRow);
+        final boolean newActive = outer || newRight != UNSET;
+        if (newActive && !oldActive) {
+            activeRows.set(leftRow);
+            listener.joinAdded(leftRow);
+        } else if (!newActive && oldActive) {
+            activeRows.clear(leftRow);
+            listener.joinRemoved(leftRow);
+        } else if (newActive) {
+            listener.joinUpdated(leftRow, false, true);
+        }
+        return true;
+    }
+
+    private void notifyUpdated(final int leftRow) {
+        if (activeRows.get(leftRow)) {
+            listener.joinUpdated(leftRow, false, false);
+        }
+    }
+
+    /** The right row after the given one in the same key, or UNSET if it is the last. */
+    private int nextRightRowOfKey(final int rightRow) {
+        final int next = rightTree.select(rightTree.rank(rightRow) + 1);
+        return next != UNSET && rightRowToKey[next] == rightRowToKey[rightRow] ? next : UNSET;
+    }
+
+    private void forEachLeftRowBoundTo(final int rightRow, final IntIntConsumer consumer) {
+        forEachLeftRowInRange(
+                rightRowToKey[rightRow],
+                rightTimes[rightRow],
+                nextRightRowOfKey(rightRow),
+                consumer);
+    }
+
+    /**
+     * Calls back the consumer with the left rows of the key with times from fromTime up to, but not
+     * including, the time of the next right row, or to the end of the key if there is none.
+     */
+    private void forEachLeftRowInRange(
+            final int key,
+            final long fromTime,
+            final int nextRightRow,
+            final IntIntConsumer consumer) {
+        searchKey = key;
+        searchTime = fromTime;
+        final int start = leftTree.countWhile(leftBeforeSearch);
+        final int end;
+        if (nextRightRow != UNSET) {
+            searchTime = rightTimes[nextRightRow];
+            end = leftTree.countWhile(leftBeforeSearch);
+        } else {
+            searchTime = Long.MAX_VALUE;
+            end = leftTree.countWhile(leftAtOrBeforeSearch);
+        }
+        leftTree.rowsInRange(start, end - start, consumer);
+    }
+
+    private boolean isLeftBeforeSearch(final int row) {
+        return isBeforeSearch(leftRowToKey[row], leftTimes[row]);
+    }
+
+    private boolean isLeftAtOrBeforeSearch(final int row) {
+        return isAtOrBeforeSearch(leftRowToKey[row], leftTimes[row]);
+    }
+
+    private boolean isRightAtOrBeforeSearch(final int row) {
+        return isAtOrBeforeSearch(rightRowToKey[row], rightTimes[row]);
+    }
+
+    private boolean isBeforeSearch(final int key, final long time) {
+        return key < searchKey || (key == searchKey && time < searchTime);
+    }
+
+    private boolean isAtOrBeforeSearch(final int key, final long time) {
+        return key < searchKey || (key == searchKey && time <= searchTime);
+    }
+
+    private int compareLeft(final int rowA, final int rowB) {
+        final int result = Integer.compare(leftRowToKey[rowA], leftRowToKey[rowB]);
+        return result != 0 ? result : Long.compare(leftTimes[rowA], leftTimes[rowB]);
+    }
+
+    private int compareRight(final int rowA, final int rowB) {
+        final int result = Integer.compare(rightRowToKey[rowA], rightRowToKey[rowB]);
+        return result != 0 ? result : Long.compare(rightTimes[rowA], rightTimes[rowB]);
+    }
+}
@@ -7,23 +7,31 @@ import static java.util.Objects.requireNonNull;
 
 import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.TransformOutput;
 import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.FieldMapping;
 import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.transform.MultiInputProvider;
 import com.bytefacets.spinel.transform.OutputProvider;
 import jakarta.annotation.Nullable;
 import java.util.BitSet;
+import java.util.List;
 
-public final class Join implements OutputProvider {
+public final class Join implements OutputProvider, MultiInputProvider, RetainedSize {
     private final JoinChangeTracker changeTracker;
     private final JoinSchemaBuilder schemaBuilder;
     private final LeftInput leftInput;
     private final RightInput rightInput;
     private final OutputManager manager;
     private final TransformOutput output;
+    // consumers are held to avoid allocating a lambda per notification
+    private final IntConsumer changedFieldConsumer;
+    private final IntConsumer removedRowConsumer;
+    private final RowRemap outboundRemap = RowRemap.rowRemap(16);
     private Schema leftSchema;
     private Schema rightSchema;
 
@@ -33,6 +41,8 @@ public final class Join implements OutputProvider {
             final JoinMapper mapper) {
         this.schemaBuilder = requireNonNull(schemaBuilder, "schemaBuilder");
         this.changeTracker = requireNonNull(changeTracker, "changeTracker");
+        this.changedFieldConsumer = changeTracker::changeField;
+        this.removedRowConsumer = mapper::cleanUpRemovedRow;
         this.rightInput = new RightInput(mapper);
         this.leftInput = new LeftInput(mapper);
         this.manager = OutputManager.outputManager(mapper.rowProvider());
@@ -47,11 +57,28 @@ public final class Join implements OutputProvider {
         return rightInput;
     }
 
+    @Override
+    public List<TransformInput> inputs() {
+        return List.of(leftInput, rightInput);
+    }
+
     @Override
     public TransformOutput output() {
         return output;
     }
 
+    /**
+     * The estimated bytes retained by the row mapping and the join key interner. The left and right
+     * interners share their interned keys, so they are counted once.
+     */
+    @Override
+    public long retainedBytes() {
+        final JoinMapper mapper = leftInput.mapper;
+        final JoinInterner interner = mapper.interner();
+        final long internerBytes = interner.left() != null ? interner.left().retainedBytes() : 0;
+        return mapper.retainedBytes() + internerBytes;
+    }
+
     private boolean haveBothSchemas() {
         return leftSchema != null && rightSchema != null;
     }
@@ -78,6 +105,10 @@ public final class Join implements OutputProvider {
 
     private final class LeftInput implements TransformInput {
         private final JoinMapper mapper;
+        private final IntConsumer addProcessor = this::rowAdd;
+        private final IntConsumer changeWithReEval = this::rowChangeWithReEval;
+        private final IntConsumer changeWithNoReEval = this::rowChangeWithNoReEval;
+        private final IntConsumer removeProcessor = this::rowRemove;
         private FieldMapping fieldMapping;
         private BitSet joinKeyDependencies;
         private TransformOutput source;
@@ -108,8 +139,8 @@ public final class Join implements OutputProvider {
             if (!haveBothSchemas()) {
                 return; // outbound not ready
             }
-            rows.forEach(mapper::leftRowAdd);
-            changeTracker.fire(manager, mapper::cleanUpRemovedRow);
+            rows.forEach(addProcessor);
+            changeTracker.fire(manager, removedRowConsumer);
         }
 
         @Override
@@ -118,9 +149,9 @@ public final class Join implements OutputProvider {
                 return; // outbound not ready
             }
             final boolean reEvalKey = changedFields.intersects(joinKeyDependencies);
-            fieldMapping.translateInboundChangeSet(changedFields, changeTracker::changeField);
-            rows.forEach(row -> mapper.leftRowChange(row, reEvalKey));
-            changeTracker.fire(manager, mapper::cleanUpRemovedRow);
+            fieldMapping.translateInboundChangeSet(changedFields, changedFieldConsumer);
+            rows.forEach(reEvalKey ? changeWithReEval : changeWithNoReEval);
+            changeTracker.fire(manager, removedRowConsumer);
         }
 
         @Override
@@ -128,17 +159,72 @@ public final class Join implements OutputProvider {
             if (!haveBothSchemas()) {
                 return;
             }
-            rows.forEach(mapper::leftRowRemove);
-            changeTracker.fire(manager, mapper::cleanUpRemovedRow);
+            rows.forEach(removeProcessor);
+            changeTracker.fire(manager, removedRowConsumer);
+        }
+
+        /**
+         * If the mapper moves its state, forwards the remap of the output rows which move with the
+         * left rows; otherwise the moved rows are removed.
+         */
+        @Override
+        public void rowsRemapping(final RowRemap remap) {
+            if (!mapper.remapsRows()) {
+                TransformInput.super.rowsRemapping(remap);
+                return;
+            }
+            if (!haveBothSchemas()) {
+                return;
+            }
+            mapper.leftRowsRemapping(remap, outboundRemap);
+            if (!outboundRemap.isEmpty()) {
+                manager.notifyRemapping(outboundRemap);
+            }
+        }
+
+        @Override
+        public void rowsRemapped(final RowRemap remap) {
+            if (!mapper.remapsRows()) {
+                TransformInput.super.rowsRemapped(remap);
+                return;
+            }
+            if (!haveBothSchemas()) {
+                return;
+            }
+            mapper.leftRowsRemapped(remap);
+            if (!outboundRemap.isEmpty()) {
+                manager.notifyRemapped(outboundRemap);
+                outboundRemap.clear();
+            }
+        }
+
+        private void rowAdd(final int row) {
+            mapper.leftRowAdd(row);
+        }
+
+        private void rowChangeWithNoReEval(final int row) {
+            mapper.leftRowChange(row, false);
+        }
+
+        private void rowChangeWithReEval(final int row) {
+            mapper.leftRowChange(row, true);
+        }
+
+        private void rowRemove(final int row) {
+            mapper.leftRowRemove(row);
         }
 
         private void addAllSourceRowsIfNecessary() {
-            source.rowProvider().forEach(mapper::leftRowAdd);
+            source.rowProvider().forEach(addProcessor);
         }
     }
 
     private final class RightInput implements TransformInput {
         private final JoinMapper mapper;
+        private final IntConsumer addProcessor = this::rowAdd;
+        private final IntConsumer changeWithReEval = this::rowChangeWithReEval;
+        private final IntConsumer changeWithNoReEval = this::rowChangeWithNoReEval;
+        private final IntConsumer removeProcessor = this::rowRemove;
         private FieldMapping fieldMapping;
         private BitSet joinKeyDependencies;
         private TransformOutput source;
@@ -169,8 +255,8 @@ public final class Join implements OutputProvider {
             if (!haveBothSchemas()) {
                 return; // outbound not ready
             }
-            rows.forEach(mapper::rightRowAdd);
-            changeTracker.fire(manager, mapper::cleanUpRemovedRow);
+            rows.forEach(addProcessor);
+            changeTracker.fire(manager, removedRowConsumer);
         }
 
         @Override
@@ -179,11 +265,13 @@ public final class Join implements OutputProvider {
                 return; // outbound not ready
             }
             final boolean reEvalKey = changedFields.intersects(joinKeyDependencies);
-            fieldMapping.translateInboundChangeSet(changedFields, changeTracker::changeField);
-            final IntConsumer consumer =
-                    reEvalKey ? this::rowChangeWithReEval : this::rowChangeWithNoReEval;
-            rows.forEach(consumer);
-            changeTracker.fire(manager, mapper::cleanUpRemovedRow);
+            fieldMapping.translateInboundChangeSet(changedFields, changedFieldConsumer);
+            rows.forEach(reEvalKey ? changeWithReEval : changeWithNoReEval);
+            changeTracker.fire(manager, removedRowConsumer);
+        }
+
+        private void rowAdd(final int row) {
+            mapper.rightRowAdd(row);
         }
 
         private void rowChangeWithNoReEval(final int row) {
@@ -199,12 +287,33 @@ public final class Join implements OutputProvider {
             if (!haveBothSchemas()) {
                 return; // outbound not ready
             }
-            rows.forEach(mapper::rightRowRemove);
-            changeTracker.fire(manager, mapper::cleanUpRemovedRow);
+            rows.forEach(removeProcessor);
+            changeTracker.fire(manager, removedRowConsumer);
+        }
+
+        private void rowRemove(final int row) {
+            mapper.rightRowRemove(row);
+        }
+
+        /** If the mapper moves its state, nothing is forwarded; otherwise the rows are removed. */
+        @Override
+        public void rowsRemapping(final RowRemap remap) {
+            if (!mapper.remapsRows()) {
+                TransformInput.super.rowsRemapping(remap);
+            }
+        }
+
+        @Override
+        public void rowsRemapped(final RowRemap remap) {
+            if (!mapper.remapsRows()) {
+                TransformInput.super.rowsRemapped(remap);
+            } else if (haveBothSchemas()) {
+                mapper.rightRowsRemapped(remap);
+            }
         }
 
         private void addAllSourceRowsIfNecessary() {
-            source.rowProvider().forEach(mapper::rightRowAdd);
+            source.rowProvider().forEach(addProcessor);
         }
     }
 }
@@ -30,6 +30,8 @@ public final class JoinBuilder {
     private JoinKeyHandling joinKeyHandling = JoinKeyHandling.KeepAll;
     private String leftSourceNodeName;
     private String rightSourceNodeName;
+    private String leftTimestampFieldName;
+    private String rightTimestampFieldName;
 
     private JoinBuilder(final String name, final JoinType type) {
         this.name = name;
@@ -59,7 +61,8 @@ public final class JoinBuilder {
 
     private Join internalBuild() {
         final JoinChangeTracker tracker = JoinChangeTracker.stateChangeSet();
-        final JoinMapper mapper = selectMapper(joinInterner, tracker);
+        final JoinInterner interner = selectInterner();
+        final JoinMapper mapper = selectMapper(interner, tracker);
         final NameConflictResolver nameResolver = new NameConflictResolver() {};
         final var join =
                 new Join(
@@ -68,7 +71,7 @@ public final class JoinBuilder {
                                 leftSourceRowFieldName,
                                 rightSourceRowFieldName,
                                 mapper,
-                                joinInterner,
+                                interner,
                                 nameResolver,
                                 joinKeyHandling),
                         tracker,
@@ -82,9 +85,33 @@ public final class JoinBuilder {
         return join;
     }
 
+    private JoinInterner selectInterner() {
+        if (type == JoinType.AsOf) {
+            if (leftTimestampFieldName == null) {
+                throw new IllegalStateException("AsOf join requires timestamp fields");
+            }
+            return new AsOfJoinInterner(
+                    requireNonNullElseGet(
+                            joinInterner, () -> dynamicJoinInterner(List.of(), List.of(), 16)),
+                    leftTimestampFieldName,
+                    rightTimestampFieldName);
+        }
+        return joinInterner;
+    }
+
     private JoinMapper selectMapper(final JoinInterner interner, final JoinChangeTracker tracker) {
-        return new LookupJoinMapper(
-                interner, tracker, initialLeftCapacity, initialRightCapacity, outer);
+        return switch (type) {
+            case Lookup ->
+                    new LookupJoinMapper(
+                            interner, tracker, initialLeftCapacity, initialRightCapacity, outer);
+            case AsOf ->
+                    new AsOfJoinMapper(
+                            (AsOfJoinInterner) interner,
+                            tracker,
+                            initialLeftCapacity,
+                            initialRightCapacity,
+                            outer);
+        };
     }
 
     public JoinBuilder joinOn(final JoinInterner joinInterner) {
@@ -122,6 +149,19 @@ public final class JoinBuilder {
         return this;
     }
 
+    /**
+     * The Long fields by which an as-of join binds each left row to the right row of its join key
+     * with the latest timestamp at or before its own. Required for an as-of join.
+     */
+    public JoinBuilder asOfTimestamps(
+            final String leftTimestampFieldName, final String rightTimestampFieldName) {
+        this.leftTimestampFieldName =
+                requireNonNull(leftTimestampFieldName, "leftTimestampFieldName");
+        this.rightTimestampFieldName =
+                requireNonNull(rightTimestampFieldName, "rightTimestampFieldName");
+        return this;
+    }
+
     public JoinBuilder includeLeftSourceRowAs(final String leftSourceRowFieldName) {
         this.leftSourceRowFieldName = leftSourceRowFieldName;
         return this;
@@ -169,6 +209,24 @@ public final class JoinBuilder {
         return new JoinBuilder(context, JoinType.Lookup);
     }
 
+    /**
+     * A join which binds each left row to the right row of its join key with the latest timestamp
+     * at or before its own, e.g. a trade to the latest quote of its instrument at the trade's time.
+     *
+     * @see #asOfTimestamps(String, String)
+     */
+    public static JoinBuilder asOfJoin() {
+        return asOfJoin((String) null);
+    }
+
+    public static JoinBuilder asOfJoin(final @Nullable String name) {
+        return new JoinBuilder(resolveName("Join", name), JoinType.AsOf);
+    }
+
+    public static JoinBuilder asOfJoin(final TransformContext context) {
+        return new JoinBuilder(context, JoinType.AsOf);
+    }
+
     private void requireContext(final String name) {
         if (context == null) {
             throw new RuntimeException(
@@ -178,6 +236,7 @@ public final class JoinBuilder {
     }
 
     enum JoinType {
-        Lookup
+        Lookup,
+        AsOf
     }
 }
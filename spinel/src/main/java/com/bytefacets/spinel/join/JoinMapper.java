@@ -3,6 +3,7 @@
 package com.bytefacets.spinel.join;
 
 import com.bytefacets.spinel.RowProvider;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.schema.RowMapper;
 
 interface JoinMapper {
@@ -31,4 +32,33 @@ interface JoinMapper {
     void rightRowRemove(int rightRow);
 
     void cleanUpRemovedRow(int outRow);
+
+    /**
+     * Whether the mapper moves its state for rows remapped by either input. If not, the moved rows
+     * are removed and re-added.
+     */
+    default boolean remapsRows() {
+        return false;
+    }
+
+    /**
+     * Called before the left rows in the remap move, to collect into outboundRemap the output rows
+     * which move with them.
+     */
+    default void leftRowsRemapping(RowRemap remap, RowRemap outboundRemap) {
+        throw new UnsupportedOperationException("Row remapping is not supported");
+    }
+
+    /** Called after the left rows in the remap have moved, to move their state to the new rows. */
+    default void leftRowsRemapped(RowRemap remap) {
+        throw new UnsupportedOperationException("Row remapping is not supported");
+    }
+
+    /** Called after the right rows in the remap have moved, to move their state to the new rows. */
+    default void rightRowsRemapped(RowRemap remap) {
+        throw new UnsupportedOperationException("Row remapping is not supported");
+    }
+
+    /** The estimated bytes retained by the mapping between left, right and output rows. */
+    long retainedBytes();
 }
@@ -8,7 +8,9 @@ import com.bytefacets.collections.arrays.IntArray;
 import com.bytefacets.collections.arrays.LongArray;
 import com.bytefacets.collections.types.Pack;
 import com.bytefacets.spinel.RowProvider;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.common.BitSetRowProvider;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.schema.RowMapper;
 import java.util.Arrays;
 import java.util.BitSet;
@@ -21,6 +23,8 @@ final class LookupJoinMapper implements JoinMapper {
     private final BitSetRowProvider rowProvider;
     private final boolean outer;
     private final JoinInterner interner;
+    private final int leftInitialCapacity;
+    private final int rightInitialCapacity;
     private int[] leftRowToKey;
     private int[] rightRowToKey;
     private long[] keyToLeftRight;
@@ -35,6 +39,8 @@ final class LookupJoinMapper implements JoinMapper {
         this.activeRows = new BitSet(leftInitialCapacity);
         this.rowProvider = BitSetRowProvider.bitSetRowProvider(activeRows);
         this.listener = requireNonNull(listener, "listener");
+        this.leftInitialCapacity = leftInitialCapacity;
+        this.rightInitialCapacity = initialRightCapacity;
         this.leftRowToKey = IntArray.create(leftInitialCapacity, UNSET);
         this.rightRowToKey = IntArray.create(initialRightCapacity, UNSET);
         this.keyToLeftRight = LongArray.create(leftInitialCapacity, EMPTY_MAPPING);
@@ -70,14 +76,27 @@ final class LookupJoinMapper implements JoinMapper {
         };
     }
 
+    /** Clears the mappings, releasing the arrays grown beyond their initial capacities. */
     @Override
     public void clear() {
-        Arrays.fill(leftRowToKey, UNSET);
-        Arrays.fill(rightRowToKey, UNSET);
-        Arrays.fill(keyToLeftRight, EMPTY_MAPPING);
+        leftRowToKey = reset(leftRowToKey, leftInitialCapacity);
+        rightRowToKey = reset(rightRowToKey, rightInitialCapacity);
+        if (keyToLeftRight.length > leftInitialCapacity) {
+            keyToLeftRight = LongArray.create(leftInitialCapacity, EMPTY_MAPPING);
+        } else {
+            Arrays.fill(keyToLeftRight, EMPTY_MAPPING);
+        }
         activeRows.clear();
     }
 
+    private static int[] reset(final int[] array, final int initialCapacity) {
+        if (array.length > initialCapacity) {
+            return IntArray.create(initialCapacity, UNSET);
+        }
+        Arrays.fill(array, UNSET);
+        return array;
+    }
+
     @Override
     public void leftRowAdd(final int leftRow) {
         final int joinKey = interner.left().intern(leftRow);
@@ -148,6 +167,92 @@ final class LookupJoinMapper implements JoinMapper {
     @Override
     public void cleanUpRemovedRow(final int outRow) {}
 
+    @Override
+    public boolean remapsRows() {
+        return true;
+    }
+
+    /** The output rows are the left rows, so each moved left row in the output moves with it. */
+    @Override
+    public void leftRowsRemapping(final RowRemap remap, final RowRemap outboundRemap) {
+        for (int i = 0, len = remap.size(); i < len; i++) {
+            final int fromRow = remap.fromRow(i);
+            if (activeRows.get(fromRow)) {
+                outboundRemap.add(fromRow, remap.toRow(i));
+            }
+        }
+    }
+
+    /**
+     * Moves the join key and output row of each moved left row to its new row, then releases
+     * leftRowToKey above the highest mapped row.
+     */
+    @Override
+    public void leftRowsRemapped(final RowRemap remap) {
+        for (int i = 0, len = remap.size(); i < len; i++) {
+            final int fromRow = remap.fromRow(i);
+            final int joinKey = fromRow < leftRowToKey.length ? leftRowToKey[fromRow] : UNSET;
+            if (joinKey != UNSET) {
+                final int toRow = remap.toRow(i);
+                leftRowToKey[fromRow] = UNSET;
+                mapLeftRowKey(toRow, joinKey);
+                final long mapping = keyToLeftRight[joinKey];
+                if (Pack.unpackHiInt(mapping) == fromRow) {
+                    keyToLeftRight[joinKey] = Pack.packToLong(toRow, Pack.unpackLoInt(mapping));
+                }
+                if (activeRows.get(fromRow)) {
+                    activeRows.clear(fromRow);
+                    activeRows.set(toRow);
+                }
+            }
+        }
+        leftRowToKey = trim(leftRowToKey, leftInitialCapacity);
+    }
+
+    /**
+     * Moves the join key of each moved right row to its new row, then releases rightRowToKey above
+     * the highest mapped row. The output rows read the same values through the new right rows, so
+     * nothing is notified.
+     */
+    @Override
+    public void rightRowsRemapped(final RowRemap remap) {
+        for (int i = 0, len = remap.size(); i < len; i++) {
+            final int fromRow = remap.fromRow(i);
+            final int joinKey = fromRow < rightRowToKey.length ? rightRowToKey[fromRow] : UNSET;
+            if (joinKey != UNSET) {
+                final int toRow = remap.toRow(i);
+                rightRowToKey[fromRow] = UNSET;
+                mapRightRowKey(toRow, joinKey);
+                final long mapping = keyToLeftRight[joinKey];
+                if (Pack.unpackLoInt(mapping) == fromRow) {
+                    keyToLeftRight[joinKey] = Pack.packToLong(Pack.unpackHiInt(mapping), toRow);
+                }
+            }
+        }
+        rightRowToKey = trim(rightRowToKey, rightInitialCapacity);
+    }
+
+    /** Releases the array above its highest mapped row, keeping at least the initial capacity. */
+    private static int[] trim(final int[] array, final int initialCapacity) {
+        int length = array.length;
+        while (length > initialCapacity && array[length - 1] == UNSET) {
+            length--;
+        }
+        return length < array.length ? Arrays.copyOf(array, length) : array;
+    }
+
+    /**
+     * The bytes retained by leftRowToKey and rightRowToKey, which grow to the highest left and
+     * right rows, keyToLeftRight, which grows to the highest join key, and the active rows.
+     */
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.arrayBytes(leftRowToKey)
+                + MemoryEstimates.arrayBytes(rightRowToKey)
+                + MemoryEstimates.arrayBytes(keyToLeftRight)
+                + MemoryEstimates.bitSetBytes(activeRows);
+    }
+
     private void mapLeftRow(final int leftRow, final int oldJoinKey, final int newJoinKey) {
         if (oldJoinKey != UNSET) {
             final long oldMapping = keyToLeftRight[oldJoinKey];
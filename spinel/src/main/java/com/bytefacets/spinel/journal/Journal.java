@@ -0,0 +1,69 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The layout shared by the JournalSink and the JournalReplaySource. A journal is a directory of
+ * segment files, each starting with a MAGIC and VERSION, followed by records of
+ *
+ * <pre>
+ * [int length][byte kind][long epochNanos][payload]
+ * </pre>
+ *
+ * where the length counts the bytes which follow it. Segments are mapped larger than their records,
+ * so a length of 0 marks the end of the records in a segment.
+ */
+final class Journal {
+    static final int MAGIC = 0x53504e4a;
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_BYTES = Integer.BYTES * 2;
+    static final int RECORD_HEADER_BYTES = Integer.BYTES + 1 + Long.BYTES;
+    static final ValueLayout.OfInt INT =
+            ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    static final byte SCHEMA = 1;
+    static final byte NULL_SCHEMA = 2;
+    static final byte ADD = 3;
+    static final byte CHANGE = 4;
+    static final byte REMOVE = 5;
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".seg";
+
+    private Journal() {}
+
+    static Path segmentPath(final Path directory, final int segment) {
+        return directory.resolve(String.format("%s%010d%s", PREFIX, segment, SUFFIX));
+    }
+
+    /** The segment files in the directory, in the order they were written. */
+    static List<Path> segments(final Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Journal::isSegment).sorted().toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static int segmentNumber(final Path segment) {
+        final String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static boolean isSegment(final Path file) {
+        final String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+}
@@ -0,0 +1,235 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.journal;
+
+import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.hash.StringGenericIndexedMap;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.BitSetRowProvider;
+import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.StateChange;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.schema.FieldList;
+import com.bytefacets.spinel.schema.MatrixStoreFieldFactory;
+import com.bytefacets.spinel.schema.Metadata;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.SchemaField;
+import com.bytefacets.spinel.transform.OutputProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a journal written by a JournalSink to its output, which sees the same schema updates and
+ * the same add, change and remove batches, with the same row numbers, as the input of the sink.
+ * The records are replayed either as fast as they can be read or paced by the time between their
+ * timestamps, e.g. to reproduce the rate of a recorded session.
+ */
+public final class JournalReplaySource implements OutputProvider {
+    private final BitSet changedFieldIds = new BitSet();
+    private final StateChange stateChange = StateChange.stateChange(changedFieldIds);
+    private final BitSet activeRows = new BitSet();
+    private final OutputManager outputManager =
+            OutputManager.outputManager(BitSetRowProvider.bitSetRowProvider(activeRows));
+    private final Path directory;
+    private final int initialSize;
+    private final int chunkSize;
+    private int[] rows = new int[64];
+    private FieldList fields;
+    private boolean started;
+    private long firstTimestamp;
+    private long replayStart;
+
+    public enum Pacing {
+        /** Replays the records as fast as they can be read. */
+        FullSpeed,
+        /** Replays each record when the time since the first matches that of the recording. */
+        Recorded
+    }
+
+    public static JournalReplaySource journalReplaySource(final Path directory) {
+        return journalReplaySource(directory, 128, 4096);
+    }
+
+    public static JournalReplaySource journalReplaySource(
+            final Path directory, final int initialSize, final int chunkSize) {
+        return new JournalReplaySource(directory, initialSize, chunkSize);
+    }
+
+    private JournalReplaySource(final Path directory, final int initialSize, final int chunkSize) {
+        this.directory = requireNonNull(directory, "directory");
+        this.initialSize = initialSize;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public TransformOutput output() {
+        return outputManager.output();
+    }
+
+    /**
+     * Replays every record in the journal on the calling thread.
+     *
+     * @return the number of records replayed
+     */
+    public int replay(final Pacing pacing) {
+        requireNonNull(pacing, "pacing");
+        int records = 0;
+        started = false;
+        replayStart = System.nanoTime();
+        for (final Path file : Journal.segments(directory)) {
+            records += replaySegment(file, pacing);
+        }
+        return records;
+    }
+
+    private int replaySegment(final Path file, final Pacing pacing) {
+        try (Arena arena = Arena.ofConfined();
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final MemorySegment segment =
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            if (segment.byteSize() < Journal.SEGMENT_HEADER_BYTES
+                    || segment.get(Journal.INT, 0) != Journal.MAGIC) {
+                throw new IOException("Not a journal segment: " + file);
+            }
+            final ByteBuffer in = segment.asByteBuffer();
+            in.position(Journal.SEGMENT_HEADER_BYTES);
+            int records = 0;
+            while (in.remaining() >= Integer.BYTES) {
+                final int length = in.getInt();
+                if (length == 0) {
+                    break;
+                }
+                final int end = in.position() + length;
+                final byte kind = in.get();
+                final long timestamp = in.getLong();
+                if (!started) {
+                    started = true;
+                    firstTimestamp = timestamp;
+                }
+                if (pacing == Pacing.Recorded) {
+                    awaitOffset(timestamp - firstTimestamp);
+                }
+                apply(kind, in);
+                in.position(end);
+                records++;
+            }
+            return records;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void awaitOffset(final long offsetNanos) {
+        long remaining;
+        while ((remaining = offsetNanos - (System.nanoTime() - replayStart)) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void apply(final byte kind, final ByteBuffer in) {
+        switch (kind) {
+            case Journal.SCHEMA -> applySchema(in);
+            case Journal.NULL_SCHEMA -> applyNullSchema();
+            case Journal.ADD -> applyAdd(in);
+            case Journal.CHANGE -> applyChange(in);
+            case Journal.REMOVE -> applyRemove(in);
+            default -> throw new IllegalStateException("Unknown journal record kind: " + kind);
+        }
+    }
+
+    private void applySchema(final ByteBuffer in) {
+        final String name = RecordBuffer.getString(in);
+        final int fieldCt = in.getInt();
+        final var fieldMap = new StringGenericIndexedMap<SchemaField>(Math.max(fieldCt, 1), 1f);
+        final Map<Byte, List<FieldDescriptor>> typeMap = new HashMap<>();
+        for (int i = 0; i < fieldCt; i++) {
+            final String fieldName = RecordBuffer.getString(in);
+            final byte typeId = in.get();
+            final int tagCt = in.getInt();
+            final Set<String> tags = new HashSet<>(tagCt, 1f);
+            for (int t = 0; t < tagCt; t++) {
+                tags.add(RecordBuffer.getString(in));
+            }
+            final var fieldDesc = new FieldDescriptor(typeId, fieldName, Metadata.metadata(tags));
+            typeMap.computeIfAbsent(typeId, k -> new ArrayList<>(4)).add(fieldDesc);
+            fieldMap.add(fieldName);
+        }
+        final MatrixStoreFieldFactory fieldFactory =
+                matrixStoreFieldFactory(initialSize, chunkSize, i -> {});
+        fields = fieldFactory.createFieldList(fieldMap, typeMap);
+        activeRows.clear();
+        outputManager.updateSchema(Schema.schema(name, fields));
+    }
+
+    private void applyNullSchema() {
+        fields = null;
+        activeRows.clear();
+        outputManager.updateSchema(null);
+    }
+
+    private void applyAdd(final ByteBuffer in) {
+        final int rowCount = readRows(in);
+        for (int i = 0; i < rowCount; i++) {
+            stateChange.addRow(rows[i]);
+            activeRows.set(rows[i]);
+        }
+        for (int fieldId = 0, n = fields.size(); fieldId < n; fieldId++) {
+            readColumn(in, fieldId, rowCount);
+        }
+        stateChange.fire(outputManager, activeRows::clear);
+    }
+
+    private void applyChange(final ByteBuffer in) {
+        final int rowCount = readRows(in);
+        for (int i = 0; i < rowCount; i++) {
+            stateChange.changeRow(rows[i]);
+        }
+        final int changedCt = in.getInt();
+        for (int i = 0; i < changedCt; i++) {
+            final int fieldId = in.getInt();
+            stateChange.changeField(fieldId);
+            readColumn(in, fieldId, rowCount);
+        }
+        stateChange.fire(outputManager, activeRows::clear);
+    }
+
+    private void applyRemove(final ByteBuffer in) {
+        final int rowCount = readRows(in);
+        for (int i = 0; i < rowCount; i++) {
+            stateChange.removeRow(rows[i]);
+        }
+        stateChange.fire(outputManager, activeRows::clear);
+    }
+
+    private void readColumn(final ByteBuffer in, final int fieldId, final int rowCount) {
+        final SchemaField schemaField = fields.fieldAt(fieldId);
+        JournalCodec.readColumn(in, schemaField.typeId(), schemaField.field(), rows, rowCount);
+    }
+
+    private int readRows(final ByteBuffer in) {
+        final int rowCount = in.getInt();
+        if (rowCount > rows.length) {
+            rows = new int[Math.max(rowCount, rows.length * 2)];
+        }
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = in.getInt();
+        }
+        return rowCount;
+    }
+}
@@ -0,0 +1,300 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.SchemaField;
+import jakarta.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Appends the updates it receives to a journal of memory-mapped segment files, from which a
+ * JournalReplaySource can rebuild the same output, e.g. to recover state after a restart or to
+ * replay a session against a new operator. Each schema update and each add, change and remove batch
+ * is one record, stamped with the epoch nanos at which it was received. A change record holds only
+ * the fields which changed. Generic fields hold arbitrary objects and are left out of the journal.
+ *
+ * <p>Records are copied into the mapped segment, which the operating system writes to the file in
+ * the background; {@link #flush()} forces them to the storage device. When a record does not fit in
+ * the current segment, the sink rolls to a new segment. Opening a sink on an existing journal
+ * appends to its last segment.
+ *
+ * <p>Once closed, the sink ignores the updates it still receives, e.g. while the operators it is
+ * attached to are torn down, and {@link #flush()} throws an IllegalStateException.
+ */
+public final class JournalSink implements TransformInput, Closeable {
+    private final RecordBuffer buffer = new RecordBuffer(4096);
+    private final List<SchemaField> journaledFields = new ArrayList<>();
+    private final Path directory;
+    private final int segmentSize;
+    private final LongSupplier clock;
+    private int[] journalFieldIds = new int[0];
+    private int[] rows = new int[64];
+    private int rowCount;
+    private int segmentNumber = -1;
+    private Arena arena;
+    private FileChannel channel;
+    private MemorySegment segment;
+    private long position;
+    private boolean closed;
+
+    public static JournalSink journalSink(final Path directory, final int segmentSize) {
+        return journalSink(directory, segmentSize, JournalSink::epochNanos);
+    }
+
+    /**
+     * @param clock supplies the epoch nanos with which each record is stamped
+     */
+    public static JournalSink journalSink(
+            final Path directory, final int segmentSize, final LongSupplier clock) {
+        return new JournalSink(directory, segmentSize, clock);
+    }
+
+    private JournalSink(final Path directory, final int segmentSize, final LongSupplier clock) {
+        if (segmentSize <= Journal.SEGMENT_HEADER_BYTES) {
+            throw new IllegalArgumentException("segmentSize is too small: " + segmentSize);
+        }
+        this.directory = requireNonNull(directory, "directory");
+        this.segmentSize = segmentSize;
+        this.clock = requireNonNull(clock, "clock");
+        try {
+            Files.createDirectories(directory);
+            final List<Path> segments = Journal.segments(directory);
+            if (segments.isEmpty()) {
+                roll(0);
+            } else {
+                resume(segments.getLast());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void schemaUpdated(@Nullable final Schema schema) {
+        if (closed) {
+            return;
+        }
+        journaledFields.clear();
+        if (schema == null) {
+            journalFieldIds = new int[0];
+            beginRecord(Journal.NULL_SCHEMA);
+            endRecord();
+            return;
+        }
+        journalFieldIds = new int[schema.size()];
+        Arrays.fill(journalFieldIds, -1);
+        schema.forEachField(
+                schemaField -> {
+                    if (JournalCodec.isJournaled(schemaField.typeId())) {
+                        journalFieldIds[schemaField.fieldId()] = journaledFields.size();
+                        journaledFields.add(schemaField);
+                    }
+                });
+        beginRecord(Journal.SCHEMA);
+        buffer.putString(schema.name());
+        buffer.ensure(Integer.BYTES).putInt(journaledFields.size());
+        for (final SchemaField schemaField : journaledFields) {
+            buffer.putString(schemaField.name());
+            final var tags = schemaField.metadata().tags();
+            buffer.ensure(1 + Integer.BYTES).put(schemaField.typeId()).putInt(tags.size());
+            tags.forEach(buffer::putString);
+        }
+        endRecord();
+    }
+
+    @Override
+    public void rowsAdded(final IntIterable rows) {
+        if (closed) {
+            return;
+        }
+        beginRecord(Journal.ADD);
+        putRows(rows);
+        for (final SchemaField schemaField : journaledFields) {
+            putColumn(schemaField);
+        }
+        endRecord();
+    }
+
+    @Override
+    public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+        if (closed) {
+            return;
+        }
+        beginRecord(Journal.CHANGE);
+        putRows(rows);
+        final int countPosition = buffer.position();
+        buffer.ensure(Integer.BYTES).putInt(0);
+        final int[] changedCount = new int[1];
+        changedFields.forEach(
+                fieldId -> {
+                    final int journalFieldId = journalFieldIds[fieldId];
+                    if (journalFieldId != -1) {
+                        buffer.ensure(Integer.BYTES).putInt(journalFieldId);
+                        putColumn(journaledFields.get(journalFieldId));
+                        changedCount[0]++;
+                    }
+                });
+        buffer.putIntAt(countPosition, changedCount[0]);
+        endRecord();
+    }
+
+    @Override
+    public void rowsRemoved(final IntIterable rows) {
+        if (closed) {
+            return;
+        }
+        beginRecord(Journal.REMOVE);
+        putRows(rows);
+        endRecord();
+    }
+
+    /** Forces the records written so far to the storage device. */
+    public void flush() {
+        if (closed) {
+            throw new IllegalStateException("JournalSink is closed: " + directory);
+        }
+        segment.force();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeSegment();
+    }
+
+    private void putRows(final IntIterable rowIterable) {
+        rowCount = 0;
+        rowIterable.forEach(
+                row -> {
+                    if (rowCount == rows.length) {
+                        rows = Arrays.copyOf(rows, rows.length * 2);
+                    }
+                    rows[rowCount++] = row;
+                });
+        final ByteBuffer out = buffer.ensure(Integer.BYTES * (rowCount + 1)).putInt(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            out.putInt(rows[i]);
+        }
+    }
+
+    private void putColumn(final SchemaField schemaField) {
+        JournalCodec.writeColumn(
+                buffer, schemaField.typeId(), schemaField.field(), this::forEachRow, rowCount);
+    }
+
+    private void forEachRow(final IntConsumer consumer) {
+        for (int i = 0; i < rowCount; i++) {
+            consumer.accept(rows[i]);
+        }
+    }
+
+    private void beginRecord(final byte kind) {
+        buffer.clear();
+        buffer.ensure(Journal.RECORD_HEADER_BYTES).putInt(0).put(kind).putLong(clock.getAsLong());
+    }
+
+    private void endRecord() {
+        final ByteBuffer record = buffer.encoded();
+        final int recordBytes = record.remaining();
+        // leave room for the zero length which marks the end of the segment
+        if (position + recordBytes + Integer.BYTES > segment.byteSize()) {
+            try {
+                roll(recordBytes);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        // the length is written last, so a reader never sees a partially copied record
+        MemorySegment.copy(
+                MemorySegment.ofBuffer(record),
+                Integer.BYTES,
+                segment,
+                position + Integer.BYTES,
+                recordBytes - Integer.BYTES);
+        segment.set(Journal.INT, position, recordBytes - Integer.BYTES);
+        position += recordBytes;
+    }
+
+    private void roll(final int recordBytes) throws IOException {
+        closeSegment();
+        segmentNumber++;
+        final long size =
+                Math.max(
+                        segmentSize,
+                        (long) Journal.SEGMENT_HEADER_BYTES + recordBytes + Integer.BYTES);
+        map(Journal.segmentPath(directory, segmentNumber), size);
+        segment.set(Journal.INT, 0, Journal.MAGIC);
+        segment.set(Journal.INT, Integer.BYTES, Journal.VERSION);
+        position = Journal.SEGMENT_HEADER_BYTES;
+    }
+
+    private void resume(final Path last) throws IOException {
+        segmentNumber = Journal.segmentNumber(last);
+        map(last, Math.max(segmentSize, Files.size(last)));
+        if (segment.get(Journal.INT, 0) != Journal.MAGIC) {
+            throw new IOException("Not a journal segment: " + last);
+        }
+        position = Journal.SEGMENT_HEADER_BYTES;
+        while (position + Integer.BYTES <= segment.byteSize()) {
+            final int length = segment.get(Journal.INT, position);
+            if (length == 0) {
+                break;
+            }
+            position += Integer.BYTES + length;
+        }
+    }
+
+    private void map(final Path file, final long size) throws IOException {
+        arena = Arena.ofShared();
+        channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+    }
+
+    private void closeSegment() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.force();
+            arena.close();
+            channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            segment = null;
+            arena = null;
+            channel = null;
+        }
+    }
+
+    private static long epochNanos() {
+        final Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+}
@@ -0,0 +1,67 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.journal;
+
+import jakarta.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable heap buffer into which the JournalSink encodes one record before copying it into the
+ * mapped segment. It grows to fit the largest record and is then reused without allocating.
+ */
+final class RecordBuffer {
+    private ByteBuffer buffer;
+
+    RecordBuffer(final int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+    }
+
+    ByteBuffer ensure(final int bytes) {
+        if (buffer.remaining() < bytes) {
+            final int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+            final ByteBuffer grown = ByteBuffer.allocate(capacity);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+        return buffer;
+    }
+
+    void putString(@Nullable final String value) {
+        if (value == null) {
+            ensure(Integer.BYTES).putInt(-1);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensure(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes);
+        }
+    }
+
+    @Nullable
+    static String getString(final ByteBuffer in) {
+        final int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void putIntAt(final int index, final int value) {
+        buffer.putInt(index, value);
+    }
+
+    void clear() {
+        buffer.clear();
+    }
+
+    int position() {
+        return buffer.position();
+    }
+
+    /** The encoded bytes, from the start of the buffer to its position. */
+    ByteBuffer encoded() {
+        return buffer.duplicate().flip();
+    }
+}
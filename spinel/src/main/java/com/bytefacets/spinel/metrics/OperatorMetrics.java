@@ -0,0 +1,209 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.metrics;
+
+import static com.bytefacets.spinel.common.DefaultNameSupplier.resolveName;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.longField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.EventType;
+import com.bytefacets.spinel.common.OutputMetrics;
+import com.bytefacets.spinel.common.OutputMetricsProvider;
+import com.bytefacets.spinel.common.RetainedSize;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.schema.LongWritableField;
+import com.bytefacets.spinel.schema.StringWritableField;
+import com.bytefacets.spinel.table.StringIndexedTable;
+import com.bytefacets.spinel.table.StringIndexedTableBuilder;
+import com.bytefacets.spinel.transform.OutputProvider;
+import com.bytefacets.spinel.transform.TransformBuilder;
+import jakarta.annotation.Nullable;
+import java.util.List;
+
+/**
+ * A table of runtime metrics for each node registered in a TransformBuilder, keyed by node name.
+ * The table is itself registered in the TransformBuilder, so it can be looked up and published like
+ * any other output.
+ *
+ * <p>Metrics are collected by each node's OutputManager while enabled, and are cumulative. The
+ * table is only updated by {@link #refresh()}, which should be called periodically on the thread
+ * which drives the topology, e.g. from a scheduled task on its event loop.
+ *
+ * <ul>
+ *   <li>Type: the operator's class name
+ *   <li>FanOut: the number of inputs subscribed to the node's output
+ *   <li>AddRows, AddBatches, ChangeRows, ChangeBatches, RemoveRows, RemoveBatches: rows and
+ *       notifications sent from the node's output
+ *   <li>BatchP50, BatchP99, BatchMax: the upper bound of the power-of-two bucket containing the
+ *       percentile of notification sizes
+ *   <li>CallbackNanos: time spent inside the node's input callbacks, including any notifications
+ *       made downstream while handling them
+ *   <li>NotifyNanos: time spent inside the callbacks of the inputs subscribed to the node's output
+ *   <li>SelfNanos: CallbackNanos less NotifyNanos, which approximates the time the node itself
+ *       spent. Nodes which notify outside of their callbacks, such as tables or a ChangeConflator,
+ *       report 0.
+ *   <li>RetainedBytes: the estimated heap retained by the node's internal storage, for nodes which
+ *       implement {@link RetainedSize}, otherwise 0. This is reported whether or not metrics are
+ *       enabled.
+ * </ul>
+ */
+public final class OperatorMetrics implements OutputProvider {
+    private final TransformBuilder transform;
+    private final StringIndexedTable table;
+    private final StringWritableField type;
+    private final IntWritableField fanOut;
+    private final LongWritableField addRows;
+    private final LongWritableField addBatches;
+    private final LongWritableField changeRows;
+    private final LongWritableField changeBatches;
+    private final LongWritableField removeRows;
+    private final LongWritableField removeBatches;
+    private final IntWritableField batchP50;
+    private final IntWritableField batchP99;
+    private final IntWritableField batchMax;
+    private final LongWritableField callbackNanos;
+    private final LongWritableField notifyNanos;
+    private final LongWritableField selfNanos;
+    private final LongWritableField retainedBytes;
+    private boolean enabled;
+
+    /**
+     * Creates an OperatorMetrics table over the nodes in the transform, and registers the table in
+     * the transform under the given name.
+     */
+    public static OperatorMetrics operatorMetrics(
+            final TransformBuilder transform, final @Nullable String name) {
+        return new OperatorMetrics(transform, resolveName("OperatorMetrics", name));
+    }
+
+    public static OperatorMetrics operatorMetrics(final TransformBuilder transform) {
+        return operatorMetrics(transform, null);
+    }
+
+    private OperatorMetrics(final TransformBuilder transform, final String name) {
+        this.transform = requireNonNull(transform, "transform");
+        this.table =
+                StringIndexedTableBuilder.stringIndexedTable(name)
+                        .keyFieldName("Node")
+                        .addFields(
+                                stringField("Type"),
+                                intField("FanOut"),
+                                longField("AddRows"),
+                                longField("AddBatches"),
+                                longField("ChangeRows"),
+                                longField("ChangeBatches"),
+                                longField("RemoveRows"),
+                                longField("RemoveBatches"),
+                                intField("BatchP50"),
+                                intField("BatchP99"),
+                                intField("BatchMax"),
+                                longField("CallbackNanos"),
+                                longField("NotifyNanos"),
+                                longField("SelfNanos"),
+                                longField("RetainedBytes"))
+                        .build();
+        this.type = table.writableField("Type");
+        this.fanOut = table.writableField("FanOut");
+        this.addRows = table.writableField("AddRows");
+        this.addBatches = table.writableField("AddBatches");
+        this.changeRows = table.writableField("ChangeRows");
+        this.changeBatches = table.writableField("ChangeBatches");
+        this.removeRows = table.writableField("RemoveRows");
+        this.removeBatches = table.writableField("RemoveBatches");
+        this.batchP50 = table.writableField("BatchP50");
+        this.batchP99 = table.writableField("BatchP99");
+        this.batchMax = table.writableField("BatchMax");
+        this.callbackNanos = table.writableField("CallbackNanos");
+        this.notifyNanos = table.writableField("NotifyNanos");
+        this.selfNanos = table.writableField("SelfNanos");
+        this.retainedBytes = table.writableField("RetainedBytes");
+        transform.registerNode(name, this);
+    }
+
+    /**
+     * Enables metrics on the outputs of all nodes. Nodes registered later are enabled on the next
+     * {@link #refresh()}.
+     */
+    public void enable() {
+        enabled = true;
+        collectNodes();
+    }
+
+    /** Disables metrics on the outputs of all nodes and discards their counters. */
+    public void disable() {
+        enabled = false;
+        collectNodes();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Updates the table from the current metrics of each node and fires the changes. */
+    public void refresh() {
+        final List<TopologyNode> nodes = collectNodes();
+        for (TopologyNode node : nodes) {
+            writeNode(node, node.inboundNanos(nodes));
+        }
+        table.fireChanges();
+    }
+
+    @Override
+    public TransformOutput output() {
+        return table.output();
+    }
+
+    private void writeNode(final TopologyNode node, final long inbound) {
+        final int row = table.beginUpsert(node.name());
+        type.setValueAt(row, node.operator().getClass().getSimpleName());
+        final OutputMetrics metrics = node.metrics();
+        if (metrics != null) {
+            fanOut.setValueAt(row, metrics.fanOut());
+            addRows.setValueAt(row, metrics.rows(EventType.add));
+            addBatches.setValueAt(row, metrics.batches(EventType.add));
+            changeRows.setValueAt(row, metrics.rows(EventType.change));
+            changeBatches.setValueAt(row, metrics.batches(EventType.change));
+            removeRows.setValueAt(row, metrics.rows(EventType.remove));
+            removeBatches.setValueAt(row, metrics.batches(EventType.remove));
+            batchP50.setValueAt(row, metrics.batchSizePercentile(50));
+            batchP99.setValueAt(row, metrics.batchSizePercentile(99));
+            batchMax.setValueAt(row, metrics.batchSizePercentile(100));
+            notifyNanos.setValueAt(row, metrics.notifyNanos());
+        } else {
+            fanOut.setValueAt(row, 0);
+            addRows.setValueAt(row, 0);
+            addBatches.setValueAt(row, 0);
+            changeRows.setValueAt(row, 0);
+            changeBatches.setValueAt(row, 0);
+            removeRows.setValueAt(row, 0);
+            removeBatches.setValueAt(row, 0);
+            batchP50.setValueAt(row, 0);
+            batchP99.setValueAt(row, 0);
+            batchMax.setValueAt(row, 0);
+            notifyNanos.setValueAt(row, 0);
+        }
+        callbackNanos.setValueAt(row, inbound);
+        final long outbound = metrics != null ? metrics.notifyNanos() : 0;
+        selfNanos.setValueAt(row, Math.max(0, inbound - outbound));
+        retainedBytes.setValueAt(row, RetainedSize.retainedBytesOf(node.operator()));
+        table.endUpsert();
+    }
+
+    private List<TopologyNode> collectNodes() {
+        return TopologyNode.collectNodes(transform, this, this::applyEnabled);
+    }
+
+    private @Nullable OutputMetrics applyEnabled(final Object operator) {
+        if (operator instanceof OutputProvider outputProvider
+                && outputProvider.output() instanceof OutputMetricsProvider provider) {
+            if (enabled) {
+                return provider.enableMetrics();
+            }
+            provider.disableMetrics();
+        }
+        return null;
+    }
+}
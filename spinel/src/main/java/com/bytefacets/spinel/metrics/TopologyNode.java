@@ -0,0 +1,126 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.metrics;
+
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.OutputMetrics;
+import com.bytefacets.spinel.common.OutputMetricsProvider;
+import com.bytefacets.spinel.common.SubscriberProvider;
+import com.bytefacets.spinel.transform.InputProvider;
+import com.bytefacets.spinel.transform.MultiInputProvider;
+import com.bytefacets.spinel.transform.OutputProvider;
+import com.bytefacets.spinel.transform.TransformBuilder;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/** A snapshot of a node registered in a TransformBuilder, with its inputs and output. */
+final class TopologyNode {
+    private final String name;
+    private final Object operator;
+    private final @Nullable TransformOutput output;
+    private final @Nullable OutputMetrics metrics;
+    private final List<TransformInput> inputs;
+
+    /**
+     * Collects the nodes in the transform, except the given operator, in registration order. The
+     * metricsFunction is applied to each operator to resolve its metrics.
+     */
+    static List<TopologyNode> collectNodes(
+            final TransformBuilder transform,
+            final Object exclude,
+            final Function<Object, OutputMetrics> metricsFunction) {
+        final List<TopologyNode> nodes = new ArrayList<>();
+        transform.forEachNode(
+                (name, operator) -> {
+                    if (operator != exclude) {
+                        nodes.add(
+                                new TopologyNode(name, operator, metricsFunction.apply(operator)));
+                    }
+                });
+        return nodes;
+    }
+
+    /** The current metrics of the operator's output, without enabling them. */
+    static @Nullable OutputMetrics currentMetrics(final Object operator) {
+        if (operator instanceof OutputProvider outputProvider
+                && outputProvider.output() instanceof OutputMetricsProvider provider) {
+            return provider.metrics();
+        }
+        return null;
+    }
+
+    private TopologyNode(
+            final String name, final Object operator, final @Nullable OutputMetrics metrics) {
+        this.name = name;
+        this.operator = operator;
+        this.output =
+                operator instanceof OutputProvider outputProvider ? outputProvider.output() : null;
+        this.metrics = metrics;
+        this.inputs = inputsOf(operator);
+    }
+
+    String name() {
+        return name;
+    }
+
+    Object operator() {
+        return operator;
+    }
+
+    @Nullable
+    TransformOutput output() {
+        return output;
+    }
+
+    @Nullable
+    OutputMetrics metrics() {
+        return metrics;
+    }
+
+    List<TransformInput> inputs() {
+        return inputs;
+    }
+
+    /** The inputs subscribed to this node's output, or an empty list if they cannot be listed. */
+    List<TransformInput> subscribers() {
+        return output instanceof SubscriberProvider provider ? provider.subscribers() : List.of();
+    }
+
+    /** True if the other node's output notifies any of this node's inputs. */
+    boolean isDownstreamOf(final TopologyNode upstream) {
+        for (TransformInput subscriber : upstream.subscribers()) {
+            if (inputs.contains(subscriber)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The time spent in this node's inputs, as measured by the outputs of the other nodes which
+     * notify those inputs.
+     */
+    long inboundNanos(final List<TopologyNode> nodes) {
+        long total = 0;
+        for (TransformInput input : inputs) {
+            for (TopologyNode upstream : nodes) {
+                if (upstream.metrics != null) {
+                    total += upstream.metrics.nanosFor(input);
+                }
+            }
+        }
+        return total;
+    }
+
+    private static List<TransformInput> inputsOf(final Object operator) {
+        if (operator instanceof InputProvider inputProvider) {
+            return List.of(inputProvider.input());
+        } else if (operator instanceof MultiInputProvider multiInputProvider) {
+            return multiInputProvider.inputs();
+        }
+        return List.of();
+    }
+}
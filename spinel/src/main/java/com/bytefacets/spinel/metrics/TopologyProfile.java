@@ -0,0 +1,234 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.metrics;
+
+import static com.bytefacets.spinel.common.DefaultNameSupplier.resolveName;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.longField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.schema.LongWritableField;
+import com.bytefacets.spinel.schema.MappedField;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.StringWritableField;
+import com.bytefacets.spinel.table.StringIndexedTable;
+import com.bytefacets.spinel.table.StringIndexedTableBuilder;
+import com.bytefacets.spinel.transform.OutputProvider;
+import com.bytefacets.spinel.transform.TransformBuilder;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Describes the graph of nodes registered in a TransformBuilder with their current statistics, as
+ * text from {@link #explain()} and as a table keyed by node name. The table is registered in the
+ * TransformBuilder, so it can be looked up and published like any other output.
+ *
+ * <ul>
+ *   <li>Type: the operator's class name
+ *   <li>Upstream: the names of the nodes whose outputs notify the node's inputs
+ *   <li>FanOut: the number of inputs subscribed to the node's output, including inputs which are
+ *       not registered nodes, such as loggers or subscriptions
+ *   <li>SchemaWidth: the number of fields in the node's output schema
+ *   <li>RowCount: the number of rows in the node's output
+ *   <li>MappingDepth: the longest chain of row mappings behind any field of the output, i.e. the
+ *       number of row lookups needed to read it. 0 means the values are stored by the node.
+ *   <li>CallbackNanos: time spent inside the node's input callbacks, which is only recorded while
+ *       metrics are enabled on the upstream outputs, e.g. by {@link OperatorMetrics#enable()}
+ * </ul>
+ *
+ * <p>Only the primary output of an operator is described, e.g. the parent output of a GroupBy.
+ * Statistics are gathered when {@link #refresh()} or {@link #explain()} is called, which counts
+ * rows by iterating each output, so both should be called on the thread which drives the topology,
+ * and not on every update.
+ */
+public final class TopologyProfile implements OutputProvider {
+    private final TransformBuilder transform;
+    private final StringIndexedTable table;
+    private final StringWritableField type;
+    private final StringWritableField upstream;
+    private final IntWritableField fanOut;
+    private final IntWritableField schemaWidth;
+    private final IntWritableField rowCount;
+    private final IntWritableField mappingDepth;
+    private final LongWritableField callbackNanos;
+    private final IntConsumer rowCounter = this::countRow;
+    private int countedRows;
+
+    /**
+     * Creates a TopologyProfile table over the nodes in the transform, and registers the table in
+     * the transform under the given name.
+     */
+    public static TopologyProfile topologyProfile(
+            final TransformBuilder transform, final @Nullable String name) {
+        return new TopologyProfile(transform, resolveName("TopologyProfile", name));
+    }
+
+    public static TopologyProfile topologyProfile(final TransformBuilder transform) {
+        return topologyProfile(transform, null);
+    }
+
+    private TopologyProfile(final TransformBuilder transform, final String name) {
+        this.transform = requireNonNull(transform, "transform");
+        this.table =
+                StringIndexedTableBuilder.stringIndexedTable(name)
+                        .keyFieldName("Node")
+                        .addFields(
+                                stringField("Type"),
+                                stringField("Upstream"),
+                                intField("FanOut"),
+                                intField("SchemaWidth"),
+                                intField("RowCount"),
+                                intField("MappingDepth"),
+                                longField("CallbackNanos"))
+                        .build();
+        this.type = table.writableField("Type");
+        this.upstream = table.writableField("Upstream");
+        this.fanOut = table.writableField("FanOut");
+        this.schemaWidth = table.writableField("SchemaWidth");
+        this.rowCount = table.writableField("RowCount");
+        this.mappingDepth = table.writableField("MappingDepth");
+        this.callbackNanos = table.writableField("CallbackNanos");
+        transform.registerNode(name, this);
+    }
+
+    /** Updates the table from the current state of each node and fires the changes. */
+    public void refresh() {
+        for (NodeProfile profile : profile()) {
+            final int row = table.beginUpsert(profile.name);
+            type.setValueAt(row, profile.type);
+            upstream.setValueAt(row, String.join(",", profile.upstream));
+            fanOut.setValueAt(row, profile.fanOut);
+            schemaWidth.setValueAt(row, profile.schemaWidth);
+            rowCount.setValueAt(row, profile.rowCount);
+            mappingDepth.setValueAt(row, profile.mappingDepth);
+            callbackNanos.setValueAt(row, profile.callbackNanos);
+            table.endUpsert();
+        }
+        table.fireChanges();
+    }
+
+    /**
+     * Describes each node, in registration order, with its statistics and the nodes it notifies.
+     * Subscribed inputs which are not registered nodes are counted as unregistered.
+     *
+     * <pre>
+     * Source [IntIndexedTable] width=2 rows=4 fanOut=1 mappingDepth=0 callbackNanos=0
+     *   -&gt; Evens
+     * Evens [Filter] width=2 rows=2 fanOut=1 mappingDepth=1 callbackNanos=10250
+     *   -&gt; 1 unregistered
+     * </pre>
+     */
+    public String explain() {
+        final StringBuilder sb = new StringBuilder();
+        for (NodeProfile profile : profile()) {
+            sb.append(profile.name)
+                    .append(" [")
+                    .append(profile.type)
+                    .append("] width=")
+                    .append(profile.schemaWidth)
+                    .append(" rows=")
+                    .append(profile.rowCount)
+                    .append(" fanOut=")
+                    .append(profile.fanOut)
+                    .append(" mappingDepth=")
+                    .append(profile.mappingDepth)
+                    .append(" callbackNanos=")
+                    .append(profile.callbackNanos)
+                    .append(System.lineSeparator());
+            for (String downstream : profile.downstream) {
+                sb.append("  -> ").append(downstream).append(System.lineSeparator());
+            }
+            if (profile.unregistered > 0) {
+                sb.append("  -> ")
+                        .append(profile.unregistered)
+                        .append(" unregistered")
+                        .append(System.lineSeparator());
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public TransformOutput output() {
+        return table.output();
+    }
+
+    private List<NodeProfile> profile() {
+        final List<TopologyNode> nodes =
+                TopologyNode.collectNodes(transform, this, TopologyNode::currentMetrics);
+        final List<NodeProfile> profiles = new ArrayList<>(nodes.size());
+        for (TopologyNode node : nodes) {
+            profiles.add(profile(node, nodes));
+        }
+        return profiles;
+    }
+
+    private NodeProfile profile(final TopologyNode node, final List<TopologyNode> nodes) {
+        final TransformOutput output = node.output();
+        final Schema schema = output != null ? output.schema() : null;
+        return new NodeProfile(
+                node.name(),
+                node.operator().getClass().getSimpleName(),
+                namesOf(nodes, node::isDownstreamOf),
+                namesOf(nodes, n -> n.isDownstreamOf(node)),
+                node.subscribers().size(),
+                unregisteredSubscribers(node, nodes),
+                schema != null ? schema.size() : 0,
+                schema != null ? countRows(output) : 0,
+                schema != null ? maxMappingDepth(schema) : 0,
+                node.inboundNanos(nodes));
+    }
+
+    private static List<String> namesOf(
+            final List<TopologyNode> nodes, final Predicate<TopologyNode> predicate) {
+        return nodes.stream().filter(predicate).map(TopologyNode::name).toList();
+    }
+
+    private static int unregisteredSubscribers(
+            final TopologyNode node, final List<TopologyNode> nodes) {
+        int count = 0;
+        for (TransformInput subscriber : node.subscribers()) {
+            if (nodes.stream().noneMatch(n -> n.inputs().contains(subscriber))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int countRows(final TransformOutput output) {
+        countedRows = 0;
+        output.rowProvider().forEach(rowCounter);
+        return countedRows;
+    }
+
+    private static int maxMappingDepth(final Schema schema) {
+        int depth = 0;
+        for (int i = 0, size = schema.size(); i < size; i++) {
+            depth = Math.max(depth, MappedField.mappingDepthOf(schema.fieldAt(i).field()));
+        }
+        return depth;
+    }
+
+    private void countRow(final int row) {
+        countedRows++;
+    }
+
+    private record NodeProfile(
+            String name,
+            String type,
+            List<String> upstream,
+            List<String> downstream,
+            int fanOut,
+            int unregistered,
+            int schemaWidth,
+            int rowCount,
+            int mappingDepth,
+            long callbackNanos) {}
+}
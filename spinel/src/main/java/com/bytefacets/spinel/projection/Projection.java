@@ -6,7 +6,9 @@ import static com.bytefacets.spinel.common.DelegatedRowProvider.delegatedRowProv
 import static com.bytefacets.spinel.common.OutputManager.outputManager;
 import static java.util.Objects.requireNonNull;
 
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.TransformOutput;
 import com.bytefacets.spinel.common.OutputManager;
@@ -41,6 +43,10 @@ public final class Projection implements InputProvider, OutputProvider {
     private final class Input implements TransformInput {
         private final BitSet outChanges = new BitSet();
         private final StateChange changes = StateChange.stateChange(outChanges);
+        // row consumers are held to avoid allocating a lambda per notification
+        private final IntConsumer addCollector = changes::addRow;
+        private final IntConsumer changeCollector = changes::changeRow;
+        private final IntConsumer removeCollector = changes::removeRow;
         private TransformOutput source;
         private final ProjectionDependencyMap dependencyMap = new ProjectionDependencyMap();
 
@@ -63,7 +69,7 @@ public final class Projection implements InputProvider, OutputProvider {
 
         @Override
         public void rowsAdded(final IntIterable rows) {
-            rows.forEach(changes::addRow);
+            rows.forEach(addCollector);
             changes.fire(outputManager, null);
         }
 
@@ -72,15 +78,25 @@ public final class Projection implements InputProvider, OutputProvider {
             outChanges.clear();
             dependencyMap.translateInboundChangeFields(changedFields, outChanges);
             if (outChanges.nextSetBit(0) >= 0) {
-                rows.forEach(changes::changeRow);
+                rows.forEach(changeCollector);
                 changes.fire(outputManager, null);
             }
         }
 
         @Override
         public void rowsRemoved(final IntIterable rows) {
-            rows.forEach(changes::removeRow);
+            rows.forEach(removeCollector);
             changes.fire(outputManager, null);
         }
+
+        @Override
+        public void rowsRemapping(final RowRemap remap) {
+            outputManager.notifyRemapping(remap);
+        }
+
+        @Override
+        public void rowsRemapped(final RowRemap remap) {
+            outputManager.notifyRemapped(remap);
+        }
     }
 }
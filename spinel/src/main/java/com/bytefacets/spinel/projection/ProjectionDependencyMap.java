@@ -6,6 +6,7 @@ import static com.bytefacets.spinel.exception.FieldNotFoundException.fieldNotFou
 
 import com.bytefacets.collections.arrays.GenericArray;
 import com.bytefacets.collections.arrays.IntArray;
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.Field;
 import com.bytefacets.spinel.schema.FieldResolver;
@@ -18,6 +19,8 @@ class ProjectionDependencyMap {
     private BitSet[] inboundFieldReferences = GenericArray.create(BitSet.class, 8);
     private int[] outboundToInboundMap = IntArray.create(8, -1);
     private final Resolver resolver = new Resolver();
+    private final IntConsumer inboundChangeTranslator = this::translateInboundChange;
+    private BitSet outboundChanges;
 
     void reset() {
         for (BitSet set : inboundFieldReferences) {
@@ -45,15 +48,18 @@ class ProjectionDependencyMap {
 
     void translateInboundChangeFields(
             final ChangedFieldSet inboundChanges, final BitSet outboundChanges) {
-        inboundChanges.forEach(
-                inboundChange -> {
-                    if (inboundChange < inboundFieldReferences.length) {
-                        final BitSet outboundFieldIds = inboundFieldReferences[inboundChange];
-                        if (outboundFieldIds != null) {
-                            outboundChanges.or(outboundFieldIds);
-                        }
-                    }
-                });
+        this.outboundChanges = outboundChanges;
+        inboundChanges.forEach(inboundChangeTranslator);
+        this.outboundChanges = null;
+    }
+
+    private void translateInboundChange(final int inboundChange) {
+        if (inboundChange < inboundFieldReferences.length) {
+            final BitSet outboundFieldIds = inboundFieldReferences[inboundChange];
+            if (outboundFieldIds != null) {
+                outboundChanges.or(outboundFieldIds);
+            }
+        }
     }
 
     void mapInboundFieldIdToOutboundFieldId(final int inFieldId, final int outFieldId) {
@@ -9,6 +9,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.collections.vector.IntVector;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.TransformOutput;
 import com.bytefacets.spinel.common.BitSetRowProvider;
@@ -145,6 +146,21 @@ public final class Prototype implements InputProvider, OutputProvider {
             outputManager.notifyRemoves(rows);
         }
 
+        @Override
+        public void rowsRemapping(final RowRemap remap) {
+            outputManager.notifyRemapping(remap);
+        }
+
+        @Override
+        public void rowsRemapped(final RowRemap remap) {
+            remap.forEach(
+                    (fromRow, toRow) -> {
+                        activeRows.clear(fromRow);
+                        activeRows.set(toRow);
+                    });
+            outputManager.notifyRemapped(remap);
+        }
+
         private void sendDeletesForActiveRows() {
             rowProvider.forEach(
                     row -> {
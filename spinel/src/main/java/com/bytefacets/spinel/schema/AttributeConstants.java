@@ -30,6 +30,13 @@ public final class AttributeConstants {
         public static final String BigEndian = "BE";
     }
 
+    public static final class Tags {
+        private Tags() {}
+
+        /** Tags a String field whose values are stored as codes in a {@link StringDictionary}. */
+        public static final String DictionaryEncoded = "dict";
+    }
+
     public static final class ContentTypes {
         private ContentTypes() {}
 
@@ -0,0 +1,25 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+/**
+ * A String field which stores an int code per row in place of a reference. The codes come from a
+ * {@link StringDictionary}, so operators which only hash or compare values, such as interners,
+ * equality predicates and encoders, can work on the codes without reading the Strings.
+ *
+ * <p>Codes are only comparable between fields which share a dictionary.
+ *
+ * @see FieldDescriptor#dictionaryStringField(String)
+ */
+public interface DictionaryStringField extends StringField {
+    /** The code of the value at the row, or {@link StringDictionary#NULL_CODE} if it is null. */
+    int codeAt(int row);
+
+    /** The dictionary from which the codes of this field come. */
+    StringDictionary dictionary();
+
+    @Override
+    default String valueAt(final int row) {
+        return dictionary().decode(codeAt(row));
+    }
+}
@@ -0,0 +1,47 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import java.util.Arrays;
+
+/**
+ * The fields changed by the row operation in progress, marked by direct-access StructFacades with a
+ * single OR into a word of {@link #words()}. The owner of the row operation applies the marks to its
+ * changed fields when it ends a change, and discards them when it ends an add.
+ */
+public final class FieldChangeMarks {
+    private final long[] words;
+
+    public static FieldChangeMarks fieldChangeMarks(final int fieldCount) {
+        return new FieldChangeMarks(fieldCount);
+    }
+
+    private FieldChangeMarks(final int fieldCount) {
+        this.words = new long[Math.max(1, (fieldCount + 63) >>> 6)];
+    }
+
+    /** The words of marks, which never change size, so a facade can hold them while bound. */
+    public long[] words() {
+        return words;
+    }
+
+    public void mark(final int fieldId) {
+        words[fieldId >>> 6] |= 1L << fieldId;
+    }
+
+    /** Adds the marked fields to changedFields and clears the marks. */
+    public void drainTo(final FieldBitSet changedFields) {
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                changedFields.fieldChanged((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+            words[w] = 0;
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+}
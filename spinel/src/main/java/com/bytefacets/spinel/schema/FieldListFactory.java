@@ -0,0 +1,24 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import com.bytefacets.collections.hash.StringGenericIndexedMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the writable fields for a set of field descriptors, grouped by type.
+ *
+ * @see FieldStorage
+ */
+public interface FieldListFactory {
+    FieldList createFieldList(Map<Byte, List<FieldDescriptor>> fieldDescriptors);
+
+    /**
+     * Creates the fields, adding them to the fieldMap. Names which are already in the fieldMap keep
+     * their field id.
+     */
+    FieldList createFieldList(
+            StringGenericIndexedMap<SchemaField> fieldMap,
+            Map<Byte, List<FieldDescriptor>> fieldDescriptors);
+}
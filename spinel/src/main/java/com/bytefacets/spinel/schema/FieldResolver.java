@@ -13,6 +13,15 @@ public interface FieldResolver {
         return Objects.requireNonNull(findField(name), name + " not found in schema");
     }
 
+    /**
+     * The marks in which a direct-access StructFacade records the fields it writes, or null if the
+     * fields must be written through their FieldChangeListener.
+     */
+    @Nullable
+    default FieldChangeMarks fieldChangeMarks() {
+        return null;
+    }
+
     default BoolField findBoolField(final String name) {
         final var field = findField(name);
         return field != null ? Cast.toBoolField(field) : null;
@@ -0,0 +1,36 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
+import static com.bytefacets.spinel.schema.OffHeapFieldFactory.offHeapFieldFactory;
+import static com.bytefacets.spinel.schema.PagedFieldFactory.pagedFieldFactory;
+
+/** Where the builders of tables and caches store the values of the fields they create. */
+public enum FieldStorage {
+    /** Chunked arrays on the heap. This is the default. */
+    OnHeap,
+    /**
+     * Chunked off-heap memory for the fixed-width types, which keeps large tables out of the old
+     * generation. String and Generic fields are stored on the heap.
+     *
+     * @see OffHeapFieldFactory
+     */
+    OffHeap,
+    /**
+     * Pages of chunkSize rows on the heap, one set of pages per field. Growing a field never copies
+     * the values already written, which avoids stalls in very large tables.
+     *
+     * @see PagedFieldFactory
+     */
+    Paged;
+
+    public FieldListFactory fieldListFactory(
+            final int initialSize, final int chunkSize, final FieldChangeListener listener) {
+        return switch (this) {
+            case OnHeap -> matrixStoreFieldFactory(initialSize, chunkSize, listener);
+            case OffHeap -> offHeapFieldFactory(initialSize, chunkSize, listener);
+            case Paged -> pagedFieldFactory(initialSize, chunkSize, listener);
+        };
+    }
+}
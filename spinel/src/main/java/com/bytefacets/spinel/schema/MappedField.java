@@ -0,0 +1,24 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+/**
+ * Implemented by fields which read their values from another operator's fields through a row
+ * mapping, such as the pass-through fields of a Filter, GroupBy, Join or Union. Each read of a
+ * mapped field costs one row lookup per level of mapping, so long chains of operators which map
+ * rather than copy can make field access expensive.
+ *
+ * @see MappedFieldFactory
+ */
+public interface MappedField {
+    /**
+     * The number of row mappings between this field and the fields which store the values,
+     * including this one. Where a field maps from several sources, the deepest is used.
+     */
+    int mappingDepth();
+
+    /** The mapping depth of the field, or 0 if it is not a mapped field. */
+    static int mappingDepthOf(final Field field) {
+        return field instanceof MappedField mapped ? mapped.mappingDepth() : 0;
+    }
+}
@@ -0,0 +1,114 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+import java.util.Arrays;
+
+/**
+ * A writable Bool field which packs its values into an array of longs, 64 rows to a word, so a
+ * row of many flag fields takes a bit per flag rather than a byte. The array grows with the
+ * highest row written, and rows which have not been written read as the initial value.
+ */
+public final class PackedBoolArrayField
+        implements BoolWritableField, PackedBoolField, TruncatableField, RetainedSize {
+    private final FieldChangeListener listener;
+    private final int fieldId;
+    private final long initialWord;
+    private long[] words;
+
+    public static PackedBoolArrayField packedBoolArrayField(
+            final int initialSize, final int fieldId, final FieldChangeListener listener) {
+        return packedBoolArrayField(initialSize, fieldId, listener, false);
+    }
+
+    public static PackedBoolArrayField packedBoolArrayField(
+            final int initialSize,
+            final int fieldId,
+            final FieldChangeListener listener,
+            final boolean initialValue) {
+        return new PackedBoolArrayField(initialSize, fieldId, listener, initialValue);
+    }
+
+    private PackedBoolArrayField(
+            final int initialSize,
+            final int fieldId,
+            final FieldChangeListener listener,
+            final boolean initialValue) {
+        this.listener = requireNonNull(listener, "listener");
+        this.fieldId = fieldId;
+        this.initialWord = initialValue ? -1L : 0L;
+        this.words = new long[wordsFor(Math.max(initialSize, 1))];
+        Arrays.fill(words, initialWord);
+    }
+
+    public int fieldId() {
+        return fieldId;
+    }
+
+    @Override
+    public long wordAt(final int wordIndex) {
+        return wordIndex >= 0 && wordIndex < words.length ? words[wordIndex] : initialWord;
+    }
+
+    @Override
+    public boolean valueAt(final int row) {
+        return (wordAt(PackedBoolField.wordIndex(row)) & PackedBoolField.bitOf(row)) != 0;
+    }
+
+    @Override
+    public void setValueAt(final int row, final boolean value) {
+        listener.fieldChanged(fieldId);
+        setValueUnmarked(row, value);
+    }
+
+    /**
+     * Sets the value without notifying the FieldChangeListener, for a direct-access StructFacade
+     * which marks the change itself.
+     */
+    public void setValueUnmarked(final int row, final boolean value) {
+        final int wordIndex = PackedBoolField.wordIndex(row);
+        ensureWord(wordIndex);
+        if (value) {
+            words[wordIndex] |= PackedBoolField.bitOf(row);
+        } else {
+            words[wordIndex] &= ~PackedBoolField.bitOf(row);
+        }
+    }
+
+    /** Resets the rows from rowLimit upwards to the initial value and shrinks the array to fit. */
+    @Override
+    public void truncate(final int rowLimit) {
+        final int wordLimit = wordsFor(rowLimit);
+        if (wordLimit < words.length) {
+            words = Arrays.copyOf(words, Math.max(wordLimit, 1));
+        }
+        final int lastWord = PackedBoolField.wordIndex(rowLimit);
+        if (lastWord < words.length) {
+            final long kept = PackedBoolField.bitOf(rowLimit) - 1;
+            words[lastWord] = (words[lastWord] & kept) | (initialWord & ~kept);
+        }
+    }
+
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.arrayBytes(words);
+    }
+
+    private void ensureWord(final int wordIndex) {
+        if (wordIndex >= words.length) {
+            final int oldLength = words.length;
+            words = Arrays.copyOf(words, Math.max(wordIndex + 1, oldLength * 2));
+            if (initialWord != 0) {
+                Arrays.fill(words, oldLength, words.length, initialWord);
+            }
+        }
+    }
+
+    private static int wordsFor(final int rows) {
+        return (rows + PackedBoolField.ROWS_PER_WORD - 1) >>> 6;
+    }
+}
@@ -0,0 +1,42 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+/**
+ * A Bool field which stores its values as bits, 64 rows to a long. Operators which test many rows,
+ * such as predicates and encoders, can read a word of 64 values at once instead of testing each
+ * row.
+ *
+ * @see PackedBoolArrayField
+ */
+public interface PackedBoolField extends BoolField {
+    int ROWS_PER_WORD = Long.SIZE;
+
+    /**
+     * The values of the rows from {@code wordIndex * 64} to {@code wordIndex * 64 + 63}, where bit
+     * {@code n} holds the value of row {@code wordIndex * 64 + n}. Words beyond the rows written
+     * hold the default value of the field.
+     */
+    long wordAt(int wordIndex);
+
+    /**
+     * Whether {@link #wordAt} can be called. A field which forwards to another field, such as a
+     * prototype field, is only packed while it forwards to a packed field.
+     */
+    default boolean packed() {
+        return true;
+    }
+
+    @Override
+    default boolean valueAt(final int row) {
+        return (wordAt(wordIndex(row)) & bitOf(row)) != 0;
+    }
+
+    static int wordIndex(final int row) {
+        return row >>> 6;
+    }
+
+    static long bitOf(final int row) {
+        return 1L << row;
+    }
+}
@@ -0,0 +1,68 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import com.bytefacets.collections.hash.StringIndexedSet;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+import jakarta.annotation.Nullable;
+
+/**
+ * An append-only mapping of Strings to int codes, shared by the dictionary-encoded String fields
+ * created by one field factory. Codes are assigned in the order values are first encoded, starting
+ * at 1, and are never reassigned, so a code read from a field stays valid for the life of the
+ * dictionary. Code 0 is reserved for null.
+ *
+ * @see DictionaryStringField
+ */
+public final class StringDictionary implements RetainedSize {
+    /** The code of a null value. */
+    public static final int NULL_CODE = 0;
+
+    /** Returned by {@link #lookup} for a value which has not been encoded. */
+    public static final int NOT_FOUND = -1;
+
+    private final StringIndexedSet entries;
+
+    public static StringDictionary stringDictionary(final int initialCapacity) {
+        return new StringDictionary(initialCapacity);
+    }
+
+    private StringDictionary(final int initialCapacity) {
+        this.entries = new StringIndexedSet(initialCapacity);
+    }
+
+    /** Returns the code of the value, adding it to the dictionary if it is new. */
+    public int encode(@Nullable final String value) {
+        return value != null ? entries.add(value) + 1 : NULL_CODE;
+    }
+
+    /** Returns the code of the value, or {@link #NOT_FOUND} if it has not been encoded. */
+    public int lookup(@Nullable final String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        final int entry = entries.lookupEntry(value);
+        return entry != -1 ? entry + 1 : NOT_FOUND;
+    }
+
+    /** Returns the value of a code returned by {@link #encode}. */
+    public @Nullable String decode(final int code) {
+        return code != NULL_CODE ? entries.getKeyAt(code - 1) : null;
+    }
+
+    /** One more than the highest code assigned; the codes in use are 1 until this, exclusive. */
+    public int codeLimit() {
+        return entries.size() + 1;
+    }
+
+    /** The number of distinct values encoded. */
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.indexedSetBytes(entries.size(), MemoryEstimates.REFERENCE_BYTES);
+    }
+}
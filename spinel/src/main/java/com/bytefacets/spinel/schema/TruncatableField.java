@@ -0,0 +1,16 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+/**
+ * Implemented by writable fields whose storage grows with the highest row written, so that the
+ * storage above a row can be released once the rows in use have been compacted below it.
+ */
+public interface TruncatableField {
+    /**
+     * Releases the storage of the rows from rowLimit upwards. The values of the rows below rowLimit
+     * are kept, and rows at or above it read as the default value until they are written again.
+     * Fields which share storage may release it together when the first of them is truncated.
+     */
+    void truncate(int rowLimit);
+}
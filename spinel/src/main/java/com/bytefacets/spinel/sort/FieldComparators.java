@@ -0,0 +1,96 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import com.bytefacets.spinel.schema.BoolField;
+import com.bytefacets.spinel.schema.ByteField;
+import com.bytefacets.spinel.schema.Cast;
+import com.bytefacets.spinel.schema.CharField;
+import com.bytefacets.spinel.schema.DoubleField;
+import com.bytefacets.spinel.schema.Field;
+import com.bytefacets.spinel.schema.FloatField;
+import com.bytefacets.spinel.schema.GenericField;
+import com.bytefacets.spinel.schema.IntField;
+import com.bytefacets.spinel.schema.LongField;
+import com.bytefacets.spinel.schema.ShortField;
+import com.bytefacets.spinel.schema.StringField;
+import com.bytefacets.spinel.schema.TypeId;
+
+/**
+ * Creates RowComparators which compare the values of a field in the natural order of its type.
+ * Nulls sort before other values, and Generic values are compared when they are Comparable.
+ */
+final class FieldComparators {
+    private FieldComparators() {}
+
+    static RowComparator fieldComparator(final Field field) {
+        return switch (field.typeId()) {
+            case TypeId.Bool -> boolComparator(Cast.toBoolField(field));
+            case TypeId.Byte -> byteComparator(Cast.toByteField(field));
+            case TypeId.Short -> shortComparator(Cast.toShortField(field));
+            case TypeId.Char -> charComparator(Cast.toCharField(field));
+            case TypeId.Int -> intComparator(Cast.toIntField(field));
+            case TypeId.Long -> longComparator(Cast.toLongField(field));
+            case TypeId.Float -> floatComparator(Cast.toFloatField(field));
+            case TypeId.Double -> doubleComparator(Cast.toDoubleField(field));
+            case TypeId.String -> stringComparator(Cast.toStringField(field));
+            case TypeId.Generic -> genericComparator(Cast.toGenericField(field));
+            default -> throw new IllegalArgumentException("Unknown typeId: " + field.typeId());
+        };
+    }
+
+    private static RowComparator boolComparator(final BoolField field) {
+        return (rowA, rowB) -> Boolean.compare(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    private static RowComparator byteComparator(final ByteField field) {
+        return (rowA, rowB) -> Byte.compare(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    private static RowComparator shortComparator(final ShortField field) {
+        return (rowA, rowB) -> Short.compare(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    private static RowComparator charComparator(final CharField field) {
+        return (rowA, rowB) -> Character.compare(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    private static RowComparator intComparator(final IntField field) {
+        return (rowA, rowB) -> Integer.compare(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    private static RowComparator longComparator(final LongField field) {
+        return (rowA, rowB) -> Long.compare(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    private static RowComparator floatComparator(final FloatField field) {
+        return (rowA, rowB) -> Float.compare(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    private static RowComparator doubleComparator(final DoubleField field) {
+        return (rowA, rowB) -> Double.compare(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    private static RowComparator stringComparator(final StringField field) {
+        return (rowA, rowB) -> compareNullsFirst(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    private static RowComparator genericComparator(final GenericField field) {
+        return (rowA, rowB) -> compareNullsFirst(field.valueAt(rowA), field.valueAt(rowB));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareNullsFirst(final Object valueA, final Object valueB) {
+        if (valueA == valueB) {
+            return 0;
+        } else if (valueA == null) {
+            return -1;
+        } else if (valueB == null) {
+            return 1;
+        } else if (valueA instanceof Comparable comparable) {
+            return comparable.compareTo(valueB);
+        }
+        throw new IllegalArgumentException(
+                "Cannot sort values which are not Comparable: " + valueA.getClass().getName());
+    }
+}
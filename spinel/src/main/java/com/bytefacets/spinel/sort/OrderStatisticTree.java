@@ -0,0 +1,271 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIntConsumer;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * A treap of rows, kept in the order of a RowComparator, where each node also holds the size of
+ * its subtree. The rank of a row and the row at a position are each found in O(log n), so a
+ * position can be served without walking or copying the rows before it.
+ *
+ * <p>The nodes are indexed by row, so the tree does not allocate per row: it holds parallel arrays
+ * of left, right, parent and subtree size, which grow to the highest row inserted. The priority of
+ * a node is a hash of its row, which keeps the tree balanced in expectation without storing it.
+ *
+ * <p>A row's values must not change while it is in the tree. To re-position a row whose sort
+ * values changed, remove it before the values are read again and insert it afterwards.
+ */
+public final class OrderStatisticTree implements RetainedSize {
+    private static final int NIL = -1;
+    private final RowComparator comparator;
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private int[] size;
+    private int root = NIL;
+
+    public static OrderStatisticTree orderStatisticTree(
+            final int initialSize, final RowComparator comparator) {
+        return new OrderStatisticTree(initialSize, comparator);
+    }
+
+    private OrderStatisticTree(final int initialSize, final RowComparator comparator) {
+        this.comparator = requireNonNull(comparator, "comparator");
+        left = new int[initialSize];
+        right = new int[initialSize];
+        parent = new int[initialSize];
+        size = new int[initialSize];
+    }
+
+    public int size() {
+        return root == NIL ? 0 : size[root];
+    }
+
+    public boolean contains(final int row) {
+        return row >= 0 && row < size.length && size[row] != 0;
+    }
+
+    public void insert(final int row) {
+        ensureCapacity(row);
+        left[row] = NIL;
+        right[row] = NIL;
+        size[row] = 1;
+        if (root == NIL) {
+            parent[row] = NIL;
+            root = row;
+            return;
+        }
+        int node = root;
+        while (true) {
+            size[node]++;
+            final int next = compare(row, node) < 0 ? left[node] : right[node];
+            if (next == NIL) {
+                break;
+            }
+            node = next;
+        }
+        parent[row] = node;
+        if (compare(row, node) < 0) {
+            left[node] = row;
+        } else {
+            right[node] = row;
+        }
+        while (parent[row] != NIL && priority(row) > priority(parent[row])) {
+            rotateUp(row);
+        }
+    }
+
+    /** Removes the row without comparing it, so its values may have changed since its insert. */
+    public void remove(final int row) {
+        if (!contains(row)) {
+            return;
+        }
+        while (left[row] != NIL && right[row] != NIL) {
+            final int child =
+                    priority(left[row]) > priority(right[row]) ? left[row] : right[row];
+            rotateUp(child);
+        }
+        final int child = left[row] != NIL ? left[row] : right[row];
+        final int up = parent[row];
+        replaceChild(up, row, child);
+        if (child != NIL) {
+            parent[child] = up;
+        }
+        for (int node = up; node != NIL; node = parent[node]) {
+            size[node]--;
+        }
+        size[row] = 0;
+    }
+
+    /** The 0-based position of the row, or -1 if it's not in the tree. */
+    public int rank(final int row) {
+        if (!contains(row)) {
+            return -1;
+        }
+        int rank = sizeOf(left[row]);
+        for (int node = row; parent[node] != NIL; node = parent[node]) {
+            if (right[parent[node]] == node) {
+                rank += sizeOf(left[parent[node]]) + 1;
+            }
+        }
+        return rank;
+    }
+
+    /** The row at the 0-based position, or -1 if the position is outside the tree. */
+    public int select(final int position) {
+        if (position < 0 || position >= size()) {
+            return NIL;
+        }
+        int node = root;
+        int remaining = position;
+        while (true) {
+            final int leftSize = sizeOf(left[node]);
+            if (remaining < leftSize) {
+                node = left[node];
+            } else if (remaining == leftSize) {
+                return node;
+            } else {
+                remaining -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * The number of rows which pass the test, where the test passes for a prefix of the order and
+     * fails for every row after it, such as "the row is in a group before g" when the rows are
+     * ordered by group first. This is the position of the first row which fails the test.
+     */
+    public int countWhile(final IntPredicate test) {
+        int count = 0;
+        int node = root;
+        while (node != NIL) {
+            if (test.test(node)) {
+                count += sizeOf(left[node]) + 1;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return count;
+    }
+
+    /** Calls back the consumer with each row in order. */
+    public void forEach(final IntConsumer consumer) {
+        for (int row = select(0); row != NIL; row = successor(row)) {
+            consumer.accept(row);
+        }
+    }
+
+    /**
+     * Calls back the consumer with (relative-position, row) for each row from the offset, for up to
+     * limit rows. Finding the first row is O(log n), and each row after it is its successor.
+     */
+    public void rowsInRange(final int offset, final int limit, final IntIntConsumer consumer) {
+        final int start = Math.max(0, offset);
+        final int end = (int) Math.min(size(), (long) start + limit);
+        int row = select(start);
+        for (int position = start, relPosition = 0; position < end; position++, relPosition++) {
+            consumer.accept(relPosition, row);
+            row = successor(row);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(size, 0);
+        root = NIL;
+    }
+
+    /** The estimated bytes retained by the node arrays, which grow to the highest row inserted. */
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.arrayBytes(left)
+                + MemoryEstimates.arrayBytes(right)
+                + MemoryEstimates.arrayBytes(parent)
+                + MemoryEstimates.arrayBytes(size);
+    }
+
+    private int successor(final int row) {
+        if (right[row] != NIL) {
+            int node = right[row];
+            while (left[node] != NIL) {
+                node = left[node];
+            }
+            return node;
+        }
+        int node = row;
+        while (parent[node] != NIL && right[parent[node]] == node) {
+            node = parent[node];
+        }
+        return parent[node];
+    }
+
+    /** Rotates the node above its parent, keeping the order and the subtree sizes. */
+    private void rotateUp(final int node) {
+        final int up = parent[node];
+        final int grandParent = parent[up];
+        if (left[up] == node) {
+            left[up] = right[node];
+            if (right[node] != NIL) {
+                parent[right[node]] = up;
+            }
+            right[node] = up;
+        } else {
+            right[up] = left[node];
+            if (left[node] != NIL) {
+                parent[left[node]] = up;
+            }
+            left[node] = up;
+        }
+        parent[up] = node;
+        parent[node] = grandParent;
+        replaceChild(grandParent, up, node);
+        size[node] = size[up];
+        size[up] = sizeOf(left[up]) + sizeOf(right[up]) + 1;
+    }
+
+    private void replaceChild(final int up, final int oldChild, final int newChild) {
+        if (up == NIL) {
+            root = newChild;
+        } else if (left[up] == oldChild) {
+            left[up] = newChild;
+        } else {
+            right[up] = newChild;
+        }
+    }
+
+    /** Compares by the comparator, then by row, so that no two rows are equal in the tree. */
+    private int compare(final int rowA, final int rowB) {
+        final int result = comparator.compare(rowA, rowB);
+        return result != 0 ? result : Integer.compare(rowA, rowB);
+    }
+
+    private int sizeOf(final int node) {
+        return node == NIL ? 0 : size[node];
+    }
+
+    private static int priority(final int row) {
+        int h = row * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+
+    private void ensureCapacity(final int row) {
+        if (row >= size.length) {
+            final int newLength = Math.max(row + 1, size.length * 2);
+            left = Arrays.copyOf(left, newLength);
+            right = Arrays.copyOf(right, newLength);
+            parent = Arrays.copyOf(parent, newLength);
+            size = Arrays.copyOf(size, newLength);
+        }
+    }
+}
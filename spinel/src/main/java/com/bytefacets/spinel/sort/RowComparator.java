@@ -0,0 +1,20 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+/** Compares two rows of the same source, as a Comparator would compare their values. */
+@FunctionalInterface
+public interface RowComparator {
+    int compare(int rowA, int rowB);
+
+    default RowComparator reversed() {
+        return (rowA, rowB) -> compare(rowB, rowA);
+    }
+
+    default RowComparator thenComparing(final RowComparator next) {
+        return (rowA, rowB) -> {
+            final int result = compare(rowA, rowB);
+            return result != 0 ? result : next.compare(rowA, rowB);
+        };
+    }
+}
@@ -0,0 +1,275 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static com.bytefacets.spinel.common.OutputManager.outputManager;
+import static com.bytefacets.spinel.sort.OrderStatisticTree.orderStatisticTree;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.arrays.IntArray;
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
+import com.bytefacets.spinel.common.StateChange;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.FieldMapping;
+import com.bytefacets.spinel.schema.IntField;
+import com.bytefacets.spinel.schema.Metadata;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.SchemaBuilder;
+import com.bytefacets.spinel.transform.InputProvider;
+import com.bytefacets.spinel.transform.OutputProvider;
+import com.bytefacets.spinel.ui.ViewportSource;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A Sort operator keeps the rows of its input in the order of one or more SortKeys, and adds a
+ * rank field holding the 0-based position of each row in that order. The rows are forwarded with
+ * their row ids unchanged, and the RowProvider of the output iterates them in sorted order.
+ *
+ * <p>The order is maintained incrementally in an order-statistic tree, so an add, a remove, or a
+ * re-position costs O(log n) rather than a sort of all the rows. On a CHANGE, rows are only
+ * re-positioned if the ChangedFieldSet includes one of the sort fields; otherwise the changes are
+ * forwarded without reading the sort fields.
+ *
+ * <p>An add, remove or re-position also shifts the rank of the rows after it, so each batch
+ * notifies a CHANGE of the rank field for the rows in the range of positions which may have
+ * shifted: from the first position touched by the batch, to the last one if the batch left the
+ * number of rows unchanged, or else to the end. A batch which only touches the end of the order,
+ * such as appends in ascending time, notifies nothing but its own rows. Consumers which show a
+ * range of positions can fetch it through the Sort's {@link ViewportSource} methods, which find
+ * the first row of the range in O(log n) and never sort on a fetch. They read the tree which each
+ * batch rotates, so they must be called on the thread which updates the Sort, as the console
+ * renderer does; a consumer on another thread, such as a UI grid, should page its own copy of the
+ * rows.
+ *
+ * @see SortBuilder
+ */
+public final class Sort implements InputProvider, OutputProvider, ViewportSource, RetainedSize {
+    private final OutputManager outputManager;
+    private final Input input;
+    private final String name;
+    private final List<SortKey> sortKeys;
+    private final String rankFieldName;
+
+    Sort(
+            final String name,
+            final int initialSize,
+            final List<SortKey> sortKeys,
+            final String rankFieldName) {
+        this.name = requireNonNull(name, "name");
+        this.sortKeys = List.copyOf(requireNonNull(sortKeys, "sortKeys"));
+        this.rankFieldName = requireNonNull(rankFieldName, "rankFieldName");
+        if (this.sortKeys.isEmpty()) {
+            throw new IllegalArgumentException("Sort requires at least one SortKey");
+        }
+        this.input = new Input(initialSize);
+        this.outputManager = outputManager(input.tree::forEach);
+    }
+
+    @Override
+    public TransformInput input() {
+        return input;
+    }
+
+    @Override
+    public TransformOutput output() {
+        return outputManager.output();
+    }
+
+    public List<SortKey> sortKeys() {
+        return sortKeys;
+    }
+
+    /** The number of sorted rows. */
+    @Override
+    public int size() {
+        return input.tree.size();
+    }
+
+    /**
+     * Calls back the consumer for each row in the range
+     *
+     * @param offset the absolute start position
+     * @param limit the number of positions from the offset
+     * @param consumer called back with (relative-position, row)
+     */
+    @Override
+    public void rowsInRange(final int offset, final int limit, final IntIntConsumer consumer) {
+        input.tree.rowsInRange(offset, limit, consumer);
+    }
+
+    /** The 0-based position of the row, or -1 if the row is not in the Sort. */
+    @Override
+    public int positionForRow(final int row) {
+        return input.tree.rank(row);
+    }
+
+    /** The row at the 0-based position, or -1 if the position is outside the Sort. */
+    @Override
+    public int rowPosition(final int position) {
+        return input.tree.select(position);
+    }
+
+    /** The estimated bytes retained by the order-statistic tree and the re-position buffer. */
+    @Override
+    public long retainedBytes() {
+        return input.tree.retainedBytes() + MemoryEstimates.arrayBytes(input.movedRows);
+    }
+
+    private final class Input implements TransformInput {
+        private final OrderStatisticTree tree;
+        private final StateChange stateChange;
+        private final SortKeyBinding sortKeyBinding;
+        // row and field consumers are held to avoid allocating a lambda per notification
+        private final IntConsumer addProcessor = this::processAdd;
+        private final IntConsumer changeForwarder = this::forwardChange;
+        private final IntConsumer moveCollector = this::collectMove;
+        private final IntConsumer removeProcessor = this::processRemove;
+        private final IntIntConsumer rankChangeForwarder = this::forwardRankChange;
+        private final IntConsumer changedFieldConsumer;
+        // rows added in the current batch, which are notified as ADDs rather than rank CHANGEs
+        private final BitSet addedRows = new BitSet();
+        private FieldMapping fieldMapping;
+        private int[] movedRows = new int[16];
+        private int numMoved;
+        private int rankFieldId = -1;
+        // the bounds of the positions touched by the current batch, from the start and the end
+        private int sizeBeforeBatch;
+        private int minPosition = Integer.MAX_VALUE;
+        private int minReversePosition = Integer.MAX_VALUE;
+
+        private Input(final int initialSize) {
+            this.sortKeyBinding = new SortKeyBinding(sortKeys);
+            this.tree = orderStatisticTree(initialSize, sortKeyBinding::compare);
+            this.stateChange = StateChange.stateChange();
+            this.changedFieldConsumer = stateChange::changeField;
+        }
+
+        @Override
+        public void schemaUpdated(final Schema schema) {
+            tree.clear();
+            if (schema != null) {
+                sortKeyBinding.bind(schema);
+                buildOutboundSchema(schema);
+            } else {
+                sortKeyBinding.unbind();
+                fieldMapping = null;
+                rankFieldId = -1;
+                outputManager.updateSchema(null);
+            }
+        }
+
+        private void buildOutboundSchema(final Schema inboundSchema) {
+            if (inboundSchema.maybeField(rankFieldName) != null) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Sort rank field '%s' is already a field of the input",
+                                rankFieldName));
+            }
+            final var sb = SchemaBuilder.schemaBuilder(name, inboundSchema.size() + 1);
+            sb.addInboundSchema(
+                    inboundSchema, (inboundField, outboundFieldId) -> inboundField.field());
+            sb.addField(rankFieldName, (IntField) tree::rank, Metadata.EMPTY);
+            fieldMapping = sb.buildFieldMapping();
+            final Schema schema = sb.buildSchema();
+            rankFieldId = schema.field(rankFieldName).fieldId();
+            outputManager.updateSchema(schema);
+        }
+
+        @Override
+        public void rowsAdded(final IntIterable rows) {
+            sizeBeforeBatch = tree.size();
+            rows.forEach(addProcessor);
+            fire();
+        }
+
+        @Override
+        public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+            fieldMapping.translateInboundChangeSet(changedFields, changedFieldConsumer);
+            sizeBeforeBatch = tree.size();
+            if (sortKeyBinding.isChanged(changedFields)) {
+                // remove every changed row before re-inserting any of them, so that the rows
+                // compared against during an insert are all in their correct positions. The moved
+                // rows are all within the range of touched positions, so they are notified with it
+                rows.forEach(moveCollector);
+                for (int i = 0; i < numMoved; i++) {
+                    tree.insert(movedRows[i]);
+                    touchPosition(movedRows[i]);
+                }
+                numMoved = 0;
+            } else {
+                rows.forEach(changeForwarder);
+            }
+            fire();
+        }
+
+        @Override
+        public void rowsRemoved(final IntIterable rows) {
+            sizeBeforeBatch = tree.size();
+            rows.forEach(removeProcessor);
+            fire();
+        }
+
+        private void processAdd(final int row) {
+            tree.insert(row);
+            touchPosition(row);
+            addedRows.set(row);
+            stateChange.addRow(row);
+        }
+
+        private void forwardChange(final int row) {
+            stateChange.changeRow(row);
+        }
+
+        private void collectMove(final int row) {
+            touchPosition(row);
+            tree.remove(row);
+            movedRows = IntArray.ensureEntry(movedRows, numMoved);
+            movedRows[numMoved++] = row;
+        }
+
+        private void processRemove(final int row) {
+            touchPosition(row);
+            tree.remove(row);
+            stateChange.removeRow(row);
+        }
+
+        /**
+         * Records the position of a row in the tree as it is, just before the row is removed or
+         * just after it is inserted. A row before the smallest such position, or after the smallest
+         * such position from the end, has the same rows before it, or after it, as before the
+         * batch.
+         */
+        private void touchPosition(final int row) {
+            final int position = tree.rank(row);
+            minPosition = Math.min(minPosition, position);
+            minReversePosition = Math.min(minReversePosition, tree.size() - 1 - position);
+        }
+
+        private void forwardRankChange(final int position, final int row) {
+            if (!addedRows.get(row)) {
+                stateChange.changeRow(row);
+            }
+        }
+
+        private void fire() {
+            if (minPosition != Integer.MAX_VALUE) {
+                final int size = tree.size();
+                final int end = size == sizeBeforeBatch ? size - minReversePosition : size;
+                tree.rowsInRange(minPosition, end - minPosition, rankChangeForwarder);
+                stateChange.changeField(rankFieldId);
+                minPosition = Integer.MAX_VALUE;
+                minReversePosition = Integer.MAX_VALUE;
+                addedRows.clear();
+            }
+            stateChange.fire(outputManager, null);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static com.bytefacets.spinel.common.DefaultNameSupplier.resolveName;
+import static com.bytefacets.spinel.transform.BuilderSupport.builderSupport;
+import static com.bytefacets.spinel.transform.TransformContext.continuation;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.transform.BuilderSupport;
+import com.bytefacets.spinel.transform.TransformContext;
+import com.bytefacets.spinel.transform.TransformContinuation;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SortBuilder {
+    private final BuilderSupport<Sort> builderSupport;
+    private final TransformContext transformContext;
+    private final List<SortKey> sortKeys = new ArrayList<>(2);
+    private int initialSize = 64;
+    private String rankFieldName = "Rank";
+    private final String name;
+
+    private SortBuilder(final String name) {
+        this.name = requireNonNull(name, "name");
+        this.builderSupport = builderSupport(name, this::internalBuild);
+        this.transformContext = null;
+    }
+
+    private SortBuilder(final TransformContext context) {
+        this.transformContext = requireNonNull(context, "transform context");
+        this.name = context.name();
+        this.builderSupport =
+                context.createBuilderSupport(this::internalBuild, () -> getOrCreate().input());
+    }
+
+    public static SortBuilder sort() {
+        return sort((String) null);
+    }
+
+    public static SortBuilder sort(final String name) {
+        return new SortBuilder(resolveName("Sort", name));
+    }
+
+    public static SortBuilder sort(final TransformContext transformContext) {
+        return new SortBuilder(transformContext);
+    }
+
+    /** Sorts by the field in ascending order, after any SortKeys already added. */
+    public SortBuilder ascending(final String fieldName) {
+        return sortKey(SortKey.ascending(fieldName));
+    }
+
+    /** Sorts by the field in descending order, after any SortKeys already added. */
+    public SortBuilder descending(final String fieldName) {
+        return sortKey(SortKey.descending(fieldName));
+    }
+
+    /** Sorts by the SortKey, after any SortKeys already added. At least one is required. */
+    public SortBuilder sortKey(final SortKey sortKey) {
+        sortKeys.add(requireNonNull(sortKey, "sortKey"));
+        return this;
+    }
+
+    /** The name of the field holding the 0-based position of each row. Default is "Rank". */
+    public SortBuilder rankFieldName(final String rankFieldName) {
+        this.rankFieldName = requireNonNull(rankFieldName, "rankFieldName");
+        return this;
+    }
+
+    /** Initial size of the tree ordering the rows. Default is 64. */
+    public SortBuilder initialSize(final int initialSize) {
+        if (initialSize <= 0) {
+            throw new IllegalArgumentException("initialSize must be > 0, but was " + initialSize);
+        }
+        this.initialSize = initialSize;
+        return this;
+    }
+
+    public Sort getOrCreate() {
+        return builderSupport.getOrCreate();
+    }
+
+    public Sort build() {
+        return builderSupport.createOperator();
+    }
+
+    public TransformContinuation then() {
+        return continuation(
+                transformContext, builderSupport.transformNode(), () -> getOrCreate().output());
+    }
+
+    private Sort internalBuild() {
+        builderSupport.throwIfBuilt();
+        return new Sort(name, initialSize, sortKeys, rankFieldName);
+    }
+}
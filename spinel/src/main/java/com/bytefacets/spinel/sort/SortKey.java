@@ -0,0 +1,20 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static java.util.Objects.requireNonNull;
+
+/** A field of the input to sort by, and the direction of its order. */
+public record SortKey(String fieldName, boolean descending) {
+    public SortKey {
+        requireNonNull(fieldName, "fieldName");
+    }
+
+    public static SortKey ascending(final String fieldName) {
+        return new SortKey(fieldName, false);
+    }
+
+    public static SortKey descending(final String fieldName) {
+        return new SortKey(fieldName, true);
+    }
+}
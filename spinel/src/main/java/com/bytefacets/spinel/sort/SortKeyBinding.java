@@ -0,0 +1,52 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static com.bytefacets.spinel.sort.FieldComparators.fieldComparator;
+
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.SchemaField;
+import java.util.BitSet;
+import java.util.List;
+
+/** Binds SortKeys to the fields of a schema and compares rows by them in order. */
+final class SortKeyBinding {
+    private final List<SortKey> sortKeys;
+    private final RowComparator[] comparators;
+    private final BitSet sortFieldIds = new BitSet();
+
+    SortKeyBinding(final List<SortKey> sortKeys) {
+        this.sortKeys = sortKeys;
+        this.comparators = new RowComparator[sortKeys.size()];
+    }
+
+    void bind(final Schema schema) {
+        sortFieldIds.clear();
+        for (int i = 0; i < comparators.length; i++) {
+            final SortKey sortKey = sortKeys.get(i);
+            final SchemaField schemaField = schema.field(sortKey.fieldName());
+            final RowComparator comparator = fieldComparator(schemaField.field());
+            comparators[i] = sortKey.descending() ? comparator.reversed() : comparator;
+            sortFieldIds.set(schemaField.fieldId());
+        }
+    }
+
+    void unbind() {
+        sortFieldIds.clear();
+    }
+
+    boolean isChanged(final ChangedFieldSet changedFields) {
+        return changedFields.intersects(sortFieldIds);
+    }
+
+    int compare(final int rowA, final int rowB) {
+        for (final RowComparator comparator : comparators) {
+            final int result = comparator.compare(rowA, rowB);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,362 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static com.bytefacets.spinel.common.OutputManager.outputManager;
+import static com.bytefacets.spinel.schema.SchemaFieldResolver.schemaFieldResolver;
+import static com.bytefacets.spinel.sort.OrderStatisticTree.orderStatisticTree;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.arrays.IntArray;
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
+import com.bytefacets.spinel.common.StateChange;
+import com.bytefacets.spinel.interner.RowInterner;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.FieldMapping;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.SchemaBuilder;
+import com.bytefacets.spinel.schema.SchemaFieldResolver;
+import com.bytefacets.spinel.transform.InputProvider;
+import com.bytefacets.spinel.transform.OutputProvider;
+import jakarta.annotation.Nullable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * A TopN operator forwards only the first N rows in the order of its SortKeys, either over all of
+ * its input, or within each group when it has a group function. The rows are forwarded with their
+ * row ids unchanged, and the output is notified of an ADD or REMOVE only when a row enters or
+ * leaves the top N of its group.
+ *
+ * <p>All the input rows are kept in one order-statistic tree, ordered by group and then by the
+ * SortKeys, so that the rows of a group are contiguous and its top N are the first N of them. An
+ * add, remove or re-position costs O(log n), and can change the membership of at most one other
+ * row: the one pushed out of, or pulled into, the last place of its group. The rows outside the
+ * top N are the overflow which replaces a member when it is removed.
+ *
+ * <p>On a CHANGE, rows are only re-positioned if the ChangedFieldSet includes one of the sort or
+ * group fields. All the changed rows are removed from the tree before any of them is re-inserted,
+ * as the tree compares the current values of the rows. A member which stays in the top N through a
+ * batch is forwarded as a CHANGE.
+ *
+ * @see TopNBuilder
+ */
+public final class TopN implements InputProvider, OutputProvider, RetainedSize {
+    private final OutputManager outputManager;
+    private final Input input;
+    private final String name;
+    private final int limit;
+
+    TopN(
+            final String name,
+            final int initialSize,
+            final int limit,
+            final List<SortKey> sortKeys,
+            @Nullable final RowInterner groupFunction) {
+        this.name = requireNonNull(name, "name");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be > 0, but was " + limit);
+        }
+        if (sortKeys.isEmpty()) {
+            throw new IllegalArgumentException("TopN requires at least one SortKey");
+        }
+        this.limit = limit;
+        this.input = new Input(initialSize, List.copyOf(sortKeys), groupFunction);
+        this.outputManager = outputManager(input::forEachMember);
+    }
+
+    @Override
+    public TransformInput input() {
+        return input;
+    }
+
+    @Override
+    public TransformOutput output() {
+        return outputManager.output();
+    }
+
+    /** The number of rows kept in each group. */
+    public int limit() {
+        return limit;
+    }
+
+    /** The number of rows currently forwarded, over all the groups. */
+    public int size() {
+        return input.members.cardinality();
+    }
+
+    /**
+     * The estimated bytes retained by the order-statistic tree of all the input rows, the group of
+     * each row and the size of each group, and the group function.
+     */
+    @Override
+    public long retainedBytes() {
+        return input.tree.retainedBytes()
+                + MemoryEstimates.arrayBytes(input.rowGroups)
+                + MemoryEstimates.arrayBytes(input.groupSizes)
+                + MemoryEstimates.arrayBytes(input.touchedRows)
+                + MemoryEstimates.arrayBytes(input.movedRows)
+                + (input.groupFunction != null ? input.groupFunction.retainedBytes() : 0);
+    }
+
+    private final class Input implements TransformInput {
+        private final OrderStatisticTree tree;
+        private final SortKeyBinding sortKeyBinding;
+        private final StateChange stateChange;
+        private final RowInterner groupFunction;
+        private final BitSet groupFieldIds = new BitSet();
+        private final SchemaFieldResolver groupFieldResolver =
+                schemaFieldResolver(groupFieldIds::set);
+        private final BitSet members = new BitSet();
+        // rows whose membership may have changed in the current batch
+        private final BitSet touched = new BitSet();
+        private final BitSet touchedWasMember = new BitSet();
+        private final BitSet changed = new BitSet();
+        // row and field consumers are held to avoid allocating a lambda per notification
+        private final IntConsumer addProcessor = this::processAdd;
+        private final IntConsumer changeProcessor = this::processChange;
+        private final IntConsumer moveCollector = this::collectMove;
+        private final IntConsumer removeProcessor = this::processRemove;
+        private final IntConsumer changedFieldConsumer;
+        private final IntPredicate precedesCurrentGroup = this::precedesCurrentGroup;
+        private FieldMapping fieldMapping;
+        private int[] rowGroups;
+        private int[] groupSizes;
+        private int[] touchedRows = new int[16];
+        private int numTouched;
+        private int[] movedRows = new int[16];
+        private int numMoved;
+        private int currentGroup;
+
+        private Input(
+                final int initialSize,
+                final List<SortKey> sortKeys,
+                @Nullable final RowInterner groupFunction) {
+            this.groupFunction = groupFunction;
+            this.sortKeyBinding = new SortKeyBinding(sortKeys);
+            this.rowGroups = new int[initialSize];
+            this.groupSizes = new int[groupFunction != null ? 16 : 1];
+            this.tree = orderStatisticTree(initialSize, this::compare);
+            this.stateChange = StateChange.stateChange();
+            this.changedFieldConsumer = stateChange::changeField;
+        }
+
+        private void forEachMember(final IntConsumer consumer) {
+            for (int row = members.nextSetBit(0); row >= 0; row = members.nextSetBit(row + 1)) {
+                consumer.accept(row);
+            }
+        }
+
+        @Override
+        public void schemaUpdated(final Schema schema) {
+            reset();
+            if (schema != null) {
+                sortKeyBinding.bind(schema);
+                if (groupFunction != null) {
+                    groupFieldResolver.setSchema(schema);
+                    groupFunction.bindToSchema(groupFieldResolver);
+                }
+                buildOutboundSchema(schema);
+            } else {
+                sortKeyBinding.unbind();
+                if (groupFunction != null) {
+                    groupFieldResolver.setSchema(null);
+                    groupFunction.unbindSchema();
+                }
+                fieldMapping = null;
+                outputManager.updateSchema(null);
+            }
+        }
+
+        private void reset() {
+            tree.clear();
+            members.clear();
+            groupFieldIds.clear();
+            Arrays.fill(groupSizes, 0);
+        }
+
+        private void buildOutboundSchema(final Schema inboundSchema) {
+            final var sb = SchemaBuilder.schemaBuilder(name, inboundSchema.size());
+            sb.addInboundSchema(
+                    inboundSchema, (inboundField, outboundFieldId) -> inboundField.field());
+            fieldMapping = sb.buildFieldMapping();
+            outputManager.updateSchema(sb.buildSchema());
+        }
+
+        @Override
+        public void rowsAdded(final IntIterable rows) {
+            rows.forEach(addProcessor);
+            fire();
+        }
+
+        @Override
+        public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+            fieldMapping.translateInboundChangeSet(changedFields, changedFieldConsumer);
+            if (sortKeyBinding.isChanged(changedFields)
+                    || changedFields.intersects(groupFieldIds)) {
+                // remove every changed row before re-inserting any of them, so that the rows
+                // compared against during an insert are all in their correct positions
+                rows.forEach(moveCollector);
+                for (int i = 0; i < numMoved; i++) {
+                    insert(movedRows[i]);
+                }
+                numMoved = 0;
+            } else {
+                rows.forEach(changeProcessor);
+            }
+            fire();
+        }
+
+        @Override
+        public void rowsRemoved(final IntIterable rows) {
+            rows.forEach(removeProcessor);
+            fire();
+        }
+
+        private void processAdd(final int row) {
+            final int group = groupOf(row);
+            rowGroups = IntArray.ensureEntry(rowGroups, row);
+            rowGroups[row] = group;
+            groupSizes[group]++;
+            insert(row);
+        }
+
+        private void processChange(final int row) {
+            touch(row);
+            changed.set(row);
+        }
+
+        /** Removes the row from the tree and assigns its new group, to be re-inserted later. */
+        private void collectMove(final int row) {
+            processChange(row);
+            // the new group is counted before the old one is released, so that a group the row
+            // stays in is never freed in between
+            final int newGroup = groupOf(row);
+            final int oldGroup = rowGroups[row];
+            remove(row);
+            rowGroups[row] = newGroup;
+            if (newGroup != oldGroup) {
+                groupSizes[newGroup]++;
+                releaseGroup(oldGroup);
+            }
+            movedRows = IntArray.ensureEntry(movedRows, numMoved);
+            movedRows[numMoved++] = row;
+        }
+
+        private void processRemove(final int row) {
+            touch(row);
+            remove(row);
+            releaseGroup(rowGroups[row]);
+        }
+
+        private void releaseGroup(final int group) {
+            if (--groupSizes[group] == 0 && groupFunction != null) {
+                groupFunction.freeEntry(group);
+            }
+        }
+
+        private int groupOf(final int row) {
+            if (groupFunction == null) {
+                return 0;
+            }
+            final int group = groupFunction.intern(row);
+            groupSizes = IntArray.ensureEntry(groupSizes, group);
+            return group;
+        }
+
+        /**
+         * Inserts the row, and if it's in the top N of its group, makes it a member and takes the
+         * membership of the row it pushed out of last place, if there was one.
+         */
+        private void insert(final int row) {
+            final int group = rowGroups[row];
+            tree.insert(row);
+            final int groupStart = groupStart(group);
+            if (tree.rank(row) - groupStart < limit) {
+                setMember(row, true);
+                final int pushedOut = tree.select(groupStart + limit);
+                if (pushedOut != -1 && rowGroups[pushedOut] == group) {
+                    setMember(pushedOut, false);
+                }
+            }
+        }
+
+        /**
+         * Removes the row, and if it was in the top N of its group, gives its membership to the row
+         * pulled into last place, if there is one.
+         */
+        private void remove(final int row) {
+            final int group = rowGroups[row];
+            final int groupStart = groupStart(group);
+            final boolean wasMember = tree.rank(row) - groupStart < limit;
+            tree.remove(row);
+            if (wasMember) {
+                setMember(row, false);
+                final int pulledIn = tree.select(groupStart + limit - 1);
+                if (pulledIn != -1 && rowGroups[pulledIn] == group) {
+                    setMember(pulledIn, true);
+                }
+            }
+        }
+
+        /** The position in the tree of the first row of the group. */
+        private int groupStart(final int group) {
+            if (groupFunction == null) {
+                return 0;
+            }
+            currentGroup = group;
+            return tree.countWhile(precedesCurrentGroup);
+        }
+
+        private boolean precedesCurrentGroup(final int row) {
+            return rowGroups[row] < currentGroup;
+        }
+
+        private int compare(final int rowA, final int rowB) {
+            final int result = Integer.compare(rowGroups[rowA], rowGroups[rowB]);
+            return result != 0 ? result : sortKeyBinding.compare(rowA, rowB);
+        }
+
+        private void setMember(final int row, final boolean isMember) {
+            touch(row);
+            members.set(row, isMember);
+        }
+
+        /** Records whether the row was a member before the batch, the first time it's touched. */
+        private void touch(final int row) {
+            if (!touched.get(row)) {
+                touched.set(row);
+                touchedWasMember.set(row, members.get(row));
+                touchedRows = IntArray.ensureEntry(touchedRows, numTouched);
+                touchedRows[numTouched++] = row;
+            }
+        }
+
+        private void fire() {
+            for (int i = 0; i < numTouched; i++) {
+                final int row = touchedRows[i];
+                final boolean wasMember = touchedWasMember.get(row);
+                final boolean isMember = members.get(row);
+                if (wasMember && !isMember) {
+                    stateChange.removeRow(row);
+                } else if (!wasMember && isMember) {
+                    stateChange.addRow(row);
+                } else if (isMember && changed.get(row)) {
+                    stateChange.changeRow(row);
+                }
+                touched.clear(row);
+                changed.clear(row);
+            }
+            numTouched = 0;
+            stateChange.fire(outputManager, null);
+        }
+    }
+}
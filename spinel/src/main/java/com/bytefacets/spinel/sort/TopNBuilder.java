@@ -0,0 +1,137 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static com.bytefacets.spinel.common.DefaultNameSupplier.resolveName;
+import static com.bytefacets.spinel.interner.DynamicRowInterner.dynamicRowInterner;
+import static com.bytefacets.spinel.transform.BuilderSupport.builderSupport;
+import static com.bytefacets.spinel.transform.TransformContext.continuation;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.interner.RowInterner;
+import com.bytefacets.spinel.transform.BuilderSupport;
+import com.bytefacets.spinel.transform.TransformContext;
+import com.bytefacets.spinel.transform.TransformContinuation;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TopNBuilder {
+    private final BuilderSupport<TopN> builderSupport;
+    private final TransformContext transformContext;
+    private final List<SortKey> sortKeys = new ArrayList<>(2);
+    private int initialSize = 64;
+    private int initialGroupSize = 16;
+    private int limit = 10;
+    private RowInterner groupFunction;
+    private List<String> groupFunctionFields;
+    private final String name;
+
+    private TopNBuilder(final String name) {
+        this.name = requireNonNull(name, "name");
+        this.builderSupport = builderSupport(name, this::internalBuild);
+        this.transformContext = null;
+    }
+
+    private TopNBuilder(final TransformContext context) {
+        this.transformContext = requireNonNull(context, "transform context");
+        this.name = context.name();
+        this.builderSupport =
+                context.createBuilderSupport(this::internalBuild, () -> getOrCreate().input());
+    }
+
+    public static TopNBuilder topN() {
+        return topN((String) null);
+    }
+
+    public static TopNBuilder topN(final String name) {
+        return new TopNBuilder(resolveName("TopN", name));
+    }
+
+    public static TopNBuilder topN(final TransformContext transformContext) {
+        return new TopNBuilder(transformContext);
+    }
+
+    /** The number of rows forwarded, in total or in each group. Default is 10. */
+    public TopNBuilder limit(final int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be > 0, but was " + limit);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /** Ranks by the field in ascending order, after any SortKeys already added. */
+    public TopNBuilder ascending(final String fieldName) {
+        return sortKey(SortKey.ascending(fieldName));
+    }
+
+    /** Ranks by the field in descending order, after any SortKeys already added. */
+    public TopNBuilder descending(final String fieldName) {
+        return sortKey(SortKey.descending(fieldName));
+    }
+
+    /** Ranks by the SortKey, after any SortKeys already added. At least one is required. */
+    public TopNBuilder sortKey(final SortKey sortKey) {
+        sortKeys.add(requireNonNull(sortKey, "sortKey"));
+        return this;
+    }
+
+    /** Keeps the top rows of each group of the RowInterner, rather than of all the rows. */
+    public TopNBuilder groupByFunction(final RowInterner groupFunction) {
+        this.groupFunction = requireNonNull(groupFunction, "groupFunction");
+        this.groupFunctionFields = null;
+        return this;
+    }
+
+    /** Keeps the top rows of each distinct combination of the fields' values. */
+    public TopNBuilder groupByFields(final String... fields) {
+        // defer instantiating the function so that it can get the initialGroupSize
+        this.groupFunction = null;
+        this.groupFunctionFields = List.of(fields);
+        return this;
+    }
+
+    /** Initial size of the tree ordering the rows. Default is 64. */
+    public TopNBuilder initialSize(final int initialSize) {
+        if (initialSize <= 0) {
+            throw new IllegalArgumentException("initialSize must be > 0, but was " + initialSize);
+        }
+        this.initialSize = initialSize;
+        return this;
+    }
+
+    /** Initial number of groups expected when grouping by fields. Default is 16. */
+    public TopNBuilder initialGroupSize(final int initialGroupSize) {
+        if (initialGroupSize <= 0) {
+            throw new IllegalArgumentException(
+                    "initialGroupSize must be > 0, but was " + initialGroupSize);
+        }
+        this.initialGroupSize = initialGroupSize;
+        return this;
+    }
+
+    public TopN getOrCreate() {
+        return builderSupport.getOrCreate();
+    }
+
+    public TopN build() {
+        return builderSupport.createOperator();
+    }
+
+    public TransformContinuation then() {
+        return continuation(
+                transformContext, builderSupport.transformNode(), () -> getOrCreate().output());
+    }
+
+    private TopN internalBuild() {
+        builderSupport.throwIfBuilt();
+        return new TopN(name, initialSize, limit, sortKeys, chooseGroupFunction());
+    }
+
+    private RowInterner chooseGroupFunction() {
+        if (groupFunctionFields != null) {
+            return dynamicRowInterner(groupFunctionFields, initialGroupSize);
+        }
+        return groupFunction;
+    }
+}
@@ -0,0 +1,96 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.table;
+
+import static com.bytefacets.spinel.exception.OperatorSetupException.setupException;
+
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.schema.TypeId;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Records the layout of a persistent table in its directory, so that re-opening the table with a
+ * different key type, chunk size or fields fails instead of misreading the mapped files.
+ */
+final class PersistentTableLayout {
+    static final String FILE_NAME = "table.properties";
+
+    private PersistentTableLayout() {}
+
+    /**
+     * Writes the layout to a new directory, or verifies that it matches the layout recorded in an
+     * existing one.
+     *
+     * @return true if the directory already held a table
+     */
+    static boolean verifyOrWrite(
+            final Path directory,
+            final byte keyType,
+            final int chunkSize,
+            final Map<Byte, List<FieldDescriptor>> fieldMap) {
+        final Properties expected = layout(keyType, chunkSize, fieldMap);
+        final Path file = directory.resolve(FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+            if (!Files.exists(file)) {
+                try (Writer writer = Files.newBufferedWriter(file)) {
+                    expected.store(writer, "spinel persistent table");
+                }
+                return false;
+            }
+            final Properties actual = new Properties();
+            try (Reader reader = Files.newBufferedReader(file)) {
+                actual.load(reader);
+            }
+            final Set<String> keys = new TreeSet<>(expected.stringPropertyNames());
+            keys.addAll(actual.stringPropertyNames());
+            for (String key : keys) {
+                if (!Objects.equals(expected.getProperty(key), actual.getProperty(key))) {
+                    throw setupException(
+                            String.format(
+                                    "Persistent table in %s has %s=%s, but was opened with %s",
+                                    directory,
+                                    key,
+                                    actual.getProperty(key),
+                                    expected.getProperty(key)));
+                }
+            }
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Properties layout(
+            final byte keyType,
+            final int chunkSize,
+            final Map<Byte, List<FieldDescriptor>> fieldMap) {
+        final Properties properties = new Properties();
+        properties.setProperty("keyType", typeName(keyType));
+        properties.setProperty("chunkSize", Integer.toString(chunkSize));
+        fieldMap.forEach(
+                (type, fields) ->
+                        properties.setProperty(
+                                "fields." + typeName(type),
+                                fields.stream()
+                                        .map(FieldDescriptor::name)
+                                        .collect(Collectors.joining(","))));
+        return properties;
+    }
+
+    private static String typeName(final byte typeId) {
+        return TypeId.toClass(typeId).getSimpleName();
+    }
+}
@@ -4,6 +4,7 @@ package com.bytefacets.spinel.table;
 
 import static com.bytefacets.spinel.exception.FieldNotFoundException.fieldNotFound;
 import static com.bytefacets.spinel.exception.OperatorSetupException.setupException;
+import static com.bytefacets.spinel.facade.StructFacadeFactory.directAccessFacadeFactory;
 import static com.bytefacets.spinel.facade.StructFacadeFactory.structFacadeFactory;
 import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
 import static com.bytefacets.spinel.schema.Schema.schema;
@@ -38,6 +39,7 @@ public final class StructTableBuilder<T> {
     private FieldNamingStrategy fieldNamingStrategy = FieldNamingStrategy.Identity;
     private int initialSize = 64;
     private int chunkSize = 64;
+    private boolean directAccessFacades;
 
     private StructTableBuilder(
             final String name, final Class<T> type, final @Nullable TransformBuilder transform) {
@@ -108,6 +110,17 @@ public final class StructTableBuilder<T> {
         return this;
     }
 
+    /**
+     * Whether the facades of the table call the fields directly rather than through the Field
+     * interfaces, and mark the fields they change with a single bit operation.
+     *
+     * @see com.bytefacets.spinel.facade.StructFacadeFactory#directAccessFacadeFactory()
+     */
+    public StructTableBuilder<T> directAccessFacades(final boolean directAccessFacades) {
+        this.directAccessFacades = directAccessFacades;
+        return this;
+    }
+
     public static <T> StructTableBuilder<T> table(final Class<T> type) {
         return new StructTableBuilder<>(type.getSimpleName(), type, null);
     }
@@ -145,11 +158,15 @@ public final class StructTableBuilder<T> {
         final Map<Byte, List<FieldDescriptor>> typeMap = new HashMap<>(TypeId.Max + 1, 1);
         final StringGenericIndexedMap<SchemaField> fieldMap = new StringGenericIndexedMap<>(16);
         buildFieldCollections(fieldMap, typeMap);
-        final TableStateChange change = new TableStateChange();
+        final TableStateChange change = new TableStateChange(name);
         final MatrixStoreFieldFactory fieldFactory =
                 matrixStoreFieldFactory(initialSize, chunkSize, change.fieldChangeListener());
         final FieldList fields = fieldFactory.createFieldList(fieldMap, typeMap);
-        return new StructTable<>(schema(name, fields), type, change, structFacadeFactory());
+        return new StructTable<>(
+                schema(name, fields),
+                type,
+                change,
+                directAccessFacades ? directAccessFacadeFactory() : structFacadeFactory());
     }
 
     private void buildFieldCollections(
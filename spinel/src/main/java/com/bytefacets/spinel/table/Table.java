@@ -5,19 +5,25 @@ package com.bytefacets.spinel.table;
 import static com.bytefacets.spinel.common.OutputManager.outputManager;
 import static java.util.Objects.requireNonNull;
 
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.hash.IntIndexedSet;
 import com.bytefacets.collections.queue.IntDeque;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
 import com.bytefacets.spinel.schema.Schema;
 import com.bytefacets.spinel.schema.WritableField;
 import com.bytefacets.spinel.transform.OutputProvider;
+import java.util.BitSet;
 
-public final class Table implements OutputProvider {
+public final class Table implements OutputProvider, RetainedSize {
     private final OutputManager outputManager;
     private final TableStateChange stateChange;
     private final TableRow tableRow;
     private final IntDeque freeList = new IntDeque(4);
+    private final IntConsumer freedRowConsumer = freeList::addLast;
     private final IntIndexedSet activeRows = new IntIndexedSet(64);
     private int nextRow = 0;
 
@@ -75,7 +81,29 @@ public final class Table implements OutputProvider {
     }
 
     public void fireChanges() {
-        stateChange.fire(outputManager, freeList::addLast);
+        stateChange.fire(outputManager, freedRowConsumer);
+    }
+
+    /**
+     * Moves the live rows at or above the number of rows down into the rows freed by removals, and
+     * releases the field storage above them, e.g. after a mass removal. Pending changes are fired
+     * first, and the inputs attached to the output are notified of the moves as a {@link RowRemap}
+     * rather than as removes and adds.
+     *
+     * @return the moves, by which any rows held by the caller must be translated to their new rows
+     */
+    public RowRemap compact() {
+        fireChanges();
+        final int rowCount = activeRows.size();
+        final BitSet liveRows = new BitSet(nextRow);
+        activeRows.forEach(liveRows::set);
+        final RowRemap remap =
+                RowCompactor.compact(liveRows, rowCount, schema(), outputManager, this::reindex);
+        while (!freeList.isEmpty()) {
+            freeList.removeLast();
+        }
+        nextRow = rowCount;
+        return remap;
     }
 
     @Override
@@ -83,6 +111,21 @@ public final class Table implements OutputProvider {
         return outputManager.output();
     }
 
+    /** The estimated bytes retained by the table's fields and row index. */
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.schemaFieldBytes(schema())
+                + MemoryEstimates.indexedSetBytes(activeRows.size(), Integer.BYTES);
+    }
+
+    private void reindex(final RowRemap remap) {
+        remap.forEach(
+                (fromRow, toRow) -> {
+                    activeRows.remove(fromRow);
+                    activeRows.add(toRow);
+                });
+    }
+
     private int allocateRow() {
         if (freeList.isEmpty()) {
             return nextRow++;
@@ -100,7 +100,7 @@ public final class TableBuilder {
 
     private Table internalBuild() {
         builderSupport.throwIfBuilt();
-        final TableStateChange change = new TableStateChange();
+        final TableStateChange change = new TableStateChange(name);
         final MatrixStoreFieldFactory fieldFactory =
                 matrixStoreFieldFactory(initialSize, chunkSize, change.fieldChangeListener());
         final FieldList fields = fieldFactory.createFieldList(fieldMap, typeMap);
@@ -7,25 +7,69 @@ import static com.bytefacets.spinel.exception.TableModificationException.expecte
 import static com.bytefacets.spinel.exception.TableModificationException.expectedNoRow;
 import static com.bytefacets.spinel.exception.TableModificationException.expectedRow;
 import static com.bytefacets.spinel.table.TableRow.NO_ROW;
+import static java.util.Objects.requireNonNull;
 
 import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.vector.IntVector;
 import com.bytefacets.spinel.common.InputNotifier;
+import com.bytefacets.spinel.jfr.FireEvent;
+import com.bytefacets.spinel.jfr.SpinelEvents;
+import com.bytefacets.spinel.schema.Field;
 import com.bytefacets.spinel.schema.FieldBitSet;
 import com.bytefacets.spinel.schema.FieldChangeListener;
+import com.bytefacets.spinel.schema.FieldChangeMarks;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.trace.UpdateTrace;
+import jakarta.annotation.Nullable;
 
 class TableStateChange {
     private final FieldBitSet changedFields = FieldBitSet.fieldBitSet();
     private final IntVector addedRows = new IntVector(16);
     private final IntVector changedRows = new IntVector(16);
     private final IntVector removedRows = new IntVector(16);
+    private final String name;
+    private FieldChangeMarks changeMarks;
     private boolean isChange;
     private int currentRow = NO_ROW;
 
+    TableStateChange(final String name) {
+        this.name = requireNonNull(name, "name");
+    }
+
     FieldChangeListener fieldChangeListener() {
         return this::changeField;
     }
 
+    /**
+     * A resolver over the schema through which direct-access facades mark the fields they write,
+     * which are applied to the changed fields when the row operation is a change.
+     */
+    FieldResolver directAccessResolver(final Schema schema) {
+        if (changeMarks == null) {
+            changeMarks = FieldChangeMarks.fieldChangeMarks(schema.size());
+        }
+        final FieldResolver resolver = schema.asFieldResolver();
+        final FieldChangeMarks marks = changeMarks;
+        return new FieldResolver() {
+            @Nullable
+            @Override
+            public Field findField(final String name) {
+                return resolver.findField(name);
+            }
+
+            @Override
+            public Field getField(final String name) {
+                return resolver.getField(name);
+            }
+
+            @Override
+            public FieldChangeMarks fieldChangeMarks() {
+                return marks;
+            }
+        };
+    }
+
     void addRow(final int row) {
         assertNoRowInProgress("addRow");
         isChange = false;
@@ -47,6 +91,9 @@ class TableStateChange {
         currentRow = NO_ROW;
         isChange = false;
         removedRows.append(row);
+        if (changeMarks != null) {
+            changeMarks.clear();
+        }
     }
 
     void endAdd() {
@@ -56,6 +103,9 @@ class TableStateChange {
         }
         addedRows.append(currentRow);
         currentRow = NO_ROW;
+        if (changeMarks != null) {
+            changeMarks.clear();
+        }
     }
 
     void endChange() {
@@ -64,6 +114,9 @@ class TableStateChange {
             throw expectedChangeInProgress(currentRow, "endChange");
         }
         changedRows.append(currentRow);
+        if (changeMarks != null) {
+            changeMarks.drainTo(changedFields);
+        }
         isChange = false;
         currentRow = NO_ROW;
     }
@@ -83,14 +136,22 @@ class TableStateChange {
     }
 
     void fire(final InputNotifier manager, final IntConsumer removedRowConsumer) {
-        if (!removedRows.isEmpty()) {
-            manager.notifyRemoves(removedRows);
-        }
-        if (!addedRows.isEmpty()) {
-            manager.notifyAdds(addedRows);
-        }
-        if (!changedRows.isEmpty()) {
-            manager.notifyChanges(changedRows, changedFields);
+        final boolean traced = UpdateTrace.beginFire();
+        final FireEvent event = SpinelEvents.beginFire();
+        try {
+            if (!removedRows.isEmpty()) {
+                manager.notifyRemoves(removedRows);
+            }
+            if (!addedRows.isEmpty()) {
+                manager.notifyAdds(addedRows);
+            }
+            if (!changedRows.isEmpty()) {
+                manager.notifyChanges(changedRows, changedFields);
+            }
+        } finally {
+            UpdateTrace.endFire(traced);
+            SpinelEvents.endFire(
+                    event, name, addedRows.size(), changedRows.size(), removedRows.size());
         }
         removedRows.forEach(removedRowConsumer);
         reset();
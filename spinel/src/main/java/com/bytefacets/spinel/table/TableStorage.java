@@ -0,0 +1,41 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.table;
+
+import java.io.Closeable;
+
+/**
+ * Storage kept by an indexed table beside its fields, which is told of the rows assigned to and
+ * released by keys, e.g. to persist the keys so that the table can be re-opened. The values of the
+ * fields themselves are stored by the FieldListFactory the table was built with.
+ */
+interface TableStorage extends Closeable {
+    /** Storage for tables held on the heap, which keeps nothing beside the fields. */
+    TableStorage NONE =
+            new TableStorage() {
+                @Override
+                public void keyAdded(final int row) {}
+
+                @Override
+                public void keyRemoved(final int row) {}
+
+                @Override
+                public void flush() {}
+
+                @Override
+                public void close() {}
+            };
+
+    /** Called when a key is assigned the row, including when the table moves a key to a row. */
+    void keyAdded(int row);
+
+    /** Called when the key assigned the row is removed, or moved to another row. */
+    void keyRemoved(int row);
+
+    /** Writes the storage through to the storage device. */
+    void flush();
+
+    /** Releases the storage. The table must not be used afterwards. */
+    @Override
+    void close();
+}
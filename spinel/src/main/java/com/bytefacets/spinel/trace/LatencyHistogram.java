@@ -0,0 +1,159 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.trace;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-memory, log-linear histogram of non-negative latencies in nanoseconds, in the style of an
+ * HdrHistogram. Each power-of-two range of values is split into {@code 2^precisionBits} linear
+ * sub-buckets, so a recorded value is reported with a relative error of at most {@code
+ * 2^-precisionBits}. Values below {@code 2^precisionBits} are exact.
+ *
+ * <p>All memory is allocated at construction, and recording does not allocate. The histogram is
+ * not thread-safe; record and read it on one thread, or accept approximate reads.
+ */
+public final class LatencyHistogram {
+    static final int DEFAULT_PRECISION_BITS = 5;
+    private final int precisionBits;
+    private final int subBucketCount;
+    private final long[] counts;
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private long sum;
+
+    /** A histogram with 32 sub-buckets per power of two (about 3% relative error). */
+    public static LatencyHistogram latencyHistogram() {
+        return new LatencyHistogram(DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * A histogram with {@code 2^precisionBits} sub-buckets per power of two.
+     *
+     * @throws IllegalArgumentException if precisionBits is not between 1 and 16
+     */
+    public static LatencyHistogram latencyHistogram(final int precisionBits) {
+        return new LatencyHistogram(precisionBits);
+    }
+
+    private LatencyHistogram(final int precisionBits) {
+        if (precisionBits < 1 || precisionBits > 16) {
+            throw new IllegalArgumentException(
+                    "precisionBits should be between 1 and 16: " + precisionBits);
+        }
+        this.precisionBits = precisionBits;
+        this.subBucketCount = 1 << precisionBits;
+        // one linear range below subBucketCount, then one range per remaining power of two
+        this.counts = new long[(64 - precisionBits) * subBucketCount];
+    }
+
+    /** Records a value. Negative values are recorded as 0. */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public long count() {
+        return totalCount;
+    }
+
+    /** The smallest value recorded, or 0 if empty. */
+    public long min() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    /** The largest value recorded, or 0 if empty. */
+    public long max() {
+        return max;
+    }
+
+    /** The mean of the recorded values, or 0 if empty. */
+    public double mean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * The highest value equivalent to the value at the percentile (0-100), capped at the maximum
+     * recorded value. Returns 0 if empty.
+     */
+    public long valueAtPercentile(final double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        final long threshold =
+                Math.max(1, (long) Math.ceil(totalCount * Math.min(100d, percentile) / 100d));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= threshold) {
+                return Math.min(max, highestEquivalentValue(i));
+            }
+        }
+        return max;
+    }
+
+    /** Adds the counts of another histogram with the same precision into this one. */
+    public void add(final LatencyHistogram other) {
+        if (other.precisionBits != precisionBits) {
+            throw new IllegalArgumentException(
+                    "Cannot add histogram with precisionBits "
+                            + other.precisionBits
+                            + " to "
+                            + precisionBits);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        if (other.totalCount != 0) {
+            totalCount += other.totalCount;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "count=%d min=%d p50=%d p90=%d p99=%d p99.9=%d max=%d",
+                totalCount,
+                min(),
+                valueAtPercentile(50),
+                valueAtPercentile(90),
+                valueAtPercentile(99),
+                valueAtPercentile(99.9),
+                max);
+    }
+
+    int indexOf(final long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - precisionBits;
+        final int subBucket = (int) (value >>> shift) - subBucketCount;
+        return (shift + 1) * subBucketCount + subBucket;
+    }
+
+    long highestEquivalentValue(final int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        final int shift = index / subBucketCount - 1;
+        final long mantissa = (index % subBucketCount) + subBucketCount;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,43 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.trace;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * A named collection of LatencyHistograms, used by sinks which create a histogram per
+ * subscription, so that the histograms can be found and reported on. Sinks remove their histogram
+ * when they close.
+ */
+public final class LatencyRegistry {
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final int precisionBits;
+
+    public static LatencyRegistry latencyRegistry() {
+        return new LatencyRegistry(LatencyHistogram.DEFAULT_PRECISION_BITS);
+    }
+
+    public static LatencyRegistry latencyRegistry(final int precisionBits) {
+        return new LatencyRegistry(precisionBits);
+    }
+
+    private LatencyRegistry(final int precisionBits) {
+        this.precisionBits = precisionBits;
+    }
+
+    /** Returns the histogram registered under the name, creating it if necessary. */
+    public LatencyHistogram histogram(final String name) {
+        return histograms.computeIfAbsent(
+                name, key -> LatencyHistogram.latencyHistogram(precisionBits));
+    }
+
+    public void remove(final String name) {
+        histograms.remove(name);
+    }
+
+    public void forEach(final BiConsumer<String, LatencyHistogram> consumer) {
+        histograms.forEach(consumer);
+    }
+}
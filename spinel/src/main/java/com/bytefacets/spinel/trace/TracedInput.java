@@ -0,0 +1,82 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.trace;
+
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.RowRemap;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.Schema;
+import jakarta.annotation.Nullable;
+
+/**
+ * Opts a TransformInput boundary into update tracing. Each add, change or remove records the time
+ * since the source fire into a histogram as it arrives, then passes the notification to the
+ * delegate. Attach the TracedInput to the output in place of the delegate.
+ *
+ * <pre>{@code
+ * final LatencyHistogram atGroupBy = LatencyHistogram.latencyHistogram();
+ * join.output().attachInput(traced(groupBy.input(), atGroupBy));
+ * }</pre>
+ *
+ * @see UpdateTrace
+ */
+public final class TracedInput implements TransformInput {
+    private final TransformInput delegate;
+    private final LatencyHistogram histogram;
+
+    public static TracedInput traced(
+            final TransformInput delegate, final LatencyHistogram histogram) {
+        return new TracedInput(delegate, histogram);
+    }
+
+    private TracedInput(final TransformInput delegate, final LatencyHistogram histogram) {
+        this.delegate = requireNonNull(delegate, "delegate");
+        this.histogram = requireNonNull(histogram, "histogram");
+    }
+
+    public LatencyHistogram histogram() {
+        return histogram;
+    }
+
+    @Override
+    public void setSource(@Nullable final TransformOutput output) {
+        delegate.setSource(output);
+    }
+
+    @Override
+    public void schemaUpdated(@Nullable final Schema schema) {
+        delegate.schemaUpdated(schema);
+    }
+
+    @Override
+    public void rowsAdded(final IntIterable rows) {
+        UpdateTrace.recordElapsed(histogram);
+        delegate.rowsAdded(rows);
+    }
+
+    @Override
+    public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+        UpdateTrace.recordElapsed(histogram);
+        delegate.rowsChanged(rows, changedFields);
+    }
+
+    @Override
+    public void rowsRemoved(final IntIterable rows) {
+        UpdateTrace.recordElapsed(histogram);
+        delegate.rowsRemoved(rows);
+    }
+
+    @Override
+    public void rowsRemapping(final RowRemap remap) {
+        delegate.rowsRemapping(remap);
+    }
+
+    @Override
+    public void rowsRemapped(final RowRemap remap) {
+        delegate.rowsRemapped(remap);
+    }
+}
@@ -0,0 +1,89 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.trace;
+
+/**
+ * An optional trace context which stamps the time at which a source fires its changes, so that
+ * inputs further along the synchronous notification chain can measure how long the update took to
+ * reach them.
+ *
+ * <p>Tables stamp the origin when they fire. Only the outermost fire on a thread stamps the origin:
+ * if an input fires another table while handling an update, the downstream updates are measured
+ * from the original fire. The origin is cleared when the outermost fire completes.
+ *
+ * <p>Tracing is off by default. While off, sources do not read the clock or the thread-local
+ * context.
+ *
+ * @see TracedInput
+ * @see LatencyHistogram
+ */
+public final class UpdateTrace {
+    /** The value of {@link #originNanos()} when no fire is in progress. */
+    public static final long NO_ORIGIN = Long.MIN_VALUE;
+
+    private static final ThreadLocal<Context> CONTEXT = ThreadLocal.withInitial(Context::new);
+    private static volatile boolean enabled;
+
+    private UpdateTrace() {}
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Called by a source before it notifies its outputs. Stamps the origin if tracing is enabled and
+     * no fire is already in progress on this thread.
+     *
+     * @return true if this call stamped the origin, in which case it must be passed to {@link
+     *     #endFire(boolean)} when the fire completes
+     */
+    public static boolean beginFire() {
+        if (!enabled) {
+            return false;
+        }
+        final Context context = CONTEXT.get();
+        if (context.originNanos != NO_ORIGIN) {
+            return false;
+        }
+        context.originNanos = System.nanoTime();
+        return true;
+    }
+
+    /** Clears the origin if it was stamped by the matching {@link #beginFire()}. */
+    public static void endFire(final boolean stamped) {
+        if (stamped) {
+            CONTEXT.get().originNanos = NO_ORIGIN;
+        }
+    }
+
+    /**
+     * The nanoTime at which the fire in progress on this thread began, or {@link #NO_ORIGIN} if
+     * tracing is disabled or no fire is in progress.
+     */
+    public static long originNanos() {
+        return enabled ? CONTEXT.get().originNanos : NO_ORIGIN;
+    }
+
+    /**
+     * Records the time elapsed since the origin into the histogram, if a traced fire is in progress
+     * on this thread.
+     */
+    public static void recordElapsed(final LatencyHistogram histogram) {
+        final long origin = originNanos();
+        if (origin != NO_ORIGIN) {
+            histogram.record(System.nanoTime() - origin);
+        }
+    }
+
+    private static final class Context {
+        private long originNanos = NO_ORIGIN;
+    }
+}
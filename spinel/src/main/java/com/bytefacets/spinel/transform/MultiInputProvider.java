@@ -0,0 +1,12 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.transform;
+
+import com.bytefacets.spinel.TransformInput;
+import java.util.List;
+
+/** Implemented by operators which receive from more than one input, such as joins and unions. */
+public interface MultiInputProvider {
+    /** The operator's current inputs. */
+    List<TransformInput> inputs();
+}
@@ -15,6 +15,8 @@ import com.bytefacets.spinel.join.JoinBuilder;
 import com.bytefacets.spinel.printer.OutputLoggerBuilder;
 import com.bytefacets.spinel.projection.ProjectionBuilder;
 import com.bytefacets.spinel.prototype.PrototypeBuilder;
+import com.bytefacets.spinel.sort.SortBuilder;
+import com.bytefacets.spinel.sort.TopNBuilder;
 import com.bytefacets.spinel.table.ByteIndexedStructTableBuilder;
 import com.bytefacets.spinel.table.ByteIndexedTableBuilder;
 import com.bytefacets.spinel.table.CharIndexedStructTableBuilder;
@@ -35,12 +37,14 @@ import com.bytefacets.spinel.table.StringIndexedStructTableBuilder;
 import com.bytefacets.spinel.table.StringIndexedTableBuilder;
 import com.bytefacets.spinel.table.TableBuilder;
 import com.bytefacets.spinel.union.UnionBuilder;
+import com.bytefacets.spinel.window.WindowBuilder;
 import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 public final class TransformBuilder {
@@ -196,6 +200,30 @@ public final class TransformBuilder {
         return UnionBuilder.union(newContext(resolveName("Union", name)));
     }
 
+    public SortBuilder sort() {
+        return sort(null);
+    }
+
+    public SortBuilder sort(final String name) {
+        return SortBuilder.sort(newContext(resolveName("Sort", name)));
+    }
+
+    public TopNBuilder topN() {
+        return topN(null);
+    }
+
+    public TopNBuilder topN(final String name) {
+        return TopNBuilder.topN(newContext(resolveName("TopN", name)));
+    }
+
+    public WindowBuilder window() {
+        return window(null);
+    }
+
+    public WindowBuilder window(final String name) {
+        return WindowBuilder.window(newContext(resolveName("Window", name)));
+    }
+
     /**
      * @see com.bytefacets.spinel.conflation.ChangeConflator
      */
@@ -225,6 +253,20 @@ public final class TransformBuilder {
         return lookupJoin(null);
     }
 
+    /**
+     * @see com.bytefacets.spinel.join.JoinBuilder#asOfJoin()
+     */
+    public JoinBuilder asOfJoin(final String name) {
+        return JoinBuilder.asOfJoin(newContext(resolveName("Join", name)));
+    }
+
+    /**
+     * @see com.bytefacets.spinel.join.JoinBuilder#asOfJoin()
+     */
+    public JoinBuilder asOfJoin() {
+        return asOfJoin(null);
+    }
+
     public OutputLoggerBuilder logger(final String name) {
         return OutputLoggerBuilder.logger(name);
     }
@@ -288,6 +330,11 @@ public final class TransformBuilder {
         return !pendingEdges.isEmpty();
     }
 
+    /** Visits the name and operator of each registered node, in registration order. */
+    public void forEachNode(final BiConsumer<String, Object> consumer) {
+        nodeMap.forEach((name, node) -> consumer.accept(name, node.operator()));
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T lookupNode(final String name) {
         return (T) lookupOperatorInternal(name);
@@ -12,7 +12,10 @@ import com.bytefacets.spinel.groupby.GroupByBuilder;
 import com.bytefacets.spinel.printer.OutputLoggerBuilder;
 import com.bytefacets.spinel.projection.ProjectionBuilder;
 import com.bytefacets.spinel.prototype.PrototypeBuilder;
+import com.bytefacets.spinel.sort.SortBuilder;
+import com.bytefacets.spinel.sort.TopNBuilder;
 import com.bytefacets.spinel.union.UnionBuilder;
+import com.bytefacets.spinel.window.WindowBuilder;
 import jakarta.annotation.Nullable;
 
 public class TransformContinuation {
@@ -91,6 +94,30 @@ public class TransformContinuation {
         return UnionBuilder.union(newContext(resolveName("Union", name)));
     }
 
+    public SortBuilder sort() {
+        return sort(null);
+    }
+
+    public SortBuilder sort(final @Nullable String name) {
+        return SortBuilder.sort(newContext(resolveName("Sort", name)));
+    }
+
+    public TopNBuilder topN() {
+        return topN(null);
+    }
+
+    public TopNBuilder topN(final @Nullable String name) {
+        return TopNBuilder.topN(newContext(resolveName("TopN", name)));
+    }
+
+    public WindowBuilder window() {
+        return window(null);
+    }
+
+    public WindowBuilder window(final @Nullable String name) {
+        return WindowBuilder.window(newContext(resolveName("Window", name)));
+    }
+
     public OutputLoggerBuilder logger(final String name) {
         return OutputLoggerBuilder.logger(newContext(resolveName("Logger", name)));
     }
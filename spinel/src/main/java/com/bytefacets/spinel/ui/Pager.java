@@ -7,15 +7,21 @@ import com.bytefacets.collections.functional.IntIntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.collections.store.IntChunkStore;
 import com.bytefacets.collections.store.IntStore;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
 import java.util.Arrays;
 
 /** A Paging utility that keeps a compact, bidirectional mapping of row to view port position. */
-public final class Pager {
+public final class Pager implements ViewportSource, RetainedSize {
     private final IntStore activeRows;
     private final IntStore rowToPosition;
+    private final int initialSize;
+    private final int chunkSize;
     private int[] removedPositions = new int[16];
     private int numRemoved;
     private int limit;
+    private int maxLimit;
+    private int rowLimit;
 
     public static Pager pager(final int initialSize) {
         return pager(initialSize, 128);
@@ -28,6 +34,8 @@ public final class Pager {
     private Pager(final int initialSize, final int chunkSize) {
         activeRows = new IntChunkStore(initialSize, chunkSize);
         rowToPosition = new IntChunkStore(initialSize, chunkSize);
+        this.initialSize = initialSize;
+        this.chunkSize = chunkSize;
     }
 
     public void add(final IntIterable rows) {
@@ -53,6 +61,23 @@ public final class Pager {
         // don't need to do anything else here
     }
 
+    /** Adds the rows after the current positions. */
+    @Override
+    public void rowsAdded(final IntIterable rows) {
+        add(rows);
+    }
+
+    /** Removes the rows, moving the rows after them up to fill their positions. */
+    @Override
+    public void rowsRemoved(final IntIterable rows) {
+        remove(rows);
+    }
+
+    @Override
+    public void reset() {
+        clear();
+    }
+
     /**
      * Calls back the consumer for each row in the range
      *
@@ -60,6 +85,7 @@ public final class Pager {
      * @param limit the absolute end position
      * @param consumer called back with (relative-position, row)
      */
+    @Override
     public void rowsInRange(final int offset, final int limit, final IntIntConsumer consumer) {
         final int end = Math.min(this.limit, offset + limit);
         final int start = Math.min(offset, this.limit);
@@ -68,14 +94,28 @@ public final class Pager {
         }
     }
 
+    @Override
     public int size() {
         return limit;
     }
 
+    /**
+     * The estimated bytes retained by the position stores, which grow to the most rows ever paged
+     * and to the highest row, and are not shrunk by removes or {@link #clear()}.
+     */
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.chunkedBytes(maxLimit, initialSize, chunkSize, Integer.BYTES)
+                + MemoryEstimates.chunkedBytes(rowLimit, initialSize, chunkSize, Integer.BYTES)
+                + MemoryEstimates.arrayBytes(removedPositions);
+    }
+
     private void internalAdd(final int row) {
         rowToPosition.setInt(row, limit);
         activeRows.setInt(limit, row);
         limit++;
+        maxLimit = Math.max(maxLimit, limit);
+        rowLimit = Math.max(rowLimit, row + 1);
     }
 
     private void internalRemove(final int row) {
@@ -116,10 +156,12 @@ public final class Pager {
         numRemoved = 0;
     }
 
+    @Override
     public int positionForRow(final int row) {
         return rowToPosition.getInt(row);
     }
 
+    @Override
     public int rowPosition(final int position) {
         return activeRows.getInt(position);
     }
@@ -0,0 +1,43 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.ui;
+
+import com.bytefacets.collections.functional.IntIntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+
+/**
+ * An ordered set of rows from which a view port can fetch a range of positions.
+ *
+ * <p>A view port tells its source of the rows added to and removed from the output it is attached
+ * to. A {@link Pager} positions the rows in the order they are added. A source which orders the
+ * rows of its own input, such as a {@link com.bytefacets.spinel.sort.Sort} whose output the view
+ * port is attached to, has already seen them, and ignores these calls.
+ */
+public interface ViewportSource {
+    /** The number of rows, and so the number of positions. */
+    int size();
+
+    /**
+     * Calls back the consumer for each row in the range
+     *
+     * @param offset the absolute start position
+     * @param limit the number of positions from the offset
+     * @param consumer called back with (relative-position, row)
+     */
+    void rowsInRange(int offset, int limit, IntIntConsumer consumer);
+
+    /** The position of the row. */
+    int positionForRow(int row);
+
+    /** The row at the position. */
+    int rowPosition(int position);
+
+    /** Called by a view port with the rows added to its output. */
+    default void rowsAdded(final IntIterable rows) {}
+
+    /** Called by a view port with the rows removed from its output. */
+    default void rowsRemoved(final IntIterable rows) {}
+
+    /** Called by a view port when its output's schema is reset, and so all its rows removed. */
+    default void reset() {}
+}
@@ -6,28 +6,37 @@ import static com.bytefacets.spinel.common.OutputManager.outputManager;
 import static com.bytefacets.spinel.exception.OperatorSetupException.setupException;
 import static java.util.Objects.requireNonNull;
 
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.collections.hash.StringGenericIndexedMap;
 import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.TransformOutput;
 import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
 import com.bytefacets.spinel.common.StateChange;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.transform.MultiInputProvider;
 import com.bytefacets.spinel.transform.OutputProvider;
 import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
-public final class Union implements OutputProvider {
+public final class Union implements OutputProvider, MultiInputProvider, RetainedSize {
     private final StateChange stateChange = StateChange.stateChange();
     private final UnionSchemaBuilder schemaBuilder;
     private final UnionRowMapper mapper;
     private final OutputManager outputManager;
     private final DependencyMap dependencyMap;
     private final StringGenericIndexedMap<Input> activeInputs = new StringGenericIndexedMap<>(4);
+    // consumers are held to avoid allocating a lambda per notification
+    private final IntConsumer changedFieldConsumer = stateChange::changeField;
+    private final IntConsumer removedRowConsumer;
     private Schema outSchema;
 
     Union(final int initialSize, final UnionSchemaBuilder schemaBuilder) {
         this.mapper = new UnionRowMapper(initialSize);
+        this.removedRowConsumer = mapper::freeOutRow;
         this.schemaBuilder = requireNonNull(schemaBuilder, "schemaBuilder");
         this.outputManager = outputManager(mapper.asRowProvider());
         this.dependencyMap = schemaBuilder.dependencyMap();
@@ -38,6 +47,12 @@ public final class Union implements OutputProvider {
         return outputManager.output();
     }
 
+    /** The estimated bytes retained by the mapping of input rows to output rows. */
+    @Override
+    public long retainedBytes() {
+        return mapper.retainedBytes();
+    }
+
     public TransformInput newInput(final String name) {
         if (activeInputs.containsKey(name)) {
             throw setupException("You must use unique names when requesting new inputs: " + name);
@@ -53,6 +68,13 @@ public final class Union implements OutputProvider {
         return activeInputs.getOrDefault(name, null);
     }
 
+    @Override
+    public List<TransformInput> inputs() {
+        final List<TransformInput> inputs = new ArrayList<>(activeInputs.size());
+        activeInputs.forEachValue(inputs::add);
+        return inputs;
+    }
+
     private void inputDeactivated(final Input input) {
         activeInputs.removeAt(input.inputIndex);
     }
@@ -76,6 +98,9 @@ public final class Union implements OutputProvider {
 
     private final class Input implements TransformInput {
         private final int inputIndex;
+        private final IntConsumer addProcessor = this::rowAdded;
+        private final IntConsumer changeProcessor = this::rowChanged;
+        private final IntConsumer removeProcessor = this::rowRemoved;
         private TransformOutput source;
 
         private Input(final int inputIndex) {
@@ -107,33 +132,33 @@ public final class Union implements OutputProvider {
 
         @Override
         public void rowsAdded(final IntIterable rows) {
-            rows.forEach(
-                    row -> {
-                        final int outRow = mapper.mapInputRow(inputIndex, row);
-                        stateChange.addRow(outRow);
-                    });
+            rows.forEach(addProcessor);
             stateChange.fire(outputManager, null);
         }
 
         @Override
         public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
-            dependencyMap.translateChanges(inputIndex, changedFields, stateChange::changeField);
-            rows.forEach(
-                    row -> {
-                        final int outRow = mapper.lookupOutboundRow(inputIndex, row);
-                        stateChange.changeRow(outRow);
-                    });
+            dependencyMap.translateChanges(inputIndex, changedFields, changedFieldConsumer);
+            rows.forEach(changeProcessor);
             stateChange.fire(outputManager, null);
         }
 
         @Override
         public void rowsRemoved(final IntIterable rows) {
-            rows.forEach(
-                    row -> {
-                        final int outRow = mapper.removeInputRow(inputIndex, row);
-                        stateChange.removeRow(outRow);
-                    });
-            stateChange.fire(outputManager, mapper::freeOutRow);
+            rows.forEach(removeProcessor);
+            stateChange.fire(outputManager, removedRowConsumer);
+        }
+
+        private void rowAdded(final int row) {
+            stateChange.addRow(mapper.mapInputRow(inputIndex, row));
+        }
+
+        private void rowChanged(final int row) {
+            stateChange.changeRow(mapper.lookupOutboundRow(inputIndex, row));
+        }
+
+        private void rowRemoved(final int row) {
+            stateChange.removeRow(mapper.removeInputRow(inputIndex, row));
         }
     }
 }
@@ -6,12 +6,15 @@ import com.bytefacets.collections.arrays.StringArray;
 import com.bytefacets.collections.bi.CompactOneToMany;
 import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.spinel.RowProvider;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.schema.IntField;
 import com.bytefacets.spinel.schema.StringField;
 
 final class UnionRowMapper {
     private final CompactOneToMany map;
+    private final IntConsumer entryCounter = this::countEntry;
     private String[] inputNames = StringArray.create(2);
+    private int countedEntries;
 
     UnionRowMapper(final int initialSize) {
         this.map = new CompactOneToMany(16, initialSize, false);
@@ -60,6 +63,21 @@ final class UnionRowMapper {
         return map.getRightAt(outboundRow);
     }
 
+    /**
+     * The estimated bytes retained by the mapping, where each output row holds the input index, the
+     * input row and links to the next and previous rows of the input.
+     */
+    long retainedBytes() {
+        countedEntries = 0;
+        map.forEachEntry(entryCounter);
+        return MemoryEstimates.indexedSetBytes(countedEntries, 4 * Integer.BYTES)
+                + MemoryEstimates.arrayBytes(inputNames);
+    }
+
+    private void countEntry(final int entry) {
+        countedEntries++;
+    }
+
     IntField inputIndexField() {
         return map::getLeftAt;
     }
@@ -0,0 +1,382 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.window;
+
+import static com.bytefacets.spinel.common.BitSetRowProvider.bitSetRowProvider;
+import static com.bytefacets.spinel.common.OutputManager.outputManager;
+import static com.bytefacets.spinel.sort.OrderStatisticTree.orderStatisticTree;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
+import com.bytefacets.spinel.common.StateChange;
+import com.bytefacets.spinel.schema.Cast;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.FieldMapping;
+import com.bytefacets.spinel.schema.LongField;
+import com.bytefacets.spinel.schema.Metadata;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.SchemaBuilder;
+import com.bytefacets.spinel.sort.OrderStatisticTree;
+import com.bytefacets.spinel.transform.InputProvider;
+import com.bytefacets.spinel.transform.OutputProvider;
+import jakarta.annotation.Nullable;
+import java.util.BitSet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * A Window forwards only the rows of its input whose Long timestamp field is within a time window,
+ * and removes rows downstream as the window moves past them. Rows are forwarded with their row ids
+ * unchanged.
+ *
+ * <ul>
+ *   <li>sliding: the window is the last windowMillis up to now, so rows expire one by one
+ *   <li>tumbling: the window is the bucket of windowMillis containing now, aligned to the epoch, so
+ *       all of its rows expire together when the next bucket starts. A window start field holds
+ *       the start of the bucket of each row.
+ * </ul>
+ *
+ * <p>In a sliding window, rows with timestamps after now are forwarded, as they are within the
+ * window until it passes them. In a tumbling window, rows of a later bucket are held back until
+ * their bucket starts, so that each bucket is aggregated on its own.
+ *
+ * <p>The window moves in {@link #expire()}, which reads the clock. When built with a scheduler,
+ * which must be the event loop driving the topology, the Window schedules a timer on it for its
+ * next expiry: when the oldest row leaves a sliding window, or when the next bucket of a tumbling
+ * window starts. Otherwise, the owner should call expire periodically on that thread. Rows are
+ * kept in an order-statistic tree by timestamp, so an expiry costs O(log n) per expired or
+ * admitted row, and nothing for the rows which remain.
+ *
+ * <p>A GroupBy after a Window aggregates over the window, keyed by any group fields: the sums and
+ * counts of the GroupBy, and the removal-safe aggregations of {@code MinMaxFactory}, retract
+ * expired rows as they would any removed rows.
+ *
+ * @see WindowBuilder
+ */
+public final class Window implements InputProvider, OutputProvider, RetainedSize {
+    private final OutputManager outputManager;
+    private final Input input;
+    private final String name;
+    private final String timestampFieldName;
+    private final long windowMillis;
+    private final boolean tumbling;
+    private final String windowStartFieldName;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService scheduler;
+    private final Runnable expiryTask = this::onTimer;
+    private ScheduledFuture<?> timer;
+    private long timerExpiry;
+    private long cutoff;
+
+    Window(
+            final String name,
+            final int initialSize,
+            final String timestampFieldName,
+            final long windowMillis,
+            final boolean tumbling,
+            final String windowStartFieldName,
+            final LongSupplier clock,
+            @Nullable final ScheduledExecutorService scheduler) {
+        this.name = requireNonNull(name, "name");
+        this.timestampFieldName = requireNonNull(timestampFieldName, "timestampFieldName");
+        this.windowStartFieldName = requireNonNull(windowStartFieldName, "windowStartFieldName");
+        this.clock = requireNonNull(clock, "clock");
+        this.scheduler = scheduler;
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("windowMillis must be > 0, but was " + windowMillis);
+        }
+        this.windowMillis = windowMillis;
+        this.tumbling = tumbling;
+        this.cutoff = cutoffAt(clock.getAsLong());
+        this.input = new Input(initialSize);
+        this.outputManager = outputManager(bitSetRowProvider(input.members));
+    }
+
+    @Override
+    public TransformInput input() {
+        return input;
+    }
+
+    @Override
+    public TransformOutput output() {
+        return outputManager.output();
+    }
+
+    /**
+     * Moves the window up to the current time of the clock, removes the rows which are no longer
+     * within it, and in a tumbling window, adds the rows of the bucket which started. The window
+     * never moves backwards.
+     */
+    public void expire() {
+        final long newCutoff = cutoffAt(clock.getAsLong());
+        if (newCutoff > cutoff) {
+            cutoff = newCutoff;
+            input.expireRows();
+        }
+    }
+
+    /** The earliest timestamp within the window. */
+    public long windowStart() {
+        return cutoff;
+    }
+
+    /** The number of rows within the window. */
+    public int size() {
+        return input.members.cardinality();
+    }
+
+    /** The estimated bytes retained by the tree ordering the rows and the sets of rows. */
+    @Override
+    public long retainedBytes() {
+        return input.tree.retainedBytes()
+                + MemoryEstimates.bitSetBytes(input.members)
+                + MemoryEstimates.bitSetBytes(input.tracked);
+    }
+
+    private void onTimer() {
+        timer = null;
+        expire();
+        scheduleExpiry();
+    }
+
+    /**
+     * Schedules a timer for the next expiry, unless there's nothing to expire, or a timer is
+     * already scheduled for it or earlier.
+     */
+    private void scheduleExpiry() {
+        if (scheduler == null || input.tree.size() == 0) {
+            return;
+        }
+        final long expiry =
+                tumbling
+                        ? cutoff + windowMillis
+                        : input.timestampField.valueAt(input.tree.select(0)) + windowMillis;
+        if (timer != null) {
+            if (timerExpiry <= expiry) {
+                return;
+            }
+            timer.cancel(false);
+        }
+        timerExpiry = expiry;
+        final long delay = Math.max(0, expiry - clock.getAsLong());
+        timer = scheduler.schedule(expiryTask, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private long cutoffAt(final long now) {
+        return tumbling ? bucketStart(now) : now - windowMillis + 1;
+    }
+
+    /** The first timestamp after the window, which only tumbling windows have. */
+    private long windowEnd() {
+        return tumbling ? cutoff + windowMillis : Long.MAX_VALUE;
+    }
+
+    private long bucketStart(final long timestamp) {
+        return Math.floorDiv(timestamp, windowMillis) * windowMillis;
+    }
+
+    private final class Input implements TransformInput {
+        private final OrderStatisticTree tree;
+        // rows in the tree, which are all the rows at or after the window start
+        private final BitSet tracked = new BitSet();
+        // rows within the window, which are forwarded
+        private final BitSet members = new BitSet();
+        private final StateChange stateChange;
+        // row and field consumers are held to avoid allocating a lambda per notification
+        private final IntConsumer addProcessor = this::processAdd;
+        private final IntConsumer changeForwarder = this::forwardChange;
+        private final IntConsumer treeRemover = this::removeFromTree;
+        private final IntConsumer timestampChangeProcessor = this::processTimestampChange;
+        private final IntConsumer removeProcessor = this::processRemove;
+        private final IntIntConsumer admitter = this::admit;
+        private final IntPredicate beforeWindowEnd = this::isBeforeWindowEnd;
+        private final IntConsumer changedFieldConsumer;
+        private FieldMapping fieldMapping;
+        private LongField timestampField;
+        private int timestampFieldId = -1;
+        private int windowStartFieldId = -1;
+
+        private Input(final int initialSize) {
+            this.tree = orderStatisticTree(initialSize, this::compareTimestamps);
+            this.stateChange = StateChange.stateChange();
+            this.changedFieldConsumer = stateChange::changeField;
+        }
+
+        @Override
+        public void schemaUpdated(@Nullable final Schema schema) {
+            tree.clear();
+            tracked.clear();
+            members.clear();
+            if (schema != null) {
+                final var schemaField = schema.field(timestampFieldName);
+                timestampField = Cast.toLongField(schemaField.field());
+                timestampFieldId = schemaField.fieldId();
+                buildOutboundSchema(schema);
+            } else {
+                timestampField = null;
+                timestampFieldId = -1;
+                windowStartFieldId = -1;
+                fieldMapping = null;
+                outputManager.updateSchema(null);
+            }
+        }
+
+        private void buildOutboundSchema(final Schema inboundSchema) {
+            final int extraFields = tumbling ? 1 : 0;
+            final var sb = SchemaBuilder.schemaBuilder(name, inboundSchema.size() + extraFields);
+            sb.addInboundSchema(
+                    inboundSchema, (inboundField, outboundFieldId) -> inboundField.field());
+            if (tumbling) {
+                if (inboundSchema.maybeField(windowStartFieldName) != null) {
+                    throw new IllegalArgumentException(
+                            String.format(
+                                    "Window start field '%s' is already a field of the input",
+                                    windowStartFieldName));
+                }
+                sb.addField(
+                        windowStartFieldName,
+                        (LongField) row -> bucketStart(timestampField.valueAt(row)),
+                        Metadata.EMPTY);
+            }
+            fieldMapping = sb.buildFieldMapping();
+            final Schema schema = sb.buildSchema();
+            windowStartFieldId = tumbling ? schema.field(windowStartFieldName).fieldId() : -1;
+            outputManager.updateSchema(schema);
+        }
+
+        @Override
+        public void rowsAdded(final IntIterable rows) {
+            rows.forEach(addProcessor);
+            fire();
+        }
+
+        @Override
+        public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+            fieldMapping.translateInboundChangeSet(changedFields, changedFieldConsumer);
+            if (changedFields.isChanged(timestampFieldId)) {
+                // remove every changed row before re-inserting any of them, so that the rows
+                // compared against during an insert are all in their correct positions
+                rows.forEach(treeRemover);
+                rows.forEach(timestampChangeProcessor);
+                if (tumbling) {
+                    stateChange.changeField(windowStartFieldId);
+                }
+            } else {
+                rows.forEach(changeForwarder);
+            }
+            fire();
+        }
+
+        @Override
+        public void rowsRemoved(final IntIterable rows) {
+            rows.forEach(removeProcessor);
+            fire();
+        }
+
+        private void expireRows() {
+            while (tree.size() != 0) {
+                final int row = tree.select(0);
+                if (timestampField.valueAt(row) >= cutoff) {
+                    break;
+                }
+                tree.remove(row);
+                tracked.clear(row);
+                if (members.get(row)) {
+                    members.clear(row);
+                    stateChange.removeRow(row);
+                }
+            }
+            if (tumbling) {
+                // the rows of the bucket which started are now first in the tree
+                tree.rowsInRange(0, tree.countWhile(beforeWindowEnd), admitter);
+            }
+            fire();
+        }
+
+        private void admit(final int position, final int row) {
+            if (!members.get(row)) {
+                members.set(row);
+                stateChange.addRow(row);
+            }
+        }
+
+        private void processAdd(final int row) {
+            final long timestamp = timestampField.valueAt(row);
+            if (timestamp >= cutoff) {
+                tree.insert(row);
+                tracked.set(row);
+                if (timestamp < windowEnd()) {
+                    members.set(row);
+                    stateChange.addRow(row);
+                }
+            }
+        }
+
+        private void forwardChange(final int row) {
+            if (members.get(row)) {
+                stateChange.changeRow(row);
+            }
+        }
+
+        private void removeFromTree(final int row) {
+            if (tracked.get(row)) {
+                // the tree does not compare on a remove, so the row can be removed after its
+                // timestamp changed
+                tree.remove(row);
+                tracked.clear(row);
+            }
+        }
+
+        private void processTimestampChange(final int row) {
+            final boolean wasMember = members.get(row);
+            final long timestamp = timestampField.valueAt(row);
+            if (timestamp >= cutoff) {
+                tree.insert(row);
+                tracked.set(row);
+            }
+            final boolean isMember = timestamp >= cutoff && timestamp < windowEnd();
+            members.set(row, isMember);
+            if (wasMember && isMember) {
+                stateChange.changeRow(row);
+            } else if (isMember) {
+                stateChange.addRow(row);
+            } else if (wasMember) {
+                stateChange.removeRow(row);
+            }
+        }
+
+        private void processRemove(final int row) {
+            if (tracked.get(row)) {
+                tree.remove(row);
+                tracked.clear(row);
+            }
+            if (members.get(row)) {
+                members.clear(row);
+                stateChange.removeRow(row);
+            }
+        }
+
+        private boolean isBeforeWindowEnd(final int row) {
+            return timestampField.valueAt(row) < windowEnd();
+        }
+
+        private int compareTimestamps(final int rowA, final int rowB) {
+            return Long.compare(timestampField.valueAt(rowA), timestampField.valueAt(rowB));
+        }
+
+        private void fire() {
+            stateChange.fire(outputManager, null);
+            scheduleExpiry();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.window;
+
+import static com.bytefacets.spinel.common.DefaultNameSupplier.resolveName;
+import static com.bytefacets.spinel.transform.BuilderSupport.builderSupport;
+import static com.bytefacets.spinel.transform.TransformContext.continuation;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.spinel.transform.BuilderSupport;
+import com.bytefacets.spinel.transform.TransformContext;
+import com.bytefacets.spinel.transform.TransformContinuation;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.LongSupplier;
+
+/**
+ * Builder for a {@link Window}. To be called directly from {@link #window()} or {@link
+ * #window(String)}, or from a {@link com.bytefacets.spinel.transform.TransformBuilder} or {@link
+ * TransformContinuation}.
+ */
+public final class WindowBuilder {
+    private final BuilderSupport<Window> builderSupport;
+    private final TransformContext transformContext;
+    private final String name;
+    private String timestampFieldName;
+    private long windowMillis = -1;
+    private boolean tumbling;
+    private String windowStartFieldName = "WindowStart";
+    private LongSupplier clock = System::currentTimeMillis;
+    private ScheduledExecutorService scheduler;
+    private int initialSize = 64;
+
+    private WindowBuilder(final String name) {
+        this.name = requireNonNull(name, "name");
+        this.builderSupport = builderSupport(name, this::internalBuild);
+        this.transformContext = null;
+    }
+
+    private WindowBuilder(final TransformContext context) {
+        this.transformContext = requireNonNull(context, "transform context");
+        this.name = context.name();
+        this.builderSupport =
+                context.createBuilderSupport(this::internalBuild, () -> getOrCreate().input());
+    }
+
+    public static WindowBuilder window() {
+        return window((String) null);
+    }
+
+    public static WindowBuilder window(final String name) {
+        return new WindowBuilder(resolveName("Window", name));
+    }
+
+    public static WindowBuilder window(final TransformContext transformContext) {
+        return new WindowBuilder(transformContext);
+    }
+
+    /** The Long field holding the time of each row, in the units of the clock. Required. */
+    public WindowBuilder timestampFieldName(final String timestampFieldName) {
+        this.timestampFieldName = requireNonNull(timestampFieldName, "timestampFieldName");
+        return this;
+    }
+
+    /** A window of the last windowMillis up to now, from which rows expire one by one. */
+    public WindowBuilder sliding(final long windowMillis) {
+        return windowMillis(windowMillis, false);
+    }
+
+    /**
+     * A window of the epoch-aligned bucket of windowMillis which contains now, whose rows all
+     * expire when the next bucket starts.
+     */
+    public WindowBuilder tumbling(final long windowMillis) {
+        return windowMillis(windowMillis, true);
+    }
+
+    /**
+     * The name of the field holding the start of the bucket of each row, in a tumbling window.
+     * Default is "WindowStart".
+     */
+    public WindowBuilder windowStartFieldName(final String windowStartFieldName) {
+        this.windowStartFieldName = requireNonNull(windowStartFieldName, "windowStartFieldName");
+        return this;
+    }
+
+    /** The source of the current time for expiry. Default is System::currentTimeMillis. */
+    public WindowBuilder clock(final LongSupplier clock) {
+        this.clock = requireNonNull(clock, "clock");
+        return this;
+    }
+
+    /**
+     * The event loop driving the topology, on which the Window schedules a timer for its next
+     * expiry, taking the clock to be in milliseconds. Without one, {@link Window#expire()} should
+     * be called periodically on that thread.
+     */
+    public WindowBuilder scheduler(final ScheduledExecutorService scheduler) {
+        this.scheduler = requireNonNull(scheduler, "scheduler");
+        return this;
+    }
+
+    /** Initial size of the tree ordering the rows by timestamp. Default is 64. */
+    public WindowBuilder initialSize(final int initialSize) {
+        if (initialSize <= 0) {
+            throw new IllegalArgumentException("initialSize must be > 0, but was " + initialSize);
+        }
+        this.initialSize = initialSize;
+        return this;
+    }
+
+    public Window getOrCreate() {
+        return builderSupport.getOrCreate();
+    }
+
+    public Window build() {
+        return builderSupport.createOperator();
+    }
+
+    public TransformContinuation then() {
+        return continuation(
+                transformContext, builderSupport.transformNode(), () -> getOrCreate().output());
+    }
+
+    private WindowBuilder windowMillis(final long windowMillis, final boolean tumbling) {
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("windowMillis must be > 0, but was " + windowMillis);
+        }
+        this.windowMillis = windowMillis;
+        this.tumbling = tumbling;
+        return this;
+    }
+
+    private Window internalBuild() {
+        builderSupport.throwIfBuilt();
+        if (timestampFieldName == null) {
+            throw new IllegalStateException("Window requires a timestampFieldName");
+        }
+        if (windowMillis == -1) {
+            throw new IllegalStateException("Window requires a sliding or tumbling window");
+        }
+        return new Window(
+                name,
+                initialSize,
+                timestampFieldName,
+                windowMillis,
+                tumbling,
+                windowStartFieldName,
+                clock,
+                scheduler);
+    }
+}
@@ -0,0 +1,356 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.groupby.lib;
+
+import com.bytefacets.collections.arrays.IntArray;
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+<#list types as type>
+<#if type.name != "Bool">
+import com.bytefacets.collections.hash.${type.name}IndexedSet;
+</#if>
+</#list>
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+import com.bytefacets.spinel.groupby.AggregationFunction;
+import com.bytefacets.spinel.groupby.AggregationSetupVisitor;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.schema.Metadata;
+<#list types as type>
+<#if type.name != "Bool">
+import com.bytefacets.spinel.schema.${type.name}Field;
+</#if>
+</#list>
+import com.bytefacets.spinel.schema.TypeId;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Creates aggregations of the number of distinct values of a field in each group, either exactly,
+ * or approximately with a HyperLogLog sketch per group.
+ *
+ * <p>The exact count interns each value, and counts the rows of each (group, value) pair in one
+ * primitive-keyed set, so a group holds no map of its own. It handles changes and removes: when a
+ * pair's last row leaves the group, the group's count drops by one.
+ *
+ * <p>The approximate count uses 2^precision byte registers per group regardless of the number of
+ * values, with a relative error of about 1.04 / sqrt(2^precision). A sketch cannot forget a value,
+ * so changed and removed values are still counted until the group is emptied; it is meant for
+ * insert-mostly streams where the exact count would hold too many values.
+ */
+public final class DistinctCountFactory {
+    private static final int DEFAULT_PRECISION = 12;
+
+    private DistinctCountFactory() {}
+
+<#list types as type>
+<#if type.name != "Bool">
+    public static AggregationFunction distinctCount${type.name}(final String inputFieldName, final String countFieldName) {
+        return new ${type.name}DistinctCount(inputFieldName, countFieldName, Metadata.EMPTY);
+    }
+
+    public static AggregationFunction distinctCount${type.name}(final String inputFieldName, final String countFieldName, final Metadata metadata) {
+        return new ${type.name}DistinctCount(inputFieldName, countFieldName, metadata);
+    }
+
+    public static AggregationFunction approxDistinctCount${type.name}(final String inputFieldName, final String countFieldName) {
+        return new ${type.name}ApproxDistinctCount(inputFieldName, countFieldName, DEFAULT_PRECISION, Metadata.EMPTY);
+    }
+
+    /**
+     * @param precision the log2 of the number of registers per group, in [4, 16]; the default is 12,
+     *     which uses 4KB per group for an error of about 1.6%
+     */
+    public static AggregationFunction approxDistinctCount${type.name}(final String inputFieldName, final String countFieldName, final int precision, final Metadata metadata) {
+        return new ${type.name}ApproxDistinctCount(inputFieldName, countFieldName, precision, metadata);
+    }
+
+    private static final class ${type.name}DistinctCount implements AggregationFunction, RetainedSize {
+        private final String inboundFieldName;
+        private final FieldDescriptor outboundFieldDescriptor;
+        private final ${type.name}IndexedSet${type.instanceGenerics} values = new ${type.name}IndexedSet${type.instanceGenerics}(64);
+        // (group << 32 | valueEntry) of each pair with at least one row
+        private final LongIndexedSet pairs = new LongIndexedSet(64);
+        private final IntConsumer addProcessor = this::processAdd;
+        private final IntConsumer changeProcessor = this::processChange;
+        private final IntConsumer removeProcessor = this::processRemove;
+        private int[] pairRowCounts = new int[64];
+        private int[] valuePairCounts = new int[64];
+        private int[] rowPairs = new int[64];
+        private int currentGroup;
+        private ${type.name}Field inboundField;
+        private IntWritableField outboundField;
+
+        private ${type.name}DistinctCount(final String inboundFieldName, final String outboundFieldName, final Metadata metadata) {
+            this.inboundFieldName = Objects.requireNonNull(inboundFieldName, "inboundFieldName");
+            this.outboundFieldDescriptor = new FieldDescriptor(TypeId.Int, outboundFieldName, metadata);
+        }
+
+        @Override
+        public void collectFieldReferences(final AggregationSetupVisitor visitor) {
+            visitor.addInboundField(inboundFieldName);
+            visitor.addOutboundField(outboundFieldDescriptor);
+        }
+
+        @Override
+        public void bindToSchema(final FieldResolver previousResolver, final FieldResolver currentResolver, final FieldResolver outboundResolver) {
+            reset();
+            this.inboundField = currentResolver.find${type.name}Field(inboundFieldName);
+            this.outboundField = (IntWritableField) outboundResolver.findIntField(outboundFieldDescriptor.name());
+        }
+
+        @Override
+        public void unbindSchema() {
+            reset();
+            inboundField = null;
+            outboundField = null;
+        }
+
+        private void reset() {
+            values.clear();
+            pairs.clear();
+            Arrays.fill(rowPairs, -1);
+        }
+
+        @Override
+        public void groupRowsAdded(final int group, final IntIterable rows) {
+            currentGroup = group;
+            rows.forEach(addProcessor);
+        }
+
+        @Override
+        public void groupRowsChanged(final int group, final IntIterable rows) {
+            currentGroup = group;
+            rows.forEach(changeProcessor);
+        }
+
+        @Override
+        public void groupRowsRemoved(final int group, final IntIterable rows) {
+            currentGroup = group;
+            rows.forEach(removeProcessor);
+        }
+
+        private void processAdd(final int row) {
+            rowPairs = IntArray.ensureEntry(rowPairs, row, -1);
+            if(rowPairs[row] != -1) {
+                // the row moved from another group, whose remove is notified after this add
+                release(row);
+            }
+            acquire(row);
+        }
+
+        private void processChange(final int row) {
+            // the pair of the row holds its old value, which the field no longer does
+            final int valueEntry = (int) pairs.getKeyAt(rowPairs[row]);
+            if(values.lookupEntry(inboundField.valueAt(row)) != valueEntry) {
+                release(row);
+                acquire(row);
+            }
+        }
+
+        private void processRemove(final int row) {
+            if(row < rowPairs.length && rowPairs[row] != -1 && groupOf(rowPairs[row]) == currentGroup) {
+                release(row);
+            }
+        }
+
+        private void acquire(final int row) {
+            final int valuesBefore = values.size();
+            final int valueEntry = values.add(inboundField.valueAt(row));
+            if(values.size() != valuesBefore) {
+                valuePairCounts = IntArray.ensureEntry(valuePairCounts, valueEntry);
+                valuePairCounts[valueEntry] = 0;
+            }
+            final int pairsBefore = pairs.size();
+            final int pair = pairs.add(((long) currentGroup << 32) | (valueEntry & 0xFFFFFFFFL));
+            if(pairs.size() != pairsBefore) {
+                pairRowCounts = IntArray.ensureEntry(pairRowCounts, pair);
+                pairRowCounts[pair] = 0;
+                valuePairCounts[valueEntry]++;
+                addToCount(currentGroup, 1);
+            }
+            pairRowCounts[pair]++;
+            rowPairs[row] = pair;
+        }
+
+        private void release(final int row) {
+            final int pair = rowPairs[row];
+            rowPairs[row] = -1;
+            if(--pairRowCounts[pair] == 0) {
+                final long key = pairs.getKeyAt(pair);
+                final int valueEntry = (int) key;
+                pairs.removeAt(pair);
+                addToCount((int) (key >>> 32), -1);
+                if(--valuePairCounts[valueEntry] == 0) {
+                    values.removeAt(valueEntry);
+                }
+            }
+        }
+
+        private int groupOf(final int pair) {
+            return (int) (pairs.getKeyAt(pair) >>> 32);
+        }
+
+        private void addToCount(final int group, final int delta) {
+            outboundField.setValueAt(group, outboundField.valueAt(group) + delta);
+        }
+
+        /** The estimated bytes retained by the interned values, the pairs and their counts. */
+        @Override
+        public long retainedBytes() {
+            return MemoryEstimates.indexedSetBytes(values.size(), MemoryEstimates.bytesPerValue(TypeId.${type.name}))
+                    + MemoryEstimates.indexedSetBytes(pairs.size(), Long.BYTES)
+                    + MemoryEstimates.arrayBytes(pairRowCounts)
+                    + MemoryEstimates.arrayBytes(valuePairCounts)
+                    + MemoryEstimates.arrayBytes(rowPairs);
+        }
+    }
+
+    private static final class ${type.name}ApproxDistinctCount implements AggregationFunction, RetainedSize {
+        private final String inboundFieldName;
+        private final FieldDescriptor outboundFieldDescriptor;
+        private final HyperLogLogSketches sketches;
+        private final IntConsumer addProcessor = this::processAdd;
+        private final IntConsumer changeProcessor = this::processChange;
+        private final IntConsumer removeProcessor = this::processRemove;
+        private int[] rowGroups = new int[64];
+        private int[] groupSizes = new int[16];
+        private int currentGroup;
+        private boolean currentGroupChanged;
+        private ${type.name}Field inboundField;
+        private IntWritableField outboundField;
+
+        private ${type.name}ApproxDistinctCount(final String inboundFieldName, final String outboundFieldName, final int precision, final Metadata metadata) {
+            this.inboundFieldName = Objects.requireNonNull(inboundFieldName, "inboundFieldName");
+            this.outboundFieldDescriptor = new FieldDescriptor(TypeId.Int, outboundFieldName, metadata);
+            this.sketches = new HyperLogLogSketches(precision, 16);
+        }
+
+        @Override
+        public void collectFieldReferences(final AggregationSetupVisitor visitor) {
+            visitor.addInboundField(inboundFieldName);
+            visitor.addOutboundField(outboundFieldDescriptor);
+        }
+
+        @Override
+        public void bindToSchema(final FieldResolver previousResolver, final FieldResolver currentResolver, final FieldResolver outboundResolver) {
+            reset();
+            this.inboundField = currentResolver.find${type.name}Field(inboundFieldName);
+            this.outboundField = (IntWritableField) outboundResolver.findIntField(outboundFieldDescriptor.name());
+        }
+
+        @Override
+        public void unbindSchema() {
+            reset();
+            inboundField = null;
+            outboundField = null;
+        }
+
+        private void reset() {
+            sketches.clearAll();
+            Arrays.fill(rowGroups, -1);
+            Arrays.fill(groupSizes, 0);
+        }
+
+        @Override
+        public void groupRowsAdded(final int group, final IntIterable rows) {
+            beginGroup(group);
+            rows.forEach(addProcessor);
+            publish(group);
+        }
+
+        @Override
+        public void groupRowsChanged(final int group, final IntIterable rows) {
+            beginGroup(group);
+            rows.forEach(changeProcessor);
+            publish(group);
+        }
+
+        @Override
+        public void groupRowsRemoved(final int group, final IntIterable rows) {
+            beginGroup(group);
+            rows.forEach(removeProcessor);
+            publish(group);
+        }
+
+        private void beginGroup(final int group) {
+            currentGroup = group;
+            currentGroupChanged = false;
+            groupSizes = IntArray.ensureEntry(groupSizes, group);
+        }
+
+        private void processAdd(final int row) {
+            rowGroups = IntArray.ensureEntry(rowGroups, row, -1);
+            if(rowGroups[row] != -1) {
+                // the row moved from another group, whose remove is notified after this add
+                leaveGroup(rowGroups[row]);
+            }
+            rowGroups[row] = currentGroup;
+            groupSizes[currentGroup]++;
+            offer(row);
+        }
+
+        private void processChange(final int row) {
+            offer(row);
+        }
+
+        private void processRemove(final int row) {
+            if(row < rowGroups.length && rowGroups[row] == currentGroup) {
+                rowGroups[row] = -1;
+                leaveGroup(currentGroup);
+            }
+        }
+
+        private void offer(final int row) {
+            if(sketches.offer(currentGroup, hashOf(inboundField.valueAt(row)))) {
+                currentGroupChanged = true;
+            }
+        }
+
+        /** A sketch cannot forget values, so it's only cleared once its group is empty. */
+        private void leaveGroup(final int group) {
+            if(--groupSizes[group] == 0) {
+                sketches.clear(group);
+                if(outboundField.valueAt(group) != 0) {
+                    outboundField.setValueAt(group, 0);
+                }
+            }
+        }
+
+        private void publish(final int group) {
+            if(currentGroupChanged) {
+                final int estimate = (int) Math.min(Integer.MAX_VALUE, sketches.estimate(group));
+                if(outboundField.valueAt(group) != estimate) {
+                    outboundField.setValueAt(group, estimate);
+                }
+            }
+        }
+
+        private static long hashOf(final ${type.arrayType} value) {
+<#if type.name == "Float">
+            return Float.floatToIntBits(value);
+<#elseif type.name == "Double">
+            return Double.doubleToLongBits(value);
+<#elseif type.name == "String" || type.name == "Generic">
+            return Objects.hashCode(value);
+<#else>
+            return value;
+</#if>
+        }
+
+        /** The estimated bytes retained by the sketches and the group of each row. */
+        @Override
+        public long retainedBytes() {
+            return sketches.retainedBytes()
+                    + MemoryEstimates.arrayBytes(rowGroups)
+                    + MemoryEstimates.arrayBytes(groupSizes);
+        }
+    }
+
+</#if>
+</#list>
+}
@@ -0,0 +1,204 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.groupby.lib;
+
+import com.bytefacets.collections.arrays.IntArray;
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic" && type.name != "Bool">
+import com.bytefacets.collections.arrays.${type.name}Array;
+import com.bytefacets.collections.types.${type.name}Type;
+</#if>
+</#list>
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+import com.bytefacets.spinel.groupby.AggregationFunction;
+import com.bytefacets.spinel.groupby.AggregationSetupVisitor;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.Metadata;
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic" && type.name != "Bool">
+import com.bytefacets.spinel.schema.${type.name}Field;
+import com.bytefacets.spinel.schema.${type.name}WritableField;
+</#if>
+</#list>
+import com.bytefacets.spinel.schema.TypeId;
+import com.bytefacets.spinel.sort.OrderStatisticTree;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * Creates aggregations of the minimum or maximum value of a field in each group, which stay correct
+ * when the row holding the current extreme is changed or removed.
+ *
+ * <p>An accumulator of the form accumulate(current, old, new) cannot find the next extreme when the
+ * current one leaves the group, without rescanning the group. Instead, each aggregation keeps a
+ * copy of the value of every row, and an order-statistic tree of the rows ordered by group and then
+ * by value, so the rows of a group are contiguous and its minimum and maximum are its first and
+ * last rows. An add, change or remove costs O(log n), and so does finding the group's new extreme.
+ * The value of an empty group is the type's default.
+ */
+public final class MinMaxFactory {
+    private MinMaxFactory() {}
+
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic" && type.name != "Bool">
+<#if type.name == "Int">
+<#assign boxedType = "Integer">
+<#elseif type.name == "Char">
+<#assign boxedType = "Character">
+<#else>
+<#assign boxedType = type.name>
+</#if>
+    public static AggregationFunction minTo${type.name}(final String inputFieldName, final String minFieldName) {
+        return new ${type.name}ExtremeAggregation(inputFieldName, minFieldName, false, Metadata.EMPTY);
+    }
+
+    public static AggregationFunction minTo${type.name}(final String inputFieldName, final String minFieldName, final Metadata metadata) {
+        return new ${type.name}ExtremeAggregation(inputFieldName, minFieldName, false, metadata);
+    }
+
+    public static AggregationFunction maxTo${type.name}(final String inputFieldName, final String maxFieldName) {
+        return new ${type.name}ExtremeAggregation(inputFieldName, maxFieldName, true, Metadata.EMPTY);
+    }
+
+    public static AggregationFunction maxTo${type.name}(final String inputFieldName, final String maxFieldName, final Metadata metadata) {
+        return new ${type.name}ExtremeAggregation(inputFieldName, maxFieldName, true, metadata);
+    }
+
+    private static final class ${type.name}ExtremeAggregation implements AggregationFunction, RetainedSize {
+        private static final ${type.arrayType} NO_VALUE = ${type.name}Type.DEFAULT;
+        private final String inboundFieldName;
+        private final FieldDescriptor outboundFieldDescriptor;
+        private final boolean max;
+        private final OrderStatisticTree tree = OrderStatisticTree.orderStatisticTree(64, this::compare);
+        private final IntConsumer addProcessor = this::processAdd;
+        private final IntConsumer changeProcessor = this::processChange;
+        private final IntConsumer removeProcessor = this::processRemove;
+        private final IntPredicate precedesSearchGroup = this::precedesSearchGroup;
+        private final IntPredicate withinSearchGroup = this::withinSearchGroup;
+        private ${type.arrayType}[] values = new ${type.arrayType}[64];
+        private int[] rowGroups = new int[64];
+        private int currentGroup;
+        private int searchGroup;
+        private ${type.name}Field inboundField;
+        private ${type.name}WritableField outboundField;
+
+        private ${type.name}ExtremeAggregation(
+                final String inboundFieldName,
+                final String outboundFieldName,
+                final boolean max,
+                final Metadata metadata) {
+            this.inboundFieldName = Objects.requireNonNull(inboundFieldName, "inboundFieldName");
+            this.outboundFieldDescriptor = new FieldDescriptor(TypeId.${type.name}, outboundFieldName, metadata);
+            this.max = max;
+        }
+
+        @Override
+        public void collectFieldReferences(final AggregationSetupVisitor visitor) {
+            visitor.addInboundField(inboundFieldName);
+            visitor.addOutboundField(outboundFieldDescriptor);
+        }
+
+        @Override
+        public void bindToSchema(final FieldResolver previousResolver, final FieldResolver currentResolver, final FieldResolver outboundResolver) {
+            tree.clear();
+            this.inboundField = currentResolver.find${type.name}Field(inboundFieldName);
+            this.outboundField = (${type.name}WritableField) outboundResolver.find${type.name}Field(outboundFieldDescriptor.name());
+        }
+
+        @Override
+        public void unbindSchema() {
+            tree.clear();
+            inboundField = null;
+            outboundField = null;
+        }
+
+        @Override
+        public void groupRowsAdded(final int group, final IntIterable rows) {
+            currentGroup = group;
+            rows.forEach(addProcessor);
+            updateGroup(group);
+        }
+
+        @Override
+        public void groupRowsChanged(final int group, final IntIterable rows) {
+            currentGroup = group;
+            rows.forEach(changeProcessor);
+            updateGroup(group);
+        }
+
+        @Override
+        public void groupRowsRemoved(final int group, final IntIterable rows) {
+            currentGroup = group;
+            rows.forEach(removeProcessor);
+            updateGroup(group);
+        }
+
+        private void processAdd(final int row) {
+            if(tree.contains(row)) {
+                // the row moved from another group, whose remove is notified after this add
+                final int oldGroup = rowGroups[row];
+                tree.remove(row);
+                updateGroup(oldGroup);
+            }
+            rowGroups = IntArray.ensureEntry(rowGroups, row);
+            values = ${type.name}Array.ensureEntry(values, row, NO_VALUE);
+            rowGroups[row] = currentGroup;
+            values[row] = inboundField.valueAt(row);
+            tree.insert(row);
+        }
+
+        private void processChange(final int row) {
+            // the tree orders by the copied value, so the row can be removed after its field changed
+            tree.remove(row);
+            values[row] = inboundField.valueAt(row);
+            tree.insert(row);
+        }
+
+        private void processRemove(final int row) {
+            if(tree.contains(row) && rowGroups[row] == currentGroup) {
+                tree.remove(row);
+            }
+        }
+
+        /** Sets the group's value from its first or last row, which is O(log n). */
+        private void updateGroup(final int group) {
+            searchGroup = group;
+            final int position = max ? tree.countWhile(withinSearchGroup) - 1 : tree.countWhile(precedesSearchGroup);
+            final int row = tree.select(position);
+            final ${type.arrayType} value = row != -1 && rowGroups[row] == group ? values[row] : NO_VALUE;
+            if(!${type.name}Type.EqImpl.areEqual(outboundField.valueAt(group), value)) {
+                outboundField.setValueAt(group, value);
+            }
+        }
+
+        private boolean precedesSearchGroup(final int row) {
+            return rowGroups[row] < searchGroup;
+        }
+
+        private boolean withinSearchGroup(final int row) {
+            return rowGroups[row] <= searchGroup;
+        }
+
+        private int compare(final int rowA, final int rowB) {
+            final int result = Integer.compare(rowGroups[rowA], rowGroups[rowB]);
+            return result != 0 ? result : ${boxedType}.compare(values[rowA], values[rowB]);
+        }
+
+        /** The estimated bytes retained by the tree and the copied values and groups of the rows. */
+        @Override
+        public long retainedBytes() {
+            return tree.retainedBytes()
+                    + MemoryEstimates.arrayBytes(rowGroups)
+                    + MemoryEstimates.arrayBytes(values.length, MemoryEstimates.bytesPerValue(TypeId.${type.name}));
+        }
+    }
+
+</#if>
+</#list>
+}
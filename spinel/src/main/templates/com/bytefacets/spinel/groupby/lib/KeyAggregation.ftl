@@ -3,6 +3,7 @@
 // SPDX-License-Identifier: MIT
 package com.bytefacets.spinel.groupby.lib;
 
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.collections.types.${type.name}Type;
 import com.bytefacets.spinel.groupby.AggregationFunction;
@@ -22,6 +23,10 @@ public final class ${type.name}Aggregation implements AggregationFunction {
     private final String inboundFieldName;
     private final FieldDescriptor outboundFieldDescriptor;
     private final ${type.name}Accumulator accumulator;
+    private final IntConsumer addProcessor = this::processAdd;
+    private final IntConsumer changeProcessor = this::processChange;
+    private final IntConsumer removeProcessor = this::processRemove;
+    private int currentGroup;
     private ${type.name}Field newValueField;
     private ${type.name}Field oldValueField;
     private ${type.name}WritableField outboundField;
@@ -60,27 +65,36 @@ public final class ${type.name}Aggregation implements AggregationFunction {
 
     @Override
     public void groupRowsAdded(final int group, final IntIterable rows) {
-        rows.forEach(row -> {
-            final ${type.arrayType} newValue = newValueField.valueAt(row);
-            accumulate(group, NO_VALUE, newValue);
-        });
+        currentGroup = group;
+        rows.forEach(addProcessor);
     }
 
     @Override
     public void groupRowsChanged(final int group, final IntIterable rows) {
-        rows.forEach(row -> {
-            final ${type.arrayType} newValue = newValueField.valueAt(row);
-            final ${type.arrayType} oldValue = oldValueField.valueAt(row);
-            accumulate(group, oldValue, newValue);
-        });
+        currentGroup = group;
+        rows.forEach(changeProcessor);
     }
 
     @Override
     public void groupRowsRemoved(final int group, final IntIterable rows) {
-        rows.forEach(row -> {
-            final ${type.arrayType} oldValue = oldValueField.valueAt(row);
-            accumulate(group, oldValue, NO_VALUE);
-        });
+        currentGroup = group;
+        rows.forEach(removeProcessor);
+    }
+
+    private void processAdd(final int row) {
+        final ${type.arrayType} newValue = newValueField.valueAt(row);
+        accumulate(currentGroup, NO_VALUE, newValue);
+    }
+
+    private void processChange(final int row) {
+        final ${type.arrayType} newValue = newValueField.valueAt(row);
+        final ${type.arrayType} oldValue = oldValueField.valueAt(row);
+        accumulate(currentGroup, oldValue, newValue);
+    }
+
+    private void processRemove(final int row) {
+        final ${type.arrayType} oldValue = oldValueField.valueAt(row);
+        accumulate(currentGroup, oldValue, NO_VALUE);
     }
 
     @Override
@@ -4,6 +4,7 @@
 package com.bytefacets.spinel.interner;
 
 import com.bytefacets.collections.hash.GenericIndexedSet;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.schema.*;
 
 import java.nio.ByteBuffer;
@@ -13,6 +14,16 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
+/**
+ * Interns rows by the values of several fields, packing fixed-width values into a byte array and
+ * holding references for String and Generic values.
+ *
+ * <p>When created with dictionary codes enabled, a {@link DictionaryStringField} is packed as its
+ * int code rather than held as a String, which avoids hashing and comparing the Strings. Only do
+ * so when the set is not shared with an interner over fields from another dictionary, such as the
+ * other side of a join, because codes are only comparable within one dictionary. Codes are off
+ * unless enabled explicitly.
+ */
 public final class TupleInterner implements RowInterner {
     private static final byte[] WIDTH = new byte[TypeId.Max+1];
     static {
@@ -31,24 +42,43 @@ public final class TupleInterner implements RowInterner {
     private final List<FieldCopier> copiers;
     private final GenericIndexedSet<OpaqueTuple> set;
     private final List<String> fields;
+    private final boolean dictionaryCodes;
     private Function<SharedState, OpaqueTuple> tupleMethod;
+    // a tuple over the shared state used to look up existing entries without allocating
+    private OpaqueTuple probe;
+    // estimated size of each stored tuple, including its arrays
+    private long tupleBytes;
 
     public TupleInterner(final List<String> fields, final int initialCapacity) {
-        this(fields, new GenericIndexedSet<>(initialCapacity));
+        this(fields, initialCapacity, false);
+    }
+
+    public TupleInterner(final List<String> fields, final int initialCapacity, final boolean dictionaryCodes) {
+        this(fields, new GenericIndexedSet<>(initialCapacity), dictionaryCodes);
     }
 
     public TupleInterner(final List<String> fields, final GenericIndexedSet<OpaqueTuple> set) {
+        this(fields, set, false);
+    }
+
+    public TupleInterner(final List<String> fields, final GenericIndexedSet<OpaqueTuple> set, final boolean dictionaryCodes) {
         this.fields = Objects.requireNonNull(fields, "fields");
         this.set = Objects.requireNonNull(set, "set");
+        this.dictionaryCodes = dictionaryCodes;
         this.copiers = new ArrayList<>(fields.size());
     }
 
     @Override
     public int intern(final int row) {
-        copiers.forEach(copier -> copier.copy(row));
-        final var tuple = tupleMethod.apply(state);
+        for(int i = 0, len = copiers.size(); i < len; i++) {
+            copiers.get(i).copy(row);
+        }
+        int entry = set.lookupEntry(probe);
+        if(entry == -1) {
+            entry = set.add(tupleMethod.apply(state));
+        }
         state.reset();
-        return set.add(tuple);
+        return entry;
     }
 
     @Override
@@ -56,6 +86,11 @@ public final class TupleInterner implements RowInterner {
         set.removeAt(entry);
     }
 
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.indexedSetBytes(set.size(), MemoryEstimates.REFERENCE_BYTES) + set.size() * tupleBytes;
+    }
+
     @Override
     public void bindToSchema(final FieldResolver fieldResolver) {
         int fixedWidth = 0;
@@ -63,19 +98,29 @@ public final class TupleInterner implements RowInterner {
         for(String name : fields) {
             final var field = fieldResolver.getField(name);
             copiers.add(createCopier(field));
-            if(field.typeId() == TypeId.String || field.typeId() == TypeId.Generic) {
+            if(dictionaryCodes && field instanceof DictionaryStringField) {
+                fixedWidth += WIDTH[TypeId.Int];
+            } else if(field.typeId() == TypeId.String || field.typeId() == TypeId.Generic) {
                 objectCount++;
             } else {
                 fixedWidth += WIDTH[field.typeId()];
             }
         }
         state.initialize(fixedWidth, objectCount);
+        final long fixedBytes = MemoryEstimates.arrayBytes(fixedWidth, 1);
+        final long objectBytes = MemoryEstimates.arrayBytes(objectCount, MemoryEstimates.REFERENCE_BYTES);
         if(objectCount == 0) {
             tupleMethod = SharedState::createFixedLength;
+            probe = new FixedLengthTuple(state.buffer.array());
+            tupleBytes = 16 + fixedBytes;
         } else if(fixedWidth == 0) {
             tupleMethod = SharedState::createObject;
+            probe = new ObjectTuple(state.objects);
+            tupleBytes = 16 + objectBytes;
         } else {
             tupleMethod = SharedState::createMixed;
+            probe = new MixedTuple(state.buffer.array(), state.objects);
+            tupleBytes = 24 + fixedBytes + objectBytes;
         }
     }
 
@@ -83,9 +128,13 @@ public final class TupleInterner implements RowInterner {
     public void unbindSchema() {
         set.clear();
         copiers.clear();
+        probe = null;
     }
 
     private FieldCopier createCopier(final Field field) {
+        if(dictionaryCodes && field instanceof DictionaryStringField dictionaryField) {
+            return new DictionaryCodeCopier(dictionaryField, state);
+        }
         return switch(field.typeId()) {
 <#list types as type>
             case TypeId.${type.name} -> new ${type.name}Copier((${type.name}Field)field, state);
@@ -134,6 +183,20 @@ public final class TupleInterner implements RowInterner {
         }
     }
 
+    private static class DictionaryCodeCopier implements FieldCopier {
+        private final DictionaryStringField field;
+        private final SharedState state;
+        private DictionaryCodeCopier(final DictionaryStringField field, final SharedState state) {
+            this.field = Objects.requireNonNull(field, "field");
+            this.state = Objects.requireNonNull(state, "state");
+        }
+
+        @Override
+        public void copy(final int row) {
+            state.buffer.putInt(field.codeAt(row));
+        }
+    }
+
 <#list types as type>
 <#if type.name == "String" || type.name == "Generic">
     private static class ${type.name}Copier implements FieldCopier {
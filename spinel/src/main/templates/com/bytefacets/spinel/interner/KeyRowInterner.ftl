@@ -4,8 +4,10 @@
 package com.bytefacets.spinel.interner;
 
 import com.bytefacets.collections.hash.${type.name}IndexedSet;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.schema.${type.name}Field;
 import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.TypeId;
 import java.util.Objects;
 
 public final class ${type.name}RowInterner implements RowInterner {
@@ -46,4 +48,9 @@ public final class ${type.name}RowInterner implements RowInterner {
     public void freeEntry(final int entry) {
         set.removeAt(entry);
     }
+
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.indexedSetBytes(set.size(), MemoryEstimates.bytesPerValue(TypeId.${type.name}));
+    }
 }
@@ -0,0 +1,95 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.journal;
+
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.schema.*;
+
+import java.nio.ByteBuffer;
+
+<#assign sizes = {"Byte": "Byte.BYTES", "Short": "Short.BYTES", "Char": "Character.BYTES", "Int": "Integer.BYTES", "Long": "Long.BYTES", "Float": "Float.BYTES", "Double": "Double.BYTES"}>
+/**
+ * Encodes the values of a field for a batch of rows as one column of a journal record, and decodes
+ * them into a field. Bool columns are packed 8 rows to a byte and Strings are written as UTF-8.
+ * Generic fields hold arbitrary objects and are not journaled.
+ */
+final class JournalCodec {
+    private JournalCodec() {}
+
+    static boolean isJournaled(final byte typeId) {
+        return typeId != TypeId.Generic;
+    }
+
+    static void writeColumn(final RecordBuffer out, final byte typeId, final Field field,
+                            final IntIterable rows, final int rowCount) {
+        switch(typeId) {
+<#list types as type>
+<#if type.name == "Bool">
+            case TypeId.Bool -> {
+                final var values = (BoolField) field;
+                final ByteBuffer buffer = out.ensure((rowCount + 7) >>> 3);
+                final int[] packing = new int[2]; // the bits of the current byte, and the rows packed
+                rows.forEach(row -> {
+                    if(values.valueAt(row)) {
+                        packing[0] |= 1 << (packing[1] & 7);
+                    }
+                    if((++packing[1] & 7) == 0) {
+                        buffer.put((byte) packing[0]);
+                        packing[0] = 0;
+                    }
+                });
+                if((packing[1] & 7) != 0) {
+                    buffer.put((byte) packing[0]);
+                }
+            }
+<#elseif type.name == "String">
+            case TypeId.String -> {
+                final var values = (StringField) field;
+                rows.forEach(row -> out.putString(values.valueAt(row)));
+            }
+<#elseif type.name != "Generic">
+            case TypeId.${type.name} -> {
+                final var values = (${type.name}Field) field;
+                final ByteBuffer buffer = out.ensure(rowCount * ${sizes[type.name]});
+                rows.forEach(row -> buffer.<#if type.name == "Byte">put<#else>put${type.arrayType?cap_first}</#if>(values.valueAt(row)));
+            }
+</#if>
+</#list>
+            default -> throw new IllegalArgumentException("Cannot journal field of type: " + typeId);
+        }
+    }
+
+    static void readColumn(final ByteBuffer in, final byte typeId, final Field field,
+                           final int[] rows, final int rowCount) {
+        switch(typeId) {
+<#list types as type>
+<#if type.name == "Bool">
+            case TypeId.Bool -> {
+                final var values = (BoolWritableField) field;
+                final int start = in.position();
+                for(int i = 0; i < rowCount; i++) {
+                    values.setValueAt(rows[i], (in.get(start + (i >>> 3)) & (1 << (i & 7))) != 0);
+                }
+                in.position(start + ((rowCount + 7) >>> 3));
+            }
+<#elseif type.name == "String">
+            case TypeId.String -> {
+                final var values = (StringWritableField) field;
+                for(int i = 0; i < rowCount; i++) {
+                    values.setValueAt(rows[i], RecordBuffer.getString(in));
+                }
+            }
+<#elseif type.name != "Generic">
+            case TypeId.${type.name} -> {
+                final var values = (${type.name}WritableField) field;
+                for(int i = 0; i < rowCount; i++) {
+                    values.setValueAt(rows[i], in.<#if type.name == "Byte">get<#else>get${type.arrayType?cap_first}</#if>());
+                }
+            }
+</#if>
+</#list>
+            default -> throw new IllegalArgumentException("Cannot replay field of type: " + typeId);
+        }
+    }
+}
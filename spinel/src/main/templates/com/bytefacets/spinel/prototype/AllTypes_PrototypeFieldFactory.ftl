@@ -5,6 +5,7 @@ package com.bytefacets.spinel.prototype;
 
 import com.bytefacets.spinel.schema.Field;
 import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.PackedBoolField;
 import com.bytefacets.spinel.schema.SchemaBindable;
 <#list types as type>
 import com.bytefacets.collections.types.${type.name}Type;
@@ -42,7 +43,12 @@ final class PrototypeFieldFactory {
         return field;
     }
 
+<#if type.name == "Bool">
+    /** Forwards the words of the field it is bound to when that field is packed. */
+    private static final class Prototype${type.name}Field implements PackedBoolField {
+<#else>
     private static final class Prototype${type.name}Field implements ${type.name}Field {
+</#if>
         private final String name;
         private ${type.name}Field currentField = DEFAULT_FIELD_${type.name?upper_case};
 
@@ -70,6 +76,18 @@ final class PrototypeFieldFactory {
         public ${type.arrayType} valueAt(final int row) {
             return currentField.valueAt(row);
         }
+<#if type.name == "Bool">
+
+        @Override
+        public boolean packed() {
+            return currentField instanceof PackedBoolField packed && packed.packed();
+        }
+
+        @Override
+        public long wordAt(final int wordIndex) {
+            return ((PackedBoolField) currentField).wordAt(wordIndex);
+        }
+</#if>
     }
 </#list>
 }
@@ -7,9 +7,16 @@ package com.bytefacets.spinel.schema;
 import com.bytefacets.collections.types.${type.name}Type;
 import com.bytefacets.collections.arrays.${type.name}Array;
 </#list>
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
 
+import java.util.Arrays;
 import java.util.Objects;
 
+/**
+ * Creates fields backed by growable arrays. Bool fields created with an initial size are packed
+ * 64 rows to a long; those created over an existing boolean array use it as it is.
+ */
 public final class ArrayFieldFactory {
     private ArrayFieldFactory() {
     }
@@ -53,8 +60,12 @@ public final class ArrayFieldFactory {
             final int fieldId,
             final FieldChangeListener changeListener,
             final ${type.arrayType} initialValue) {
+<#if type.name == "Bool">
+        return PackedBoolArrayField.packedBoolArrayField(initialSize, fieldId, changeListener, initialValue);
+<#else>
         return new ${type.name}ArrayField(${type.name}Array.create(initialSize, initialValue),
                                           fieldId, changeListener, initialValue);
+</#if>
     }
 
     public static ${type.name}WritableField writable${type.name}ArrayField(
@@ -67,7 +78,7 @@ public final class ArrayFieldFactory {
 
 </#list>
 <#list types as type>
-    public static class ${type.name}ArrayField implements ${type.name}WritableField {
+    public static final class ${type.name}ArrayField implements ${type.name}WritableField, TruncatableField, RetainedSize {
         private final ${type.arrayType} initialValue;
         private ${type.arrayType}[] values;
         private final FieldChangeListener listener;
@@ -94,10 +105,35 @@ public final class ArrayFieldFactory {
 
         @Override
         public void setValueAt(final int row, final ${type.arrayType} value) {
-            values = ${type.name}Array.ensureEntry(values, row, initialValue);
             listener.fieldChanged(fieldId);
+            setValueUnmarked(row, value);
+        }
+
+        /** Sets the value without notifying the listener, for a direct-access StructFacade. */
+        public void setValueUnmarked(final int row, final ${type.arrayType} value) {
+            values = ${type.name}Array.ensureEntry(values, row, initialValue);
             values[row] = value;
         }
+
+        public int fieldId() {
+            return fieldId;
+        }
+
+        /** Shrinks the array to rowLimit, after which the rows above it read as the initial value. */
+        @Override
+        public void truncate(final int rowLimit) {
+            if(rowLimit < values.length) {
+                values = Arrays.copyOf(values, Math.max(rowLimit, 1));
+                if(rowLimit == 0) {
+                    values[0] = initialValue;
+                }
+            }
+        }
+
+        @Override
+        public long retainedBytes() {
+            return MemoryEstimates.arrayBytes(values.length, MemoryEstimates.bytesPerValue(TypeId.${type.name}));
+        }
     }
 
 </#list>
@@ -0,0 +1,30 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import java.util.List;
+
+/**
+ * The concrete field classes, by TypeId, which a direct-access StructFacade calls without going
+ * through the Field interfaces. Each has a public {@code valueAt(int)}, {@code fieldId()} and
+ * {@code setValueUnmarked(int, value)}, which writes the value without notifying the
+ * FieldChangeListener, so that the facade can mark the change in {@link FieldChangeMarks} itself.
+ */
+public final class DirectAccessFields {
+    private DirectAccessFields() {
+    }
+
+    public static List<Class<?>> directFieldClasses(final byte typeId) {
+        return switch(typeId) {
+<#list types as type>
+<#if type.name == "Bool">
+            case TypeId.Bool -> List.of(PackedBoolArrayField.class, ArrayFieldFactory.BoolArrayField.class);
+<#else>
+            case TypeId.${type.name} -> List.of(MatrixStoreFieldFactory.${type.name}StoreField.class, ArrayFieldFactory.${type.name}ArrayField.class);
+</#if>
+</#list>
+            default -> List.of();
+        };
+    }
+}
@@ -3,6 +3,9 @@
 // SPDX-License-Identifier: MIT
 package com.bytefacets.spinel.schema;
 
+import java.util.HashSet;
+import java.util.Set;
+
 public record FieldDescriptor(byte fieldType, String name, Metadata metadata) {
 <#list types as type>
 
@@ -14,5 +17,26 @@ public record FieldDescriptor(byte fieldType, String name, Metadata metadata) {
     }
 
 </#list>
+    /**
+     * A String field whose values are stored as int codes in a dictionary shared by the fields of
+     * the same factory, which suits values of low cardinality, such as symbols and accounts.
+     *
+     * @see DictionaryStringField
+     */
+    public static FieldDescriptor dictionaryStringField(final String name, final Metadata metadata) {
+        final Set<String> tags = new HashSet<>(metadata.tags());
+        tags.add(AttributeConstants.Tags.DictionaryEncoded);
+        return new FieldDescriptor(TypeId.String, name, Metadata.metadata(tags, metadata.attributes()));
+    }
+
+    public static FieldDescriptor dictionaryStringField(final String name) {
+        return dictionaryStringField(name, Metadata.EMPTY);
+    }
+
+    /** Whether this describes a String field to be stored as dictionary codes. */
+    public boolean dictionaryEncoded() {
+        return fieldType == TypeId.String && metadata != null
+                && metadata.hasTag(AttributeConstants.Tags.DictionaryEncoded);
+    }
 }
 
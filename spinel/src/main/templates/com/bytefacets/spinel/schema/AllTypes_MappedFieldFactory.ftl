@@ -7,6 +7,8 @@ package com.bytefacets.spinel.schema;
 import com.bytefacets.collections.types.${type.name}Type;
 </#list>
 
+import static java.util.Objects.requireNonNull;
+
 public final class MappedFieldFactory {
     private MappedFieldFactory() {
 
@@ -23,10 +25,60 @@ public final class MappedFieldFactory {
 <#list types as type>
 
     public static ${type.name}Field asMapped${type.name}Field(final ${type.name}Field field, final RowMapper mapper) {
-        return row -> {
+<#if type.name == "String">
+        if(field instanceof DictionaryStringField dictionaryField) {
+            return new MappedDictionaryStringField(dictionaryField, mapper);
+        }
+</#if>
+        return new Mapped${type.name}Field(field, mapper);
+    }
+
+    private static final class Mapped${type.name}Field implements ${type.name}Field, MappedField {
+        private final ${type.name}Field field;
+        private final RowMapper mapper;
+
+        private Mapped${type.name}Field(final ${type.name}Field field, final RowMapper mapper) {
+            this.field = requireNonNull(field, "field");
+            this.mapper = requireNonNull(mapper, "mapper");
+        }
+
+        @Override
+        public ${type.arrayType} valueAt(final int row) {
             final int sourceRow = mapper.sourceRowOf(row);
             return sourceRow != -1 ? field.valueAt(sourceRow) : ${type.name}Type.DEFAULT;
-        };
+        }
+
+        @Override
+        public int mappingDepth() {
+            return 1 + MappedField.mappingDepthOf(field);
+        }
     }
 </#list>
+
+    /** Keeps the codes of a dictionary-encoded field visible through the mapping. */
+    private static final class MappedDictionaryStringField implements DictionaryStringField, MappedField {
+        private final DictionaryStringField field;
+        private final RowMapper mapper;
+
+        private MappedDictionaryStringField(final DictionaryStringField field, final RowMapper mapper) {
+            this.field = requireNonNull(field, "field");
+            this.mapper = requireNonNull(mapper, "mapper");
+        }
+
+        @Override
+        public int codeAt(final int row) {
+            final int sourceRow = mapper.sourceRowOf(row);
+            return sourceRow != -1 ? field.codeAt(sourceRow) : StringDictionary.NULL_CODE;
+        }
+
+        @Override
+        public StringDictionary dictionary() {
+            return field.dictionary();
+        }
+
+        @Override
+        public int mappingDepth() {
+            return 1 + MappedField.mappingDepthOf(field);
+        }
+    }
 }
@@ -0,0 +1,247 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import com.bytefacets.collections.hash.StringGenericIndexedMap;
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic">
+import com.bytefacets.collections.types.${type.name}Type;
+</#if>
+</#list>
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates fields whose values are stored in memory-mapped files, for the fixed-width types, so the
+ * values survive a restart of the process. String and Generic fields are rejected.
+ *
+ * <p>The fields of one type share a file in the directory, named by the prefix and the type, which
+ * holds their values row by row in chunks of chunkSize rows. Each chunk is mapped separately, so
+ * growing a file maps another chunk without remapping the existing ones. When a file already
+ * exists, its chunks are mapped and its values are read back by the fields. The file layout depends
+ * on the order of the fields of each type, so the same descriptors must be used to re-open it.
+ *
+ * <p>Writes are in the files as soon as they are made, and so survive the process exiting; {@link
+ * #force()} also writes them through to the storage device. Closing the factory unmaps the files,
+ * after which its fields must not be used.
+ */
+public final class MappedFileFieldFactory implements FieldListFactory, Closeable {
+    private final Path directory;
+    private final String prefix;
+    private final int chunkSize;
+    private final FieldChangeListener listener;
+    private final Arena arena = Arena.ofShared();
+    private final List<Store> stores = new ArrayList<>();
+
+    private MappedFileFieldFactory(final Path directory, final String prefix, final int chunkSize, final FieldChangeListener listener) {
+        if(chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.prefix = Objects.requireNonNull(prefix, "prefix");
+        this.chunkSize = chunkSize;
+        this.listener = Objects.requireNonNull(listener, "listener");
+    }
+
+    public static MappedFileFieldFactory mappedFileFieldFactory(final Path directory, final String prefix, final int chunkSize, final FieldChangeListener listener) {
+        return new MappedFileFieldFactory(directory, prefix, chunkSize, listener);
+    }
+
+    /** The number of rows covered by the chunks which have been mapped. */
+    public int mappedRows() {
+        int rows = 0;
+        for(Store store : stores) {
+            rows = Math.max(rows, store.chunks.length * chunkSize);
+        }
+        return rows;
+    }
+
+    /** Copies the values of every field created by this factory from one row to another. */
+    public void moveRow(final int fromRow, final int toRow) {
+        for(Store store : stores) {
+            store.moveRow(fromRow, toRow);
+        }
+    }
+
+    /** Writes any changes in the mapped chunks through to the storage device. */
+    public void force() {
+        for(Store store : stores) {
+            store.force();
+        }
+    }
+
+    /** Unmaps and closes the files. */
+    @Override
+    public void close() {
+        for(Store store : stores) {
+            store.closeChannel();
+        }
+        stores.clear();
+        arena.close();
+    }
+
+    @Override
+    public FieldList createFieldList(final Map<Byte, List<FieldDescriptor>> fieldDescriptors) {
+        final int size = fieldDescriptors.values().stream().mapToInt(List::size).sum();
+        return createFieldList(new StringGenericIndexedMap<>(size, 1f), fieldDescriptors);
+    }
+
+    @Override
+    public FieldList createFieldList(final StringGenericIndexedMap<SchemaField> fieldMap, final Map<Byte, List<FieldDescriptor>> fieldDescriptors) {
+        fieldDescriptors.forEach((typeId, fieldsForType) -> {
+            switch(typeId) {
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic">
+                case TypeId.${type.name} -> add${type.name}Fields(fieldMap, fieldsForType);
+</#if>
+</#list>
+                default -> throw new IllegalArgumentException("Fields of type " + TypeId.toClass(typeId).getSimpleName() + " cannot be memory-mapped");
+            }
+        });
+        return FieldList.fieldList(fieldMap);
+    }
+
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic">
+    private void add${type.name}Fields(final StringGenericIndexedMap<SchemaField> fieldMap, final List<FieldDescriptor> fieldDescriptors) {
+        final int count = fieldDescriptors.size();
+        final Store store = new Store("${type.name}", ValueLayout.JAVA_${type.arrayType?upper_case}, count);
+        for(int i = 0; i < count; i++) {
+            final FieldDescriptor fd = fieldDescriptors.get(i);
+            final int fieldId = fieldMap.add(fd.name());
+            final var field = new ${type.name}MappedFileField(store, i, fieldId);
+            fieldMap.putValueAt(fieldId, SchemaField.schemaField(fieldId, fd.name(), field, fd.metadata()));
+        }
+    }
+
+    private final class ${type.name}MappedFileField implements ${type.name}WritableField, RetainedSize {
+        private static final ValueLayout.Of${type.arrayType?cap_first} LAYOUT = ValueLayout.JAVA_${type.arrayType?upper_case};
+        private final Store store;
+        private final int storeFieldId;
+        private final int fieldId;
+
+        private ${type.name}MappedFileField(final Store store, final int storeFieldId, final int fieldId) {
+            this.store = store;
+            this.storeFieldId = storeFieldId;
+            this.fieldId = fieldId;
+        }
+
+        @Override
+        public ${type.arrayType} valueAt(final int row) {
+            final MemorySegment chunk = store.chunkFor(row);
+            return chunk != null ? chunk.getAtIndex(LAYOUT, store.indexOf(row, storeFieldId)) : ${type.name}Type.DEFAULT;
+        }
+
+        @Override
+        public void setValueAt(final int row, final ${type.arrayType} value) {
+            listener.fieldChanged(fieldId);
+            store.ensureChunkFor(row).setAtIndex(LAYOUT, store.indexOf(row, storeFieldId), value);
+        }
+
+        @Override
+        public long retainedBytes() {
+            return store.retainedBytesPerField();
+        }
+    }
+
+</#if>
+</#list>
+    /** The mapped chunks of the file holding the values of the fields of one type, row by row. */
+    private final class Store {
+        private final int fieldCount;
+        private final long rowBytes;
+        private final long chunkBytes;
+        private final FileChannel channel;
+        private MemorySegment[] chunks;
+
+        private Store(final String typeName, final ValueLayout layout, final int fieldCount) {
+            this.fieldCount = fieldCount;
+            this.rowBytes = fieldCount * layout.byteSize();
+            this.chunkBytes = chunkSize * rowBytes;
+            try {
+                this.channel = FileChannel.open(directory.resolve(prefix + typeName + ".col"),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                final int existingChunks = chunkBytes == 0 ? 0 : (int) ((channel.size() + chunkBytes - 1) / chunkBytes);
+                this.chunks = new MemorySegment[Math.max(1, existingChunks)];
+                for(int i = 0; i < existingChunks; i++) {
+                    chunks[i] = map(i);
+                }
+            } catch(IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            stores.add(this);
+        }
+
+        private long indexOf(final int row, final int storeFieldId) {
+            return (long) (row % chunkSize) * fieldCount + storeFieldId;
+        }
+
+        private MemorySegment chunkFor(final int row) {
+            final int chunk = row / chunkSize;
+            return chunk < chunks.length ? chunks[chunk] : null;
+        }
+
+        private MemorySegment ensureChunkFor(final int row) {
+            final int chunk = row / chunkSize;
+            if(chunk >= chunks.length) {
+                chunks = Arrays.copyOf(chunks, Math.max(chunk + 1, chunks.length * 2));
+            }
+            if(chunks[chunk] == null) {
+                try {
+                    chunks[chunk] = map(chunk);
+                } catch(IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+            return chunks[chunk];
+        }
+
+        private MemorySegment map(final int chunk) throws IOException {
+            return channel.map(FileChannel.MapMode.READ_WRITE, chunk * chunkBytes, chunkBytes, arena);
+        }
+
+        private void moveRow(final int fromRow, final int toRow) {
+            final MemorySegment from = chunkFor(fromRow);
+            if(from != null) {
+                MemorySegment.copy(from, (long) (fromRow % chunkSize) * rowBytes,
+                                   ensureChunkFor(toRow), (long) (toRow % chunkSize) * rowBytes, rowBytes);
+            }
+        }
+
+        private void force() {
+            for(MemorySegment chunk : chunks) {
+                if(chunk != null) {
+                    chunk.force();
+                }
+            }
+        }
+
+        private void closeChannel() {
+            try {
+                channel.close();
+            } catch(IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private long retainedBytesPerField() {
+            return MemoryEstimates.arrayBytes(chunks.length, MemoryEstimates.REFERENCE_BYTES) / fieldCount;
+        }
+    }
+}
@@ -4,19 +4,24 @@
 package com.bytefacets.spinel.schema;
 
 import com.bytefacets.collections.hash.StringGenericIndexedMap;
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
 <#list types as type>
-import com.bytefacets.collections.store.${type.name}ChunkMatrixStore;
-import com.bytefacets.collections.store.${type.name}MatrixStore;
+<#if type.name != "Bool">
+import com.bytefacets.collections.types.${type.name}Type;
+</#if>
 </#list>
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-public final class MatrixStoreFieldFactory {
+public final class MatrixStoreFieldFactory implements FieldListFactory {
     private final int initialSize;
     private final int chunkSize;
     private final FieldChangeListener listener;
+    private StringDictionary dictionary;
 
     private MatrixStoreFieldFactory(final int initialSize, final int chunkSize, final FieldChangeListener listener) {
         this.initialSize = initialSize;
@@ -28,11 +33,13 @@ public final class MatrixStoreFieldFactory {
         return new MatrixStoreFieldFactory(initialSize, chunkSize, listener);
     }
 
+    @Override
     public FieldList createFieldList(final Map<Byte, List<FieldDescriptor>> fieldDescriptors) {
         final int size = fieldDescriptors.values().stream().mapToInt(List::size).sum();
         return createFieldList(new StringGenericIndexedMap<>(size, 1f), fieldDescriptors);
     }
 
+    @Override
     public FieldList createFieldList(final StringGenericIndexedMap<SchemaField> fieldMap, final Map<Byte, List<FieldDescriptor>> fieldDescriptors) {
         fieldDescriptors.forEach((typeId, fieldsForType) -> {
             switch(typeId) {
@@ -46,29 +53,213 @@ public final class MatrixStoreFieldFactory {
     }
 
 <#list types as type>
+<#if type.name == "String">
+    /**
+     * Creates the String fields, storing those described as dictionary-encoded as codes from the
+     * dictionary shared by this factory.
+     */
+    private void addStringFields(final StringGenericIndexedMap<SchemaField> fieldMap, final List<FieldDescriptor> fieldDescriptors) {
+        final int dictionaryCount = (int) fieldDescriptors.stream().filter(FieldDescriptor::dictionaryEncoded).count();
+        final int count = fieldDescriptors.size() - dictionaryCount;
+        final var store = count != 0 ? new StringStoreRef(count) : null;
+        final var codeStore = dictionaryCount != 0 ? new IntStoreRef(dictionaryCount) : null;
+        int storeFieldId = 0;
+        int codeFieldId = 0;
+        for(final FieldDescriptor fd : fieldDescriptors) {
+            final int fieldId = fieldMap.add(fd.name());
+            final Field field;
+            if(fd.dictionaryEncoded()) {
+                field = new DictionaryStringStoreField(codeStore, codeFieldId++, fieldId, dictionary());
+            } else {
+                field = new StringStoreField(store, storeFieldId++, fieldId);
+            }
+            fieldMap.putValueAt(fieldId, SchemaField.schemaField(fieldId, fd.name(), field, fd.metadata()));
+        }
+    }
+
+    private StringDictionary dictionary() {
+        if(dictionary == null) {
+            dictionary = StringDictionary.stringDictionary(initialSize);
+        }
+        return dictionary;
+    }
+
+    private final class DictionaryStringStoreField implements DictionaryStringField, StringWritableField, TruncatableField, RetainedSize {
+        private final IntStoreRef store;
+        private final int storeFieldId;
+        private final int fieldId;
+        private final StringDictionary dictionary;
+
+        private DictionaryStringStoreField(final IntStoreRef store, final int storeFieldId, final int fieldId, final StringDictionary dictionary) {
+            this.store = store;
+            this.storeFieldId = storeFieldId;
+            this.fieldId = fieldId;
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public int codeAt(final int row) {
+            return store.get(row, storeFieldId);
+        }
+
+        @Override
+        public StringDictionary dictionary() {
+            return dictionary;
+        }
+
+        @Override
+        public void setValueAt(final int row, final String value) {
+            listener.fieldChanged(fieldId);
+            store.set(row, storeFieldId, dictionary.encode(value));
+        }
+
+        @Override
+        public void truncate(final int rowLimit) {
+            store.truncate(rowLimit);
+        }
+
+        @Override
+        public long retainedBytes() {
+            return store.retainedBytesPerField();
+        }
+    }
+<#elseif type.name == "Bool">
+    /**
+     * Creates the Bool fields, each packing its values 64 rows to a long, rather than sharing a
+     * store in which each value would take a byte of the row.
+     */
+    private void addBoolFields(final StringGenericIndexedMap<SchemaField> fieldMap, final List<FieldDescriptor> fieldDescriptors) {
+        for(final FieldDescriptor fd : fieldDescriptors) {
+            final int fieldId = fieldMap.add(fd.name());
+            final var field = PackedBoolArrayField.packedBoolArrayField(initialSize, fieldId, listener);
+            fieldMap.putValueAt(fieldId, SchemaField.schemaField(fieldId, fd.name(), field, fd.metadata()));
+        }
+    }
+<#else>
     private void add${type.name}Fields(final StringGenericIndexedMap<SchemaField> fieldMap, final List<FieldDescriptor> fieldDescriptors) {
         final int count = fieldDescriptors.size();
-        final var store = new ${type.name}ChunkMatrixStore${type.instanceGenerics}(initialSize, chunkSize, count);
+        final var store = new ${type.name}StoreRef(count);
         for(int i = 0; i < count; i++) {
             final FieldDescriptor fd = fieldDescriptors.get(i);
             final int fieldId = fieldMap.add(fd.name());
-            final var field = ${type.name?lower_case}FieldBinding(store, i, fieldId);
+            final var field = new ${type.name}StoreField(store, i, fieldId);
             fieldMap.putValueAt(fieldId, SchemaField.schemaField(fieldId, fd.name(), field, fd.metadata()));
         }
     }
+</#if>
+
+<#if type.name != "Bool">
+    /**
+     * Public so that a direct-access StructFacade can call it without going through the field
+     * interfaces; it is only created by the factory.
+     */
+    public final class ${type.name}StoreField implements ${type.name}WritableField, TruncatableField, RetainedSize {
+        private final ${type.name}StoreRef store;
+        private final int storeFieldId;
+        private final int fieldId;
+
+        private ${type.name}StoreField(final ${type.name}StoreRef store, final int storeFieldId, final int fieldId) {
+            this.store = store;
+            this.storeFieldId = storeFieldId;
+            this.fieldId = fieldId;
+        }
+
+        @Override
+        public ${type.arrayType} valueAt(final int row) {
+            return store.get(row, storeFieldId);
+        }
+
+        @Override
+        public void setValueAt(final int row, final ${type.arrayType} value) {
+            listener.fieldChanged(fieldId);
+            setValueUnmarked(row, value);
+        }
+
+        /** Sets the value without notifying the listener, for a direct-access StructFacade. */
+        public void setValueUnmarked(final int row, final ${type.arrayType} value) {
+            store.set(row, storeFieldId, value);
+        }
+
+        public int fieldId() {
+            return fieldId;
+        }
+
+        @Override
+        public void truncate(final int rowLimit) {
+            store.truncate(rowLimit);
+        }
+
+        @Override
+        public long retainedBytes() {
+            return store.retainedBytesPerField();
+        }
+    }
+
+    /**
+     * The store shared by the fields of one type, in chunks of chunkSize rows which each hold the
+     * values of all the fields, row by row. A chunk is allocated when one of its rows is first
+     * written, so the retained bytes are read from the chunks when asked for, rather than tracked on
+     * each write. Truncating the store drops the chunks above the remaining rows.
+     */
+    private final class ${type.name}StoreRef {
+        private final int fieldCount;
+        private ${type.arrayType}[][] chunks;
+
+        private ${type.name}StoreRef(final int fieldCount) {
+            this.fieldCount = fieldCount;
+            this.chunks = new ${type.arrayType}[initialChunks()][];
+        }
+
+        private ${type.arrayType} get(final int row, final int storeFieldId) {
+            final int chunk = row / chunkSize;
+            return chunk < chunks.length && chunks[chunk] != null ? chunks[chunk][indexOf(row, chunk, storeFieldId)] : ${type.name}Type.DEFAULT;
+        }
 
-    private ${type.name}WritableField ${type.name?lower_case}FieldBinding(final ${type.name}MatrixStore${type.instanceGenerics} store, final int storeFieldId, final int fieldId) {
-        return new ${type.name}WritableField() {
-            @Override
-            public ${type.arrayType} valueAt(final int row) {
-                return store.get${type.name}(row, storeFieldId);
+        private void set(final int row, final int storeFieldId, final ${type.arrayType} value) {
+            final int chunk = row / chunkSize;
+            if(chunk >= chunks.length) {
+                chunks = Arrays.copyOf(chunks, Math.max(chunk + 1, chunks.length * 2));
             }
-            @Override
-            public void setValueAt(final int row, final ${type.arrayType} value) {
-                listener.fieldChanged(fieldId);
-                store.set${type.name}(row, storeFieldId, value);
+            if(chunks[chunk] == null) {
+                chunks[chunk] = new ${type.arrayType}[chunkSize * fieldCount];
             }
-        };
+            chunks[chunk][indexOf(row, chunk, storeFieldId)] = value;
+        }
+
+        private int indexOf(final int row, final int chunk, final int storeFieldId) {
+            return (row - chunk * chunkSize) * fieldCount + storeFieldId;
+        }
+
+        /** Drops the chunks above rowLimit, and clears the rows above it in the chunk kept. */
+        private void truncate(final int rowLimit) {
+            final int keep = Math.max(initialChunks(), (rowLimit + chunkSize - 1) / chunkSize);
+            if(keep < chunks.length) {
+                chunks = Arrays.copyOf(chunks, keep);
+            }
+            final int chunk = rowLimit / chunkSize;
+            if(chunk < chunks.length && chunks[chunk] != null) {
+                Arrays.fill(chunks[chunk], indexOf(rowLimit, chunk, 0), chunkSize * fieldCount, ${type.name}Type.DEFAULT);
+            }
+        }
+
+        private long retainedBytesPerField() {
+            return chunkedBytes(chunks, chunkSize * fieldCount, MemoryEstimates.bytesPerValue(TypeId.${type.name})) / fieldCount;
+        }
     }
+</#if>
 </#list>
+
+    private int initialChunks() {
+        return Math.max(1, (initialSize + chunkSize - 1) / chunkSize);
+    }
+
+    private static long chunkedBytes(final Object[] chunks, final int valuesPerChunk, final int valueBytes) {
+        long bytes = MemoryEstimates.arrayBytes(chunks.length, MemoryEstimates.REFERENCE_BYTES);
+        for(final Object chunk : chunks) {
+            if(chunk != null) {
+                bytes += MemoryEstimates.arrayBytes(valuesPerChunk, valueBytes);
+            }
+        }
+        return bytes;
+    }
 }
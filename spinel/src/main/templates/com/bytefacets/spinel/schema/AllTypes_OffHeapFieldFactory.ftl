@@ -0,0 +1,207 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import com.bytefacets.collections.hash.StringGenericIndexedMap;
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic">
+import com.bytefacets.collections.types.${type.name}Type;
+</#if>
+</#list>
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates fields whose values are stored off-heap for the fixed-width types. String and Generic
+ * fields hold references, so they are created on the heap by a MatrixStoreFieldFactory.
+ *
+ * <p>Like the MatrixStoreFieldFactory, the fields of one type share a store which holds their values
+ * row by row, in chunks of chunkSize rows. Growing a store allocates another chunk without copying
+ * the existing ones, and the chunks are neither scanned nor copied by the garbage collector.
+ * New chunks are zeroed, which is the default value of each fixed-width type.
+ *
+ * <p>Chunks are allocated from an automatic Arena, so the memory is released once the fields are no
+ * longer reachable. Off-heap memory is not included in {@link RetainedSize#retainedBytes()}, which
+ * reports the heap retained; see {@link #offHeapBytes()}.
+ */
+public final class OffHeapFieldFactory implements FieldListFactory {
+    private final int initialSize;
+    private final int chunkSize;
+    private final FieldChangeListener listener;
+    private final MatrixStoreFieldFactory referenceFieldFactory;
+    private long offHeapBytes;
+
+    private OffHeapFieldFactory(final int initialSize, final int chunkSize, final FieldChangeListener listener) {
+        if(chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.initialSize = initialSize;
+        this.chunkSize = chunkSize;
+        this.listener = Objects.requireNonNull(listener, "listener");
+        this.referenceFieldFactory = MatrixStoreFieldFactory.matrixStoreFieldFactory(initialSize, chunkSize, listener);
+    }
+
+    public static OffHeapFieldFactory offHeapFieldFactory(final int initialSize, final int chunkSize, final FieldChangeListener listener) {
+        return new OffHeapFieldFactory(initialSize, chunkSize, listener);
+    }
+
+    /** The off-heap bytes allocated for the fields created by this factory. */
+    public long offHeapBytes() {
+        return offHeapBytes;
+    }
+
+    @Override
+    public FieldList createFieldList(final Map<Byte, List<FieldDescriptor>> fieldDescriptors) {
+        final int size = fieldDescriptors.values().stream().mapToInt(List::size).sum();
+        return createFieldList(new StringGenericIndexedMap<>(size, 1f), fieldDescriptors);
+    }
+
+    @Override
+    public FieldList createFieldList(final StringGenericIndexedMap<SchemaField> fieldMap, final Map<Byte, List<FieldDescriptor>> fieldDescriptors) {
+        final Map<Byte, List<FieldDescriptor>> referenceFields = new HashMap<>(2);
+        fieldDescriptors.forEach((typeId, fieldsForType) -> {
+            switch(typeId) {
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic">
+                case TypeId.${type.name} -> add${type.name}Fields(fieldMap, fieldsForType);
+</#if>
+</#list>
+                case TypeId.String, TypeId.Generic -> referenceFields.put(typeId, fieldsForType);
+                default -> throw new IllegalArgumentException("Unknown typeId: " + typeId);
+            }
+        });
+        if(!referenceFields.isEmpty()) {
+            referenceFieldFactory.createFieldList(fieldMap, referenceFields);
+        }
+        return FieldList.fieldList(fieldMap);
+    }
+
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic">
+    private void add${type.name}Fields(final StringGenericIndexedMap<SchemaField> fieldMap, final List<FieldDescriptor> fieldDescriptors) {
+        final int count = fieldDescriptors.size();
+        final Store store = new Store(ValueLayout.JAVA_${type.arrayType?upper_case}, count);
+        for(int i = 0; i < count; i++) {
+            final FieldDescriptor fd = fieldDescriptors.get(i);
+            final int fieldId = fieldMap.add(fd.name());
+            final var field = new ${type.name}OffHeapField(store, i, fieldId);
+            fieldMap.putValueAt(fieldId, SchemaField.schemaField(fieldId, fd.name(), field, fd.metadata()));
+        }
+    }
+
+    private final class ${type.name}OffHeapField implements ${type.name}WritableField, TruncatableField, RetainedSize {
+        private static final ValueLayout.Of${type.arrayType?cap_first} LAYOUT = ValueLayout.JAVA_${type.arrayType?upper_case};
+        private final Store store;
+        private final int storeFieldId;
+        private final int fieldId;
+
+        private ${type.name}OffHeapField(final Store store, final int storeFieldId, final int fieldId) {
+            this.store = store;
+            this.storeFieldId = storeFieldId;
+            this.fieldId = fieldId;
+        }
+
+        @Override
+        public ${type.arrayType} valueAt(final int row) {
+            final MemorySegment chunk = store.chunkFor(row);
+            return chunk != null ? chunk.getAtIndex(LAYOUT, store.indexOf(row, storeFieldId)) : ${type.name}Type.DEFAULT;
+        }
+
+        @Override
+        public void setValueAt(final int row, final ${type.arrayType} value) {
+            listener.fieldChanged(fieldId);
+            store.ensureChunkFor(row).setAtIndex(LAYOUT, store.indexOf(row, storeFieldId), value);
+        }
+
+        @Override
+        public void truncate(final int rowLimit) {
+            store.truncate(rowLimit);
+        }
+
+        @Override
+        public long retainedBytes() {
+            return store.retainedBytesPerField();
+        }
+    }
+
+</#if>
+</#list>
+    /** The chunks holding the values of the fields of one type, row by row. */
+    private final class Store {
+        private final ValueLayout layout;
+        private final int fieldCount;
+        private MemorySegment[] chunks;
+
+        private Store(final ValueLayout layout, final int fieldCount) {
+            this.layout = layout;
+            this.fieldCount = fieldCount;
+            this.chunks = new MemorySegment[Math.max(1, (initialSize + chunkSize - 1) / chunkSize)];
+            for(int row = 0; row < initialSize; row += chunkSize) {
+                ensureChunkFor(row);
+            }
+        }
+
+        private long indexOf(final int row, final int storeFieldId) {
+            return (long) (row % chunkSize) * fieldCount + storeFieldId;
+        }
+
+        private MemorySegment chunkFor(final int row) {
+            final int chunk = row / chunkSize;
+            return chunk < chunks.length ? chunks[chunk] : null;
+        }
+
+        private MemorySegment ensureChunkFor(final int row) {
+            final int chunk = row / chunkSize;
+            if(chunk >= chunks.length) {
+                chunks = Arrays.copyOf(chunks, Math.max(chunk + 1, chunks.length * 2));
+            }
+            if(chunks[chunk] == null) {
+                chunks[chunk] = allocateChunk();
+            }
+            return chunks[chunk];
+        }
+
+        // each chunk has its own automatic arena, so a chunk released by truncate can be freed
+        private MemorySegment allocateChunk() {
+            offHeapBytes += chunkBytes();
+            return Arena.ofAuto().allocate(chunkBytes(), layout.byteAlignment());
+        }
+
+        private long chunkBytes() {
+            return (long) chunkSize * fieldCount * layout.byteSize();
+        }
+
+        /** Drops the chunks above rowLimit, and clears the rows above it in the chunks kept. */
+        private void truncate(final int rowLimit) {
+            final int keep = Math.max(1, (Math.max(rowLimit, initialSize) + chunkSize - 1) / chunkSize);
+            for(int chunk = keep; chunk < chunks.length; chunk++) {
+                if(chunks[chunk] != null) {
+                    offHeapBytes -= chunkBytes();
+                }
+            }
+            if(keep < chunks.length) {
+                chunks = Arrays.copyOf(chunks, keep);
+            }
+            for(int chunk = rowLimit / chunkSize; chunk < chunks.length; chunk++) {
+                if(chunks[chunk] != null) {
+                    final long offset = chunk == rowLimit / chunkSize ? indexOf(rowLimit, 0) * layout.byteSize() : 0;
+                    chunks[chunk].asSlice(offset).fill((byte) 0);
+                }
+            }
+        }
+
+        private long retainedBytesPerField() {
+            return MemoryEstimates.arrayBytes(chunks.length, MemoryEstimates.REFERENCE_BYTES) / fieldCount;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import com.bytefacets.collections.hash.StringGenericIndexedMap;
+<#list types as type>
+<#if type.name != "Bool">
+import com.bytefacets.collections.types.${type.name}Type;
+</#if>
+</#list>
+import com.bytefacets.spinel.common.MemoryEstimates;
+import com.bytefacets.spinel.common.RetainedSize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates fields which each store their values in pages of pageSize rows. Growing a field
+ * allocates another page and never copies the values already written, so a table of tens of
+ * millions of rows does not stall, or briefly hold its values twice, when it outgrows its capacity.
+ * Only the array of page references is copied, which is pageSize times smaller.
+ *
+ * <p>Unlike the MatrixStoreFieldFactory, which stores the fields of one type row by row, each field
+ * has its own pages, so scanning a field reads only its own values. The pageSize is rounded up to
+ * a power of two so that a row is split into its page and offset by a shift and a mask. Bool fields
+ * are packed 64 rows to a long, with pages of at least 64 rows, and dictionary-encoded String fields
+ * are created by a MatrixStoreFieldFactory.
+ */
+public final class PagedFieldFactory implements FieldListFactory {
+    private final int initialSize;
+    private final int pageShift;
+    private final int pageMask;
+    private final FieldChangeListener listener;
+    private final MatrixStoreFieldFactory dictionaryFieldFactory;
+
+    private PagedFieldFactory(final int initialSize, final int pageSize, final FieldChangeListener listener) {
+        if(pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        this.initialSize = initialSize;
+        this.pageShift = 32 - Integer.numberOfLeadingZeros(pageSize - 1);
+        this.pageMask = (1 << pageShift) - 1;
+        this.listener = Objects.requireNonNull(listener, "listener");
+        this.dictionaryFieldFactory = MatrixStoreFieldFactory.matrixStoreFieldFactory(initialSize, pageSize, listener);
+    }
+
+    public static PagedFieldFactory pagedFieldFactory(final int initialSize, final int pageSize, final FieldChangeListener listener) {
+        return new PagedFieldFactory(initialSize, pageSize, listener);
+    }
+
+    /** The number of rows in each page, which is the pageSize rounded up to a power of two. */
+    public int pageSize() {
+        return 1 << pageShift;
+    }
+
+    @Override
+    public FieldList createFieldList(final Map<Byte, List<FieldDescriptor>> fieldDescriptors) {
+        final int size = fieldDescriptors.values().stream().mapToInt(List::size).sum();
+        return createFieldList(new StringGenericIndexedMap<>(size, 1f), fieldDescriptors);
+    }
+
+    @Override
+    public FieldList createFieldList(final StringGenericIndexedMap<SchemaField> fieldMap, final Map<Byte, List<FieldDescriptor>> fieldDescriptors) {
+        fieldDescriptors.forEach((typeId, fieldsForType) -> {
+            switch(typeId) {
+<#list types as type>
+                case TypeId.${type.name} -> add${type.name}Fields(fieldMap, fieldsForType);
+</#list>
+                default -> throw new IllegalArgumentException("Unknown typeId: " + typeId);
+            }
+        });
+        return FieldList.fieldList(fieldMap);
+    }
+
+    private int initialPages(final int rowsPerPageShift) {
+        return Math.max(1, (initialSize + (1 << rowsPerPageShift) - 1) >>> rowsPerPageShift);
+    }
+
+<#list types as type>
+<#if type.name == "Bool">
+    private void addBoolFields(final StringGenericIndexedMap<SchemaField> fieldMap, final List<FieldDescriptor> fieldDescriptors) {
+        for(final FieldDescriptor fd : fieldDescriptors) {
+            final int fieldId = fieldMap.add(fd.name());
+            final var field = new BoolPagedField(fieldId);
+            fieldMap.putValueAt(fieldId, SchemaField.schemaField(fieldId, fd.name(), field, fd.metadata()));
+        }
+    }
+
+    /** Packs its values 64 rows to a long, in pages of at least one long. */
+    private final class BoolPagedField implements BoolWritableField, PackedBoolField, TruncatableField, RetainedSize {
+        private final int wordShift = Math.max(0, pageShift - 6);
+        private final int wordMask = (1 << wordShift) - 1;
+        private final int fieldId;
+        private long[][] pages;
+
+        private BoolPagedField(final int fieldId) {
+            this.fieldId = fieldId;
+            this.pages = new long[initialPages(wordShift + 6)][];
+        }
+
+        @Override
+        public long wordAt(final int wordIndex) {
+            final int page = wordIndex >>> wordShift;
+            return page < pages.length && pages[page] != null ? pages[page][wordIndex & wordMask] : 0L;
+        }
+
+        @Override
+        public boolean valueAt(final int row) {
+            return (wordAt(PackedBoolField.wordIndex(row)) & PackedBoolField.bitOf(row)) != 0;
+        }
+
+        @Override
+        public void setValueAt(final int row, final boolean value) {
+            final int wordIndex = PackedBoolField.wordIndex(row);
+            final int page = wordIndex >>> wordShift;
+            if(page >= pages.length) {
+                pages = Arrays.copyOf(pages, Math.max(page + 1, pages.length * 2));
+            }
+            if(pages[page] == null) {
+                pages[page] = new long[wordMask + 1];
+            }
+            listener.fieldChanged(fieldId);
+            if(value) {
+                pages[page][wordIndex & wordMask] |= PackedBoolField.bitOf(row);
+            } else {
+                pages[page][wordIndex & wordMask] &= ~PackedBoolField.bitOf(row);
+            }
+        }
+
+        @Override
+        public void truncate(final int rowLimit) {
+            final int wordLimit = (rowLimit + PackedBoolField.ROWS_PER_WORD - 1) >>> 6;
+            pages = truncatePages(pages, (wordLimit + wordMask) >>> wordShift);
+            final int lastWord = PackedBoolField.wordIndex(rowLimit);
+            final int page = lastWord >>> wordShift;
+            if(page < pages.length && pages[page] != null) {
+                pages[page][lastWord & wordMask] &= PackedBoolField.bitOf(rowLimit) - 1;
+                Arrays.fill(pages[page], (lastWord & wordMask) + 1, wordMask + 1, 0L);
+            }
+        }
+
+        @Override
+        public long retainedBytes() {
+            return pagedBytes(pages, wordMask + 1, Long.BYTES);
+        }
+    }
+<#else>
+    private void add${type.name}Fields(final StringGenericIndexedMap<SchemaField> fieldMap, final List<FieldDescriptor> fieldDescriptors) {
+<#if type.name == "String">
+        final List<FieldDescriptor> dictionaryFields = new ArrayList<>(0);
+</#if>
+        for(final FieldDescriptor fd : fieldDescriptors) {
+<#if type.name == "String">
+            if(fd.dictionaryEncoded()) {
+                dictionaryFields.add(fd);
+                continue;
+            }
+</#if>
+            final int fieldId = fieldMap.add(fd.name());
+            final var field = new ${type.name}PagedField(fieldId);
+            fieldMap.putValueAt(fieldId, SchemaField.schemaField(fieldId, fd.name(), field, fd.metadata()));
+        }
+<#if type.name == "String">
+        if(!dictionaryFields.isEmpty()) {
+            dictionaryFieldFactory.createFieldList(fieldMap, Map.of(TypeId.String, dictionaryFields));
+        }
+</#if>
+    }
+
+    private final class ${type.name}PagedField implements ${type.name}WritableField, TruncatableField, RetainedSize {
+        private final int fieldId;
+        private ${type.arrayType}[][] pages;
+
+        private ${type.name}PagedField(final int fieldId) {
+            this.fieldId = fieldId;
+            this.pages = new ${type.arrayType}[initialPages(pageShift)][];
+        }
+
+        @Override
+        public ${type.arrayType} valueAt(final int row) {
+            final int page = row >>> pageShift;
+            return page < pages.length && pages[page] != null ? pages[page][row & pageMask] : ${type.name}Type.DEFAULT;
+        }
+
+        @Override
+        public void setValueAt(final int row, final ${type.arrayType} value) {
+            final int page = row >>> pageShift;
+            if(page >= pages.length) {
+                pages = Arrays.copyOf(pages, Math.max(page + 1, pages.length * 2));
+            }
+            if(pages[page] == null) {
+                pages[page] = new ${type.arrayType}[pageMask + 1];
+            }
+            listener.fieldChanged(fieldId);
+            pages[page][row & pageMask] = value;
+        }
+
+        @Override
+        public void truncate(final int rowLimit) {
+            pages = truncatePages(pages, (rowLimit + pageMask) >>> pageShift);
+            final int page = rowLimit >>> pageShift;
+            if(page < pages.length && pages[page] != null) {
+                Arrays.fill(pages[page], rowLimit & pageMask, pageMask + 1, ${type.name}Type.DEFAULT);
+            }
+        }
+
+        @Override
+        public long retainedBytes() {
+            return pagedBytes(pages, pageMask + 1, MemoryEstimates.bytesPerValue(TypeId.${type.name}));
+        }
+    }
+</#if>
+
+</#list>
+    /** Drops the pages from pageLimit upwards, keeping at least the first page. */
+    private <T> T[] truncatePages(final T[] pages, final int pageLimit) {
+        final int keep = Math.max(pageLimit, 1);
+        if(keep < pages.length) {
+            return Arrays.copyOf(pages, keep);
+        }
+        return pages;
+    }
+
+    private static long pagedBytes(final Object[] pages, final int valuesPerPage, final int valueBytes) {
+        long bytes = MemoryEstimates.arrayBytes(pages.length, MemoryEstimates.REFERENCE_BYTES);
+        for(final Object page : pages) {
+            if(page != null) {
+                bytes += MemoryEstimates.arrayBytes(valuesPerPage, valueBytes);
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,106 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.table;
+
+import com.bytefacets.spinel.RowRemap;
+import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.schema.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Moves the values of the writable fields of a table between rows when the table is compacted,
+ * and truncates the fields which can release their storage.
+ */
+final class RowCompactor {
+    private final List<RowMover> movers = new ArrayList<>();
+    private final List<TruncatableField> truncatable = new ArrayList<>();
+
+    static RowCompactor rowCompactor(final Schema schema) {
+        final RowCompactor compactor = new RowCompactor();
+        schema.forEachField(schemaField -> compactor.add(schemaField.field()));
+        return compactor;
+    }
+
+    private RowCompactor() {}
+
+    /**
+     * Moves the live rows at or above rowCount into the free rows below it, and truncates the fields
+     * of the schema at rowCount. The inputs attached to the output are notified of the moves before
+     * and after the values are moved. The reindexer is called after the values are moved, before the
+     * inputs are notified, to move the table's own state for the rows.
+     *
+     * @return the moves, which are empty if the live rows were already below rowCount
+     */
+    static RowRemap compact(final BitSet liveRows,
+                            final int rowCount,
+                            final Schema schema,
+                            final OutputManager outputManager,
+                            final Consumer<RowRemap> reindexer) {
+        final RowRemap remap = RowRemap.rowRemap(liveRows.length() - rowCount);
+        planMoves(liveRows, rowCount, remap);
+        final RowCompactor compactor = rowCompactor(schema);
+        if(!remap.isEmpty()) {
+            outputManager.notifyRemapping(remap);
+            remap.forEach(compactor::moveRow);
+            reindexer.accept(remap);
+            outputManager.notifyRemapped(remap);
+        }
+        compactor.truncate(rowCount);
+        return remap;
+    }
+
+    /**
+     * Plans the moves which leave the live rows at 0 to rowCount - 1: each live row at or above
+     * rowCount moves into the lowest free row below it. As a row moved to is never a row moved from,
+     * the values of each moved row remain at its old row until the fields are truncated.
+     */
+    private static void planMoves(final BitSet liveRows, final int rowCount, final RowRemap remap) {
+        int toRow = liveRows.nextClearBit(0);
+        for(int fromRow = liveRows.nextSetBit(rowCount); fromRow >= 0; fromRow = liveRows.nextSetBit(fromRow + 1)) {
+            remap.add(fromRow, toRow);
+            toRow = liveRows.nextClearBit(toRow + 1);
+        }
+    }
+
+    private void add(final Field field) {
+        if(field instanceof WritableField) {
+            movers.add(createMover(field));
+        }
+        if(field instanceof TruncatableField truncatableField) {
+            truncatable.add(truncatableField);
+        }
+    }
+
+    /** Copies the values of every writable field from one row to another. */
+    void moveRow(final int fromRow, final int toRow) {
+        for(int i = 0, len = movers.size(); i < len; i++) {
+            movers.get(i).move(fromRow, toRow);
+        }
+    }
+
+    /** Releases the storage of the fields from rowLimit upwards. */
+    void truncate(final int rowLimit) {
+        truncatable.forEach(field -> field.truncate(rowLimit));
+    }
+
+    private static RowMover createMover(final Field field) {
+        return switch(field.typeId()) {
+<#list types as type>
+            case TypeId.${type.name} -> {
+                final var writable = (${type.name}WritableField) field;
+                yield (from, to) -> writable.setValueAt(to, writable.valueAt(from));
+            }
+</#list>
+            default -> throw new IllegalArgumentException("Unknown typeId: " + field.typeId());
+        };
+    }
+
+    private interface RowMover {
+        void move(int fromRow, int toRow);
+    }
+}
@@ -0,0 +1,364 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.table;
+
+import static com.bytefacets.spinel.exception.OperatorSetupException.setupException;
+
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.schema.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+<#assign sizes = {"Byte": "Byte.BYTES", "Short": "Short.BYTES", "Char": "Character.BYTES", "Int": "Integer.BYTES", "Long": "Long.BYTES", "Float": "Float.BYTES", "Double": "Double.BYTES"}>
+/**
+ * Writes the live rows of a table to a columnar checkpoint file, and reads them back into an empty
+ * table. The file holds a header with the table name, key type, row count and the name and type of
+ * each column, followed by the key column and then each writable field's column, with the values of
+ * all rows of one column together. Bool columns are packed 8 rows to a byte, and Strings are
+ * written as UTF-8. Generic fields cannot be checkpointed.
+ *
+ * <p>The file is written through a single direct buffer, column by column, without materializing
+ * rows, to a temporary file which is then moved over the target, so a crash while writing leaves
+ * the previous checkpoint in place.
+ */
+final class TableCheckpoint {
+    private static final int MAGIC = 0x53504e43;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private TableCheckpoint() {}
+
+    /**
+     * Writes the rows to the file, replacing it if it exists.
+     *
+     * @param keys the key of each row
+     * @param rows the live rows of the table
+     * @param rowCount the number of live rows
+     */
+    static void write(final Path file,
+                      final String name,
+                      final byte keyType,
+                      final Field keys,
+                      final Schema schema,
+                      final IntIterable rows,
+                      final int rowCount) {
+        final List<SchemaField> columns = new ArrayList<>(schema.size());
+        schema.forEachField(schemaField -> {
+            if(schemaField.field() instanceof WritableField) {
+                if(schemaField.typeId() == TypeId.Generic) {
+                    throw new IllegalArgumentException("Cannot checkpoint Generic field: " + schemaField.name());
+                }
+                columns.add(schemaField);
+            }
+        });
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try(Output out = new Output(FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                         StandardOpenOption.TRUNCATE_EXISTING))) {
+                out.ensure(Integer.BYTES * 2).putInt(MAGIC).putInt(VERSION);
+                out.putString(name);
+                out.ensure(1 + Integer.BYTES * 2).put(keyType).putInt(rowCount).putInt(columns.size());
+                for(SchemaField column : columns) {
+                    out.putString(column.name());
+                    out.ensure(1).put(column.typeId());
+                }
+                writeColumn(out, keyType, keys, rows, rowCount);
+                for(SchemaField column : columns) {
+                    writeColumn(out, column.typeId(), column.field(), rows, rowCount);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch(IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /** Opens a checkpoint file, verifying that its key type matches that of the table. */
+    static Reader reader(final Path file, final byte keyType, final Schema schema) {
+        try {
+            return new Reader(file, keyType, schema);
+        } catch(IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeColumn(final Output out, final byte typeId, final Field field,
+                                    final IntIterable rows, final int rowCount) {
+        switch(typeId) {
+<#list types as type>
+<#if type.name == "Bool">
+            case TypeId.Bool -> {
+                final var values = (BoolField) field;
+                final byte[] packed = new byte[1];
+                final int[] position = new int[1];
+                rows.forEach(row -> {
+                    if(values.valueAt(row)) {
+                        packed[0] |= (byte) (1 << (position[0] & 7));
+                    }
+                    if((++position[0] & 7) == 0) {
+                        out.ensure(1).put(packed[0]);
+                        packed[0] = 0;
+                    }
+                });
+                if((rowCount & 7) != 0) {
+                    out.ensure(1).put(packed[0]);
+                }
+            }
+<#elseif type.name == "String">
+            case TypeId.String -> {
+                final var values = (StringField) field;
+                rows.forEach(row -> out.putString(values.valueAt(row)));
+            }
+<#elseif type.name != "Generic">
+            case TypeId.${type.name} -> {
+                final var values = (${type.name}Field) field;
+                rows.forEach(row -> out.ensure(${sizes[type.name]}).<#if type.name == "Byte">put<#else>put${type.arrayType?cap_first}</#if>(values.valueAt(row)));
+            }
+</#if>
+</#list>
+            default -> throw new IllegalArgumentException("Cannot checkpoint field of type: " + typeId);
+        }
+    }
+
+    private static void readColumn(final Input in, final byte typeId, final Field field, final int[] rows) {
+        switch(typeId) {
+<#list types as type>
+<#if type.name == "Bool">
+            case TypeId.Bool -> {
+                final var values = (BoolWritableField) field;
+                byte packed = 0;
+                for(int i = 0; i < rows.length; i++) {
+                    if((i & 7) == 0) {
+                        packed = in.ensure(1).get();
+                    }
+                    values.setValueAt(rows[i], (packed & (1 << (i & 7))) != 0);
+                }
+            }
+<#elseif type.name == "String">
+            case TypeId.String -> {
+                final var values = (StringWritableField) field;
+                for(int row : rows) {
+                    values.setValueAt(row, in.getString());
+                }
+            }
+<#elseif type.name != "Generic">
+            case TypeId.${type.name} -> {
+                final var values = (${type.name}WritableField) field;
+                for(int row : rows) {
+                    values.setValueAt(row, in.ensure(${sizes[type.name]}).<#if type.name == "Byte">get<#else>get${type.arrayType?cap_first}</#if>());
+                }
+            }
+</#if>
+</#list>
+            default -> throw new IllegalArgumentException("Cannot restore field of type: " + typeId);
+        }
+    }
+
+    /**
+     * Reads a checkpoint file. The keys are read first, so that the table can assign a row to each,
+     * and then the columns are read directly into the table's fields at those rows.
+     */
+    static final class Reader implements Closeable {
+        private final Input in;
+        private final Schema schema;
+        private final String name;
+        private final byte keyType;
+        private final int rowCount;
+        private final String[] columnNames;
+        private final byte[] columnTypes;
+
+        private Reader(final Path file, final byte expectedKeyType, final Schema schema) throws IOException {
+            this.schema = schema;
+            this.in = new Input(FileChannel.open(file, StandardOpenOption.READ));
+            try {
+                if(in.ensure(Integer.BYTES).getInt() != MAGIC) {
+                    throw setupException("Not a checkpoint file: " + file);
+                }
+                final int version = in.ensure(Integer.BYTES).getInt();
+                if(version != VERSION) {
+                    throw setupException("Unsupported checkpoint version " + version + " in " + file);
+                }
+                this.name = in.getString();
+                this.keyType = in.ensure(1).get();
+                if(keyType != expectedKeyType) {
+                    throw setupException(String.format("Checkpoint %s of %s has key type %s, but the table has %s",
+                            file, name, TypeId.toTypeName(keyType), TypeId.toTypeName(expectedKeyType)));
+                }
+                this.rowCount = in.ensure(Integer.BYTES).getInt();
+                final int columnCount = in.ensure(Integer.BYTES).getInt();
+                this.columnNames = new String[columnCount];
+                this.columnTypes = new byte[columnCount];
+                for(int c = 0; c < columnCount; c++) {
+                    columnNames[c] = in.getString();
+                    columnTypes[c] = in.ensure(1).get();
+                    verifyColumn(file, columnNames[c], columnTypes[c]);
+                }
+            } catch(RuntimeException ex) {
+                in.close();
+                throw ex;
+            }
+        }
+
+        private void verifyColumn(final Path file, final String columnName, final byte typeId) {
+            final SchemaField field = schema.fields().maybeField(columnName);
+            if(field != null && (field.typeId() != typeId || !(field.field() instanceof WritableField))) {
+                throw setupException(String.format("Checkpoint %s has %s field %s, which does not match the table",
+                        file, TypeId.toTypeName(typeId), columnName));
+            }
+        }
+
+        int rowCount() {
+            return rowCount;
+        }
+
+        /** Reads the key column into a field indexed by the position of each key in the file. */
+        Field readKeys() {
+            final Field keys = ArrayFieldFactory.writableArrayField(keyType, Math.max(rowCount, 1), 0, fieldId -> {});
+            final int[] positions = new int[rowCount];
+            for(int i = 0; i < rowCount; i++) {
+                positions[i] = i;
+            }
+            readColumn(in, keyType, keys, positions);
+            return keys;
+        }
+
+        /**
+         * Reads each column into the table field of the same name, at the row assigned to the key in
+         * the same position. Columns of fields which are no longer in the table are skipped.
+         */
+        void readColumns(final int[] rows) {
+            for(int c = 0; c < columnNames.length; c++) {
+                final SchemaField field = schema.fields().maybeField(columnNames[c]);
+                if(field != null) {
+                    readColumn(in, columnTypes[c], field.field(), rows);
+                } else {
+                    final Field scratch = ArrayFieldFactory.writableArrayField(columnTypes[c], 1, 0, fieldId -> {});
+                    readColumn(in, columnTypes[c], scratch, new int[rows.length]);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            in.close();
+        }
+    }
+
+    /** Writes to a channel through a direct buffer which is flushed when it cannot hold a value. */
+    private static final class Output implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Output(final FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private ByteBuffer ensure(final int bytes) {
+            if(buffer.remaining() < bytes) {
+                flush();
+            }
+            return buffer;
+        }
+
+        private void putString(final String value) {
+            if(value == null) {
+                ensure(Integer.BYTES).putInt(-1);
+                return;
+            }
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensure(Integer.BYTES).putInt(bytes.length);
+            int offset = 0;
+            while(offset < bytes.length) {
+                final int length = Math.min(ensure(1).remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        private void flush() {
+            buffer.flip();
+            try {
+                while(buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch(IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /** Reads from a channel through a direct buffer which is refilled when it holds too few bytes. */
+    private static final class Input implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Input(final FileChannel channel) {
+            this.channel = channel;
+            buffer.limit(0);
+        }
+
+        private ByteBuffer ensure(final int bytes) {
+            if(buffer.remaining() < bytes) {
+                buffer.compact();
+                try {
+                    while(buffer.position() < bytes) {
+                        if(channel.read(buffer) < 0) {
+                            throw new IllegalStateException("Checkpoint file ended unexpectedly");
+                        }
+                    }
+                } catch(IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                buffer.flip();
+            }
+            return buffer;
+        }
+
+        private String getString() {
+            final int length = ensure(Integer.BYTES).getInt();
+            if(length < 0) {
+                return null;
+            }
+            final byte[] bytes = new byte[length];
+            int offset = 0;
+            while(offset < length) {
+                final int chunk = Math.min(ensure(1).remaining(), length - offset);
+                buffer.get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch(IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.table;
+
+import com.bytefacets.collections.hash.${type.name}IndexedSet;
+import com.bytefacets.spinel.RowRemap;
+import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.schema.Schema;
+
+import java.util.BitSet;
+
+/**
+ * Compacts the rows of the tables keyed by ${type.javaType}: the live rows at or above the number of
+ * keys are moved down into the rows freed by removals, and the field storage above them is released.
+ */
+final class ${type.name}IndexCompactor {
+    private ${type.name}IndexCompactor() {
+    }
+
+    /**
+     * Moves the rows, rebuilding the index with each key at its new row, and notifies the inputs
+     * attached to the output of the moves. The table must have no pending changes.
+     *
+     * @return the number of rows which moved
+     */
+    static ${generics} int compact(final String name,
+                    final ${type.name}IndexedSet${generics} index,
+                    final Schema schema,
+                    final OutputManager outputManager,
+                    final TableStorage storage) {
+        final int rowCount = index.size();
+        final BitSet liveRows = new BitSet(rowCount);
+        index.forEachEntry(liveRows::set);
+        final RowRemap remap = RowCompactor.compact(liveRows, rowCount, schema, outputManager, moves -> {
+            reindex(name, index, rowCount, moves);
+            moves.forEach((fromRow, toRow) -> {
+                storage.keyAdded(toRow);
+                storage.keyRemoved(fromRow);
+            });
+        });
+        return remap.size();
+    }
+
+    /** Re-adds the keys to the cleared index, which assigns the rows in the order of the adds. */
+    private static ${generics} void reindex(final String name,
+                    final ${type.name}IndexedSet${generics} index,
+                    final int rowCount,
+                    final RowRemap remap) {
+        final int[] oldRows = new int[rowCount];
+        for(int row = 0; row < rowCount; row++) {
+            oldRows[row] = row;
+        }
+        remap.forEach((fromRow, toRow) -> oldRows[toRow] = fromRow);
+        final var keys = new ${type.name}IndexedSet${generics}(Math.max(rowCount, 1));
+        for(int oldRow : oldRows) {
+            keys.add(index.getKeyAt(oldRow));
+        }
+        index.clear();
+        for(int row = 0; row < rowCount; row++) {
+            if(index.add(keys.getKeyAt(row)) != row) {
+                throw new IllegalStateException("Cannot compact " + name + ": index did not assign row " + row);
+            }
+        }
+    }
+}
@@ -3,16 +3,27 @@
 // SPDX-License-Identifier: MIT
 package com.bytefacets.spinel.table;
 
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.hash.${type.name}IndexedSet;
 import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
 import com.bytefacets.spinel.facade.StructFacade;
 import com.bytefacets.spinel.facade.StructFacadeFactory;
+<#if type.name != "Generic">
+import com.bytefacets.spinel.schema.${type.name}Field;
+import com.bytefacets.spinel.schema.IndexedSetFieldFactory;
+</#if>
+import com.bytefacets.spinel.schema.FieldResolver;
 import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.TypeId;
 import com.bytefacets.spinel.schema.SchemaBindable;
 import com.bytefacets.spinel.schema.WritableField;
 import com.bytefacets.spinel.transform.OutputProvider;
 
+import java.nio.file.Path;
+
 import static com.bytefacets.spinel.exception.DuplicateKeyException.duplicateKeyException;
 import static com.bytefacets.spinel.exception.KeyException.unknownKeyException;
 import static java.util.Objects.requireNonNull;
@@ -38,13 +49,14 @@ import static java.util.Objects.requireNonNull;
  * Only facades created by this table can be used in the modification methods because
  * the facades created by the table are bound to the underlying storage.<p/>
  */
-public final class ${type.name}IndexedStructTable${classGenerics} implements OutputProvider {
+public final class ${type.name}IndexedStructTable${classGenerics} implements OutputProvider, RetainedSize {
     private final OutputManager outputManager;
     private final TableStateChange stateChange;
     private final StructFacadeFactory facadeFactory;
     private final Class<S> structType;
     private final String name;
     private final ${type.name}IndexedSet${generics} index;
+    private final IntConsumer freedRowConsumer;
 
     ${type.name}IndexedStructTable(final ${type.name}IndexedSet${generics} index,
                     final Schema schema,
@@ -52,6 +64,7 @@ public final class ${type.name}IndexedStructTable${classGenerics} implements Out
                     final TableStateChange stateChange,
                     final StructFacadeFactory facadeFactory) {
         this.index = requireNonNull(index, "index");
+        this.freedRowConsumer = index::freeReservedEntry;
         this.stateChange = requireNonNull(stateChange, "stateChange");
         this.outputManager = OutputManager.outputManager(index::forEachEntry);
         this.outputManager.updateSchema(requireNonNull(schema, "schema"));
@@ -72,7 +85,10 @@ public final class ${type.name}IndexedStructTable${classGenerics} implements Out
      */
     public S createFacade() {
         final S facade = facadeFactory.createFacade(structType);
-        ((SchemaBindable) facade).bindToSchema(schema().asFieldResolver());
+        final FieldResolver resolver = facadeFactory.directAccess()
+                ? stateChange.directAccessResolver(schema())
+                : schema().asFieldResolver();
+        ((SchemaBindable) facade).bindToSchema(resolver);
         return facade;
     }
 
@@ -175,11 +191,78 @@ public final class ${type.name}IndexedStructTable${classGenerics} implements Out
 
     /** Fires the accumulated changes. */
     public void fireChanges() {
-        stateChange.fire(outputManager, index::freeReservedEntry);
+        stateChange.fire(outputManager, freedRowConsumer);
+    }
+
+    /**
+     * Moves the live rows at or above the number of keys down into the rows freed by removals, and
+     * releases the field storage above them, e.g. after a mass removal. Pending changes are fired
+     * first. Rather than removing and re-adding the moved rows, the inputs attached to the output
+     * are notified of the moves as a {@link com.bytefacets.spinel.RowRemap}. A facade positioned
+     * over a moved row must be moved to its new row.
+     *
+     * @return the number of rows which moved
+     */
+    public int compact() {
+        fireChanges();
+        return ${type.name}IndexCompactor.compact(name, index, schema(), outputManager, TableStorage.NONE);
+    }
+
+<#if type.name != "Generic">
+    /**
+     * Writes the live rows of this table, with their keys and the values of the writable fields,
+     * to a columnar checkpoint file, replacing it if it exists. Changes which have not been fired
+     * are included. This runs on the calling thread, which should be the one modifying the table.
+     *
+     * @throws IllegalArgumentException if the table has a Generic field
+     */
+    public void writeCheckpoint(final Path file) {
+        TableCheckpoint.write(file, name, TypeId.${type.name}, IndexedSetFieldFactory.asKeyField(index),
+                              schema(), index::forEachEntry, index.size());
     }
 
+    /**
+     * Loads the rows of a checkpoint file written by {@link #writeCheckpoint} into this table, which
+     * must be empty, and fires them to the output as a single add. Columns are matched to fields
+     * by name; fields which are not in the file keep their default values.
+     *
+     * @return the number of rows restored
+     * @throws com.bytefacets.spinel.exception.OperatorSetupException if the key type differs, or a
+     *         field of the same name has a different type
+     */
+    public int restoreCheckpoint(final Path file) {
+        if(index.size() != 0) {
+            throw new IllegalStateException("Cannot restore checkpoint into " + name + ": the table is not empty");
+        }
+        final int[] rows;
+        try(TableCheckpoint.Reader reader = TableCheckpoint.reader(file, TypeId.${type.name}, schema())) {
+            final var keys = (${type.name}Field) reader.readKeys();
+            rows = new int[reader.rowCount()];
+            for(int i = 0; i < rows.length; i++) {
+                final int before = index.size();
+                rows[i] = index.add(keys.valueAt(i));
+                if(before == index.size()) {
+                    throw duplicateKeyException(getClass(), name, keys.valueAt(i));
+                }
+                stateChange.addRow(rows[i]);
+                stateChange.endAdd();
+            }
+            reader.readColumns(rows);
+        }
+        fireChanges();
+        return rows.length;
+    }
+</#if>
+
     /** The output of this table to which you can attach various inputs to receive updates. */
     public TransformOutput output() {
         return outputManager.output();
     }
+
+    /** The estimated bytes retained by the table's fields and key index. */
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.schemaFieldBytes(schema()) +
+               MemoryEstimates.indexedSetBytes(index.size(), MemoryEstimates.bytesPerValue(TypeId.${type.name}));
+    }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@
 package com.bytefacets.spinel.table;
 
 import static com.bytefacets.spinel.exception.FieldNotFoundException.fieldNotFound;
-import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
 import static com.bytefacets.spinel.schema.Schema.schema;
 
 import com.bytefacets.collections.hash.*;
@@ -16,7 +15,8 @@ import com.bytefacets.spinel.schema.Field;
 import com.bytefacets.spinel.schema.FieldDescriptor;
 import com.bytefacets.spinel.schema.FieldList;
 import com.bytefacets.spinel.schema.IndexedSetFieldFactory;
-import com.bytefacets.spinel.schema.MatrixStoreFieldFactory;
+import com.bytefacets.spinel.schema.FieldListFactory;
+import com.bytefacets.spinel.schema.FieldStorage;
 import com.bytefacets.spinel.schema.Metadata;
 import com.bytefacets.spinel.schema.SchemaField;
 import com.bytefacets.spinel.schema.TypeId;
@@ -46,6 +46,8 @@ public final class ${type.name}IndexedStructTableBuilder${classGenerics} {
     private FieldDescriptor keyField;
     private int initialSize = 64;
     private int chunkSize = 64;
+    private FieldStorage fieldStorage = FieldStorage.OnHeap;
+    private boolean directAccessFacades;
 
     private ${type.name}IndexedStructTableBuilder(final String name, final Class<S> structType) {
         this.structType = Objects.requireNonNull(structType, "structType");
@@ -87,6 +89,23 @@ public final class ${type.name}IndexedStructTableBuilder${classGenerics} {
         return this;
     }
 
+    /** Where the values of the fields are stored; {@link FieldStorage#OnHeap} by default. */
+    public ${type.name}IndexedStructTableBuilder${classGenerics} fieldStorage(final FieldStorage fieldStorage) {
+        this.fieldStorage = Objects.requireNonNull(fieldStorage, "fieldStorage");
+        return this;
+    }
+
+    /**
+     * Whether the facades of the table call the on-heap fields directly rather than through the
+     * Field interfaces, and mark the fields they change with a single bit operation.
+     *
+     * @see StructFacadeFactory#directAccessFacadeFactory()
+     */
+    public ${type.name}IndexedStructTableBuilder${classGenerics} directAccessFacades(final boolean directAccessFacades) {
+        this.directAccessFacades = directAccessFacades;
+        return this;
+    }
+
     public ${type.name}IndexedStructTable${classGenerics} getOrCreate() {
         return builderSupport.getOrCreate();
     }
@@ -172,11 +191,13 @@ public final class ${type.name}IndexedStructTableBuilder${classGenerics} {
         }
         buildFieldCollections(fieldMap, typeMap);
 
-        final TableStateChange change = new TableStateChange();
-        final MatrixStoreFieldFactory fieldFactory =
-                matrixStoreFieldFactory(initialSize, chunkSize, change.fieldChangeListener());
+        final TableStateChange change = new TableStateChange(name);
+        final FieldListFactory fieldFactory =
+                fieldStorage.fieldListFactory(initialSize, chunkSize, change.fieldChangeListener());
         final FieldList fieldList = fieldFactory.createFieldList(fieldMap, typeMap);
-        final var facadeFactory = StructFacadeFactory.structFacadeFactory();
+        final var facadeFactory = directAccessFacades
+                ? StructFacadeFactory.directAccessFacadeFactory()
+                : StructFacadeFactory.structFacadeFactory();
         return new ${type.name}IndexedStructTable<>(index, schema(name, fieldList), structType, change, facadeFactory);
     }
 
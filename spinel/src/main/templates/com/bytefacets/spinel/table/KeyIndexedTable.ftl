@@ -3,31 +3,51 @@
 // SPDX-License-Identifier: MIT
 package com.bytefacets.spinel.table;
 
+import com.bytefacets.collections.functional.IntConsumer;
 import com.bytefacets.collections.hash.${type.name}IndexedSet;
 import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.common.MemoryEstimates;
 import com.bytefacets.spinel.common.OutputManager;
+import com.bytefacets.spinel.common.RetainedSize;
+<#if type.name != "Generic">
+import com.bytefacets.spinel.schema.${type.name}Field;
+import com.bytefacets.spinel.schema.IndexedSetFieldFactory;
+</#if>
 import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.TypeId;
 import com.bytefacets.spinel.schema.WritableField;
 import com.bytefacets.spinel.transform.OutputProvider;
 
+import java.io.Closeable;
+import java.nio.file.Path;
+
 import static com.bytefacets.spinel.exception.DuplicateKeyException.duplicateKeyException;
 import static com.bytefacets.spinel.exception.KeyException.unknownKeyException;
 import static java.util.Objects.requireNonNull;
 
 /**
  * A table keyed by ${type.javaType}.
+ *
+ * <p>The fields and keys are held on the heap unless the table was built with other storage, such
+ * as memory-mapped files, in which case {@link #flush()} writes them through to the storage device
+ * and {@link #close()} releases them when the table is no longer used.
  */
-public final class ${type.name}IndexedTable${generics} implements OutputProvider {
+public final class ${type.name}IndexedTable${generics} implements OutputProvider, RetainedSize, Closeable {
     private final String name;
     private final OutputManager outputManager;
     private final TableStateChange stateChange;
     private final TableRow tableRow;
     private final ${type.name}IndexedSet${generics} index;
+    private final IntConsumer freedRowConsumer;
+    private final TableStorage storage;
 
     ${type.name}IndexedTable(final ${type.name}IndexedSet${generics} index,
                     final Schema schema,
-                    final TableStateChange stateChange) {
+                    final TableStateChange stateChange,
+                    final TableStorage storage) {
         this.index = requireNonNull(index, "index");
+        this.storage = requireNonNull(storage, "storage");
+        this.freedRowConsumer = index::freeReservedEntry;
         this.stateChange = requireNonNull(stateChange, "stateChange");
         this.outputManager = OutputManager.outputManager(index::forEachEntry);
         this.outputManager.updateSchema(requireNonNull(schema, "schema"));
@@ -81,6 +101,7 @@ public final class ${type.name}IndexedTable${generics} implements OutputProvider
         if(before == index.size()) {
             throw duplicateKeyException(getClass(), name, key);
         }
+        storage.keyAdded(row);
         stateChange.addRow(row);
         tableRow.setRow(row);
         return row;
@@ -108,6 +129,7 @@ public final class ${type.name}IndexedTable${generics} implements OutputProvider
         final int before = index.size();
         final int row = index.add(key);
         if(before != index.size()) {
+            storage.keyAdded(row);
             stateChange.addRow(row);
         } else {
             stateChange.changeRow(row);
@@ -146,17 +168,90 @@ public final class ${type.name}IndexedTable${generics} implements OutputProvider
             throw unknownKeyException(getClass(), name, key);
         }
         index.removeAtAndReserve(row);
+        storage.keyRemoved(row);
         stateChange.removeRow(row);
         return row;
     }
 
     /** Fires the accumulated changes. */
     public void fireChanges() {
-        stateChange.fire(outputManager, index::freeReservedEntry);
+        stateChange.fire(outputManager, freedRowConsumer);
+    }
+
+    /**
+     * Moves the live rows at or above the number of keys down into the rows freed by removals, and
+     * releases the field storage above them, e.g. after a mass removal. Pending changes are fired
+     * first. Rather than removing and re-adding the moved rows, the inputs attached to the output
+     * are notified of the moves as a {@link com.bytefacets.spinel.RowRemap}.
+     *
+     * @return the number of rows which moved
+     */
+    public int compact() {
+        fireChanges();
+        return ${type.name}IndexCompactor.compact(name, index, schema(), outputManager, storage);
+    }
+
+<#if type.name != "Generic">
+    /**
+     * Writes the live rows of this table, with their keys and the values of the writable fields,
+     * to a columnar checkpoint file, replacing it if it exists. Changes which have not been fired
+     * are included. This runs on the calling thread, which should be the one modifying the table.
+     *
+     * @throws IllegalArgumentException if the table has a Generic field
+     */
+    public void writeCheckpoint(final Path file) {
+        TableCheckpoint.write(file, name, TypeId.${type.name}, IndexedSetFieldFactory.asKeyField(index),
+                              schema(), index::forEachEntry, index.size());
+    }
+
+    /**
+     * Loads the rows of a checkpoint file written by {@link #writeCheckpoint} into this table, which
+     * must be empty, and fires them to the output as a single add. Columns are matched to fields
+     * by name; fields which are not in the file keep their default values.
+     *
+     * @return the number of rows restored
+     * @throws com.bytefacets.spinel.exception.OperatorSetupException if the key type differs, or a
+     *         field of the same name has a different type
+     */
+    public int restoreCheckpoint(final Path file) {
+        if(index.size() != 0) {
+            throw new IllegalStateException("Cannot restore checkpoint into " + name + ": the table is not empty");
+        }
+        final int[] rows;
+        try(TableCheckpoint.Reader reader = TableCheckpoint.reader(file, TypeId.${type.name}, schema())) {
+            final var keys = (${type.name}Field) reader.readKeys();
+            rows = new int[reader.rowCount()];
+            for(int i = 0; i < rows.length; i++) {
+                rows[i] = beginAdd(keys.valueAt(i));
+                endAdd();
+            }
+            reader.readColumns(rows);
+        }
+        fireChanges();
+        return rows.length;
     }
+</#if>
 
     /** The output of this table to which you can attach various inputs to receive updates. */
     public TransformOutput output() {
         return outputManager.output();
     }
+
+    /** Writes the table's storage through to the storage device; heap storage is unaffected. */
+    public void flush() {
+        storage.flush();
+    }
+
+    /** Releases the table's storage, after flushing it. The table must not be used afterwards. */
+    @Override
+    public void close() {
+        storage.close();
+    }
+
+    /** The estimated heap retained by the table's fields and key index, excluding any mapped files. */
+    @Override
+    public long retainedBytes() {
+        return MemoryEstimates.schemaFieldBytes(schema()) +
+               MemoryEstimates.indexedSetBytes(index.size(), MemoryEstimates.bytesPerValue(TypeId.${type.name}));
+    }
 }
\ No newline at end of file
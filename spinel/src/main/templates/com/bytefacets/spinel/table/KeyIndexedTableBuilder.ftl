@@ -4,7 +4,6 @@
 package com.bytefacets.spinel.table;
 
 import static com.bytefacets.spinel.common.DefaultNameSupplier.resolveName;
-import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
 import static com.bytefacets.spinel.schema.Schema.schema;
 import static java.util.Objects.requireNonNullElseGet;
 
@@ -13,7 +12,8 @@ import com.bytefacets.spinel.schema.Field;
 import com.bytefacets.spinel.schema.FieldDescriptor;
 import com.bytefacets.spinel.schema.FieldList;
 import com.bytefacets.spinel.schema.IndexedSetFieldFactory;
-import com.bytefacets.spinel.schema.MatrixStoreFieldFactory;
+import com.bytefacets.spinel.schema.FieldListFactory;
+import com.bytefacets.spinel.schema.FieldStorage;
 import com.bytefacets.spinel.schema.SchemaField;
 import com.bytefacets.spinel.schema.TypeId;
 import com.bytefacets.spinel.transform.TransformContext;
@@ -37,6 +37,7 @@ public final class ${type.name}IndexedTableBuilder${generics} {
     private final String name;
     private int initialSize = 64;
     private int chunkSize = 64;
+    private FieldStorage fieldStorage = FieldStorage.OnHeap;
     private int fieldCount;
     private boolean includeKeyField = true;
     private String keyFieldName;
@@ -63,6 +64,12 @@ public final class ${type.name}IndexedTableBuilder${generics} {
         return this;
     }
 
+    /** Where the values of the fields are stored; {@link FieldStorage#OnHeap} by default. */
+    public ${type.name}IndexedTableBuilder${generics} fieldStorage(final FieldStorage fieldStorage) {
+        this.fieldStorage = Objects.requireNonNull(fieldStorage, "fieldStorage");
+        return this;
+    }
+
     public ${type.name}IndexedTableBuilder${generics} includeKeyField(final boolean includeKeyField) {
         this.includeKeyField = includeKeyField;
         return this;
@@ -134,10 +141,10 @@ public final class ${type.name}IndexedTableBuilder${generics} {
             fields.putValueAt(fieldId, SchemaField.schemaField(fieldId, fieldName, field));
         }
 
-        final TableStateChange change = new TableStateChange();
-        final MatrixStoreFieldFactory fieldFactory =
-                matrixStoreFieldFactory(initialSize, chunkSize, change.fieldChangeListener());
+        final TableStateChange change = new TableStateChange(name);
+        final FieldListFactory fieldFactory =
+                fieldStorage.fieldListFactory(initialSize, chunkSize, change.fieldChangeListener());
         final FieldList fieldList = fieldFactory.createFieldList(fields, fieldMap);
-        return new ${type.name}IndexedTable${generics}(index, schema(name, fieldList), change);
+        return new ${type.name}IndexedTable${generics}(index, schema(name, fieldList), change, TableStorage.NONE);
     }
 }
\ No newline at end of file
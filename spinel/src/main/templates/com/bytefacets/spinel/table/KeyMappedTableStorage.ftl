@@ -0,0 +1,112 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.table;
+
+import com.bytefacets.collections.hash.${type.name}IndexedSet;
+import com.bytefacets.spinel.schema.BoolWritableField;
+import com.bytefacets.spinel.schema.${type.name}WritableField;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.schema.FieldList;
+import com.bytefacets.spinel.schema.MappedFileFieldFactory;
+import com.bytefacets.spinel.schema.TypeId;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stores the key and a live flag of each row of a ${type.name}IndexedTable in memory-mapped files beside
+ * its mapped fields, so that the table can be re-opened after a restart without rebuilding it from
+ * its sources. The key index itself is held on the heap and rebuilt from the mapped keys when the
+ * storage is opened, before the table is created, so an input attached to the table's output
+ * receives the live rows in its initial add.
+ */
+final class ${type.name}MappedTableStorage implements TableStorage {
+    private static final String KEY_FIELD = "Key";
+    private static final String LIVE_FIELD = "Live";
+    private final String name;
+    private final ${type.name}IndexedSet index;
+    private final MappedFileFieldFactory fieldFactory;
+    private final MappedFileFieldFactory keyFactory;
+    private final ${type.name}WritableField keys;
+    private final BoolWritableField live;
+
+    private ${type.name}MappedTableStorage(final String name,
+                    final ${type.name}IndexedSet index,
+                    final MappedFileFieldFactory fieldFactory,
+                    final MappedFileFieldFactory keyFactory) {
+        this.name = requireNonNull(name, "name");
+        this.index = requireNonNull(index, "index");
+        this.fieldFactory = requireNonNull(fieldFactory, "fieldFactory");
+        this.keyFactory = requireNonNull(keyFactory, "keyFactory");
+        final FieldList keyFields = keyFactory.createFieldList(Map.of(
+                TypeId.${type.name}, List.of(FieldDescriptor.${type.name?lower_case}Field(KEY_FIELD)),
+                TypeId.Bool, List.of(FieldDescriptor.boolField(LIVE_FIELD))));
+        this.keys = (${type.name}WritableField) keyFields.field(KEY_FIELD).field();
+        this.live = (BoolWritableField) keyFields.field(LIVE_FIELD).field();
+    }
+
+    /**
+     * Opens the storage of the keys and rebuilds the index from the live rows already in the files.
+     * The fields must already have been created by the fieldFactory.
+     */
+    static ${type.name}MappedTableStorage open(final String name,
+                    final ${type.name}IndexedSet index,
+                    final MappedFileFieldFactory fieldFactory,
+                    final MappedFileFieldFactory keyFactory) {
+        final var storage = new ${type.name}MappedTableStorage(name, index, fieldFactory, keyFactory);
+        storage.recover();
+        return storage;
+    }
+
+    /**
+     * Rebuilds the key index from the live rows in the mapped files. A fresh index assigns rows in
+     * the order of the keys added to it, so a live row which follows removed rows is moved down to
+     * the row assigned to its key.
+     */
+    private void recover() {
+        for(int row = 0, rows = keyFactory.mappedRows(); row < rows; row++) {
+            if(live.valueAt(row)) {
+                final int before = index.size();
+                final int entry = index.add(keys.valueAt(row));
+                if(before == index.size()) {
+                    live.setValueAt(row, false);
+                } else if(entry != row) {
+                    if(entry > row) {
+                        throw new IllegalStateException(
+                            "Cannot recover " + name + ": row " + row + " was assigned later row " + entry);
+                    }
+                    fieldFactory.moveRow(row, entry);
+                    keyFactory.moveRow(row, entry);
+                    live.setValueAt(row, false);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void keyAdded(final int row) {
+        keys.setValueAt(row, index.getKeyAt(row));
+        live.setValueAt(row, true);
+    }
+
+    @Override
+    public void keyRemoved(final int row) {
+        live.setValueAt(row, false);
+    }
+
+    @Override
+    public void flush() {
+        fieldFactory.force();
+        keyFactory.force();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        fieldFactory.close();
+        keyFactory.close();
+    }
+}
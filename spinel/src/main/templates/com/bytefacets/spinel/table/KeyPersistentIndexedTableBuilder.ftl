@@ -0,0 +1,158 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.table;
+
+import static com.bytefacets.spinel.common.DefaultNameSupplier.resolveName;
+import static com.bytefacets.spinel.schema.MappedFileFieldFactory.mappedFileFieldFactory;
+import static com.bytefacets.spinel.schema.Schema.schema;
+
+import com.bytefacets.collections.hash.*;
+import com.bytefacets.spinel.schema.Field;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.schema.FieldList;
+import com.bytefacets.spinel.schema.IndexedSetFieldFactory;
+import com.bytefacets.spinel.schema.MappedFileFieldFactory;
+import com.bytefacets.spinel.schema.SchemaField;
+import com.bytefacets.spinel.schema.TypeId;
+import com.bytefacets.spinel.transform.TransformContext;
+import com.bytefacets.spinel.transform.TransformContinuation;
+import com.bytefacets.spinel.transform.BuilderSupport;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Builds a ${type.name}IndexedTable whose fields, keys and live rows are stored in memory-mapped files in
+ * a directory. If the directory already holds a table, it is re-opened with its rows; the key type,
+ * chunk size and fields must match those it was created with. Only fixed-width fields can be
+ * persisted. Each write is in the mapped files as soon as it is made; close the table to unmap them.
+ */
+public final class ${type.name}PersistentIndexedTableBuilder {
+    private final BuilderSupport<${type.name}IndexedTable> builderSupport;
+    private final TransformContext transformContext;
+    private final Set<String> names = new HashSet<>();
+    private final Map<Byte, List<FieldDescriptor>> fieldMap = new TreeMap<>();
+    private final String name;
+    private final Path directory;
+    private int initialSize = 64;
+    private int chunkSize = 4096;
+    private int fieldCount;
+    private boolean includeKeyField = true;
+    private String keyFieldName;
+
+    private ${type.name}PersistentIndexedTableBuilder(final String name, final Path directory) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.builderSupport = BuilderSupport.builderSupport(this.name, this::internalBuild);
+        this.transformContext = null;
+    }
+
+    private ${type.name}PersistentIndexedTableBuilder(final TransformContext transformContext, final Path directory) {
+        this.transformContext = Objects.requireNonNull(transformContext, "transform context");
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.name = transformContext.name();
+        this.builderSupport = transformContext.createBuilderSupport(this::internalBuild, null);
+    }
+
+    public ${type.name}PersistentIndexedTableBuilder initialSize(final int initialSize) {
+        this.initialSize = initialSize;
+        return this;
+    }
+
+    /** The number of rows in each mapped chunk of the files. */
+    public ${type.name}PersistentIndexedTableBuilder chunkSize(final int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public ${type.name}PersistentIndexedTableBuilder includeKeyField(final boolean includeKeyField) {
+        this.includeKeyField = includeKeyField;
+        return this;
+    }
+
+    public ${type.name}PersistentIndexedTableBuilder keyFieldName(final String keyFieldName) {
+        this.keyFieldName = keyFieldName;
+        return this;
+    }
+
+    public ${type.name}PersistentIndexedTableBuilder addFields(final FieldDescriptor... fieldReference) {
+        for(var field : fieldReference) {
+            addField(field);
+        }
+        return this;
+    }
+
+    public ${type.name}PersistentIndexedTableBuilder addField(final FieldDescriptor fieldReference) {
+        if(fieldReference.fieldType() == TypeId.String || fieldReference.fieldType() == TypeId.Generic) {
+            throw new IllegalArgumentException("Cannot persist field of non-fixed-width type: " + fieldReference.name());
+        }
+        if (names.add(fieldReference.name())) {
+            fieldMap.computeIfAbsent(fieldReference.fieldType(), ArrayList::new)
+                    .add(fieldReference);
+            fieldCount++;
+        } else {
+            throw new IllegalArgumentException("Duplicate field name: " + fieldReference.name());
+        }
+        return this;
+    }
+
+    private String createKeyFieldName(final String tableName) {
+        return Objects.requireNonNullElse(keyFieldName, tableName + "Key");
+    }
+
+    private int fieldCount() {
+        return fieldCount + (includeKeyField ? 1 : 0);
+    }
+
+    public ${type.name}IndexedTable getOrCreate() {
+        return builderSupport.getOrCreate();
+    }
+
+    public ${type.name}IndexedTable build() {
+        return builderSupport.createOperator();
+    }
+
+    public TransformContinuation then() {
+        return TransformContext.continuation(transformContext, builderSupport.transformNode(), () -> getOrCreate().output());
+    }
+
+    public static ${type.name}PersistentIndexedTableBuilder ${type.name?lower_case}PersistentIndexedTable(final Path directory) {
+        return ${type.name?lower_case}PersistentIndexedTable((String)null, directory);
+    }
+
+    public static ${type.name}PersistentIndexedTableBuilder ${type.name?lower_case}PersistentIndexedTable(final String name, final Path directory) {
+        return new ${type.name}PersistentIndexedTableBuilder(resolveName("${type.name}PersistentIndexedTable", name), directory);
+    }
+
+    public static ${type.name}PersistentIndexedTableBuilder ${type.name?lower_case}PersistentIndexedTable(final TransformContext transformContext, final Path directory) {
+        return new ${type.name}PersistentIndexedTableBuilder(transformContext, directory);
+    }
+
+    private ${type.name}IndexedTable internalBuild() {
+        PersistentTableLayout.verifyOrWrite(directory, TypeId.${type.name}, chunkSize, fieldMap);
+        final StringGenericIndexedMap<SchemaField> fields = new StringGenericIndexedMap<>(fieldCount(), 1f);
+
+        final var index = new ${type.name}IndexedSet(initialSize);
+        if(includeKeyField) {
+            final String fieldName = createKeyFieldName(name);
+            final int fieldId = fields.add(fieldName);
+            final Field field = IndexedSetFieldFactory.asKeyField(index);
+            fields.putValueAt(fieldId, SchemaField.schemaField(fieldId, fieldName, field));
+        }
+
+        final TableStateChange change = new TableStateChange(name);
+        final MappedFileFieldFactory fieldFactory =
+                mappedFileFieldFactory(directory, "fields.", chunkSize, change.fieldChangeListener());
+        final FieldList fieldList = fieldFactory.createFieldList(fields, fieldMap);
+        final MappedFileFieldFactory keyFactory = mappedFileFieldFactory(directory, "keys.", chunkSize, id -> {});
+        final TableStorage storage = ${type.name}MappedTableStorage.open(name, index, fieldFactory, keyFactory);
+        return new ${type.name}IndexedTable(index, schema(name, fieldList), change, storage);
+    }
+}
@@ -9,6 +9,7 @@ import com.bytefacets.spinel.schema.${type.name}Field;
 </#list>
 import com.bytefacets.spinel.schema.Field;
 import com.bytefacets.spinel.schema.Cast;
+import com.bytefacets.spinel.schema.MappedField;
 import com.bytefacets.spinel.schema.TypeId;
 
 import jakarta.annotation.Nullable;
@@ -29,7 +30,7 @@ final class UnionFieldFactory {
     }
 
 <#list types as type>
-    static final class ${type.name}UnionField implements ${type.name}Field, UnionField {
+    static final class ${type.name}UnionField implements ${type.name}Field, UnionField, MappedField {
         private final UnionRowMapper mapper;
         private ${type.name}Field[] inputFields = new ${type.name}Field[2];
 
@@ -49,6 +50,17 @@ final class UnionFieldFactory {
             final int inputRow = mapper.inputRowOf(row);
             return inputFields[inputIndex].valueAt(inputRow);
         }
+
+        @Override
+        public int mappingDepth() {
+            int depth = 0;
+            for(${type.name}Field inputField : inputFields) {
+                if(inputField != null) {
+                    depth = Math.max(depth, MappedField.mappingDepthOf(inputField));
+                }
+            }
+            return 1 + depth;
+        }
     }
 
 </#list>
@@ -0,0 +1,231 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel;
+
+import static com.bytefacets.spinel.filter.lib.IntPredicate.intPredicate;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static com.bytefacets.spinel.testing.AllocationHarness.allocationHarness;
+
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.conflation.ChangeConflator;
+import com.bytefacets.spinel.conflation.ChangeConflatorBuilder;
+import com.bytefacets.spinel.filter.Filter;
+import com.bytefacets.spinel.filter.FilterBuilder;
+import com.bytefacets.spinel.groupby.GroupBy;
+import com.bytefacets.spinel.groupby.GroupByBuilder;
+import com.bytefacets.spinel.groupby.lib.SumFactory;
+import com.bytefacets.spinel.join.Join;
+import com.bytefacets.spinel.join.JoinBuilder;
+import com.bytefacets.spinel.projection.Projection;
+import com.bytefacets.spinel.projection.ProjectionBuilder;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.union.Union;
+import com.bytefacets.spinel.union.UnionBuilder;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs each operator over repeated batches of changes, removes and re-adds of existing keys, and
+ * asserts that steady-state batches do not allocate.
+ *
+ * <p>Disabled until it has been run against each operator and its per-operator allocation recorded;
+ * enable it once every operator it covers is shown to be allocation-free.
+ */
+@Disabled("not yet run and shown green for each operator")
+class SteadyStateAllocationTest {
+    private static final int ROWS = 64;
+    private static final int GROUPS = 4;
+    private static final int BATCH = 8;
+    private final Sink sink = new Sink();
+    private final Source source = new Source("Source");
+
+    @Test
+    void filterShouldNotAllocate() {
+        final Filter filter =
+                FilterBuilder.filter("Filter")
+                        .where(intPredicate("Value", v -> v % 2 == 0))
+                        .build();
+        source.table.output().attachInput(filter.input());
+        filter.output().attachInput(sink);
+        allocationHarness().assertNoAllocation("Filter", source::step);
+    }
+
+    @Test
+    void groupByShouldNotAllocate() {
+        final GroupBy groupBy =
+                GroupByBuilder.groupBy("GroupBy")
+                        .groupByFields("Group", "Bucket")
+                        .includeCountField("Count")
+                        .addAggregation(SumFactory.sumToInt("Value", "Total"))
+                        .build();
+        source.table.output().attachInput(groupBy.input());
+        groupBy.parentOutput().attachInput(sink);
+        groupBy.childOutput().attachInput(new Sink());
+        allocationHarness().assertNoAllocation("GroupBy", source::step);
+    }
+
+    @Test
+    void joinShouldNotAllocate() {
+        final Source right = new Source("Right");
+        final Join join =
+                JoinBuilder.lookupJoin("Join")
+                        .outer()
+                        .joinOn(List.of("Group"), List.of("Id"), GROUPS)
+                        .build();
+        right.table.output().attachInput(join.rightInput());
+        source.table.output().attachInput(join.leftInput());
+        join.output().attachInput(sink);
+        allocationHarness()
+                .assertNoAllocation(
+                        "Join",
+                        () -> {
+                            source.step();
+                            right.changeValues();
+                        });
+    }
+
+    @Test
+    void projectionShouldNotAllocate() {
+        final Projection projection =
+                ProjectionBuilder.projection("Projection")
+                        .inboundAlias("Value", "Amount")
+                        .omit("Bucket")
+                        .build();
+        source.table.output().attachInput(projection.input());
+        projection.output().attachInput(sink);
+        allocationHarness().assertNoAllocation("Projection", source::step);
+    }
+
+    @Test
+    void unionShouldNotAllocate() {
+        final Source other = new Source("Other");
+        final Union union =
+                UnionBuilder.union("Union")
+                        .initialSize(ROWS * 2)
+                        .inputIdFieldName("SourceId")
+                        .build();
+        source.table.output().attachInput(union.newInput("source"));
+        other.table.output().attachInput(union.newInput("other"));
+        union.output().attachInput(sink);
+        allocationHarness()
+                .assertNoAllocation(
+                        "Union",
+                        () -> {
+                            source.step();
+                            other.step();
+                        });
+    }
+
+    @Test
+    void changeConflatorShouldNotAllocate() {
+        final ChangeConflator conflator =
+                ChangeConflatorBuilder.changeConflator("Conflator")
+                        .initialCapacity(ROWS)
+                        .maxPendingRows(ROWS)
+                        .build();
+        source.table.output().attachInput(conflator.input());
+        conflator.output().attachInput(sink);
+        allocationHarness()
+                .assertNoAllocation(
+                        "ChangeConflator",
+                        () -> {
+                            source.step();
+                            conflator.firePendingChanges();
+                        });
+    }
+
+    /**
+     * A table of ROWS rows which, each step, changes values and groups of a batch of rows, and
+     * removes and re-adds one row, so that repeated steps do not grow any state.
+     */
+    private static final class Source {
+        private final IntIndexedTable table;
+        private final IntWritableField group;
+        private final IntWritableField bucket;
+        private final IntWritableField value;
+        private int iteration;
+
+        private Source(final String name) {
+            table =
+                    intIndexedTable(name)
+                            .keyFieldName("Id")
+                            .initialSize(ROWS)
+                            .addFields(intField("Group"), intField("Bucket"), intField("Value"))
+                            .build();
+            group = table.writableField("Group");
+            bucket = table.writableField("Bucket");
+            value = table.writableField("Value");
+            for (int id = 0; id < ROWS; id++) {
+                add(id);
+            }
+            table.fireChanges();
+        }
+
+        private void step() {
+            changeValues();
+            // move one row to another group; each group keeps enough rows to never empty
+            final int moved = iteration % ROWS;
+            group.setValueAt(table.beginChange(moved), (moved + iteration / ROWS) % GROUPS);
+            table.endChange();
+            table.fireChanges();
+            // remove and re-add a row
+            final int removed = (iteration + ROWS / 2) % ROWS;
+            table.remove(removed);
+            table.fireChanges();
+            add(removed);
+            table.fireChanges();
+        }
+
+        private void changeValues() {
+            iteration++;
+            for (int i = 0; i < BATCH; i++) {
+                final int id = (iteration * BATCH + i) % ROWS;
+                value.setValueAt(table.beginChange(id), iteration + i);
+                table.endChange();
+            }
+            table.fireChanges();
+        }
+
+        private void add(final int id) {
+            final int row = table.beginAdd(id);
+            group.setValueAt(row, id % GROUPS);
+            bucket.setValueAt(row, id / (ROWS / 2));
+            value.setValueAt(row, id);
+            table.endAdd();
+        }
+    }
+
+    private static final class Sink implements TransformInput {
+        private final IntConsumer rowCounter = this::countRow;
+        private long rows;
+
+        @Override
+        public void schemaUpdated(@Nullable final Schema schema) {}
+
+        @Override
+        public void rowsAdded(final IntIterable rows) {
+            rows.forEach(rowCounter);
+        }
+
+        @Override
+        public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+            rows.forEach(rowCounter);
+        }
+
+        @Override
+        public void rowsRemoved(final IntIterable rows) {
+            rows.forEach(rowCounter);
+        }
+
+        private void countRow(final int row) {
+            rows++;
+        }
+    }
+}
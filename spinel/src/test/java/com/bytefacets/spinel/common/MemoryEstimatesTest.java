@@ -0,0 +1,79 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.common;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.longField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+import com.bytefacets.spinel.schema.ArrayFieldFactory;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.schema.TypeId;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import org.junit.jupiter.api.Test;
+
+class MemoryEstimatesTest {
+    @Test
+    void shouldAlignArrays() {
+        assertThat(MemoryEstimates.arrayBytes(0, 4), equalTo(16L));
+        assertThat(MemoryEstimates.arrayBytes(1, 4), equalTo(24L));
+        assertThat(MemoryEstimates.arrayBytes(new int[10]), equalTo(56L));
+        assertThat(MemoryEstimates.arrayBytes(new long[10]), equalTo(96L));
+        assertThat(MemoryEstimates.arrayBytes((int[]) null), equalTo(0L));
+    }
+
+    @Test
+    void shouldCountWholeChunks() {
+        final long chunk = MemoryEstimates.arrayBytes(128, 8);
+        final long oneChunk = chunk + MemoryEstimates.arrayBytes(1, 4);
+        final long twoChunks = 2 * chunk + MemoryEstimates.arrayBytes(2, 4);
+        assertThat(MemoryEstimates.chunkedBytes(0, 16, 128, 8), equalTo(oneChunk));
+        assertThat(MemoryEstimates.chunkedBytes(128, 16, 128, 8), equalTo(oneChunk));
+        assertThat(MemoryEstimates.chunkedBytes(129, 16, 128, 8), equalTo(twoChunks));
+    }
+
+    @Test
+    void shouldUseTypeWidths() {
+        assertThat(MemoryEstimates.bytesPerValue(TypeId.Bool), equalTo(1));
+        assertThat(MemoryEstimates.bytesPerValue(TypeId.Char), equalTo(2));
+        assertThat(MemoryEstimates.bytesPerValue(TypeId.Float), equalTo(4));
+        assertThat(MemoryEstimates.bytesPerValue(TypeId.Double), equalTo(8));
+        assertThat(MemoryEstimates.bytesPerValue(TypeId.String), equalTo(4));
+    }
+
+    @Test
+    void shouldReportArrayFieldCapacity() {
+        final IntWritableField field = ArrayFieldFactory.writableIntArrayField(10, 0, id -> {});
+        assertThat(RetainedSize.retainedBytesOf(field), equalTo(56L));
+        field.setValueAt(100, 1);
+        assertThat(RetainedSize.retainedBytesOf(field), greaterThan(56L));
+    }
+
+    @Test
+    void shouldSumTableFieldsAsTheyGrow() {
+        final IntIndexedTable table =
+                intIndexedTable("T")
+                        .initialSize(16)
+                        .chunkSize(16)
+                        .addFields(intField("A"), longField("B"))
+                        .build();
+        final long emptyBytes = table.retainedBytes();
+        final IntWritableField a = table.writableField("A");
+        for (int i = 0; i < 100; i++) {
+            a.setValueAt(table.beginAdd(i), i);
+            table.endAdd();
+        }
+        table.fireChanges();
+        assertThat(table.retainedBytes(), greaterThan(emptyBytes));
+        // A has allocated 7 chunks of 16 ints, in an array of chunks grown to 8; B none
+        assertThat(
+                MemoryEstimates.schemaFieldBytes(table.schema()),
+                equalTo(
+                        7 * MemoryEstimates.arrayBytes(16, Integer.BYTES)
+                                + MemoryEstimates.arrayBytes(8, MemoryEstimates.REFERENCE_BYTES)
+                                + MemoryEstimates.arrayBytes(1, MemoryEstimates.REFERENCE_BYTES)));
+    }
+}
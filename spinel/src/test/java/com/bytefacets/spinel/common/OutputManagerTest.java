@@ -71,6 +71,94 @@ class OutputManagerTest {
         assertThat(trigger.received, nullValue());
     }
 
+    @Test
+    void shouldNotRecordMetricsUnlessEnabled() {
+        manager.addInput(new InputShell());
+        manager.updateSchema(schema);
+        manager.notifyAdds(rows(1, 2, 3));
+        assertThat(manager.metrics(), nullValue());
+        assertThat(((OutputMetricsProvider) manager.output()).metrics(), nullValue());
+    }
+
+    @Test
+    void shouldRecordRowsAndBatchesPerEventType() {
+        final OutputMetrics metrics = manager.enableMetrics();
+        manager.addInput(new InputShell());
+        manager.updateSchema(schema);
+        manager.notifyAdds(rows(1, 2, 3));
+        manager.notifyAdds(rows(4));
+        manager.notifyChanges(rows(1, 2), mock(ChangedFieldSet.class));
+        manager.notifyRemoves(rows(4));
+        assertThat(metrics.rows(EventType.add), equalTo(4L));
+        assertThat(metrics.batches(EventType.add), equalTo(2L));
+        assertThat(metrics.rows(EventType.change), equalTo(2L));
+        assertThat(metrics.batches(EventType.change), equalTo(1L));
+        assertThat(metrics.rows(EventType.remove), equalTo(1L));
+        assertThat(metrics.batches(EventType.remove), equalTo(1L));
+    }
+
+    @Test
+    void shouldRecordBatchSizeDistribution() {
+        final OutputMetrics metrics = manager.enableMetrics();
+        manager.updateSchema(schema);
+        manager.notifyAdds(rows(1));
+        manager.notifyAdds(rows(1));
+        manager.notifyAdds(rows(1, 2, 3, 4, 5));
+        assertThat(metrics.batchSizeCount(1), equalTo(2L));
+        assertThat(metrics.batchSizeCount(3), equalTo(1L));
+        assertThat(metrics.batchSizePercentile(50), equalTo(1));
+        assertThat(metrics.batchSizePercentile(100), equalTo(7));
+    }
+
+    @Test
+    void shouldCountRowsOfOtherIterables() {
+        final OutputMetrics metrics = manager.enableMetrics();
+        manager.updateSchema(schema);
+        manager.notifyAdds(
+                consumer -> {
+                    consumer.accept(1);
+                    consumer.accept(2);
+                });
+        assertThat(metrics.rows(EventType.add), equalTo(2L));
+    }
+
+    @Test
+    void shouldRecordFanOutAndCallbackTimePerSubscriber() {
+        final long[] now = {0};
+        final InputShell slow = new InputShell();
+        slow.onAdd = () -> now[0] += 5_000_000L;
+        final InputShell fast = new InputShell();
+        fast.onAdd = () -> now[0] += 1_000L;
+        manager.addInput(slow);
+        final OutputMetrics metrics = manager.enableMetrics(() -> now[0]);
+        manager.addInput(fast);
+        assertThat(metrics.fanOut(), equalTo(2));
+        manager.updateSchema(schema);
+        manager.notifyAdds(rows(1));
+        assertThat(metrics.nanosFor(slow), equalTo(5_000_000L));
+        assertThat(metrics.nanosFor(fast), equalTo(1_000L));
+        assertThat(metrics.notifyNanos(), equalTo(5_001_000L));
+        manager.removeInput(slow);
+        assertThat(metrics.fanOut(), equalTo(1));
+        assertThat(metrics.nanosFor(slow), equalTo(0L));
+    }
+
+    @Test
+    void shouldDiscardMetricsWhenDisabled() {
+        final OutputMetricsProvider provider = (OutputMetricsProvider) manager.output();
+        provider.enableMetrics();
+        provider.disableMetrics();
+        assertThat(provider.metrics(), nullValue());
+    }
+
+    private static IntVector rows(final int... rowIds) {
+        final IntVector vector = new IntVector(rowIds.length);
+        for (int row : rowIds) {
+            vector.append(row);
+        }
+        return vector;
+    }
+
     private static final class InputShell implements TransformInput {
         private Schema received;
         private Runnable onSchema;
@@ -7,6 +7,7 @@ import static com.bytefacets.spinel.schema.ArrayFieldFactory.writableArrayField;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.bytefacets.spinel.gen.CodeGenException;
@@ -16,10 +17,14 @@ import com.bytefacets.spinel.schema.ByteField;
 import com.bytefacets.spinel.schema.CharField;
 import com.bytefacets.spinel.schema.DisplayMetadata;
 import com.bytefacets.spinel.schema.DoubleField;
+import com.bytefacets.spinel.schema.DoubleWritableField;
 import com.bytefacets.spinel.schema.Field;
+import com.bytefacets.spinel.schema.FieldBitSet;
 import com.bytefacets.spinel.schema.FieldChangeListener;
+import com.bytefacets.spinel.schema.FieldChangeMarks;
 import com.bytefacets.spinel.schema.FieldDescriptor;
 import com.bytefacets.spinel.schema.FieldList;
+import com.bytefacets.spinel.schema.FieldResolver;
 import com.bytefacets.spinel.schema.FloatField;
 import com.bytefacets.spinel.schema.IntField;
 import com.bytefacets.spinel.schema.LongField;
@@ -29,7 +34,9 @@ import com.bytefacets.spinel.schema.SchemaBindable;
 import com.bytefacets.spinel.schema.ShortField;
 import com.bytefacets.spinel.schema.TypeId;
 import com.bytefacets.spinel.schema.ValueMetadata;
+import jakarta.annotation.Nullable;
 import java.math.BigDecimal;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,19 +44,79 @@ import org.junit.jupiter.api.Test;
 
 class StructFacadeFactoryTest {
     private final StructFacadeFactory factory = StructFacadeFactory.structFacadeFactory();
+    private final StructFacadeFactory directFactory =
+            StructFacadeFactory.directAccessFacadeFactory();
+    private final BitSet notified = new BitSet();
     private Schema schema;
 
     @BeforeEach
     void setUp() {
         final Map<String, Field> fields = new HashMap<>();
-        final FieldChangeListener noop = i -> {};
+        final FieldChangeListener listener = notified::set;
         for (int type = TypeId.Min, fieldId = 0; type <= TypeId.Max; type++, fieldId++) {
             final byte id = (byte) type;
-            fields.put("Some" + TypeId.toTypeName(id), writableArrayField(id, 2, fieldId, noop));
+            fields.put(
+                    "Some" + TypeId.toTypeName(id), writableArrayField(id, 2, fieldId, listener));
         }
         schema = Schema.schema("foo", FieldList.fieldList(fields));
     }
 
+    @Test
+    void shouldWriteDirectlyAndMarkChangedFields() {
+        final FieldChangeMarks marks = FieldChangeMarks.fieldChangeMarks(TypeId.Max + 1);
+        final FluidSetter fac = directFactory.createFacade(FluidSetter.class);
+        ((SchemaBindable) fac).bindToSchema(resolverWithMarks(marks));
+        ((StructFacade) fac).moveToRow(3);
+        fac.setSomeBool(true).setSomeInt(373).setSomeString("Hello");
+        assertThat(((BoolField) schema.field("SomeBool").field()).valueAt(3), equalTo(true));
+        assertThat(((IntField) schema.field("SomeInt").field()).valueAt(3), equalTo(373));
+        assertThat(schema.field("SomeString").objectValueAt(3), equalTo("Hello"));
+        assertThat(notified.isEmpty(), equalTo(true));
+
+        final FieldBitSet changed = FieldBitSet.fieldBitSet();
+        marks.drainTo(changed);
+        assertThat(changed.size(), equalTo(3));
+        assertThat(changed.isChanged(TypeId.Int - TypeId.Min), equalTo(true));
+        assertThat(changed.isChanged(TypeId.Bool - TypeId.Min), equalTo(true));
+        assertThat(changed.isChanged(TypeId.String - TypeId.Min), equalTo(true));
+    }
+
+    @Test
+    void shouldWriteThroughFieldsWhenResolverHasNoMarks() {
+        final FluidSetter fac = directFactory.createFacade(FluidSetter.class);
+        ((SchemaBindable) fac).bindToSchema(schema.asFieldResolver());
+        ((StructFacade) fac).moveToRow(3);
+        fac.setSomeInt(373);
+        assertThat(((IntField) schema.field("SomeInt").field()).valueAt(3), equalTo(373));
+        assertThat(notified.get(TypeId.Int - TypeId.Min), equalTo(true));
+    }
+
+    @Test
+    void shouldReadDirectly() {
+        final GetterOnly fac = directFactory.createFacade(GetterOnly.class);
+        ((SchemaBindable) fac).bindToSchema(schema.asFieldResolver());
+        ((StructFacade) fac).moveToRow(1);
+        ((DoubleWritableField) schema.field("SomeDouble").field()).setValueAt(1, 2.5);
+        assertThat(fac.getSomeDouble(), equalTo(2.5));
+        assertThat(fac.getSomeGeneric(), nullValue());
+    }
+
+    private FieldResolver resolverWithMarks(final FieldChangeMarks marks) {
+        final FieldResolver resolver = schema.asFieldResolver();
+        return new FieldResolver() {
+            @Nullable
+            @Override
+            public Field findField(final String name) {
+                return resolver.findField(name);
+            }
+
+            @Override
+            public FieldChangeMarks fieldChangeMarks() {
+                return marks;
+            }
+        };
+    }
+
     @Test
     void shouldThrowWhenReturnTypeDoesNotMatch() {
         final var ex =
@@ -158,6 +225,12 @@ class StructFacadeFactoryTest {
         assertThat(ex.getMessage(), containsString("no getters or setters found"));
     }
 
+    public interface GetterOnly {
+        double getSomeDouble();
+
+        BigDecimal getSomeGeneric();
+    }
+
     public interface SetterOnly {
         void setSomeString(String value);
     }
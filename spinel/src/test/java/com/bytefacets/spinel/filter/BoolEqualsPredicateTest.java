@@ -0,0 +1,75 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.filter;
+
+import static com.bytefacets.spinel.filter.BoolEqualsPredicate.boolEquals;
+import static com.bytefacets.spinel.schema.ArrayFieldFactory.writableArrayFieldOver;
+import static com.bytefacets.spinel.schema.FieldDescriptor.boolField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.bytefacets.spinel.schema.BoolWritableField;
+import com.bytefacets.spinel.schema.Field;
+import com.bytefacets.spinel.schema.PackedBoolArrayField;
+import com.bytefacets.spinel.schema.TypeId;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class BoolEqualsPredicateTest {
+    @Test
+    void shouldTestWordsOfPackedField() {
+        final BoolWritableField field = PackedBoolArrayField.packedBoolArrayField(4, 0, id -> {});
+        field.setValueAt(3, true);
+        field.setValueAt(70, true);
+        final var isSet = bind(boolEquals("Flag", true), field);
+        final var isClear = bind(boolEquals("Flag", false), field);
+        assertThat(isSet.testsWords(), equalTo(true));
+        assertThat(isSet.testWord(0), equalTo(1L << 3));
+        assertThat(isSet.testWord(1), equalTo(1L << 6));
+        assertThat(isClear.testWord(0), equalTo(~(1L << 3)));
+        assertThat(isSet.testRow(70), equalTo(true));
+        assertThat(isClear.testRow(70), equalTo(false));
+    }
+
+    @Test
+    void shouldTestRowsOfUnpackedField() {
+        final Field field =
+                writableArrayFieldOver(TypeId.Bool, new boolean[] {true, false}, 0, id -> {});
+        final var predicate = bind(boolEquals("Flag", true), field);
+        assertThat(predicate.testsWords(), equalTo(false));
+        assertThat(predicate.testRow(0), equalTo(true));
+        assertThat(predicate.testRow(1), equalTo(false));
+    }
+
+    @Test
+    void shouldFilterTableRowsByWord() {
+        final IntIndexedTable table =
+                intIndexedTable("T").keyFieldName("Id").addFields(boolField("Flag")).build();
+        final BoolWritableField flag = table.writableField("Flag");
+        for (int key = 0; key < 200; key++) {
+            flag.setValueAt(table.beginAdd(key), key % 3 == 0);
+            table.endAdd();
+        }
+        table.fireChanges();
+        final Filter filter = FilterBuilder.filter().where(boolEquals("Flag", true)).build();
+        table.output().attachInput(filter.input());
+        assertThat(passingRows(filter), equalTo(67));
+
+        filter.updatePredicate(boolEquals("Flag", false));
+        assertThat(passingRows(filter), equalTo(133));
+    }
+
+    private int passingRows(final Filter filter) {
+        final int[] count = new int[1];
+        filter.output().rowProvider().forEach(row -> count[0]++);
+        return count[0];
+    }
+
+    private BoolEqualsPredicate bind(final BoolEqualsPredicate predicate, final Field field) {
+        final Map<String, Field> map = Map.of("Flag", field);
+        predicate.bindToSchema(map::get);
+        return predicate;
+    }
+}
@@ -283,6 +283,43 @@ class FilterTest {
         }
     }
 
+    @Nested
+    class CompactTests {
+        @BeforeEach
+        void setUp() {
+            initialize(FilterBuilder.filter().where(predicate));
+            addSourceRow(1, 100, 77);
+            addSourceRow(2, 98, 77);
+            addSourceRow(3, 200, 77);
+            addSourceRow(4, 300, 77);
+            addSourceRow(5, 400, 77);
+            table.fireChanges();
+            table.remove(1);
+            table.remove(2);
+            table.fireChanges();
+            validation.clearChanges();
+        }
+
+        @Test
+        void shouldNotForwardRemappedRows() {
+            table.compact();
+            validation.validateNoChanges();
+        }
+
+        @Test
+        void shouldReadMovedRowsAfterCompaction() {
+            table.compact();
+            changeValue2(5, 78);
+            changeValue1(4, 301);
+            table.fireChanges();
+            validation
+                    .expect()
+                    .changed(key(5), new RowData(Map.of("Value2", 78)))
+                    .removed(key(4))
+                    .validate();
+        }
+    }
+
     private Map<String, Class<?>> expectedSchema() {
         return Map.of("Id", Integer.class, "Value1", Integer.class, "Value2", Integer.class);
     }
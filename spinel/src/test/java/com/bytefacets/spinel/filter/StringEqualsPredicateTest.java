@@ -0,0 +1,71 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.filter;
+
+import static com.bytefacets.spinel.filter.StringEqualsPredicate.stringEquals;
+import static com.bytefacets.spinel.schema.FieldDescriptor.dictionaryStringField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.bytefacets.spinel.schema.Field;
+import com.bytefacets.spinel.schema.FieldList;
+import com.bytefacets.spinel.schema.StringWritableField;
+import com.bytefacets.spinel.schema.TypeId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StringEqualsPredicateTest {
+    private final FieldList fields =
+            matrixStoreFieldFactory(4, 4, id -> {})
+                    .createFieldList(
+                            Map.of(
+                                    TypeId.String,
+                                    List.of(dictionaryStringField("Dict"), stringField("Plain"))));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Dict", "Plain"})
+    void shouldMatchEqualValues(final String fieldName) {
+        final StringWritableField field = field(fieldName);
+        field.setValueAt(0, "buy");
+        field.setValueAt(1, "sell");
+        final var predicate = bind(stringEquals(fieldName, "buy"), fieldName);
+        assertThat(predicate.testRow(0), equalTo(true));
+        assertThat(predicate.testRow(1), equalTo(false));
+        assertThat(predicate.testRow(2), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Dict", "Plain"})
+    void shouldMatchValueAddedAfterBinding(final String fieldName) {
+        final StringWritableField field = field(fieldName);
+        field.setValueAt(0, "sell");
+        final var predicate = bind(stringEquals(fieldName, "buy"), fieldName);
+        assertThat(predicate.testRow(0), equalTo(false));
+        field.setValueAt(1, "buy");
+        assertThat(predicate.testRow(1), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Dict", "Plain"})
+    void shouldMatchNull(final String fieldName) {
+        field(fieldName).setValueAt(0, "buy");
+        final var predicate = bind(stringEquals(fieldName, null), fieldName);
+        assertThat(predicate.testRow(0), equalTo(false));
+        assertThat(predicate.testRow(1), equalTo(true));
+    }
+
+    private StringEqualsPredicate bind(
+            final StringEqualsPredicate predicate, final String fieldName) {
+        final Map<String, Field> map = Map.of(fieldName, fields.field(fieldName).field());
+        predicate.bindToSchema(map::get);
+        return predicate;
+    }
+
+    private StringWritableField field(final String name) {
+        return (StringWritableField) fields.field(name).field();
+    }
+}
@@ -247,6 +247,42 @@ class GroupByTest {
         }
     }
 
+    @Nested
+    class CompactTests {
+        @BeforeEach
+        void setUp() {
+            initialize();
+            addSourceRow(1, 4, 10);
+            addSourceRow(2, 4, 17);
+            addSourceRow(3, 5, 11);
+            table.fireChanges();
+            table.remove(1);
+            table.fireChanges();
+            validation.clearChanges();
+            childValidation.clearChanges();
+        }
+
+        @Test
+        void shouldNotChangeGroupsWhenSourceCompacts() {
+            table.compact();
+            validation.validateNoChanges();
+            childValidation.validateNoChanges();
+        }
+
+        @Test
+        void shouldAggregateMovedRowsAfterCompaction() {
+            table.compact();
+            changeValue2(3, 12);
+            table.remove(2);
+            table.fireChanges();
+            validation
+                    .expect()
+                    .changed(key(1), parentRowData(null, null, 12))
+                    .removed(key(0))
+                    .validate();
+        }
+    }
+
     private Map<String, Class<?>> parentSchema() {
         return Map.of("GroupId", Integer.class, "Value1", Integer.class, "Sum2", Integer.class);
     }
@@ -34,6 +34,17 @@ class GroupRowModsTest {
         assertThat(receiveRows.isEmpty(), equalTo(true));
     }
 
+    @Test
+    void shouldBeEmptyAfterReset() {
+        mods.addGroupRow(3, 4);
+        mods.reset();
+        assertThat(mods.isEmpty(), equalTo(true));
+        mods.addGroupRow(5, 6);
+        consume();
+        validate(5, 6);
+        assertThat(receiveRows.isEmpty(), equalTo(true));
+    }
+
     private void consume() {
         mods.fire(
                 (modGroup, iter) -> {
@@ -0,0 +1,208 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.groupby.lib;
+
+import static com.bytefacets.spinel.groupby.lib.QuantileFactory.quantileField;
+import static com.bytefacets.spinel.interner.IntRowInterner.intInterner;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bytefacets.spinel.groupby.GroupBy;
+import com.bytefacets.spinel.groupby.GroupByBuilder;
+import com.bytefacets.spinel.schema.DoubleField;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.schema.Metadata;
+import com.bytefacets.spinel.schema.TypeId;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.validation.Key;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class QuantileFactoryTest {
+    private final ValidationOperator validation =
+            new ValidationOperator(new String[] {"GroupId"}, "P50", "P100");
+    private IntIndexedTable table;
+    private GroupBy groupBy;
+    private int instrumentFieldId;
+    private int latencyFieldId;
+
+    @BeforeEach
+    void setUp() {
+        initialize(intField("Latency"));
+        addSourceRow(1, 7, 100);
+        addSourceRow(2, 7, 200);
+        addSourceRow(3, 7, 300);
+        addSourceRow(4, 8, 50);
+        table.fireChanges();
+        validation.clearChanges();
+    }
+
+    private void initialize(final FieldDescriptor latencyField) {
+        table =
+                intIndexedTable("table")
+                        .addField(intField("Instrument"))
+                        .addField(latencyField)
+                        .keyFieldName("Id")
+                        .build();
+        instrumentFieldId = table.fieldId("Instrument");
+        latencyFieldId = table.fieldId("Latency");
+        groupBy =
+                GroupByBuilder.groupBy()
+                        .groupByFunction(intInterner("Instrument", 16))
+                        .addAggregation(
+                                QuantileFactory.quantiles(
+                                        "Latency",
+                                        0.01,
+                                        0.05,
+                                        quantileField(0.5, "P50"),
+                                        quantileField(1, "P100")))
+                        .includeGroupIdField("GroupId")
+                        .build();
+        groupBy.parentOutput().attachInput(validation.input());
+        table.output().attachInput(groupBy.input());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validation.assertNoActiveValidation();
+    }
+
+    @Test
+    void shouldEstimateQuantilesOfEachGroup() {
+        assertEstimate("P50", 0, 200);
+        assertEstimate("P100", 0, 300);
+        assertEstimate("P50", 1, 50);
+        assertEstimate("P100", 1, 50);
+    }
+
+    @Test
+    void shouldReflectRemovedRows() {
+        table.remove(3);
+        table.fireChanges();
+        assertEstimate("P50", 0, 100);
+        assertEstimate("P100", 0, 200);
+        validation.expect().changed(key(0), estimates(0)).validate();
+    }
+
+    @Test
+    void shouldNotChangeFieldsWhenEstimateMovesWithinEpsilon() {
+        changeLatency(2, 204);
+        table.fireChanges();
+        assertEstimate("P50", 0, 200);
+        validation.expect().changed(key(0), new RowData(Map.of())).validate();
+    }
+
+    @Test
+    void shouldChangeFieldsWhenEstimateMovesBeyondEpsilon() {
+        changeLatency(2, 400);
+        table.fireChanges();
+        assertEstimate("P50", 0, 300);
+        assertEstimate("P100", 0, 400);
+        validation.expect().changed(key(0), estimates(0)).validate();
+    }
+
+    @Test
+    void shouldUpdateBothGroupsWhenRowMovesGroup() {
+        changeInstrument(3, 8);
+        table.fireChanges();
+        assertEstimate("P100", 0, 200);
+        assertEstimate("P50", 1, 50);
+        assertEstimate("P100", 1, 300);
+        validation.expect().changed(key(0), estimates(0)).changed(key(1), estimates(1)).validate();
+    }
+
+    @ParameterizedTest
+    @ValueSource(bytes = {TypeId.Byte, TypeId.Short, TypeId.Long, TypeId.Float, TypeId.Double})
+    void shouldReadEachNumericType(final byte typeId) {
+        initialize(new FieldDescriptor(typeId, "Latency", Metadata.EMPTY));
+        addSourceRow(1, 7, 10);
+        addSourceRow(2, 7, 20);
+        addSourceRow(3, 7, 30);
+        table.fireChanges();
+        validation.clearChanges();
+        assertEstimate("P50", 0, 20);
+        assertEstimate("P100", 0, 30);
+    }
+
+    @Test
+    void shouldRejectQuantileOutsideUnitInterval() {
+        assertThrows(IllegalArgumentException.class, () -> quantileField(1.5, "P150"));
+    }
+
+    @Test
+    void shouldEstimateWithinRelativeAccuracy() {
+        final QuantileSketches sketches = new QuantileSketches(0.01, 1);
+        for (int value = 1; value <= 1000; value++) {
+            sketches.add(0, sketches.bucketOf(value));
+        }
+        for (int value = 1; value <= 500; value++) {
+            sketches.remove(0, sketches.bucketOf(value));
+        }
+        assertThat(sketches.count(0), equalTo(500));
+        assertThat(sketches.quantile(0, 0), closeTo(501, 5.01));
+        assertThat(sketches.quantile(0, 0.5), closeTo(750, 7.5));
+        assertThat(sketches.quantile(0, 1), closeTo(1000, 10));
+    }
+
+    private void assertEstimate(final String fieldName, final int group, final double expected) {
+        assertThat(estimate(fieldName, group), closeTo(expected, expected * 0.01));
+    }
+
+    private double estimate(final String fieldName, final int group) {
+        final var field = (DoubleField) groupBy.parentOutput().schema().field(fieldName).field();
+        return field.valueAt(group);
+    }
+
+    private RowData estimates(final int group) {
+        return new RowData(
+                Map.of("P50", estimate("P50", group), "P100", estimate("P100", group)));
+    }
+
+    private Key key(final int key) {
+        return new Key(List.of(key));
+    }
+
+    private void addSourceRow(final int id, final int instrument, final int latency) {
+        final var row = table.tableRow();
+        table.beginAdd(id);
+        row.setInt(instrumentFieldId, instrument);
+        setLatency(latency);
+        table.endAdd();
+    }
+
+    private void changeLatency(final int id, final int latency) {
+        table.beginChange(id);
+        setLatency(latency);
+        table.endChange();
+    }
+
+    private void setLatency(final int latency) {
+        final var row = table.tableRow();
+        switch (table.output().schema().field("Latency").typeId()) {
+            case TypeId.Byte -> row.setByte(latencyFieldId, (byte) latency);
+            case TypeId.Short -> row.setShort(latencyFieldId, (short) latency);
+            case TypeId.Long -> row.setLong(latencyFieldId, latency);
+            case TypeId.Float -> row.setFloat(latencyFieldId, latency);
+            case TypeId.Double -> row.setDouble(latencyFieldId, latency);
+            default -> row.setInt(latencyFieldId, latency);
+        }
+    }
+
+    private void changeInstrument(final int id, final int instrument) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setInt(instrumentFieldId, instrument);
+        table.endChange();
+    }
+}
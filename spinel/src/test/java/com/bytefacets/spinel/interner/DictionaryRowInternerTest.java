@@ -0,0 +1,60 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.interner;
+
+import static com.bytefacets.spinel.interner.DynamicRowInterner.dynamicRowInterner;
+import static com.bytefacets.spinel.schema.FieldDescriptor.dictionaryStringField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import com.bytefacets.spinel.schema.FieldList;
+import com.bytefacets.spinel.schema.FieldResolver;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.schema.StringWritableField;
+import com.bytefacets.spinel.schema.TypeId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DictionaryRowInternerTest {
+    private final FieldList fields =
+            matrixStoreFieldFactory(4, 4, id -> {})
+                    .createFieldList(
+                            Map.of(
+                                    TypeId.String, List.of(dictionaryStringField("Sym")),
+                                    TypeId.Int, List.of(intField("Book"))));
+    private final FieldResolver resolver = name -> fields.field(name).field();
+
+    @BeforeEach
+    void setUp() {
+        final StringWritableField sym = (StringWritableField) fields.field("Sym").field();
+        final IntWritableField book = (IntWritableField) fields.field("Book").field();
+        final String[] symbols = {"AAPL", "MSFT", "AAPL", "AAPL"};
+        final int[] books = {1, 1, 1, 2};
+        for (int row = 0; row < symbols.length; row++) {
+            sym.setValueAt(row, symbols[row]);
+            book.setValueAt(row, books[row]);
+        }
+    }
+
+    @Test
+    void shouldInternSingleFieldByCode() {
+        final RowInterner interner = dynamicRowInterner(List.of("Sym"), 4);
+        interner.bindToSchema(resolver);
+        assertThat(interner.intern(0), equalTo(interner.intern(2)));
+        assertThat(interner.intern(0), not(equalTo(interner.intern(1))));
+    }
+
+    @Test
+    void shouldInternTupleByCode() {
+        final RowInterner interner = dynamicRowInterner(List.of("Sym", "Book"), 4);
+        interner.bindToSchema(resolver);
+        assertThat(interner.intern(0), equalTo(interner.intern(2)));
+        assertThat(interner.intern(0), not(equalTo(interner.intern(1))));
+        assertThat(interner.intern(0), not(equalTo(interner.intern(3))));
+    }
+}
@@ -0,0 +1,103 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.jfr;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.bytefacets.spinel.printer.OutputLoggerBuilder;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.table.IntIndexedTableBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpinelEventsTest {
+    private @TempDir Path tempDir;
+    private IntIndexedTable table;
+
+    @BeforeEach
+    void setUp() {
+        table =
+                IntIndexedTableBuilder.intIndexedTable("T")
+                        .keyFieldName("Id")
+                        .addFields(intField("Value"))
+                        .build();
+        table.output().attachInput(OutputLoggerBuilder.logger().build());
+    }
+
+    @Test
+    void shouldBeDisabledWithoutRecording() {
+        assertThat(SpinelEvents.isFireEnabled(), equalTo(false));
+        assertThat(SpinelEvents.isNotifyEnabled(), equalTo(false));
+        assertThat(SpinelEvents.beginFire(), nullValue());
+    }
+
+    @Test
+    void shouldRecordFireEvents() throws IOException {
+        final List<RecordedEvent> events = record(FireEvent.NAME);
+        assertThat(events, hasSize(2));
+        final RecordedEvent add = events.get(0);
+        assertThat(add.getString("table"), equalTo("T"));
+        assertThat(add.getInt("added"), equalTo(2));
+        assertThat(add.getInt("changed"), equalTo(0));
+        final RecordedEvent change = events.get(1);
+        assertThat(change.getInt("changed"), equalTo(1));
+        assertThat(change.getInt("removed"), equalTo(1));
+    }
+
+    @Test
+    void shouldRecordNotifyEvents() throws IOException {
+        final List<RecordedEvent> events = record(NotifyEvent.NAME);
+        assertThat(
+                events.stream().map(e -> e.getString("eventType")).toList(),
+                contains("add", "remove", "change"));
+        assertThat(events.stream().map(e -> e.getInt("rows")).toList(), contains(2, 1, 1));
+        assertThat(events.get(0).getString("output"), equalTo("T"));
+    }
+
+    private List<RecordedEvent> record(final String eventName) throws IOException {
+        final Path file = tempDir.resolve("spinel.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            fire();
+            recording.stop();
+            recording.dump(file);
+        }
+        final List<RecordedEvent> events =
+                RecordingFile.readAllEvents(file).stream()
+                        .filter(e -> e.getEventType().getName().equals(eventName))
+                        .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                        .toList();
+        Files.delete(file);
+        return events;
+    }
+
+    private void fire() {
+        final IntWritableField value = table.writableField("Value");
+        value.setValueAt(table.beginAdd(1), 10);
+        table.endAdd();
+        value.setValueAt(table.beginAdd(2), 20);
+        table.endAdd();
+        table.fireChanges();
+        value.setValueAt(table.beginChange(1), 11);
+        table.endChange();
+        table.remove(2);
+        table.fireChanges();
+    }
+}
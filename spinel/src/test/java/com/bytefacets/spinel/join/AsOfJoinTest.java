@@ -0,0 +1,134 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.join;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.longField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static com.bytefacets.spinel.validation.Key.key;
+import static com.bytefacets.spinel.validation.RowData.template;
+
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.testing.IntTableHandle;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsOfJoinTest {
+    private final ValidationOperator validation =
+            new ValidationOperator(new String[] {"LId"}, "Qty", "Bid");
+    private final RowData.RowDataTemplate template = template("Qty", "Bid");
+    private IntTableHandle trades;
+    private IntTableHandle quotes;
+
+    @BeforeEach
+    void setUp() {
+        final IntIndexedTable left =
+                intIndexedTable("trades")
+                        .addFields(intField("Instrument"), longField("TradeTime"), intField("Qty"))
+                        .keyFieldName("LId")
+                        .build();
+        final IntIndexedTable right =
+                intIndexedTable("quotes")
+                        .addFields(intField("QInstrument"), longField("QuoteTime"), intField("Bid"))
+                        .keyFieldName("RId")
+                        .build();
+        trades = IntTableHandle.intTableHandle("LId", left);
+        quotes = IntTableHandle.intTableHandle("RId", right);
+        final Join join =
+                JoinBuilder.asOfJoin()
+                        .joinOn(List.of("Instrument"), List.of("QInstrument"), 4)
+                        .asOfTimestamps("TradeTime", "QuoteTime")
+                        .build();
+        left.output().attachInput(join.leftInput());
+        right.output().attachInput(join.rightInput());
+        join.output().attachInput(validation.input());
+
+        quotes.add(-1, 7, 100L, 50).add(-2, 7, 200L, 51).add(-3, 8, 100L, 60).fire();
+        trades.add(1, 7, 150L, 10).add(2, 7, 250L, 20).add(3, 7, 50L, 30).add(4, 8, 300L, 40);
+        trades.fire();
+    }
+
+    @AfterEach
+    void tearDown() {
+        validation.assertNoActiveValidation();
+    }
+
+    @Test
+    void shouldBindTradesToLatestQuoteAtOrBeforeTradeTime() {
+        validation
+                .expect()
+                .added(key(1), template.rowData(10, 50))
+                .added(key(2), template.rowData(20, 51))
+                .added(key(4), template.rowData(40, 60))
+                .validate();
+    }
+
+    @Test
+    void shouldReBindOnlyTradesAfterAddedQuote() {
+        validation.clearChanges();
+        quotes.add(-4, 7, 120L, 52).fire();
+        validation.expect().changed(key(1), new RowData(Map.of("Bid", 52))).validate();
+    }
+
+    @Test
+    void shouldBindTradeWhenEarlierQuoteAdded() {
+        validation.clearChanges();
+        quotes.add(-4, 7, 50L, 49).fire();
+        validation.expect().added(key(3), template.rowData(30, 49)).validate();
+    }
+
+    @Test
+    void shouldReBindTradesToPreviousQuoteWhenQuoteRemoved() {
+        validation.clearChanges();
+        quotes.remove(-2).fire();
+        validation.expect().changed(key(2), new RowData(Map.of("Bid", 50))).validate();
+    }
+
+    @Test
+    void shouldRemoveTradeWhenItsOnlyQuoteRemoved() {
+        validation.clearChanges();
+        quotes.remove(-3).fire();
+        validation.expect().removed(key(4)).validate();
+    }
+
+    @Test
+    void shouldUpdateBoundTradesWhenQuoteValueChanges() {
+        validation.clearChanges();
+        quotes.change(-1, null, null, 55).fire();
+        validation.expect().changed(key(1), new RowData(Map.of("Bid", 55))).validate();
+    }
+
+    @Test
+    void shouldReBindTradesWhenQuoteTimeChanges() {
+        validation.clearChanges();
+        quotes.change(-1, null, 40L).fire();
+        validation
+                .expect()
+                .added(key(3), template.rowData(30, 50))
+                .changed(key(1), new RowData(Map.of()))
+                .validate();
+    }
+
+    @Test
+    void shouldReBindTradeWhenTradeTimeChanges() {
+        validation.clearChanges();
+        trades.change(2, null, 150L).fire();
+        validation.expect().changed(key(2), new RowData(Map.of("Bid", 50))).validate();
+    }
+
+    @Test
+    void shouldMoveQuoteBetweenInstruments() {
+        validation.clearChanges();
+        quotes.change(-3, 7, 210L).fire();
+        validation
+                .expect()
+                .removed(key(4))
+                .changed(key(2), new RowData(Map.of("Bid", 60)))
+                .validate();
+    }
+}
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.interner.RowInterner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -41,6 +42,54 @@ class LookupJoinMapperTest {
             mapper = new LookupJoinMapper(interner, listener, 2, 2, false);
         }
 
+        @Test
+        void shouldRetainArraysGrownToHighestRowAndKey() {
+            final long initialBytes = mapper.retainedBytes();
+            setUpInternerWithMapping(100, 200, 300);
+            mapper.leftRowAdd(100);
+            mapper.rightRowAdd(200);
+            final long grownBytes = mapper.retainedBytes();
+            assertThat(grownBytes > initialBytes, equalTo(true));
+            mapper.leftRowRemove(100);
+            mapper.rightRowRemove(200);
+            assertThat(mapper.retainedBytes(), equalTo(grownBytes));
+        }
+
+        @Test
+        void shouldMoveRemappedRowsAndReleaseArraysAboveThem() {
+            setUpInternerWithMapping(100, 200, 300);
+            mapper.leftRowAdd(100);
+            mapper.rightRowAdd(200);
+            final long grownBytes = mapper.retainedBytes();
+            final RowRemap leftRemap = RowRemap.rowRemap(1);
+            final RowRemap outboundRemap = RowRemap.rowRemap(1);
+            leftRemap.add(100, 0);
+            mapper.leftRowsRemapping(leftRemap, outboundRemap);
+            assertThat(outboundRemap.size(), equalTo(1));
+            assertThat(outboundRemap.toRow(0), equalTo(0));
+            mapper.leftRowsRemapped(leftRemap);
+            final RowRemap rightRemap = RowRemap.rowRemap(1);
+            rightRemap.add(200, 1);
+            mapper.rightRowsRemapped(rightRemap);
+            assertThat(mapper.rightMapper().sourceRowOf(0), equalTo(1));
+            assertThat(mapper.rightMapper().sourceRowOf(100), equalTo(-1));
+            // keyToLeftRight stays grown to the highest join key
+            assertThat(mapper.retainedBytes() < grownBytes, equalTo(true));
+        }
+
+        @Test
+        void shouldNotForwardRemapOfUnjoinedLeftRows() {
+            mapper.leftRowAdd(1);
+            final RowRemap leftRemap = RowRemap.rowRemap(1);
+            final RowRemap outboundRemap = RowRemap.rowRemap(1);
+            leftRemap.add(1, 0);
+            mapper.leftRowsRemapping(leftRemap, outboundRemap);
+            assertThat(outboundRemap.isEmpty(), equalTo(true));
+            mapper.leftRowsRemapped(leftRemap);
+            mapper.rightRowAdd(5);
+            verify(listener, times(1)).joinAdded(0);
+        }
+
         @Nested
         class AddTests {
             @Test
@@ -373,6 +373,43 @@ class LookupJoinTest {
                 validation.expect().removed(key(1, -1)).removed(key(2, -2)).validate();
             }
         }
+
+        @Nested
+        class CompactTests {
+            @BeforeEach
+            void setUp() {
+                initialize(builder);
+                addLeft();
+                addRight();
+                leftHandle.add(3, 300, 3000).add(4, 400, 4000).fire();
+                rightHandle.add(-3, 300, 3333).fire();
+                // moves left 3, which is joined, and left 4, which is not, into the freed rows
+                leftHandle.remove(1).remove(2).fire();
+                rightHandle.remove(-1).fire();
+                clearExpectations();
+            }
+
+            @Test
+            void shouldNotChangeJoinedRowsWhenSourcesCompact() {
+                left.compact();
+                right.compact();
+                validation.validateNoChanges();
+            }
+
+            @Test
+            void shouldJoinMovedRowsAfterCompaction() {
+                left.compact();
+                right.compact();
+                leftHandle.change(3, null, 3001).fire();
+                validation.expect().changed(key(3, -3), rowData(null, 3001, null)).validate();
+                rightHandle.change(-3, null, 3334).fire();
+                validation.expect().changed(key(3, -3), rowData(null, null, 3334)).validate();
+                rightHandle.add(-4, 400, 4444).fire();
+                validation.expect().added(key(4, -4), rowData(400, 4000, 4444)).validate();
+                rightHandle.remove(-3).fire();
+                validation.expect().removed(key(3, -3)).validate();
+            }
+        }
     }
 
     @Nested
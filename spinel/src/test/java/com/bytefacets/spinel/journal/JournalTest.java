@@ -0,0 +1,174 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.journal;
+
+import static com.bytefacets.spinel.journal.JournalReplaySource.journalReplaySource;
+import static com.bytefacets.spinel.journal.JournalSink.journalSink;
+import static com.bytefacets.spinel.schema.FieldDescriptor.boolField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.dictionaryStringField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.doubleField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.genericField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bytefacets.spinel.journal.JournalReplaySource.Pacing;
+import com.bytefacets.spinel.schema.BoolWritableField;
+import com.bytefacets.spinel.schema.DictionaryStringField;
+import com.bytefacets.spinel.schema.DoubleWritableField;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.StringWritableField;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.validation.Key;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.Validation;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalTest {
+    private @TempDir Path directory;
+    private final IntIndexedTable table =
+            intIndexedTable("T")
+                    .keyFieldName("Id")
+                    .addFields(
+                            doubleField("Price"),
+                            stringField("Name"),
+                            dictionaryStringField("Side"),
+                            boolField("Flag"),
+                            genericField("Any"))
+                    .build();
+    private final ValidationOperator validation =
+            new ValidationOperator(new String[] {"Id"}, "Price", "Name", "Side", "Flag");
+
+    @Test
+    void shouldReplayAddsChangesAndRemoves() {
+        try (JournalSink sink = journalSink(directory, 1 << 16)) {
+            table.output().attachInput(sink);
+            for (int key = 0; key < 10; key++) {
+                upsert(key, key * 1.5, key % 3 == 0 ? null : "n" + key);
+            }
+            table.fireChanges();
+            final int row = table.beginChange(4);
+            ((DoubleWritableField) table.writableField("Price")).setValueAt(row, 99.5);
+            table.endChange();
+            table.fireChanges();
+            table.remove(7);
+            table.fireChanges();
+        }
+
+        final JournalReplaySource source = journalReplaySource(directory);
+        source.output().attachInput(validation.input());
+        assertThat(source.replay(Pacing.FullSpeed), equalTo(4));
+        final Validation expected = validation.expect().schema(expectedSchema());
+        for (int key = 0; key < 10; key++) {
+            expected.added(key(key), rowData(key * 1.5, key % 3 == 0 ? null : "n" + key, key));
+        }
+        expected.changed(key(4), new RowData(Map.of("Price", 99.5))).removed(key(7)).validate();
+
+        final Schema schema = source.output().schema();
+        assertThat(schema.fields().maybeField("Any"), nullValue());
+        assertThat(schema.field("Side").field() instanceof DictionaryStringField, equalTo(true));
+    }
+
+    @Test
+    void shouldRollSegmentsAndResume() {
+        try (JournalSink sink = journalSink(directory, 256)) {
+            table.output().attachInput(sink);
+            for (int key = 0; key < 50; key++) {
+                upsert(key, key, "name-" + key);
+                table.fireChanges();
+            }
+        }
+        assertThat(Journal.segments(directory).size(), greaterThan(1));
+        final int segments = Journal.segments(directory).size();
+        try (JournalSink sink = journalSink(directory, 256)) {
+            sink.rowsRemoved(consumer -> consumer.accept(table.lookupKeyRow(0)));
+        }
+        assertThat(Journal.segments(directory).size(), greaterThanOrEqualTo(segments));
+
+        final JournalReplaySource source = journalReplaySource(directory);
+        source.output().attachInput(validation.input());
+        assertThat(source.replay(Pacing.FullSpeed), equalTo(52));
+        final Validation expected = validation.expect().schema(expectedSchema());
+        for (int key = 0; key < 50; key++) {
+            expected.added(key(key), rowData(key, "name-" + key, key));
+        }
+        expected.removed(key(0)).validate();
+    }
+
+    @Test
+    void shouldPaceByRecordedTimestamps() {
+        final long[] now = {0};
+        try (JournalSink sink = journalSink(directory, 1 << 16, () -> now[0])) {
+            table.output().attachInput(sink);
+            now[0] = TimeUnit.MILLISECONDS.toNanos(30);
+            upsert(1, 1, "a");
+            table.fireChanges();
+        }
+        final JournalReplaySource source = journalReplaySource(directory);
+        final long start = System.nanoTime();
+        assertThat(source.replay(Pacing.Recorded), equalTo(2));
+        assertThat(
+                System.nanoTime() - start,
+                greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30)));
+    }
+
+    @Test
+    void shouldIgnoreUpdatesAfterClose() {
+        final JournalSink sink = journalSink(directory, 1 << 16);
+        table.output().attachInput(sink);
+        upsert(1, 1, "a");
+        table.fireChanges();
+        sink.close();
+        upsert(2, 2, "b");
+        table.fireChanges();
+        table.output().detachInput(sink);
+        assertThrows(IllegalStateException.class, sink::flush);
+
+        final JournalReplaySource source = journalReplaySource(directory);
+        assertThat(source.replay(Pacing.FullSpeed), equalTo(2));
+    }
+
+    private void upsert(final int key, final double price, final String name) {
+        final int row = table.beginUpsert(key);
+        ((DoubleWritableField) table.writableField("Price")).setValueAt(row, price);
+        ((StringWritableField) table.writableField("Name")).setValueAt(row, name);
+        ((StringWritableField) table.writableField("Side"))
+                .setValueAt(row, key % 2 == 0 ? "Buy" : "Sell");
+        ((BoolWritableField) table.writableField("Flag")).setValueAt(row, key % 2 == 0);
+        table.endUpsert();
+    }
+
+    private Map<String, Class<?>> expectedSchema() {
+        return Map.of(
+                "Id", Integer.class,
+                "Price", Double.class,
+                "Name", String.class,
+                "Side", String.class,
+                "Flag", Boolean.class);
+    }
+
+    private Key key(final int key) {
+        return new Key(List.of(key));
+    }
+
+    private RowData rowData(final double price, final String name, final int key) {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("Price", price);
+        data.put("Name", name);
+        data.put("Side", key % 2 == 0 ? "Buy" : "Sell");
+        data.put("Flag", key % 2 == 0);
+        return new RowData(data);
+    }
+}
@@ -0,0 +1,121 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.metrics;
+
+import static com.bytefacets.spinel.filter.lib.IntPredicate.intPredicate;
+import static com.bytefacets.spinel.metrics.OperatorMetrics.operatorMetrics;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.testing.OutputRows.rowWhere;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.bytefacets.spinel.common.OutputMetricsProvider;
+import com.bytefacets.spinel.filter.Filter;
+import com.bytefacets.spinel.printer.OutputLoggerBuilder;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.transform.TransformBuilder;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OperatorMetricsTest {
+    private final TransformBuilder builder = TransformBuilder.transform();
+    private IntIndexedTable source;
+    private OperatorMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        builder.intIndexedTable("Source")
+                .keyFieldName("Id")
+                .addFields(intField("Value"))
+                .then()
+                .filter("Evens")
+                .where(intPredicate("Value", v -> v % 2 == 0));
+        builder.build();
+        source = builder.lookupNode("Source");
+        final Filter filter = builder.lookupNode("Evens");
+        filter.output().attachInput(OutputLoggerBuilder.logger().build());
+        metrics = operatorMetrics(builder, "Metrics");
+    }
+
+    @Test
+    void shouldRegisterInTransform() {
+        assertThat(builder.lookupNode("Metrics"), equalTo(metrics));
+    }
+
+    @Test
+    void shouldPublishNotificationCounts() {
+        metrics.enable();
+        addRows(1, 2, 3, 4);
+        metrics.refresh();
+        final Map<String, Object> sourceRow = row("Source");
+        assertThat(sourceRow.get("Type"), equalTo("IntIndexedTable"));
+        assertThat(sourceRow.get("FanOut"), equalTo(1));
+        assertThat(sourceRow.get("AddRows"), equalTo(4L));
+        assertThat(sourceRow.get("AddBatches"), equalTo(1L));
+        assertThat(sourceRow.get("BatchMax"), equalTo(7));
+        final Map<String, Object> filterRow = row("Evens");
+        assertThat(filterRow.get("Type"), equalTo("Filter"));
+        assertThat(filterRow.get("AddRows"), equalTo(2L));
+        assertThat(filterRow.get("AddBatches"), equalTo(1L));
+    }
+
+    @Test
+    void shouldAttributeCallbackTimeToReceivingNode() {
+        metrics.enable();
+        addRows(1, 2);
+        metrics.refresh();
+        final Map<String, Object> filterRow = row("Evens");
+        assertThat((Long) filterRow.get("CallbackNanos"), greaterThan(0L));
+        assertThat(row("Source").get("CallbackNanos"), equalTo(0L));
+        assertThat(row("Source").get("NotifyNanos"), equalTo(filterRow.get("CallbackNanos")));
+    }
+
+    @Test
+    void shouldNotIncludeItself() {
+        metrics.refresh();
+        assertThat(row("Metrics"), anEmptyMap());
+        assertThat(row("Source"), aMapWithSize(16));
+    }
+
+    @Test
+    void shouldReportRetainedBytes() {
+        addRows(1, 2, 3, 4);
+        metrics.refresh();
+        final long tableBytes = (Long) row("Source").get("RetainedBytes");
+        assertThat(tableBytes, equalTo(source.retainedBytes()));
+        assertThat(tableBytes, greaterThan(0L));
+        assertThat((Long) row("Evens").get("RetainedBytes"), greaterThan(0L));
+    }
+
+    @Test
+    void shouldStopRecordingWhenDisabled() {
+        metrics.enable();
+        final OutputMetricsProvider provider = (OutputMetricsProvider) source.output();
+        assertThat(provider.metrics() != null, equalTo(true));
+        metrics.disable();
+        assertThat(provider.metrics(), nullValue());
+        addRows(1, 2);
+        metrics.refresh();
+        assertThat(row("Source").get("AddRows"), equalTo(0L));
+    }
+
+    private void addRows(final int... ids) {
+        final IntWritableField value = source.writableField("Value");
+        for (int id : ids) {
+            final int row = source.beginAdd(id);
+            value.setValueAt(row, id);
+            source.endAdd();
+        }
+        source.fireChanges();
+    }
+
+    private Map<String, Object> row(final String node) {
+        return rowWhere(metrics.output(), "Node", node);
+    }
+}
@@ -0,0 +1,119 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.metrics;
+
+import static com.bytefacets.spinel.filter.lib.IntPredicate.intPredicate;
+import static com.bytefacets.spinel.metrics.TopologyProfile.topologyProfile;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.testing.OutputRows.rowWhere;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+import com.bytefacets.spinel.filter.Filter;
+import com.bytefacets.spinel.printer.OutputLoggerBuilder;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.transform.TransformBuilder;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TopologyProfileTest {
+    private final TransformBuilder builder = TransformBuilder.transform();
+    private IntIndexedTable source;
+    private TopologyProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        builder.intIndexedTable("Source")
+                .keyFieldName("Id")
+                .addFields(intField("Value"))
+                .then()
+                .filter("Evens")
+                .where(intPredicate("Value", v -> v % 2 == 0))
+                .then()
+                .filter("Fours")
+                .where(intPredicate("Value", v -> v % 4 == 0));
+        builder.build();
+        source = builder.lookupNode("Source");
+        final Filter fours = builder.lookupNode("Fours");
+        fours.output().attachInput(OutputLoggerBuilder.logger().build());
+        profile = topologyProfile(builder, "Profile");
+        addRows(1, 2, 3, 4);
+    }
+
+    @Test
+    void shouldRegisterInTransform() {
+        assertThat(builder.lookupNode("Profile"), equalTo(profile));
+    }
+
+    @Test
+    void shouldPublishNodeStatistics() {
+        profile.refresh();
+        final Map<String, Object> sourceRow = row("Source");
+        assertThat(sourceRow.get("Type"), equalTo("IntIndexedTable"));
+        assertThat(sourceRow.get("Upstream"), equalTo(""));
+        assertThat(sourceRow.get("FanOut"), equalTo(1));
+        assertThat(sourceRow.get("SchemaWidth"), equalTo(2));
+        assertThat(sourceRow.get("RowCount"), equalTo(4));
+        assertThat(sourceRow.get("MappingDepth"), equalTo(0));
+        final Map<String, Object> evensRow = row("Evens");
+        assertThat(evensRow.get("Upstream"), equalTo("Source"));
+        assertThat(evensRow.get("RowCount"), equalTo(2));
+        assertThat(evensRow.get("MappingDepth"), equalTo(1));
+    }
+
+    @Test
+    void shouldCountMappingDepthThroughChain() {
+        profile.refresh();
+        assertThat(row("Fours").get("Upstream"), equalTo("Evens"));
+        assertThat(row("Fours").get("RowCount"), equalTo(1));
+        assertThat(row("Fours").get("MappingDepth"), equalTo(2));
+    }
+
+    @Test
+    void shouldReportCallbackTimeWhenMetricsEnabled() {
+        final OperatorMetrics metrics = OperatorMetrics.operatorMetrics(builder, "Metrics");
+        metrics.enable();
+        addRows(6, 8);
+        profile.refresh();
+        assertThat((Long) row("Evens").get("CallbackNanos"), greaterThan(0L));
+        assertThat(row("Source").get("CallbackNanos"), equalTo(0L));
+    }
+
+    @Test
+    void shouldNotIncludeItself() {
+        profile.refresh();
+        assertThat(row("Profile"), anEmptyMap());
+    }
+
+    @Test
+    void shouldExplainAsText() {
+        final String text = profile.explain();
+        assertThat(
+                text,
+                containsString(
+                        "Source [IntIndexedTable] width=2 rows=4 fanOut=1 mappingDepth=0"));
+        assertThat(text, containsString("Evens [Filter] width=2 rows=2 fanOut=1 mappingDepth=1"));
+        assertThat(text, containsString("  -> Evens"));
+        assertThat(text, containsString("  -> Fours"));
+        assertThat(text, containsString("  -> 1 unregistered"));
+    }
+
+    private void addRows(final int... ids) {
+        final IntWritableField value = source.writableField("Value");
+        for (int id : ids) {
+            final int row = source.beginAdd(id);
+            value.setValueAt(row, id);
+            source.endAdd();
+        }
+        source.fireChanges();
+    }
+
+    private Map<String, Object> row(final String node) {
+        return rowWhere(profile.output(), "Node", node);
+    }
+}
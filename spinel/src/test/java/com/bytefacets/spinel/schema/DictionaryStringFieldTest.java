@@ -0,0 +1,96 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.dictionaryStringField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class DictionaryStringFieldTest {
+    private final FieldList fields =
+            matrixStoreFieldFactory(4, 4, id -> {})
+                    .createFieldList(
+                            Map.of(
+                                    TypeId.String,
+                                    List.of(
+                                            dictionaryStringField("Sym"),
+                                            stringField("Note"),
+                                            dictionaryStringField("Venue"))));
+    private final DictionaryStringField sym = dictionaryField("Sym");
+    private final DictionaryStringField venue = dictionaryField("Venue");
+
+    @Test
+    void shouldCreateOnlyTaggedFieldsAsDictionaryFields() {
+        assertThat(fields.field("Note").field(), not(instanceOf(DictionaryStringField.class)));
+        assertThat(fields.field("Note").field(), instanceOf(StringWritableField.class));
+    }
+
+    @Test
+    void shouldStoreCodesAndDecodeValues() {
+        write(sym, 0, "AAPL");
+        write(sym, 1, "MSFT");
+        write(sym, 2, "AAPL");
+        assertThat(sym.valueAt(2), equalTo("AAPL"));
+        assertThat(sym.codeAt(0), equalTo(sym.codeAt(2)));
+        assertThat(sym.codeAt(1), not(equalTo(sym.codeAt(0))));
+    }
+
+    @Test
+    void shouldReadNullForUnwrittenRows() {
+        assertThat(sym.valueAt(10), nullValue());
+        assertThat(sym.codeAt(10), equalTo(StringDictionary.NULL_CODE));
+    }
+
+    @Test
+    void shouldShareDictionaryBetweenFieldsOfFactory() {
+        write(sym, 0, "XNAS");
+        write(venue, 0, "XNAS");
+        assertThat(sym.dictionary(), sameInstance(venue.dictionary()));
+        assertThat(sym.codeAt(0), equalTo(venue.codeAt(0)));
+    }
+
+    @Test
+    void shouldKeepCodesThroughMappedField() {
+        write(sym, 3, "IBM");
+        final Field mapped = MappedFieldFactory.asMappedField(sym, row -> row == 0 ? 3 : -1);
+        final DictionaryStringField mappedSym = (DictionaryStringField) mapped;
+        assertThat(mappedSym.codeAt(0), equalTo(sym.codeAt(3)));
+        assertThat(mappedSym.valueAt(0), equalTo("IBM"));
+        assertThat(mappedSym.valueAt(1), nullValue());
+    }
+
+    @Test
+    void shouldLookupWithoutAdding() {
+        final StringDictionary dictionary = sym.dictionary();
+        write(sym, 0, "AAPL");
+        assertThat(dictionary.lookup("AAPL"), equalTo(sym.codeAt(0)));
+        assertThat(dictionary.lookup("MSFT"), equalTo(StringDictionary.NOT_FOUND));
+        assertThat(dictionary.lookup(null), equalTo(StringDictionary.NULL_CODE));
+        assertThat(dictionary.size(), equalTo(1));
+    }
+
+    @Test
+    void shouldTagDescriptor() {
+        assertThat(dictionaryStringField("Sym").dictionaryEncoded(), equalTo(true));
+        assertThat(stringField("Sym").dictionaryEncoded(), equalTo(false));
+    }
+
+    private DictionaryStringField dictionaryField(final String name) {
+        return (DictionaryStringField) fields.field(name).field();
+    }
+
+    private static void write(
+            final DictionaryStringField field, final int row, final String value) {
+        ((StringWritableField) field).setValueAt(row, value);
+    }
+}
@@ -0,0 +1,132 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.boolField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.doubleField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.schema.OffHeapFieldFactory.offHeapFieldFactory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.table.IntIndexedTableBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class OffHeapFieldFactoryTest {
+    private final List<Integer> changed = new ArrayList<>();
+    private final OffHeapFieldFactory factory = offHeapFieldFactory(4, 4, changed::add);
+
+    @Test
+    void shouldReadDefaultsBeforeWrites() {
+        final FieldList fields = createFields();
+        assertThat(((IntField) fields.field("A").field()).valueAt(2), equalTo(0));
+        assertThat(((IntField) fields.field("A").field()).valueAt(1000), equalTo(0));
+        assertThat(((BoolField) fields.field("Flag").field()).valueAt(3), equalTo(false));
+    }
+
+    @Test
+    void shouldKeepFieldsOfOneTypeSeparate() {
+        final FieldList fields = createFields();
+        final IntWritableField a = (IntWritableField) fields.field("A").field();
+        final IntWritableField b = (IntWritableField) fields.field("B").field();
+        a.setValueAt(1, 10);
+        b.setValueAt(1, 20);
+        a.setValueAt(2, 30);
+        assertThat(a.valueAt(1), equalTo(10));
+        assertThat(b.valueAt(1), equalTo(20));
+        assertThat(a.valueAt(2), equalTo(30));
+        assertThat(b.valueAt(2), equalTo(0));
+    }
+
+    @Test
+    void shouldGrowByChunksWithoutLosingValues() {
+        final FieldList fields = createFields();
+        final DoubleWritableField price = (DoubleWritableField) fields.field("Price").field();
+        for (int row = 0; row < 100; row++) {
+            price.setValueAt(row, row * 1.5);
+        }
+        for (int row = 0; row < 100; row++) {
+            assertThat(price.valueAt(row), equalTo(row * 1.5));
+        }
+        assertThat(price.valueAt(100), equalTo(0d));
+    }
+
+    @Test
+    void shouldNotifyListenerOnWrite() {
+        final FieldList fields = createFields();
+        final int fieldId = fields.field("B").fieldId();
+        ((IntWritableField) fields.field("B").field()).setValueAt(0, 5);
+        assertThat(changed, equalTo(List.of(fieldId)));
+    }
+
+    @Test
+    void shouldStoreReferenceTypesOnHeap() {
+        final FieldList fields = createFields();
+        final StringWritableField name = (StringWritableField) fields.field("Name").field();
+        name.setValueAt(9, "x");
+        assertThat(name.valueAt(9), equalTo("x"));
+    }
+
+    @Test
+    void shouldCountOffHeapBytes() {
+        createFields();
+        // one chunk of 4 rows each: 2 ints, 1 double, 1 boolean
+        assertThat(factory.offHeapBytes(), equalTo(4L * (2 * 4 + 8 + 1)));
+    }
+
+    @Test
+    void shouldReleaseChunksOnTruncate() {
+        final FieldList fields = createFields();
+        final DoubleWritableField price = (DoubleWritableField) fields.field("Price").field();
+        for (int row = 0; row < 100; row++) {
+            price.setValueAt(row, row * 1.5);
+        }
+        final long grown = factory.offHeapBytes();
+        ((TruncatableField) price).truncate(6);
+        assertThat(price.valueAt(5), equalTo(7.5));
+        assertThat(price.valueAt(6), equalTo(0d));
+        assertThat(price.valueAt(50), equalTo(0d));
+        // 23 of the 25 double chunks of 4 rows are released
+        assertThat(factory.offHeapBytes(), equalTo(grown - 23L * 4 * 8));
+    }
+
+    @Test
+    void shouldRejectInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> offHeapFieldFactory(4, 0, id -> {}));
+    }
+
+    @Test
+    void shouldBuildOffHeapTable() {
+        final IntIndexedTable table =
+                IntIndexedTableBuilder.intIndexedTable("T")
+                        .keyFieldName("Id")
+                        .chunkSize(2)
+                        .fieldStorage(FieldStorage.OffHeap)
+                        .addFields(intField("Qty"), stringField("Name"))
+                        .build();
+        final IntWritableField qty = table.writableField("Qty");
+        for (int key = 0; key < 10; key++) {
+            qty.setValueAt(table.beginAdd(key), key * 10);
+            table.endAdd();
+        }
+        table.fireChanges();
+        final IntField output = (IntField) table.output().schema().field("Qty").field();
+        assertThat(output.valueAt(table.lookupKeyRow(7)), equalTo(70));
+        assertThat(output.valueAt(table.lookupKeyRow(9)), equalTo(90));
+    }
+
+    private FieldList createFields() {
+        return factory.createFieldList(
+                Map.of(
+                        TypeId.Int, List.of(intField("A"), intField("B")),
+                        TypeId.Double, List.of(doubleField("Price")),
+                        TypeId.Bool, List.of(boolField("Flag")),
+                        TypeId.String, List.of(stringField("Name"))));
+    }
+}
@@ -0,0 +1,78 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.boolField;
+import static com.bytefacets.spinel.schema.MatrixStoreFieldFactory.matrixStoreFieldFactory;
+import static com.bytefacets.spinel.schema.PackedBoolArrayField.packedBoolArrayField;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PackedBoolArrayFieldTest {
+    private final List<Integer> changed = new ArrayList<>();
+    private final PackedBoolArrayField field = packedBoolArrayField(4, 7, changed::add);
+
+    @Test
+    void shouldReadDefaultBeforeWrites() {
+        assertThat(field.valueAt(3), equalTo(false));
+        assertThat(field.valueAt(1000), equalTo(false));
+        assertThat(field.wordAt(20), equalTo(0L));
+    }
+
+    @Test
+    void shouldSetAndClearBits() {
+        field.setValueAt(1, true);
+        field.setValueAt(63, true);
+        field.setValueAt(64, true);
+        field.setValueAt(1, false);
+        assertThat(field.valueAt(1), equalTo(false));
+        assertThat(field.valueAt(63), equalTo(true));
+        assertThat(field.valueAt(64), equalTo(true));
+        assertThat(field.wordAt(0), equalTo(1L << 63));
+        assertThat(field.wordAt(1), equalTo(1L));
+        assertThat(changed, equalTo(List.of(7, 7, 7, 7)));
+    }
+
+    @Test
+    void shouldGrowWithInitialValue() {
+        final PackedBoolArrayField flags = packedBoolArrayField(4, 0, id -> {}, true);
+        flags.setValueAt(500, false);
+        assertThat(flags.valueAt(499), equalTo(true));
+        assertThat(flags.valueAt(500), equalTo(false));
+        assertThat(flags.valueAt(5000), equalTo(true));
+        assertThat(flags.wordAt(2), equalTo(-1L));
+    }
+
+    @Test
+    void shouldResetRowsAboveLimitOnTruncate() {
+        for (int row = 0; row < 1000; row++) {
+            field.setValueAt(row, true);
+        }
+        final long grown = field.retainedBytes();
+        field.truncate(70);
+        assertThat(field.valueAt(69), equalTo(true));
+        assertThat(field.valueAt(70), equalTo(false));
+        assertThat(field.valueAt(200), equalTo(false));
+        assertThat(field.wordAt(1), equalTo((1L << 6) - 1));
+        assertThat(field.retainedBytes(), lessThan(grown));
+    }
+
+    @Test
+    void shouldPackBoolFieldsOfMatrixStore() {
+        final FieldList fields =
+                matrixStoreFieldFactory(4, 4, id -> {})
+                        .createFieldList(
+                                Map.of(TypeId.Bool, List.of(boolField("A"), boolField("B"))));
+        final var a = (BoolWritableField) fields.field("A").field();
+        final var b = (BoolWritableField) fields.field("B").field();
+        a.setValueAt(2, true);
+        assertThat(((PackedBoolField) a).wordAt(0), equalTo(4L));
+        assertThat(((PackedBoolField) b).wordAt(0), equalTo(0L));
+    }
+}
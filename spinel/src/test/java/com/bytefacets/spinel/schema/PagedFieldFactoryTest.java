@@ -0,0 +1,155 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.schema;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.boolField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.dictionaryStringField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.doubleField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.schema.PagedFieldFactory.pagedFieldFactory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bytefacets.spinel.common.RetainedSize;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.table.IntIndexedTableBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PagedFieldFactoryTest {
+    private final List<Integer> changed = new ArrayList<>();
+    private final PagedFieldFactory factory = pagedFieldFactory(4, 3, changed::add);
+
+    @Test
+    void shouldRoundPageSizeUpToPowerOfTwo() {
+        assertThat(factory.pageSize(), equalTo(4));
+        assertThat(pagedFieldFactory(4, 64, id -> {}).pageSize(), equalTo(64));
+    }
+
+    @Test
+    void shouldReadDefaultsBeforeWrites() {
+        final FieldList fields = createFields();
+        assertThat(((IntField) fields.field("A").field()).valueAt(2), equalTo(0));
+        assertThat(((IntField) fields.field("A").field()).valueAt(1000), equalTo(0));
+        assertThat(((BoolField) fields.field("Flag").field()).valueAt(3), equalTo(false));
+        assertThat(((StringField) fields.field("Name").field()).valueAt(3), equalTo(null));
+    }
+
+    @Test
+    void shouldKeepFieldsSeparate() {
+        final FieldList fields = createFields();
+        final IntWritableField a = (IntWritableField) fields.field("A").field();
+        final IntWritableField b = (IntWritableField) fields.field("B").field();
+        a.setValueAt(1, 10);
+        b.setValueAt(1, 20);
+        a.setValueAt(2, 30);
+        assertThat(a.valueAt(1), equalTo(10));
+        assertThat(b.valueAt(1), equalTo(20));
+        assertThat(a.valueAt(2), equalTo(30));
+        assertThat(b.valueAt(2), equalTo(0));
+    }
+
+    @Test
+    void shouldGrowByPagesWithoutLosingValues() {
+        final FieldList fields = createFields();
+        final DoubleWritableField price = (DoubleWritableField) fields.field("Price").field();
+        final BoolWritableField flag = (BoolWritableField) fields.field("Flag").field();
+        final StringWritableField name = (StringWritableField) fields.field("Name").field();
+        for (int row = 0; row < 300; row++) {
+            price.setValueAt(row, row * 1.5);
+            flag.setValueAt(row, row % 7 == 0);
+            name.setValueAt(row, "n" + row);
+        }
+        for (int row = 0; row < 300; row++) {
+            assertThat(price.valueAt(row), equalTo(row * 1.5));
+            assertThat(flag.valueAt(row), equalTo(row % 7 == 0));
+            assertThat(name.valueAt(row), equalTo("n" + row));
+        }
+        assertThat(price.valueAt(300), equalTo(0d));
+    }
+
+    @Test
+    void shouldPackBoolFields() {
+        final FieldList fields = createFields();
+        final BoolWritableField flag = (BoolWritableField) fields.field("Flag").field();
+        flag.setValueAt(65, true);
+        assertThat(((PackedBoolField) flag).wordAt(1), equalTo(2L));
+    }
+
+    @Test
+    void shouldCreateDictionaryFieldsInMatrixStore() {
+        final FieldList fields =
+                factory.createFieldList(
+                        Map.of(TypeId.String, List.of(dictionaryStringField("Sym"))));
+        assertThat(fields.field("Sym").field(), instanceOf(DictionaryStringField.class));
+    }
+
+    @Test
+    void shouldNotifyListenerOnWrite() {
+        final FieldList fields = createFields();
+        final int fieldId = fields.field("B").fieldId();
+        ((IntWritableField) fields.field("B").field()).setValueAt(0, 5);
+        assertThat(changed, equalTo(List.of(fieldId)));
+    }
+
+    @Test
+    void shouldReleasePagesOnTruncate() {
+        final FieldList fields = createFields();
+        final DoubleWritableField price = (DoubleWritableField) fields.field("Price").field();
+        final BoolWritableField flag = (BoolWritableField) fields.field("Flag").field();
+        for (int row = 0; row < 300; row++) {
+            price.setValueAt(row, row * 1.5);
+            flag.setValueAt(row, true);
+        }
+        final long grown = ((RetainedSize) price).retainedBytes();
+        ((TruncatableField) price).truncate(6);
+        ((TruncatableField) flag).truncate(70);
+        assertThat(price.valueAt(5), equalTo(7.5));
+        assertThat(price.valueAt(6), equalTo(0d));
+        assertThat(price.valueAt(250), equalTo(0d));
+        assertThat(((RetainedSize) price).retainedBytes(), lessThan(grown));
+        assertThat(flag.valueAt(69), equalTo(true));
+        assertThat(flag.valueAt(70), equalTo(false));
+        assertThat(flag.valueAt(200), equalTo(false));
+    }
+
+    @Test
+    void shouldRejectInvalidPageSize() {
+        assertThrows(IllegalArgumentException.class, () -> pagedFieldFactory(4, 0, id -> {}));
+    }
+
+    @Test
+    void shouldBuildPagedTable() {
+        final IntIndexedTable table =
+                IntIndexedTableBuilder.intIndexedTable("T")
+                        .keyFieldName("Id")
+                        .chunkSize(2)
+                        .fieldStorage(FieldStorage.Paged)
+                        .addFields(intField("Qty"), stringField("Name"))
+                        .build();
+        final IntWritableField qty = table.writableField("Qty");
+        for (int key = 0; key < 10; key++) {
+            qty.setValueAt(table.beginAdd(key), key * 10);
+            table.endAdd();
+        }
+        table.fireChanges();
+        final IntField output = (IntField) table.output().schema().field("Qty").field();
+        assertThat(output.valueAt(table.lookupKeyRow(7)), equalTo(70));
+        assertThat(output.valueAt(table.lookupKeyRow(9)), equalTo(90));
+    }
+
+    private FieldList createFields() {
+        return factory.createFieldList(
+                Map.of(
+                        TypeId.Int, List.of(intField("A"), intField("B")),
+                        TypeId.Double, List.of(doubleField("Price")),
+                        TypeId.Bool, List.of(boolField("Flag")),
+                        TypeId.String, List.of(stringField("Name"))));
+    }
+}
@@ -0,0 +1,78 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class OrderStatisticTreeTest {
+    private final int[] values = new int[512];
+    private final OrderStatisticTree tree =
+            OrderStatisticTree.orderStatisticTree(
+                    4, (rowA, rowB) -> Integer.compare(values[rowA], values[rowB]));
+    private final List<Integer> expected = new ArrayList<>();
+
+    @Test
+    void shouldMatchSortedOrderThroughRandomOperations() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            final int row = random.nextInt(values.length);
+            if (tree.contains(row)) {
+                if (random.nextBoolean()) {
+                    tree.remove(row);
+                    expected.remove((Integer) row);
+                } else {
+                    tree.remove(row);
+                    values[row] = random.nextInt(100);
+                    tree.insert(row);
+                }
+            } else {
+                values[row] = random.nextInt(100);
+                tree.insert(row);
+                expected.add(row);
+            }
+            if (i % 250 == 0) {
+                assertMatchesExpected();
+            }
+        }
+        assertMatchesExpected();
+    }
+
+    @Test
+    void shouldReturnNoRowOutsideTree() {
+        tree.insert(3);
+        assertThat(tree.select(1), equalTo(-1));
+        assertThat(tree.select(-1), equalTo(-1));
+        assertThat(tree.rank(7), equalTo(-1));
+        assertThat(tree.rank(1000), equalTo(-1));
+    }
+
+    @Test
+    void shouldClear() {
+        tree.insert(3);
+        tree.insert(1);
+        tree.clear();
+        assertThat(tree.size(), equalTo(0));
+        assertThat(tree.contains(3), equalTo(false));
+    }
+
+    private void assertMatchesExpected() {
+        expected.sort(
+                Comparator.<Integer>comparingInt(row -> values[row])
+                        .thenComparingInt(row -> row));
+        final List<Integer> actual = new ArrayList<>();
+        tree.forEach(actual::add);
+        assertThat(actual, equalTo(expected));
+        assertThat(tree.size(), equalTo(expected.size()));
+        for (int position = 0; position < expected.size(); position++) {
+            assertThat(tree.select(position), equalTo(expected.get(position)));
+            assertThat(tree.rank(expected.get(position)), equalTo(position));
+        }
+    }
+}
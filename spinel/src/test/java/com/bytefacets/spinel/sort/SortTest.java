@@ -0,0 +1,337 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bytefacets.spinel.schema.IntField;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.validation.Key;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SortTest {
+    private final ValidationOperator validation =
+            new ValidationOperator(new String[] {"Id"}, "Value1", "Rank");
+    private IntIndexedTable table;
+    private Sort sort;
+    private int value1FieldId;
+    private int value2FieldId;
+    private int nameFieldId;
+
+    @BeforeEach
+    void setUp() {
+        table =
+                intIndexedTable("table")
+                        .addFields(intField("Value1"), intField("Value2"), stringField("Name"))
+                        .keyFieldName("Id")
+                        .build();
+        value1FieldId = table.fieldId("Value1");
+        value2FieldId = table.fieldId("Value2");
+        nameFieldId = table.fieldId("Name");
+    }
+
+    @AfterEach
+    void tearDown() {
+        validation.assertNoActiveValidation();
+    }
+
+    void initialize(final SortBuilder sortBuilder) {
+        sort = sortBuilder.build();
+        sort.output().attachInput(validation.input());
+        table.output().attachInput(sort.input());
+    }
+
+    @Nested
+    class SchemaTests {
+        @Test
+        void shouldEmitSchemaWithRankField() {
+            initialize(SortBuilder.sort().ascending("Value1"));
+            validation
+                    .expect()
+                    .schema(
+                            Map.of(
+                                    "Id", Integer.class,
+                                    "Value1", Integer.class,
+                                    "Value2", Integer.class,
+                                    "Name", String.class,
+                                    "Rank", Integer.class))
+                    .validate();
+        }
+
+        @Test
+        void shouldEmitNullSchemaWhenDetached() {
+            initialize(SortBuilder.sort().ascending("Value1"));
+            table.output().detachInput(sort.input());
+            validation.expect().nullSchema().validate();
+            assertThat(sort.size(), equalTo(0));
+        }
+
+        @Test
+        void shouldRequireSortKey() {
+            assertThrows(IllegalArgumentException.class, () -> SortBuilder.sort().build());
+        }
+
+        @Test
+        void shouldRejectRankFieldNameInInput() {
+            final var builder = SortBuilder.sort().ascending("Value1").rankFieldName("Value2");
+            assertThrows(IllegalArgumentException.class, () -> initialize(builder));
+        }
+    }
+
+    @Nested
+    class OrderTests {
+        @BeforeEach
+        void setUp() {
+            initialize(SortBuilder.sort().ascending("Value1"));
+            validation.clearChanges();
+        }
+
+        @Test
+        void shouldAddRowsWithRank() {
+            addSourceRow(1, 30, 0, "a");
+            addSourceRow(2, 10, 0, "b");
+            addSourceRow(3, 20, 0, "c");
+            table.fireChanges();
+            validation
+                    .expect()
+                    .added(key(1), rowData(30, 2))
+                    .added(key(2), rowData(10, 0))
+                    .added(key(3), rowData(20, 1))
+                    .validate();
+            assertThat(sortedIds(), contains(2, 3, 1));
+        }
+
+        @Test
+        void shouldIterateOutputRowsInSortedOrder() {
+            addSourceRow(1, 30, 0, "a");
+            addSourceRow(2, 10, 0, "b");
+            addSourceRow(3, 20, 0, "c");
+            table.fireChanges();
+            final IntField idField = (IntField) sort.output().schema().field("Id").field();
+            final List<Integer> ids = new ArrayList<>();
+            sort.output().rowProvider().forEach(row -> ids.add(idField.valueAt(row)));
+            assertThat(ids, contains(2, 3, 1));
+        }
+
+        @Test
+        void shouldRepositionRowWhenSortFieldChanges() {
+            addSourceRow(1, 30, 0, "a");
+            addSourceRow(2, 10, 0, "b");
+            addSourceRow(3, 20, 0, "c");
+            table.fireChanges();
+            validation.clearChanges();
+
+            changeValue1(2, 40);
+            table.fireChanges();
+            validation
+                    .expect()
+                    .changed(key(2), rowData(40, 2))
+                    .changed(key(3), rowData(20, 0))
+                    .changed(key(1), rowData(30, 1))
+                    .validate();
+            assertThat(sortedIds(), contains(3, 1, 2));
+        }
+
+        @Test
+        void shouldNotifyRanksOnlyBetweenOldAndNewPositions() {
+            for (int id = 1; id <= 5; id++) {
+                addSourceRow(id, id * 10, 0, "n" + id);
+            }
+            table.fireChanges();
+            validation.clearChanges();
+
+            changeValue1(2, 35);
+            table.fireChanges();
+            validation
+                    .expect()
+                    .changed(key(2), rowData(35, 2))
+                    .changed(key(3), rowData(30, 1))
+                    .validate();
+        }
+
+        @Test
+        void shouldNotifyShiftedRanksWhenRowAdded() {
+            addSourceRow(1, 10, 0, "a");
+            addSourceRow(2, 20, 0, "b");
+            addSourceRow(3, 30, 0, "c");
+            table.fireChanges();
+            validation.clearChanges();
+
+            addSourceRow(4, 15, 0, "d");
+            table.fireChanges();
+            validation
+                    .expect()
+                    .added(key(4), rowData(15, 1))
+                    .changed(key(2), rank(2))
+                    .changed(key(3), rank(3))
+                    .validate();
+        }
+
+        @Test
+        void shouldNotNotifyRanksWhenRowAppended() {
+            addSourceRow(1, 10, 0, "a");
+            addSourceRow(2, 20, 0, "b");
+            table.fireChanges();
+            validation.clearChanges();
+
+            addSourceRow(3, 30, 0, "c");
+            table.fireChanges();
+            validation.expect().added(key(3), rowData(30, 2)).validate();
+        }
+
+        @Test
+        void shouldRepositionEveryChangedRowInABatch() {
+            addSourceRow(1, 10, 0, "a");
+            addSourceRow(2, 20, 0, "b");
+            addSourceRow(3, 30, 0, "c");
+            table.fireChanges();
+
+            changeValue1(1, 35);
+            changeValue1(3, 5);
+            table.fireChanges();
+            assertThat(sortedIds(), contains(3, 2, 1));
+        }
+
+        @Test
+        void shouldNotMarkRankWhenOtherFieldChanges() {
+            addSourceRow(1, 30, 0, "a");
+            addSourceRow(2, 10, 0, "b");
+            table.fireChanges();
+            validation.clearChanges();
+
+            changeValue2(2, 99);
+            table.fireChanges();
+            validation.expect().changed(key(2), new RowData(Map.of())).validate();
+            assertThat(sortedIds(), contains(2, 1));
+        }
+
+        @Test
+        void shouldRemoveRows() {
+            addSourceRow(1, 30, 0, "a");
+            addSourceRow(2, 10, 0, "b");
+            addSourceRow(3, 20, 0, "c");
+            table.fireChanges();
+            validation.clearChanges();
+
+            table.remove(3);
+            table.fireChanges();
+            validation.expect().removed(key(3)).changed(key(1), rank(1)).validate();
+            assertThat(sortedIds(), contains(2, 1));
+            assertThat(sort.positionForRow(rowOf(1)), equalTo(1));
+        }
+
+        @Test
+        void shouldServeRangeOfPositions() {
+            for (int id = 1; id <= 10; id++) {
+                addSourceRow(id, 100 - id, 0, "n" + id);
+            }
+            table.fireChanges();
+            final List<Integer> positions = new ArrayList<>();
+            final List<Integer> ids = new ArrayList<>();
+            sort.rowsInRange(
+                    3,
+                    4,
+                    (relPosition, row) -> {
+                        positions.add(relPosition);
+                        ids.add(idOf(row));
+                    });
+            assertThat(positions, contains(0, 1, 2, 3));
+            assertThat(ids, contains(7, 6, 5, 4));
+            assertThat(idOf(sort.rowPosition(9)), equalTo(1));
+            assertThat(sort.rowPosition(10), equalTo(-1));
+        }
+    }
+
+    @Nested
+    class MultipleKeyTests {
+        @Test
+        void shouldBreakTiesWithLaterKeys() {
+            initialize(SortBuilder.sort().ascending("Value1").descending("Name"));
+            addSourceRow(1, 10, 0, "a");
+            addSourceRow(2, 5, 0, "z");
+            addSourceRow(3, 10, 0, "c");
+            addSourceRow(4, 10, 0, null);
+            table.fireChanges();
+            assertThat(sortedIds(), contains(2, 3, 1, 4));
+        }
+
+        @Test
+        void shouldSortDescending() {
+            initialize(SortBuilder.sort().descending("Value1"));
+            addSourceRow(1, 10, 0, "a");
+            addSourceRow(2, 30, 0, "b");
+            addSourceRow(3, 20, 0, "c");
+            table.fireChanges();
+            assertThat(sortedIds(), contains(2, 3, 1));
+        }
+    }
+
+    private List<Integer> sortedIds() {
+        final List<Integer> ids = new ArrayList<>();
+        sort.rowsInRange(0, sort.size(), (relPosition, row) -> ids.add(idOf(row)));
+        return ids;
+    }
+
+    private int idOf(final int row) {
+        return ((IntField) sort.output().schema().field("Id").field()).valueAt(row);
+    }
+
+    private int rowOf(final int id) {
+        for (int position = 0; position < sort.size(); position++) {
+            final int row = sort.rowPosition(position);
+            if (idOf(row) == id) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private Key key(final int key) {
+        return new Key(List.of(key));
+    }
+
+    private RowData rowData(final int value, final int rank) {
+        return new RowData(Map.of("Value1", value, "Rank", rank));
+    }
+
+    private RowData rank(final int rank) {
+        return new RowData(Map.of("Rank", rank));
+    }
+
+    private void addSourceRow(final int id, final int value1, final int value2, final String name) {
+        final var row = table.tableRow();
+        table.beginAdd(id);
+        row.setInt(value1FieldId, value1);
+        row.setInt(value2FieldId, value2);
+        row.setString(nameFieldId, name);
+        table.endAdd();
+    }
+
+    private void changeValue1(final int id, final int value1) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setInt(value1FieldId, value1);
+        table.endChange();
+    }
+
+    private void changeValue2(final int id, final int value2) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setInt(value2FieldId, value2);
+        table.endChange();
+    }
+}
@@ -0,0 +1,255 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.sort;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.bytefacets.spinel.schema.IntField;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.validation.Key;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class TopNTest {
+    private final ValidationOperator validation =
+            new ValidationOperator(new String[] {"Id"}, "Notional", "Symbol");
+    private IntIndexedTable table;
+    private TopN topN;
+    private int notionalFieldId;
+    private int symbolFieldId;
+
+    @BeforeEach
+    void setUp() {
+        table =
+                intIndexedTable("table")
+                        .addFields(intField("Notional"), stringField("Symbol"))
+                        .keyFieldName("Id")
+                        .build();
+        notionalFieldId = table.fieldId("Notional");
+        symbolFieldId = table.fieldId("Symbol");
+    }
+
+    @AfterEach
+    void tearDown() {
+        validation.assertNoActiveValidation();
+    }
+
+    void initialize(final TopNBuilder topNBuilder) {
+        topN = topNBuilder.build();
+        topN.output().attachInput(validation.input());
+        table.output().attachInput(topN.input());
+    }
+
+    @Nested
+    class GlobalTests {
+        @BeforeEach
+        void setUp() {
+            initialize(TopNBuilder.topN().limit(2).descending("Notional"));
+            addSourceRow(1, 100, "A");
+            addSourceRow(2, 300, "A");
+            addSourceRow(3, 200, "B");
+            table.fireChanges();
+        }
+
+        @Test
+        void shouldForwardOnlyTopRows() {
+            validation
+                    .expect()
+                    .added(key(2), rowData(300, "A"))
+                    .added(key(3), rowData(200, "B"))
+                    .validate();
+            assertThat(memberIds(), containsInAnyOrder(2, 3));
+        }
+
+        @Test
+        void shouldSwapMembershipWhenBetterRowAdded() {
+            validation.clearChanges();
+            addSourceRow(4, 250, "B");
+            table.fireChanges();
+            validation.expect().removed(key(3)).added(key(4), rowData(250, "B")).validate();
+        }
+
+        @Test
+        void shouldNotNotifyWhenWorseRowAdded() {
+            validation.clearChanges();
+            addSourceRow(4, 50, "B");
+            table.fireChanges();
+            validation.validateNoChanges();
+        }
+
+        @Test
+        void shouldPromoteOverflowRowWhenMemberRemoved() {
+            validation.clearChanges();
+            table.remove(2);
+            table.fireChanges();
+            validation.expect().removed(key(2)).added(key(1), rowData(100, "A")).validate();
+            assertThat(memberIds(), containsInAnyOrder(1, 3));
+        }
+
+        @Test
+        void shouldSwapMembershipWhenSortFieldChanges() {
+            validation.clearChanges();
+            changeNotional(1, 500);
+            table.fireChanges();
+            validation.expect().removed(key(3)).added(key(1), rowData(500, "A")).validate();
+        }
+
+        @Test
+        void shouldForwardChangeWhenMemberStays() {
+            validation.clearChanges();
+            changeNotional(3, 250);
+            table.fireChanges();
+            validation.expect().changed(key(3), new RowData(Map.of("Notional", 250))).validate();
+        }
+
+        @Test
+        void shouldNotForwardChangeOfOverflowRow() {
+            validation.clearChanges();
+            changeNotional(1, 150);
+            table.fireChanges();
+            validation.validateNoChanges();
+        }
+
+        @Test
+        void shouldRepositionSeveralRowsChangedInOneBatch() {
+            addSourceRow(4, 150, "B");
+            table.fireChanges();
+            validation.clearChanges();
+            changeNotional(2, 50);
+            changeNotional(3, 120);
+            changeNotional(1, 400);
+            changeNotional(4, 250);
+            table.fireChanges();
+            validation
+                    .expect()
+                    .removed(key(2))
+                    .removed(key(3))
+                    .added(key(1), rowData(400, "A"))
+                    .added(key(4), rowData(250, "B"))
+                    .validate();
+            assertThat(memberIds(), containsInAnyOrder(1, 4));
+        }
+    }
+
+    @Nested
+    class GroupTests {
+        @BeforeEach
+        void setUp() {
+            initialize(TopNBuilder.topN().limit(1).descending("Notional").groupByFields("Symbol"));
+            addSourceRow(1, 100, "A");
+            addSourceRow(2, 300, "A");
+            addSourceRow(3, 200, "B");
+            addSourceRow(4, 50, "B");
+            table.fireChanges();
+        }
+
+        @Test
+        void shouldForwardTopRowOfEachGroup() {
+            validation
+                    .expect()
+                    .added(key(2), rowData(300, "A"))
+                    .added(key(3), rowData(200, "B"))
+                    .validate();
+        }
+
+        @Test
+        void shouldMoveRowBetweenGroups() {
+            validation.clearChanges();
+            changeSymbol(2, "B");
+            table.fireChanges();
+            validation
+                    .expect()
+                    .removed(key(3))
+                    .added(key(1), rowData(100, "A"))
+                    .changed(key(2), new RowData(Map.of("Symbol", "B")))
+                    .validate();
+            assertThat(memberIds(), containsInAnyOrder(1, 2));
+        }
+
+        @Test
+        void shouldRepositionSeveralRowsChangedInOneBatch() {
+            validation.clearChanges();
+            changeNotional(2, 10);
+            changeRow(3, 500, "A");
+            table.fireChanges();
+            validation
+                    .expect()
+                    .removed(key(2))
+                    .added(key(4), rowData(50, "B"))
+                    .changed(key(3), rowData(500, "A"))
+                    .validate();
+            assertThat(memberIds(), containsInAnyOrder(3, 4));
+        }
+
+        @Test
+        void shouldRemoveGroupWhenEmpty() {
+            validation.clearChanges();
+            table.remove(3);
+            table.remove(4);
+            table.fireChanges();
+            validation.expect().removed(key(3)).validate();
+            assertThat(topN.size(), equalTo(1));
+
+            addSourceRow(5, 10, "B");
+            table.fireChanges();
+            validation.expect().added(key(5), rowData(10, "B")).validate();
+        }
+    }
+
+    private List<Integer> memberIds() {
+        final IntField idField = (IntField) topN.output().schema().field("Id").field();
+        final List<Integer> ids = new ArrayList<>();
+        topN.output().rowProvider().forEach(row -> ids.add(idField.valueAt(row)));
+        return ids;
+    }
+
+    private Key key(final int key) {
+        return new Key(List.of(key));
+    }
+
+    private RowData rowData(final int notional, final String symbol) {
+        return new RowData(Map.of("Notional", notional, "Symbol", symbol));
+    }
+
+    private void addSourceRow(final int id, final int notional, final String symbol) {
+        final var row = table.tableRow();
+        table.beginAdd(id);
+        row.setInt(notionalFieldId, notional);
+        row.setString(symbolFieldId, symbol);
+        table.endAdd();
+    }
+
+    private void changeNotional(final int id, final int notional) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setInt(notionalFieldId, notional);
+        table.endChange();
+    }
+
+    private void changeRow(final int id, final int notional, final String symbol) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setInt(notionalFieldId, notional);
+        row.setString(symbolFieldId, symbol);
+        table.endChange();
+    }
+
+    private void changeSymbol(final int id, final String symbol) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setString(symbolFieldId, symbol);
+        table.endChange();
+    }
+}
@@ -0,0 +1,198 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.table;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.doubleField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.longField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.table.IntPersistentIndexedTableBuilder.intPersistentIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bytefacets.spinel.exception.OperatorSetupException;
+import com.bytefacets.spinel.schema.DoubleField;
+import com.bytefacets.spinel.schema.DoubleWritableField;
+import com.bytefacets.spinel.validation.Key;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IntPersistentIndexedTableTest {
+    private final ValidationOperator validation =
+            new ValidationOperator(new String[] {"Id"}, "Price");
+    private @TempDir Path directory;
+    private IntIndexedTable table;
+
+    @AfterEach
+    void tearDown() {
+        if (table != null) {
+            table.close();
+        }
+    }
+
+    @Test
+    void shouldReopenWithLiveRows() {
+        table = open();
+        add(1, 1.5);
+        add(2, 2.5);
+        add(3, 3.5);
+        table.fireChanges();
+        table.close();
+
+        table = open();
+        table.output().attachInput(validation.input());
+        validation
+                .expect()
+                .schema(Map.of("Id", Integer.class, "Price", Double.class))
+                .added(key(1), price(1.5))
+                .added(key(2), price(2.5))
+                .added(key(3), price(3.5))
+                .validate();
+    }
+
+    @Test
+    void shouldNotRecoverRemovedRows() {
+        table = open();
+        add(1, 1.5);
+        add(2, 2.5);
+        add(3, 3.5);
+        table.fireChanges();
+        table.remove(1);
+        table.fireChanges();
+        table.close();
+
+        table = open();
+        table.output().attachInput(validation.input());
+        validation
+                .expect()
+                .schema(Map.of("Id", Integer.class, "Price", Double.class))
+                .added(key(2), price(2.5))
+                .added(key(3), price(3.5))
+                .validate();
+        assertThat(table.lookupKeyRow(1), equalTo(-1));
+    }
+
+    @Test
+    void shouldContinueModifyingAfterReopen() {
+        table = open();
+        add(1, 1.5);
+        add(2, 2.5);
+        table.fireChanges();
+        table.remove(1);
+        table.fireChanges();
+        table.close();
+
+        table = open();
+        final DoubleWritableField price = table.writableField("Price");
+        price.setValueAt(table.beginChange(2), 20.5);
+        table.endChange();
+        add(4, 4.5);
+        table.fireChanges();
+        table.close();
+
+        table = open();
+        table.output().attachInput(validation.input());
+        validation
+                .expect()
+                .schema(Map.of("Id", Integer.class, "Price", Double.class))
+                .added(key(2), price(20.5))
+                .added(key(4), price(4.5))
+                .validate();
+    }
+
+    @Test
+    void shouldRecoverAcrossChunks() {
+        table = open();
+        for (int key = 0; key < 50; key++) {
+            add(key, key);
+        }
+        table.fireChanges();
+        for (int key = 0; key < 50; key += 2) {
+            table.remove(key);
+        }
+        table.fireChanges();
+        table.close();
+
+        table = open();
+        final DoubleField price = (DoubleField) table.schema().field("Price").field();
+        for (int key = 1; key < 50; key += 2) {
+            assertThat(price.valueAt(table.lookupKeyRow(key)), equalTo((double) key));
+        }
+        assertThat(table.lookupKeyRow(10), equalTo(-1));
+    }
+
+    @Test
+    void shouldReopenCompactedRows() {
+        table = open();
+        for (int key = 1; key <= 5; key++) {
+            add(key, key + 0.5);
+        }
+        table.fireChanges();
+        table.remove(1);
+        table.remove(3);
+        table.fireChanges();
+        table.compact();
+        table.close();
+
+        table = open();
+        table.output().attachInput(validation.input());
+        validation
+                .expect()
+                .schema(Map.of("Id", Integer.class, "Price", Double.class))
+                .added(key(2), price(2.5))
+                .added(key(4), price(4.5))
+                .added(key(5), price(5.5))
+                .validate();
+        assertThat(table.lookupKeyRow(5), equalTo(2));
+    }
+
+    @Test
+    void shouldRejectChangedLayout() {
+        table = open();
+        table.close();
+        table = null;
+        assertThrows(
+                OperatorSetupException.class,
+                () ->
+                        intPersistentIndexedTable("T", directory)
+                                .chunkSize(8)
+                                .addFields(doubleField("Price"), longField("Volume"))
+                                .build());
+    }
+
+    @Test
+    void shouldRejectReferenceFields() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> intPersistentIndexedTable("T", directory).addFields(stringField("Name")));
+    }
+
+    private IntIndexedTable open() {
+        return intPersistentIndexedTable("T", directory)
+                .keyFieldName("Id")
+                .chunkSize(8)
+                .addFields(doubleField("Price"), intField("Qty"))
+                .build();
+    }
+
+    private void add(final int key, final double price) {
+        final DoubleWritableField field = table.writableField("Price");
+        field.setValueAt(table.beginAdd(key), price);
+        table.endAdd();
+    }
+
+    private static Key key(final int key) {
+        return new Key(List.of(key));
+    }
+
+    private static RowData price(final double price) {
+        return new RowData(Map.of("Price", price));
+    }
+}
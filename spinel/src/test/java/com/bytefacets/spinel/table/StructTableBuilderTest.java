@@ -3,12 +3,18 @@
 package com.bytefacets.spinel.table;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.facade.FieldNamingStrategy;
+import com.bytefacets.spinel.facade.StructFacade;
 import com.bytefacets.spinel.schema.AttributeConstants;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.Metadata;
+import com.bytefacets.spinel.schema.Schema;
 import com.bytefacets.spinel.schema.ValueMetadata;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -58,6 +64,45 @@ class StructTableBuilderTest {
         assertThat(fieldNames, containsInAnyOrder("field_example_1", "field_example_2"));
     }
 
+    @Test
+    void shouldMarkOnlyFieldsSetByDirectAccessFacade() {
+        final var table = StructTableBuilder.table(MyType.class).directAccessFacades(true).build();
+        final List<String> changedNames = new ArrayList<>();
+        table.output()
+                .attachInput(
+                        new TransformInput() {
+                            @Override
+                            public void schemaUpdated(final Schema schema) {}
+
+                            @Override
+                            public void rowsAdded(final IntIterable rows) {}
+
+                            @Override
+                            public void rowsChanged(
+                                    final IntIterable rows, final ChangedFieldSet changedFields) {
+                                changedNames.clear();
+                                changedFields.forEach(
+                                        id -> changedNames.add(table.schema().fieldAt(id).name()));
+                            }
+
+                            @Override
+                            public void rowsRemoved(final IntIterable rows) {}
+                        });
+        final MyType facade = table.createFacade();
+        table.beginAdd(facade).setFieldExample1(1).setFieldExample2(2);
+        final int row = ((StructFacade) facade).currentRow();
+        table.endAdd();
+        table.fireChanges();
+
+        table.beginChange(row, facade);
+        facade.setFieldExample2(5);
+        table.endChange();
+        table.fireChanges();
+        assertThat(changedNames, contains("FieldExample2"));
+        assertThat(facade.getFieldExample1(), equalTo(1));
+        assertThat(facade.getFieldExample2(), equalTo(5));
+    }
+
     // formatting:off
     interface MyType {
         @ValueMetadata(contentType = AttributeConstants.ContentTypes.Id)
@@ -0,0 +1,190 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.table;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.boolField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.dictionaryStringField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.doubleField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.genericField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.stringField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static com.bytefacets.spinel.table.StringIndexedTableBuilder.stringIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bytefacets.spinel.exception.OperatorSetupException;
+import com.bytefacets.spinel.schema.BoolWritableField;
+import com.bytefacets.spinel.schema.DoubleField;
+import com.bytefacets.spinel.schema.DoubleWritableField;
+import com.bytefacets.spinel.schema.Field;
+import com.bytefacets.spinel.schema.StringField;
+import com.bytefacets.spinel.schema.StringWritableField;
+import com.bytefacets.spinel.validation.Key;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.Validation;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TableCheckpointTest {
+    private @TempDir Path directory;
+
+    @Test
+    void shouldRestoreLiveRows() {
+        final Path file = directory.resolve("orders.ckpt");
+        final IntIndexedTable source = orders();
+        for (int key = 0; key < 100; key++) {
+            upsert(source, key, key * 1.5, key % 3 == 0, key % 5 == 0 ? null : "n" + key);
+        }
+        source.fireChanges();
+        source.remove(10);
+        source.fireChanges();
+        source.writeCheckpoint(file);
+
+        final IntIndexedTable restored = orders();
+        final ValidationOperator validation =
+                new ValidationOperator(new String[] {"Id"}, "Price", "Flag", "Name", "Side");
+        restored.output().attachInput(validation.input());
+        validation.clearChanges();
+        assertThat(restored.restoreCheckpoint(file), equalTo(99));
+        final Validation expected = validation.expect();
+        for (int key = 0; key < 100; key++) {
+            if (key != 10) {
+                expected.added(
+                        new Key(List.of(key)),
+                        rowData(key * 1.5, key % 3 == 0, key % 5 == 0 ? null : "n" + key, key));
+            }
+        }
+        expected.validate();
+        assertThat(restored.lookupKeyRow(10), equalTo(-1));
+    }
+
+    @Test
+    void shouldRestoreStringKeys() {
+        final Path file = directory.resolve("symbols.ckpt");
+        final StringIndexedTable source =
+                stringIndexedTable("S").keyFieldName("Sym").addFields(intField("Qty")).build();
+        source.beginAdd("AAPL");
+        source.endAdd();
+        source.beginAdd("MSFT");
+        source.endAdd();
+        source.fireChanges();
+        source.writeCheckpoint(file);
+
+        final StringIndexedTable restored =
+                stringIndexedTable("S").keyFieldName("Sym").addFields(intField("Qty")).build();
+        assertThat(restored.restoreCheckpoint(file), equalTo(2));
+        assertThat(restored.lookupKeyRow("MSFT"), equalTo(1));
+    }
+
+    @Test
+    void shouldLeaveNewFieldsAtDefault() {
+        final Path file = directory.resolve("orders.ckpt");
+        final IntIndexedTable source = orders();
+        upsert(source, 1, 2.5, true, "a");
+        source.fireChanges();
+        source.writeCheckpoint(file);
+
+        final IntIndexedTable restored =
+                intIndexedTable("T")
+                        .keyFieldName("Id")
+                        .addFields(doubleField("Price"), intField("Qty"))
+                        .build();
+        restored.restoreCheckpoint(file);
+        assertThat(price(restored, restored.lookupKeyRow(1)), equalTo(2.5));
+    }
+
+    @Test
+    void shouldRejectChangedFieldType() {
+        final Path file = directory.resolve("orders.ckpt");
+        orders().writeCheckpoint(file);
+        final IntIndexedTable restored =
+                intIndexedTable("T").keyFieldName("Id").addFields(intField("Price")).build();
+        assertThrows(OperatorSetupException.class, () -> restored.restoreCheckpoint(file));
+    }
+
+    @Test
+    void shouldRejectNonEmptyTable() {
+        final Path file = directory.resolve("orders.ckpt");
+        final IntIndexedTable table = orders();
+        upsert(table, 1, 2.5, true, "a");
+        table.writeCheckpoint(file);
+        assertThrows(IllegalStateException.class, () -> table.restoreCheckpoint(file));
+    }
+
+    @Test
+    void shouldRejectGenericFields() {
+        final IntIndexedTable table =
+                intIndexedTable("T").keyFieldName("Id").addFields(genericField("Any")).build();
+        final Path file = directory.resolve("generic.ckpt");
+        assertThrows(IllegalArgumentException.class, () -> table.writeCheckpoint(file));
+        assertThat(Files.exists(file), equalTo(false));
+    }
+
+    @Test
+    void shouldRestoreNullNameAsNull() {
+        final Path file = directory.resolve("orders.ckpt");
+        final IntIndexedTable source = orders();
+        upsert(source, 1, 2.5, true, null);
+        source.writeCheckpoint(file);
+        final IntIndexedTable restored = orders();
+        restored.restoreCheckpoint(file);
+        assertThat(name(restored, restored.lookupKeyRow(1)), nullValue());
+    }
+
+    private IntIndexedTable orders() {
+        return intIndexedTable("T")
+                .keyFieldName("Id")
+                .addFields(
+                        doubleField("Price"),
+                        boolField("Flag"),
+                        stringField("Name"),
+                        dictionaryStringField("Side"))
+                .build();
+    }
+
+    private static Field field(final IntIndexedTable table, final String name) {
+        return table.schema().field(name).field();
+    }
+
+    private static double price(final IntIndexedTable table, final int row) {
+        return ((DoubleField) field(table, "Price")).valueAt(row);
+    }
+
+    private static String name(final IntIndexedTable table, final int row) {
+        return ((StringField) field(table, "Name")).valueAt(row);
+    }
+
+    private void upsert(
+            final IntIndexedTable table,
+            final int key,
+            final double price,
+            final boolean flag,
+            final String name) {
+        final int row = table.beginUpsert(key);
+        ((DoubleWritableField) table.writableField("Price")).setValueAt(row, price);
+        ((BoolWritableField) table.writableField("Flag")).setValueAt(row, flag);
+        ((StringWritableField) table.writableField("Name")).setValueAt(row, name);
+        ((StringWritableField) table.writableField("Side"))
+                .setValueAt(row, key % 2 == 0 ? "Buy" : "Sell");
+        table.endUpsert();
+    }
+
+    private static RowData rowData(
+            final double price, final boolean flag, final String name, final int key) {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("Price", price);
+        data.put("Flag", flag);
+        data.put("Name", name);
+        data.put("Side", key % 2 == 0 ? "Buy" : "Sell");
+        return new RowData(data);
+    }
+}
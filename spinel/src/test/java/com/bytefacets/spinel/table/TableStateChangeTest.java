@@ -22,7 +22,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 class TableStateChangeTest {
-    private final TableStateChange state = new TableStateChange();
+    private final TableStateChange state = new TableStateChange("test");
     private final RowConsumer consumer = new RowConsumer();
 
     @Nested
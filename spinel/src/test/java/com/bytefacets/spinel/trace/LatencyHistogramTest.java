@@ -0,0 +1,80 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.trace;
+
+import static com.bytefacets.spinel.trace.LatencyHistogram.latencyHistogram;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyHistogramTest {
+    private final LatencyHistogram histogram = latencyHistogram();
+
+    @Test
+    void shouldReportZeroWhenEmpty() {
+        assertThat(histogram.count(), equalTo(0L));
+        assertThat(histogram.min(), equalTo(0L));
+        assertThat(histogram.max(), equalTo(0L));
+        assertThat(histogram.valueAtPercentile(50), equalTo(0L));
+    }
+
+    @Test
+    void shouldRecordSmallValuesExactly() {
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertThat(histogram.count(), equalTo(10L));
+        assertThat(histogram.min(), equalTo(1L));
+        assertThat(histogram.max(), equalTo(10L));
+        assertThat(histogram.mean(), closeTo(5.5, 0.0001));
+        assertThat(histogram.valueAtPercentile(50), equalTo(5L));
+        assertThat(histogram.valueAtPercentile(90), equalTo(9L));
+        assertThat(histogram.valueAtPercentile(100), equalTo(10L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {33, 1_000, 65_537, 1_000_000, 123_456_789, Long.MAX_VALUE})
+    void shouldBoundRelativeError(final long value) {
+        final int index = histogram.indexOf(value);
+        final long highest = histogram.highestEquivalentValue(index);
+        assertThat(highest, greaterThanOrEqualTo(value));
+        assertThat((double) (highest - value) / value, lessThanOrEqualTo(1d / 32));
+    }
+
+    @Test
+    void shouldCapPercentileAtMax() {
+        histogram.record(1_000_001);
+        assertThat(histogram.valueAtPercentile(99), equalTo(1_000_001L));
+    }
+
+    @Test
+    void shouldAddHistograms() {
+        final LatencyHistogram other = latencyHistogram();
+        histogram.record(5);
+        other.record(500);
+        histogram.add(other);
+        assertThat(histogram.count(), equalTo(2L));
+        assertThat(histogram.min(), equalTo(5L));
+        assertThat(histogram.max(), equalTo(500L));
+    }
+
+    @Test
+    void shouldRejectAddingDifferentPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(latencyHistogram(3)));
+    }
+
+    @Test
+    void shouldReset() {
+        histogram.record(100);
+        histogram.reset();
+        assertThat(histogram.count(), equalTo(0L));
+        assertThat(histogram.valueAtPercentile(100), equalTo(0L));
+    }
+}
@@ -0,0 +1,76 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.trace;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.trace.LatencyHistogram.latencyHistogram;
+import static com.bytefacets.spinel.trace.TracedInput.traced;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.bytefacets.spinel.printer.OutputLoggerBuilder;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.table.IntIndexedTableBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpdateTraceTest {
+    private final LatencyHistogram histogram = latencyHistogram();
+    private IntIndexedTable table;
+
+    @BeforeEach
+    void setUp() {
+        table =
+                IntIndexedTableBuilder.intIndexedTable("T")
+                        .keyFieldName("Id")
+                        .addFields(intField("Value"))
+                        .build();
+        table.output().attachInput(traced(OutputLoggerBuilder.logger().build(), histogram));
+    }
+
+    @AfterEach
+    void tearDown() {
+        UpdateTrace.disable();
+    }
+
+    @Test
+    void shouldNotRecordWhenDisabled() {
+        addAndChange();
+        assertThat(histogram.count(), equalTo(0L));
+        assertThat(UpdateTrace.beginFire(), equalTo(false));
+    }
+
+    @Test
+    void shouldRecordEachNotificationWhenEnabled() {
+        UpdateTrace.enable();
+        addAndChange();
+        assertThat(histogram.count(), equalTo(2L));
+        assertThat(UpdateTrace.originNanos(), equalTo(UpdateTrace.NO_ORIGIN));
+    }
+
+    @Test
+    void shouldKeepOuterOriginForNestedFires() {
+        UpdateTrace.enable();
+        final boolean outer = UpdateTrace.beginFire();
+        final long origin = UpdateTrace.originNanos();
+        final boolean inner = UpdateTrace.beginFire();
+        assertThat(outer, equalTo(true));
+        assertThat(inner, equalTo(false));
+        UpdateTrace.endFire(inner);
+        assertThat(UpdateTrace.originNanos(), equalTo(origin));
+        UpdateTrace.endFire(outer);
+        assertThat(UpdateTrace.originNanos(), equalTo(UpdateTrace.NO_ORIGIN));
+    }
+
+    private void addAndChange() {
+        table.beginAdd(1);
+        table.endAdd();
+        table.fireChanges();
+        final IntWritableField value = table.writableField("Value");
+        value.setValueAt(table.beginChange(1), 5);
+        table.endChange();
+        table.fireChanges();
+    }
+}
@@ -33,6 +33,16 @@ class PagerTest {
         assertThat(pager.size(), equalTo(rows.length - 100));
     }
 
+    @Test
+    void shouldRetainHighWaterCapacityAfterRemoves() {
+        final long initialBytes = pager.retainedBytes();
+        pager.add(iterable(rowsInRandomOrder(0, 500)));
+        final long grownBytes = pager.retainedBytes();
+        assertThat(grownBytes > initialBytes, equalTo(true));
+        pager.remove(iterable(IntStream.range(0, 500).toArray()));
+        assertThat(pager.retainedBytes(), equalTo(grownBytes));
+    }
+
     @Nested
     class AddTests {
         @Test
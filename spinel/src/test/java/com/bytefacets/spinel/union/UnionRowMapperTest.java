@@ -35,6 +35,13 @@ class UnionRowMapperTest {
         assertThat(map.inputIndexField().valueAt(outRow), equalTo(5));
     }
 
+    @Test
+    void shouldEstimateRetainedBytesFromMappedRows() {
+        final long emptyBytes = map.retainedBytes();
+        IntStream.range(0, 10).forEach(in -> map.mapInputRow(1, in));
+        assertThat(map.retainedBytes(), equalTo(emptyBytes + 10 * (4 * Integer.BYTES + 8)));
+    }
+
     @Nested
     class MappingTests {
         @Test
@@ -0,0 +1,350 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.window;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.longField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.bytefacets.spinel.groupby.GroupBy;
+import com.bytefacets.spinel.groupby.GroupByBuilder;
+import com.bytefacets.spinel.groupby.lib.MinMaxFactory;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.validation.Key;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class WindowTest {
+    private IntIndexedTable table;
+    private Window window;
+    private long now = 1000;
+    private int timeFieldId;
+    private int venueFieldId;
+    private int sizeFieldId;
+
+    @BeforeEach
+    void setUp() {
+        table =
+                intIndexedTable("table")
+                        .addFields(longField("Time"), intField("Venue"), intField("Size"))
+                        .keyFieldName("Id")
+                        .build();
+        timeFieldId = table.fieldId("Time");
+        venueFieldId = table.fieldId("Venue");
+        sizeFieldId = table.fieldId("Size");
+    }
+
+    private void initialize(final WindowBuilder windowBuilder) {
+        window = windowBuilder.timestampFieldName("Time").clock(() -> now).build();
+        table.output().attachInput(window.input());
+    }
+
+    @Nested
+    class SlidingTests {
+        private final ValidationOperator validation =
+                new ValidationOperator(new String[] {"Id"}, "Time", "Size");
+
+        @BeforeEach
+        void setUp() {
+            initialize(WindowBuilder.window().sliding(100));
+            window.output().attachInput(validation.input());
+            addSourceRow(1, 950, 7, 10);
+            addSourceRow(2, 880, 7, 20);
+            addSourceRow(3, 1000, 8, 30);
+            table.fireChanges();
+        }
+
+        @AfterEach
+        void tearDown() {
+            validation.assertNoActiveValidation();
+        }
+
+        @Test
+        void shouldForwardOnlyRowsWithinWindow() {
+            validation
+                    .expect()
+                    .added(key(1), rowData(950, 10))
+                    .added(key(3), rowData(1000, 30))
+                    .validate();
+            assertThat(window.size(), equalTo(2));
+            assertThat(window.windowStart(), equalTo(901L));
+        }
+
+        @Test
+        void shouldRemoveRowsAsWindowPassesThem() {
+            validation.clearChanges();
+            now = 1060;
+            window.expire();
+            validation.expect().removed(key(1)).validate();
+            assertThat(window.size(), equalTo(1));
+        }
+
+        @Test
+        void shouldNotMoveWindowBackwards() {
+            validation.clearChanges();
+            now = 900;
+            window.expire();
+            validation.validateNoChanges();
+            assertThat(window.windowStart(), equalTo(901L));
+        }
+
+        @Test
+        void shouldAddAndRemoveRowsWhenTimestampChanges() {
+            validation.clearChanges();
+            changeTime(2, 990);
+            changeTime(3, 850);
+            table.fireChanges();
+            validation.expect().added(key(2), rowData(990, 20)).removed(key(3)).validate();
+        }
+
+        @Test
+        void shouldReorderRowsWhenTimestampChanges() {
+            validation.clearChanges();
+            changeTime(1, 1050);
+            table.fireChanges();
+            validation.expect().changed(key(1), new RowData(Map.of("Time", 1050L))).validate();
+            now = 1120;
+            window.expire();
+            validation.expect().removed(key(3)).validate();
+        }
+
+        @Test
+        void shouldNotForwardChangesOfRowsOutsideWindow() {
+            validation.clearChanges();
+            changeSize(2, 25);
+            table.fireChanges();
+            validation.validateNoChanges();
+        }
+    }
+
+    @Nested
+    class TumblingTests {
+        private final ValidationOperator validation =
+                new ValidationOperator(new String[] {"Id"}, "Time", "WindowStart");
+
+        @BeforeEach
+        void setUp() {
+            now = 1050;
+            initialize(WindowBuilder.window().tumbling(100));
+            window.output().attachInput(validation.input());
+            addSourceRow(1, 1010, 7, 10);
+            addSourceRow(2, 1090, 7, 20);
+            addSourceRow(3, 990, 8, 30);
+            table.fireChanges();
+        }
+
+        @AfterEach
+        void tearDown() {
+            validation.assertNoActiveValidation();
+        }
+
+        @Test
+        void shouldForwardRowsOfCurrentBucketWithWindowStart() {
+            validation
+                    .expect()
+                    .added(key(1), new RowData(Map.of("Time", 1010L, "WindowStart", 1000L)))
+                    .added(key(2), new RowData(Map.of("Time", 1090L, "WindowStart", 1000L)))
+                    .validate();
+        }
+
+        @Test
+        void shouldRemoveAllRowsWhenNextBucketStarts() {
+            validation.clearChanges();
+            now = 1099;
+            window.expire();
+            validation.validateNoChanges();
+            now = 1100;
+            window.expire();
+            validation.expect().removed(key(1)).removed(key(2)).validate();
+            assertThat(window.windowStart(), equalTo(1100L));
+        }
+
+        @Test
+        void shouldHoldBackRowsOfLaterBucketUntilItStarts() {
+            validation.clearChanges();
+            addSourceRow(4, 1150, 7, 40);
+            table.fireChanges();
+            validation.validateNoChanges();
+            assertThat(window.size(), equalTo(2));
+
+            now = 1100;
+            window.expire();
+            validation
+                    .expect()
+                    .removed(key(1))
+                    .removed(key(2))
+                    .added(key(4), new RowData(Map.of("Time", 1150L, "WindowStart", 1100L)))
+                    .validate();
+            assertThat(window.size(), equalTo(1));
+        }
+
+        @Test
+        void shouldHoldBackRowWhenTimestampMovesToLaterBucket() {
+            validation.clearChanges();
+            changeTime(1, 1120);
+            table.fireChanges();
+            validation.expect().removed(key(1)).validate();
+        }
+    }
+
+    @Nested
+    class SchedulerTests {
+        private final ValidationOperator validation =
+                new ValidationOperator(new String[] {"Id"}, "Time", "Size");
+        private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        private final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        private final ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        @BeforeEach
+        void setUp() {
+            doReturn(future).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        }
+
+        @AfterEach
+        void tearDown() {
+            validation.assertNoActiveValidation();
+        }
+
+        @Test
+        void shouldScheduleExpiryOfOldestRowInSlidingWindow() {
+            initializeWithRows(WindowBuilder.window().sliding(100));
+            verify(scheduler, times(1))
+                    .schedule(taskCaptor.capture(), eq(50L), eq(TimeUnit.MILLISECONDS));
+
+            now = 1050;
+            taskCaptor.getValue().run();
+            validation.expect().removed(key(1)).validate();
+            verify(scheduler, times(2))
+                    .schedule(any(Runnable.class), eq(50L), eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void shouldRescheduleWhenOlderRowAdded() {
+            initializeWithRows(WindowBuilder.window().sliding(100));
+            addSourceRow(4, 920, 7, 40);
+            table.fireChanges();
+            verify(future, times(1)).cancel(false);
+            verify(scheduler, times(1))
+                    .schedule(any(Runnable.class), eq(20L), eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void shouldScheduleNextBucketInTumblingWindow() {
+            initializeWithRows(WindowBuilder.window().tumbling(100));
+            verify(scheduler, times(1))
+                    .schedule(taskCaptor.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+
+            now = 1100;
+            taskCaptor.getValue().run();
+            validation.expect().removed(key(3)).validate();
+            assertThat(window.windowStart(), equalTo(1100L));
+        }
+
+        private void initializeWithRows(final WindowBuilder windowBuilder) {
+            initialize(windowBuilder.scheduler(scheduler));
+            window.output().attachInput(validation.input());
+            addSourceRow(1, 950, 7, 10);
+            addSourceRow(2, 880, 7, 20);
+            addSourceRow(3, 1000, 8, 30);
+            table.fireChanges();
+            validation.clearChanges();
+        }
+    }
+
+    @Nested
+    class AggregationTests {
+        private final ValidationOperator validation =
+                new ValidationOperator(new String[] {"GroupId"}, "Count", "MaxSize");
+
+        @BeforeEach
+        void setUp() {
+            initialize(WindowBuilder.window().sliding(100));
+            final GroupBy groupBy =
+                    GroupByBuilder.groupBy()
+                            .groupByFields("Venue")
+                            .includeGroupIdField("GroupId")
+                            .includeCountField("Count")
+                            .addAggregation(MinMaxFactory.maxToInt("Size", "MaxSize"))
+                            .build();
+            window.output().attachInput(groupBy.input());
+            groupBy.parentOutput().attachInput(validation.input());
+            addSourceRow(1, 950, 7, 40);
+            addSourceRow(2, 980, 7, 20);
+            addSourceRow(3, 990, 8, 30);
+            table.fireChanges();
+            validation.clearChanges();
+        }
+
+        @AfterEach
+        void tearDown() {
+            validation.assertNoActiveValidation();
+        }
+
+        @Test
+        void shouldRetractExpiredRowsFromAggregations() {
+            now = 1060;
+            window.expire();
+            validation
+                    .expect()
+                    .changed(key(0), new RowData(Map.of("Count", 1, "MaxSize", 20)))
+                    .validate();
+        }
+
+        @Test
+        void shouldRemoveGroupWhenAllItsRowsExpire() {
+            now = 1085;
+            window.expire();
+            validation.expect().removed(key(0)).validate();
+        }
+    }
+
+    private Key key(final int key) {
+        return new Key(List.of(key));
+    }
+
+    private RowData rowData(final long time, final int size) {
+        return new RowData(Map.of("Time", time, "Size", size));
+    }
+
+    private void addSourceRow(final int id, final long time, final int venue, final int size) {
+        final var row = table.tableRow();
+        table.beginAdd(id);
+        row.setLong(timeFieldId, time);
+        row.setInt(venueFieldId, venue);
+        row.setInt(sizeFieldId, size);
+        table.endAdd();
+    }
+
+    private void changeTime(final int id, final long time) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setLong(timeFieldId, time);
+        table.endChange();
+    }
+
+    private void changeSize(final int id, final int size) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setInt(sizeFieldId, size);
+        table.endChange();
+    }
+}
@@ -0,0 +1,137 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.groupby.lib;
+
+import com.bytefacets.collections.types.*;
+import com.bytefacets.spinel.groupby.GroupBy;
+import com.bytefacets.spinel.groupby.GroupByBuilder;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.validation.Key;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.bytefacets.spinel.interner.IntRowInterner.intInterner;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+
+class DistinctCountFactoryTest {
+    private final ValidationOperator validation = new ValidationOperator(new String[] {"GroupId"}, "Traders", "ApproxTraders");
+    private IntIndexedTable table;
+    private int instrumentFieldId;
+    private int traderFieldId;
+
+    private void initialize(final FieldDescriptor traderField, final GroupByBuilder builder) {
+        table = intIndexedTable("table").addField(intField("Instrument")).addField(traderField).keyFieldName("Id").build();
+        instrumentFieldId = table.fieldId("Instrument");
+        traderFieldId = table.fieldId("Trader");
+        final GroupBy groupBy = builder.groupByFunction(intInterner("Instrument", 16)).includeGroupIdField("GroupId").build();
+        groupBy.parentOutput().attachInput(validation.input());
+        table.output().attachInput(groupBy.input());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validation.assertNoActiveValidation();
+    }
+
+<#list types as type>
+<#if type.name != "Bool">
+    @Nested
+    class ${type.name}Tests {
+        @BeforeEach
+        void setUp() {
+            initialize(FieldDescriptor.${type.name?lower_case}Field("Trader"),
+                    GroupByBuilder.groupBy()
+                            .addAggregation(DistinctCountFactory.distinctCount${type.name}("Trader", "Traders"))
+                            .addAggregation(DistinctCountFactory.approxDistinctCount${type.name}("Trader", "ApproxTraders")));
+            addSourceRow(1, 7, 100);
+            addSourceRow(2, 7, 100);
+            addSourceRow(3, 7, 200);
+            addSourceRow(4, 8, 100);
+            table.fireChanges();
+        }
+
+        @Test
+        void shouldCountDistinctValuesOfEachGroup() {
+            validation.expect().added(key(0), counts(2, 2)).added(key(1), counts(1, 1)).validate();
+        }
+
+        @Test
+        void shouldDecrementWhenLastRowOfValueRemoved() {
+            validation.clearChanges();
+            table.remove(3);
+            table.fireChanges();
+            validation.expect().changed(key(0), new RowData(Map.of("Traders", 1))).validate();
+        }
+
+        @Test
+        void shouldNotDecrementWhenOtherRowsHoldValue() {
+            validation.clearChanges();
+            table.remove(2);
+            table.fireChanges();
+            validation.expect().changed(key(0), new RowData(Map.of())).validate();
+        }
+
+        @Test
+        void shouldMoveValueBetweenGroups() {
+            validation.clearChanges();
+            changeInstrument(3, 8);
+            table.fireChanges();
+            // the sketch of group 0 cannot forget the moved value
+            validation.expect().changed(key(0), counts(1, 2)).changed(key(1), counts(2, 2)).validate();
+        }
+
+        @Test
+        void shouldCountChangedValue() {
+            validation.clearChanges();
+            changeTrader(2, 300);
+            table.fireChanges();
+            validation.expect().changed(key(0), counts(3, 3)).validate();
+        }
+
+        private void addSourceRow(final int id, final int instrument, final int trader) {
+            final var row = table.tableRow();
+            table.beginAdd(id);
+            row.setInt(instrumentFieldId, instrument);
+            row.set${type.name}(traderFieldId, v(trader));
+            table.endAdd();
+        }
+
+        private void changeTrader(final int id, final int trader) {
+            final var row = table.tableRow();
+            table.beginChange(id);
+            row.set${type.name}(traderFieldId, v(trader));
+            table.endChange();
+        }
+
+        private ${type.arrayType} v(final int value) {
+            return ${type.name}Type.castTo${type.name}(value);
+        }
+    }
+
+</#if>
+</#list>
+    private Key key(final int key) {
+        return new Key(List.of(key));
+    }
+
+    private RowData counts(final int traders, final int approxTraders) {
+        return new RowData(Map.of("Traders", traders, "ApproxTraders", approxTraders));
+    }
+
+    private void changeInstrument(final int id, final int instrument) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setInt(instrumentFieldId, instrument);
+        table.endChange();
+    }
+}
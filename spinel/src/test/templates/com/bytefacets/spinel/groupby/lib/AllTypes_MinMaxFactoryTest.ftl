@@ -0,0 +1,128 @@
+<#ftl strip_whitespace=true>
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.groupby.lib;
+
+import com.bytefacets.collections.types.*;
+import com.bytefacets.spinel.groupby.GroupBy;
+import com.bytefacets.spinel.groupby.GroupByBuilder;
+import com.bytefacets.spinel.schema.FieldDescriptor;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.validation.Key;
+import com.bytefacets.spinel.validation.RowData;
+import com.bytefacets.spinel.validation.ValidationOperator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.bytefacets.spinel.interner.IntRowInterner.intInterner;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+
+class MinMaxFactoryTest {
+    private final ValidationOperator validation = new ValidationOperator(new String[] {"GroupId"}, "Low", "High");
+    private IntIndexedTable table;
+    private int instrumentFieldId;
+    private int priceFieldId;
+
+    private void initialize(final FieldDescriptor priceField, final GroupByBuilder builder) {
+        table = intIndexedTable("table").addField(intField("Instrument")).addField(priceField).keyFieldName("Id").build();
+        instrumentFieldId = table.fieldId("Instrument");
+        priceFieldId = table.fieldId("Price");
+        final GroupBy groupBy = builder.groupByFunction(intInterner("Instrument", 16)).includeGroupIdField("GroupId").build();
+        groupBy.parentOutput().attachInput(validation.input());
+        table.output().attachInput(groupBy.input());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validation.assertNoActiveValidation();
+    }
+
+<#list types as type>
+<#if type.name != "String" && type.name != "Generic" && type.name != "Bool">
+    @Nested
+    class ${type.name}Tests {
+        @BeforeEach
+        void setUp() {
+            initialize(FieldDescriptor.${type.name?lower_case}Field("Price"),
+                    GroupByBuilder.groupBy()
+                            .addAggregation(MinMaxFactory.minTo${type.name}("Price", "Low"))
+                            .addAggregation(MinMaxFactory.maxTo${type.name}("Price", "High")));
+            addSourceRow(1, 7, 30);
+            addSourceRow(2, 7, 10);
+            addSourceRow(3, 7, 20);
+            addSourceRow(4, 8, 50);
+            table.fireChanges();
+        }
+
+        @Test
+        void shouldAggregateLowAndHighOfEachGroup() {
+            validation.expect().added(key(0), lowHigh(10, 30)).added(key(1), lowHigh(50, 50)).validate();
+        }
+
+        @Test
+        void shouldFindNextLowWhenLowRowRemoved() {
+            validation.clearChanges();
+            table.remove(2);
+            table.fireChanges();
+            validation.expect().changed(key(0), new RowData(Map.of("Low", v(20)))).validate();
+        }
+
+        @Test
+        void shouldFindNextHighWhenHighRowChanged() {
+            validation.clearChanges();
+            changePrice(1, 15);
+            table.fireChanges();
+            validation.expect().changed(key(0), new RowData(Map.of("High", v(20)))).validate();
+        }
+
+        @Test
+        void shouldUpdateBothGroupsWhenRowMovesGroup() {
+            validation.clearChanges();
+            changeInstrument(1, 8);
+            table.fireChanges();
+            validation.expect().changed(key(0), lowHigh(10, 20)).changed(key(1), lowHigh(30, 50)).validate();
+        }
+
+        private RowData lowHigh(final int low, final int high) {
+            return new RowData(Map.of("Low", v(low), "High", v(high)));
+        }
+
+        private void addSourceRow(final int id, final int instrument, final int price) {
+            final var row = table.tableRow();
+            table.beginAdd(id);
+            row.setInt(instrumentFieldId, instrument);
+            row.set${type.name}(priceFieldId, v(price));
+            table.endAdd();
+        }
+
+        private void changePrice(final int id, final int price) {
+            final var row = table.tableRow();
+            table.beginChange(id);
+            row.set${type.name}(priceFieldId, v(price));
+            table.endChange();
+        }
+
+        private ${type.arrayType} v(final int value) {
+            return ${type.name}Type.castTo${type.name}(value);
+        }
+    }
+
+</#if>
+</#list>
+    private Key key(final int key) {
+        return new Key(List.of(key));
+    }
+
+    private void changeInstrument(final int id, final int instrument) {
+        final var row = table.tableRow();
+        table.beginChange(id);
+        row.setInt(instrumentFieldId, instrument);
+        table.endChange();
+    }
+}
@@ -13,6 +13,7 @@ import com.bytefacets.collections.types.${type.name}Type;
 import com.bytefacets.spinel.exception.KeyException;
 import com.bytefacets.spinel.exception.DuplicateKeyException;
 import com.bytefacets.spinel.printer.OutputPrinter;
+import com.bytefacets.spinel.schema.IntField;
 import com.bytefacets.spinel.schema.TypeId;
 import com.bytefacets.spinel.validation.Key;
 import com.bytefacets.spinel.validation.RowData;
@@ -145,6 +146,69 @@ class ${type.name}IndexedTableTest {
         }
     }
 
+    @Nested
+    class CompactTests {
+        @BeforeEach
+        void setUp() {
+            for(int i = 1; i <= 5; i++) {
+                addSourceRow(i, i * 10, i * 100);
+            }
+            table.fireChanges();
+            table.remove(v(1));
+            table.remove(v(3));
+            table.fireChanges();
+            validation.clearChanges();
+        }
+
+        @Test
+        void shouldMoveLiveRowsIntoFreedRows() {
+            assertThat(table.compact(), equalTo(2));
+            assertThat(table.lookupKeyRow(v(4)), equalTo(0));
+            assertThat(table.lookupKeyRow(v(2)), equalTo(1));
+            assertThat(table.lookupKeyRow(v(5)), equalTo(2));
+            assertThat(table.lookupKeyRow(v(1)), equalTo(-1));
+        }
+
+        @Test
+        void shouldRemapInputsWithoutChanges() {
+            table.compact();
+            validation.validateNoChanges();
+        }
+
+        @Test
+        void shouldReadMovedValuesAtNewRows() {
+            table.compact();
+            assertThat(intValue("Value1", table.lookupKeyRow(v(4))), equalTo(40));
+            assertThat(intValue("Value2", table.lookupKeyRow(v(5))), equalTo(500));
+        }
+
+        @Test
+        void shouldNotMoveRowsWhenDense() {
+            table.compact();
+            assertThat(table.compact(), equalTo(0));
+            validation.validateNoChanges();
+        }
+
+        @Test
+        void shouldContinueModifyingAfterCompaction() {
+            table.compact();
+            validation.clearChanges();
+            changeValue1(4, 41);
+            table.remove(v(2));
+            addSourceRow(6, 60, 600);
+            table.fireChanges();
+            validation.expect()
+                    .changed(key(4), new RowData(Map.of("Value1", 41)))
+                    .removed(key(2))
+                    .added(key(6), rowData(60, 600))
+                    .validate();
+        }
+    }
+
+    private int intValue(final String fieldName, final int row) {
+        return ((IntField) table.schema().field(fieldName).field()).valueAt(row);
+    }
+
     private Key key(final int key) {
         return new Key(List.of(v(key)));
     }
@@ -0,0 +1,89 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.testing;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the current thread while running a batch repeatedly, after a
+ * warm-up long enough for the JIT to compile the hot path. Used to assert that operators process
+ * batches in steady state without allocating.
+ *
+ * <pre>
+ * allocationHarness().assertNoAllocation("filter changes", () -&gt; {
+ *     changeRows(table);
+ *     table.fireChanges();
+ * });
+ * </pre>
+ *
+ * The batch should be set up so that repeating it does not grow any state, e.g. changing existing
+ * rows, or removing and re-adding the same keys.
+ */
+public final class AllocationHarness {
+    private static final int DEFAULT_WARM_UP = 20_000;
+    private static final int DEFAULT_ITERATIONS = 10_000;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private int warmUpIterations = DEFAULT_WARM_UP;
+    private int measuredIterations = DEFAULT_ITERATIONS;
+
+    public static AllocationHarness allocationHarness() {
+        return new AllocationHarness();
+    }
+
+    private AllocationHarness() {
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            throw new UnsupportedOperationException(
+                    "Thread allocated memory is not supported on this JVM");
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    public AllocationHarness warmUpIterations(final int warmUpIterations) {
+        this.warmUpIterations = warmUpIterations;
+        return this;
+    }
+
+    public AllocationHarness measuredIterations(final int measuredIterations) {
+        this.measuredIterations = measuredIterations;
+        return this;
+    }
+
+    /**
+     * Runs the batch for the warm-up iterations, then returns the average number of bytes allocated
+     * per batch over the measured iterations. The cost of reading the allocation counter is
+     * subtracted.
+     */
+    public double bytesPerBatch(final Runnable batch) {
+        for (int i = 0; i < warmUpIterations; i++) {
+            batch.run();
+        }
+        final long overhead = measure(() -> {});
+        final long allocated = measure(batch) - overhead;
+        return Math.max(0, allocated) / (double) measuredIterations;
+    }
+
+    /**
+     * Throws an AssertionError if the batch allocates, on average, a byte or more per batch in
+     * steady state. Averaging tolerates a rare one-off allocation, such as a collection growing
+     * once, but not an allocation on every batch.
+     */
+    public void assertNoAllocation(final String description, final Runnable batch) {
+        final double bytesPerBatch = bytesPerBatch(batch);
+        if (bytesPerBatch >= 1) {
+            throw new AssertionError(
+                    String.format(
+                            "%s allocated %.1f bytes per batch over %d batches",
+                            description, bytesPerBatch, measuredIterations));
+        }
+    }
+
+    private long measure(final Runnable batch) {
+        final long threadId = Thread.currentThread().threadId();
+        final long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < measuredIterations; i++) {
+            batch.run();
+        }
+        return threadBean.getThreadAllocatedBytes(threadId) - start;
+    }
+}
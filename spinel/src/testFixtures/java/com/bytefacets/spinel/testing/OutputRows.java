@@ -0,0 +1,34 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.testing;
+
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.schema.SchemaField;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Reads the rows of an output by value, e.g. to assert the rows of a statistics table. */
+public final class OutputRows {
+    private OutputRows() {}
+
+    /**
+     * The values by field name of the active row whose field holds the value, or an empty map if
+     * there is none.
+     */
+    public static Map<String, Object> rowWhere(
+            final TransformOutput output, final String fieldName, final Object value) {
+        final Schema schema = output.schema();
+        final SchemaField keyField = schema.field(fieldName);
+        final Map<String, Object> result = new HashMap<>();
+        output.rowProvider()
+                .forEach(
+                        row -> {
+                            if (value.equals(keyField.objectValueAt(row))) {
+                                schema.forEachField(
+                                        f -> result.put(f.name(), f.objectValueAt(row)));
+                            }
+                        });
+        return result;
+    }
+}
@@ -3,6 +3,7 @@
 package com.bytefacets.spinel.validation;
 
 import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.RowRemap;
 import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.TransformOutput;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
@@ -151,6 +152,26 @@ public final class ValidationOperator implements InputProvider {
                     });
         }
 
+        @Override
+        public void rowsRemapping(final RowRemap remap) {}
+
+        @Override
+        public void rowsRemapped(final RowRemap remap) {
+            remap.forEach(
+                    (fromRow, toRow) -> {
+                        final var keyedRow = rowToData.remove(fromRow);
+                        if (keyedRow == null) {
+                            currentChangeSet.error(String.format("Remapped row not found: %d", fromRow));
+                        } else if (rowToData.put(toRow, keyedRow) != null) {
+                            currentChangeSet.error(String.format("Row remapped onto active row: %d", toRow));
+                        } else if (!keyedRow.key().equals(toKey(toRow))) {
+                            currentChangeSet.error(String.format("Remapped row has another key: %d", toRow));
+                        }
+                        calculatedActiveRows.remove(fromRow);
+                        calculatedActiveRows.add(toRow);
+                    });
+        }
+
         private Key toKey(final int rowId) {
             final List<Object> key = new ArrayList<>(keyFields.length);
             for (String name : keyFields) {
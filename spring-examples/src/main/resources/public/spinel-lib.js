@@ -316,6 +316,9 @@ class SubscriptionOutput extends TransformOutput {
                             
                             if (type === 'byte' || type === 'generic') {
                                 value = fieldData.values; // Keep as bytes
+                            } else if (type === 'bool' && fieldData.packedValues && fieldData.packedValues.length > 0) {
+                                // Bits are packed 8 rows to a byte, lowest bit first
+                                value = (fieldData.packedValues[rowIndex >>> 3] & (1 << (rowIndex & 7))) !== 0;
                             } else if (Array.isArray(fieldData.values)) {
                                 value = fieldData.values[rowIndex];
                             } else {
@@ -3,11 +3,12 @@
 package com.bytefacets.spinel.tools;
 
 import com.bytefacets.spinel.tools.console.ConsoleCommand;
+import com.bytefacets.spinel.tools.load.LoadCommand;
 import picocli.CommandLine;
 
 @CommandLine.Command(
         name = "",
-        subcommands = {ConsoleCommand.class})
+        subcommands = {ConsoleCommand.class, LoadCommand.class})
 public final class Main {
     private Main() {}
 
@@ -12,6 +12,7 @@ import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.Schema;
 import com.bytefacets.spinel.transform.InputProvider;
 import com.bytefacets.spinel.ui.Pager;
+import com.bytefacets.spinel.ui.ViewportSource;
 import jakarta.annotation.Nullable;
 
 public final class ConsoleRenderer implements InputProvider {
@@ -20,21 +21,35 @@ public final class ConsoleRenderer implements InputProvider {
     private final String title;
 
     ConsoleRenderer(final String title) {
-        this(title, new Presenter(System.out::println), Pager.pager(128, 128), null);
+        this(title, Pager.pager(128, 128));
+    }
+
+    /**
+     * A renderer which shows its rows in the positions of the viewportSource, such as a Sort whose
+     * output the renderer is attached to.
+     */
+    public static ConsoleRenderer consoleRenderer(
+            final String title, final ViewportSource viewportSource) {
+        return new ConsoleRenderer(title, viewportSource);
+    }
+
+    private ConsoleRenderer(final String title, final ViewportSource viewportSource) {
+        this(title, new Presenter(System.out::println), viewportSource, null);
     }
 
     // VisibleForTesting
     ConsoleRenderer(
             final String title,
             final Presenter presenter,
-            final Pager pager,
+            final ViewportSource viewportSource,
             final Control control) {
         this.title = requireNonNull(title, "title");
         input =
                 new Input(
                         presenter,
-                        pager,
-                        requireNonNullElseGet(control, () -> new Control(presenter, pager)));
+                        viewportSource,
+                        requireNonNullElseGet(
+                                control, () -> new Control(presenter, viewportSource)));
     }
 
     @Override
@@ -44,13 +59,16 @@ public final class ConsoleRenderer implements InputProvider {
 
     private final class Input implements TransformInput {
         private final Presenter presenter;
-        private final Pager pager;
+        private final ViewportSource viewportSource;
         private final Control control;
         private boolean repaint = true;
 
-        Input(final Presenter presenter, final Pager pager, final Control control) {
+        Input(
+                final Presenter presenter,
+                final ViewportSource viewportSource,
+                final Control control) {
             this.presenter = requireNonNull(presenter, "presenter");
-            this.pager = requireNonNull(pager, "pager");
+            this.viewportSource = requireNonNull(viewportSource, "viewportSource");
             this.control = requireNonNull(control, "control");
             control.setTitle(title);
         }
@@ -72,14 +90,15 @@ public final class ConsoleRenderer implements InputProvider {
                 presenter.update();
             } else {
                 presenter.reset();
-                pager.clear();
+                viewportSource.reset();
                 control.emitClear();
             }
         }
 
         @Override
         public void rowsAdded(final IntIterable rows) {
-            rows.forEach(this::mapAndCalculateWidths);
+            rows.forEach(this::calculateWidths);
+            viewportSource.rowsAdded(rows);
             if (repaint) {
                 repaint = false;
                 control.repaint();
@@ -103,17 +122,16 @@ public final class ConsoleRenderer implements InputProvider {
 
         @Override
         public void rowsRemoved(final IntIterable rows) {
-            pager.remove(rows);
+            viewportSource.rowsRemoved(rows);
             control.repaint();
             presenter.update();
         }
 
-        /** Called on added rows, to recalculate widths and assign a screen row */
-        private void mapAndCalculateWidths(final int row) {
+        /** Called on added rows, to recalculate widths */
+        private void calculateWidths(final int row) {
             if (presenter.calculateColumnWidths(row)) {
                 repaint = true;
             }
-            pager.add(row);
         }
 
         /** Called on updated rows to recalculate widths */
@@ -4,7 +4,7 @@ package com.bytefacets.spinel.tools.console;
 
 import static java.util.Objects.requireNonNull;
 
-import com.bytefacets.spinel.ui.Pager;
+import com.bytefacets.spinel.ui.ViewportSource;
 import org.jline.jansi.Ansi;
 
 final class Control {
@@ -14,11 +14,11 @@ final class Control {
     private static final int PAGE_SIZE = 30;
     private final Ansi ansi;
     private final Presenter presenter;
-    private final Pager pager;
+    private final ViewportSource viewportSource;
 
-    Control(final Presenter presenter, final Pager pager) {
+    Control(final Presenter presenter, final ViewportSource viewportSource) {
         this.presenter = requireNonNull(presenter, "presenter");
-        this.pager = requireNonNull(pager, "pager");
+        this.viewportSource = requireNonNull(viewportSource, "viewportSource");
         this.ansi = presenter.ansi();
     }
 
@@ -41,11 +41,11 @@ final class Control {
         presenter.renderHorizontalRule();
         ansi.newline();
         final int pageStart = PAGE * PAGE_SIZE;
-        pager.rowsInRange(pageStart, PAGE_SIZE, this::repaintRow);
+        viewportSource.rowsInRange(pageStart, PAGE_SIZE, this::repaintRow);
     }
 
     void repaintRow(final int row) {
-        final int pagePosition = pager.rowPosition(row);
+        final int pagePosition = viewportSource.positionForRow(row);
         final int pageStart = PAGE * PAGE_SIZE;
         final int pageEnd = pageStart + PAGE_SIZE;
         if (pagePosition >= pageStart && pagePosition < pageEnd) {
@@ -0,0 +1,139 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.tools.load;
+
+import static com.bytefacets.spinel.tools.load.LoadGenerator.loadGenerator;
+import static org.slf4j.Logger.ROOT_LOGGER_NAME;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+/**
+ * Runs a {@link LoadGenerator} against a topology and prints a {@link LoadReport} every reporting
+ * interval. The topology is named by class and must be on the classpath.
+ */
+@CommandLine.Command(
+        name = "load",
+        description = "drive a topology with synthetic market data and report the load it sustains")
+public final class LoadCommand implements Callable<Integer> {
+    private final PrintStream out;
+
+    @CommandLine.Option(names = "--rate", description = "target updates per second")
+    double rate = 10_000;
+
+    @CommandLine.Option(names = "--keys", description = "number of live keys")
+    int keys = 1_000;
+
+    @CommandLine.Option(
+            names = "--changed-fields",
+            description = "fraction of the 8 value fields written by each update")
+    double changedFields = 0.25;
+
+    @CommandLine.Option(
+            names = "--key-change-rate",
+            description = "fraction of updates which replace a key with a new one")
+    double keyChangeRate;
+
+    @CommandLine.Option(
+            names = "--burst-multiplier",
+            description = "rate multiplier during bursts; 1 disables bursts")
+    double burstMultiplier = 1;
+
+    @CommandLine.Option(names = "--burst-duration-ms", description = "length of each burst")
+    long burstDurationMs;
+
+    @CommandLine.Option(names = "--burst-period-ms", description = "time between burst starts")
+    long burstPeriodMs;
+
+    @CommandLine.Option(names = "--tick-us", description = "interval between batches")
+    long tickMicros = 1_000;
+
+    @CommandLine.Option(
+            names = "--duration-s",
+            description = "how long to run; 0 runs until interrupted")
+    long durationSeconds;
+
+    @CommandLine.Option(names = "--report-s", description = "interval between reports")
+    long reportSeconds = 5;
+
+    @CommandLine.Option(
+            names = "--topology",
+            description = "class name of a LoadTopology with a public no-arg constructor")
+    String topologyClass;
+
+    public LoadCommand() {
+        this(System.out);
+    }
+
+    LoadCommand(final PrintStream out) {
+        final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.getLogger(ROOT_LOGGER_NAME).setLevel(Level.WARN);
+        this.out = out;
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        final LoadProfile profile = profile();
+        final EventLoop eventLoop = new DefaultEventLoop(r -> new Thread(r, "load-data-thread"));
+        try {
+            final LoadGenerator generator = loadGenerator(profile, topology(), eventLoop);
+            out.println(profile);
+            generator.start();
+            run(generator);
+            generator.stop();
+        } finally {
+            eventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+        }
+        return 0;
+    }
+
+    private void run(final LoadGenerator generator) throws ExecutionException {
+        final long reportMillis = TimeUnit.SECONDS.toMillis(reportSeconds);
+        final long endMillis =
+                durationSeconds > 0
+                        ? System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(durationSeconds)
+                        : Long.MAX_VALUE;
+        try {
+            while (System.currentTimeMillis() < endMillis) {
+                final long remaining = endMillis - System.currentTimeMillis();
+                Thread.sleep(Math.max(0, Math.min(reportMillis, remaining)));
+                out.print(generator.requestReport().get().format());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    LoadProfile profile() {
+        return LoadProfile.loadProfile()
+                .updatesPerSecond(rate)
+                .keyCardinality(keys)
+                .changedFieldFraction(changedFields)
+                .keyChangeRate(keyChangeRate)
+                .burst(
+                        burstMultiplier,
+                        Duration.ofMillis(burstDurationMs),
+                        Duration.ofMillis(burstPeriodMs))
+                .tickInterval(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(tickMicros)))
+                .build();
+    }
+
+    LoadTopology topology() throws ReflectiveOperationException {
+        if (topologyClass == null) {
+            return LoadTopology.sourceOnly();
+        }
+        return Class.forName(topologyClass)
+                .asSubclass(LoadTopology.class)
+                .getDeclaredConstructor()
+                .newInstance();
+    }
+}
@@ -0,0 +1,314 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.tools.load;
+
+import static com.bytefacets.spinel.schema.FieldDescriptor.doubleField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.intField;
+import static com.bytefacets.spinel.schema.FieldDescriptor.longField;
+import static com.bytefacets.spinel.table.IntIndexedTableBuilder.intIndexedTable;
+import static com.bytefacets.spinel.trace.LatencyHistogram.latencyHistogram;
+import static com.bytefacets.spinel.trace.TracedInput.traced;
+import static java.util.Objects.requireNonNull;
+
+import com.bytefacets.collections.functional.IntConsumer;
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.DoubleWritableField;
+import com.bytefacets.spinel.schema.IntWritableField;
+import com.bytefacets.spinel.schema.LongWritableField;
+import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.table.IntIndexedTable;
+import com.bytefacets.spinel.trace.LatencyHistogram;
+import com.bytefacets.spinel.trace.UpdateTrace;
+import io.netty.channel.EventLoop;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a market-data table at the rate and shape described by a {@link LoadProfile}, through a
+ * {@link LoadTopology}, on a single data thread.
+ *
+ * <p>Like the example simulators, the generator runs as a task which reschedules itself on the
+ * event loop, and each run fires one batch. Unlike them, the load is open-loop: each tick emits the
+ * updates which have become due since the last tick, so when the topology cannot keep up the
+ * batches grow and the batch latency shows the queueing, rather than the offered rate falling.
+ *
+ * <p>The table is keyed by InstrumentId and has 8 value fields: Bid, Ask, BidSize, AskSize, Last,
+ * LastSize, Volume and Trades. It is populated with keyCardinality keys before the topology is
+ * built.
+ *
+ * <p>Starting the generator enables {@link UpdateTrace}, which is process wide, to measure arrival
+ * at the outputs returned by the topology.
+ */
+public final class LoadGenerator {
+    private final LoadProfile profile;
+    private final EventLoop eventLoop;
+    private final IntIndexedTable table;
+    private final Random random;
+    private final int[] liveKeys;
+    private final Column[] columns;
+    private final int fieldsPerUpdate;
+    private final LatencyHistogram batchLatency = latencyHistogram();
+    private final List<LeafSink> leaves = new ArrayList<>();
+    private final Runnable tickTask = this::scheduledTick;
+    private boolean running;
+    private int nextKey;
+    private int fieldCursor;
+    private long startNanos;
+    private long lastTickNanos;
+    private long nextDueNanos;
+    private double owedUpdates;
+    private long intervalStartNanos;
+    private long intervalUpdates;
+    private double intervalTarget;
+    private long intervalBusyNanos;
+
+    public static LoadGenerator loadGenerator(
+            final LoadProfile profile, final LoadTopology topology, final EventLoop eventLoop) {
+        return new LoadGenerator(profile, topology, eventLoop);
+    }
+
+    private LoadGenerator(
+            final LoadProfile profile, final LoadTopology topology, final EventLoop eventLoop) {
+        this.profile = requireNonNull(profile, "profile");
+        this.eventLoop = requireNonNull(eventLoop, "eventLoop");
+        this.random = new Random(profile.seed());
+        this.table =
+                intIndexedTable("MarketData")
+                        .keyFieldName("InstrumentId")
+                        .initialSize(profile.keyCardinality())
+                        .addFields(
+                                doubleField("Bid"),
+                                doubleField("Ask"),
+                                intField("BidSize"),
+                                intField("AskSize"),
+                                doubleField("Last"),
+                                intField("LastSize"),
+                                longField("Volume"),
+                                intField("Trades"))
+                        .build();
+        this.columns = columns(table);
+        this.fieldsPerUpdate =
+                Math.max(1, (int) Math.round(profile.changedFieldFraction() * columns.length));
+        this.liveKeys = new int[profile.keyCardinality()];
+        populate();
+        final List<TransformOutput> outputs =
+                requireNonNull(topology.build(table.output()), "topology outputs");
+        for (TransformOutput output : outputs) {
+            final LeafSink leaf = new LeafSink();
+            output.attachInput(traced(leaf, leaf.latency));
+            leaves.add(leaf);
+        }
+    }
+
+    private static Column[] columns(final IntIndexedTable table) {
+        final DoubleWritableField bid = table.writableField("Bid");
+        final DoubleWritableField ask = table.writableField("Ask");
+        final IntWritableField bidSize = table.writableField("BidSize");
+        final IntWritableField askSize = table.writableField("AskSize");
+        final DoubleWritableField last = table.writableField("Last");
+        final IntWritableField lastSize = table.writableField("LastSize");
+        final LongWritableField volume = table.writableField("Volume");
+        final IntWritableField trades = table.writableField("Trades");
+        return new Column[] {
+            (row, value) -> bid.setValueAt(row, 100 + value * 0.01),
+            (row, value) -> ask.setValueAt(row, 100.01 + value * 0.01),
+            (row, value) -> bidSize.setValueAt(row, value),
+            (row, value) -> askSize.setValueAt(row, value),
+            (row, value) -> last.setValueAt(row, 100 + value * 0.01),
+            (row, value) -> lastSize.setValueAt(row, value),
+            (row, value) -> volume.setValueAt(row, volume.valueAt(row) + value),
+            (row, value) -> trades.setValueAt(row, trades.valueAt(row) + 1)
+        };
+    }
+
+    public IntIndexedTable table() {
+        return table;
+    }
+
+    /** Starts generating updates on the event loop. */
+    public void start() {
+        UpdateTrace.enable();
+        eventLoop.execute(
+                () -> {
+                    final long now = System.nanoTime();
+                    begin(now);
+                    running = true;
+                    scheduledTick();
+                });
+    }
+
+    /** Stops generating updates after the current tick. */
+    public void stop() {
+        eventLoop.execute(() -> running = false);
+    }
+
+    /**
+     * Requests a report of the interval since the previous report, which is gathered on the event
+     * loop and begins the next interval.
+     */
+    public Future<LoadReport> requestReport() {
+        return eventLoop.submit(() -> report(System.nanoTime()));
+    }
+
+    /** Begins the first interval, excluding the initial snapshot from the arrival counts. */
+    void begin(final long nowNanos) {
+        startNanos = nowNanos;
+        lastTickNanos = nowNanos;
+        nextDueNanos = nowNanos;
+        intervalStartNanos = nowNanos;
+        leaves.forEach(leaf -> leaf.rows = 0);
+    }
+
+    private void scheduledTick() {
+        if (!running) {
+            return;
+        }
+        tick(nextDueNanos, System.nanoTime());
+        nextDueNanos += profile.tickIntervalNanos();
+        eventLoop.schedule(
+                tickTask, Math.max(0, nextDueNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Emits and fires the updates which have become due since the last tick. The batch latency is
+     * measured from dueNanos, the time at which this tick should have run.
+     *
+     * @return the number of updates in the batch
+     */
+    int tick(final long dueNanos, final long nowNanos) {
+        final double due =
+                profile.updatesPerSecond()
+                        * profile.rateMultiplierAt(nowNanos - startNanos)
+                        * (nowNanos - lastTickNanos)
+                        / 1e9;
+        lastTickNanos = nowNanos;
+        owedUpdates += due;
+        intervalTarget += due;
+        final int count = (int) owedUpdates;
+        owedUpdates -= count;
+        for (int i = 0; i < count; i++) {
+            update();
+        }
+        if (count != 0) {
+            table.fireChanges();
+        }
+        final long endNanos = System.nanoTime();
+        intervalBusyNanos += endNanos - nowNanos;
+        intervalUpdates += count;
+        if (count != 0) {
+            batchLatency.record(endNanos - dueNanos);
+        }
+        return count;
+    }
+
+    /** Reports the interval ending at nowNanos, and begins the next interval. */
+    LoadReport report(final long nowNanos) {
+        final List<LoadReport.Arrival> arrivals = new ArrayList<>(leaves.size());
+        for (int i = 0; i < leaves.size(); i++) {
+            final LeafSink leaf = leaves.get(i);
+            arrivals.add(
+                    new LoadReport.Arrival(leaf.name(i), leaf.rows, copyAndReset(leaf.latency)));
+            leaf.rows = 0;
+        }
+        final LoadReport report =
+                new LoadReport(
+                        nowNanos - intervalStartNanos,
+                        intervalUpdates,
+                        Math.round(intervalTarget),
+                        intervalBusyNanos,
+                        copyAndReset(batchLatency),
+                        arrivals);
+        intervalStartNanos = nowNanos;
+        intervalUpdates = 0;
+        intervalTarget = 0;
+        intervalBusyNanos = 0;
+        return report;
+    }
+
+    private static LatencyHistogram copyAndReset(final LatencyHistogram histogram) {
+        final LatencyHistogram copy = latencyHistogram();
+        copy.add(histogram);
+        histogram.reset();
+        return copy;
+    }
+
+    private void populate() {
+        for (int i = 0; i < liveKeys.length; i++) {
+            liveKeys[i] = addKey();
+        }
+        table.fireChanges();
+    }
+
+    private int addKey() {
+        final int key = nextKey++;
+        final int row = table.beginAdd(key);
+        for (Column column : columns) {
+            column.write(row, random.nextInt(1000));
+        }
+        table.endAdd();
+        return key;
+    }
+
+    private void update() {
+        final int slot = random.nextInt(liveKeys.length);
+        if (profile.keyChangeRate() != 0 && random.nextDouble() < profile.keyChangeRate()) {
+            table.remove(liveKeys[slot]);
+            liveKeys[slot] = addKey();
+        } else {
+            final int row = table.beginChange(liveKeys[slot]);
+            for (int i = 0; i < fieldsPerUpdate; i++) {
+                columns[(fieldCursor + i) % columns.length].write(row, random.nextInt(1000));
+            }
+            fieldCursor = (fieldCursor + 1) % columns.length;
+            table.endChange();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Column {
+        void write(int row, int value);
+    }
+
+    /** Counts the rows arriving at one of the topology's outputs. */
+    private static final class LeafSink implements TransformInput {
+        private final LatencyHistogram latency = latencyHistogram();
+        private final IntConsumer counter = this::countRow;
+        private String schemaName;
+        private long rows;
+
+        private String name(final int index) {
+            return schemaName != null ? schemaName : "output-" + index;
+        }
+
+        @Override
+        public void schemaUpdated(@Nullable final Schema schema) {
+            schemaName = schema != null ? schema.name() : null;
+        }
+
+        @Override
+        public void rowsAdded(final IntIterable rows) {
+            rows.forEach(counter);
+        }
+
+        @Override
+        public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+            rows.forEach(counter);
+        }
+
+        @Override
+        public void rowsRemoved(final IntIterable rows) {
+            rows.forEach(counter);
+        }
+
+        private void countRow(final int row) {
+            rows++;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.tools.load;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+/**
+ * The shape of the load produced by a {@link LoadGenerator}.
+ *
+ * <ul>
+ *   <li>updatesPerSecond: the target rate of row updates outside of bursts
+ *   <li>keyCardinality: the number of live keys in the table
+ *   <li>changedFieldFraction: the fraction of the value fields written by each update, at least one
+ *   <li>keyChangeRate: the fraction of updates which remove a live key and add a new one in its
+ *       place, instead of changing it
+ *   <li>burst: for burstDuration out of every burstPeriod, the rate is multiplied by
+ *       burstMultiplier. A multiplier of 1 disables bursts.
+ *   <li>tickInterval: how often the generator wakes up to emit the updates which are due. Each tick
+ *       fires one batch.
+ * </ul>
+ */
+public final class LoadProfile {
+    private final double updatesPerSecond;
+    private final int keyCardinality;
+    private final double changedFieldFraction;
+    private final double keyChangeRate;
+    private final double burstMultiplier;
+    private final long burstPeriodNanos;
+    private final long burstDurationNanos;
+    private final long tickIntervalNanos;
+    private final long seed;
+
+    private LoadProfile(final Builder builder) {
+        this.updatesPerSecond = builder.updatesPerSecond;
+        this.keyCardinality = builder.keyCardinality;
+        this.changedFieldFraction = builder.changedFieldFraction;
+        this.keyChangeRate = builder.keyChangeRate;
+        this.burstMultiplier = builder.burstMultiplier;
+        this.burstPeriodNanos = builder.burstPeriod.toNanos();
+        this.burstDurationNanos = builder.burstDuration.toNanos();
+        this.tickIntervalNanos = builder.tickInterval.toNanos();
+        this.seed = builder.seed;
+    }
+
+    public static Builder loadProfile() {
+        return new Builder();
+    }
+
+    public double updatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    public int keyCardinality() {
+        return keyCardinality;
+    }
+
+    public double changedFieldFraction() {
+        return changedFieldFraction;
+    }
+
+    public double keyChangeRate() {
+        return keyChangeRate;
+    }
+
+    public double burstMultiplier() {
+        return burstMultiplier;
+    }
+
+    public long burstPeriodNanos() {
+        return burstPeriodNanos;
+    }
+
+    public long burstDurationNanos() {
+        return burstDurationNanos;
+    }
+
+    public long tickIntervalNanos() {
+        return tickIntervalNanos;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /** The rate multiplier at the given time since the start of the load. */
+    double rateMultiplierAt(final long elapsedNanos) {
+        if (burstMultiplier == 1 || burstPeriodNanos == 0) {
+            return 1;
+        }
+        return elapsedNanos % burstPeriodNanos < burstDurationNanos ? burstMultiplier : 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "LoadProfile[updatesPerSecond=%.0f, keyCardinality=%d, changedFieldFraction=%.2f,"
+                        + " keyChangeRate=%.4f, burst=%.1fx for %dms every %dms, tick=%dus]",
+                updatesPerSecond,
+                keyCardinality,
+                changedFieldFraction,
+                keyChangeRate,
+                burstMultiplier,
+                Duration.ofNanos(burstDurationNanos).toMillis(),
+                Duration.ofNanos(burstPeriodNanos).toMillis(),
+                tickIntervalNanos / 1000);
+    }
+
+    public static final class Builder {
+        private double updatesPerSecond = 10_000;
+        private int keyCardinality = 1_000;
+        private double changedFieldFraction = 0.25;
+        private double keyChangeRate;
+        private double burstMultiplier = 1;
+        private Duration burstPeriod = Duration.ZERO;
+        private Duration burstDuration = Duration.ZERO;
+        private Duration tickInterval = Duration.ofMillis(1);
+        private long seed = 7263876L;
+
+        private Builder() {}
+
+        public Builder updatesPerSecond(final double updatesPerSecond) {
+            this.updatesPerSecond = updatesPerSecond;
+            return this;
+        }
+
+        public Builder keyCardinality(final int keyCardinality) {
+            this.keyCardinality = keyCardinality;
+            return this;
+        }
+
+        public Builder changedFieldFraction(final double changedFieldFraction) {
+            this.changedFieldFraction = changedFieldFraction;
+            return this;
+        }
+
+        public Builder keyChangeRate(final double keyChangeRate) {
+            this.keyChangeRate = keyChangeRate;
+            return this;
+        }
+
+        /** Multiplies the rate by the multiplier for the duration at the start of every period. */
+        public Builder burst(
+                final double multiplier, final Duration duration, final Duration period) {
+            this.burstMultiplier = multiplier;
+            this.burstDuration = requireNonNull(duration, "duration");
+            this.burstPeriod = requireNonNull(period, "period");
+            return this;
+        }
+
+        public Builder tickInterval(final Duration tickInterval) {
+            this.tickInterval = requireNonNull(tickInterval, "tickInterval");
+            return this;
+        }
+
+        public Builder seed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public LoadProfile build() {
+            check(updatesPerSecond > 0, "updatesPerSecond must be positive");
+            check(keyCardinality > 0, "keyCardinality must be positive");
+            check(
+                    changedFieldFraction > 0 && changedFieldFraction <= 1,
+                    "changedFieldFraction must be in (0, 1]");
+            check(keyChangeRate >= 0 && keyChangeRate <= 1, "keyChangeRate must be in [0, 1]");
+            check(burstMultiplier >= 1, "burstMultiplier must be at least 1");
+            check(
+                    burstDuration.compareTo(burstPeriod) <= 0,
+                    "burstDuration must not exceed burstPeriod");
+            check(
+                    !tickInterval.isNegative() && !tickInterval.isZero(),
+                    "tickInterval must be positive");
+            return new LoadProfile(this);
+        }
+
+        private static void check(final boolean condition, final String message) {
+            if (!condition) {
+                throw new IllegalArgumentException(message);
+            }
+        }
+    }
+}
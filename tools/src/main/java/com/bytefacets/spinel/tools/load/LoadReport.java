@@ -0,0 +1,60 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.tools.load;
+
+import com.bytefacets.spinel.trace.LatencyHistogram;
+import java.util.List;
+
+/**
+ * The load sustained by a {@link LoadGenerator} over one reporting interval. Latencies are in
+ * nanoseconds.
+ *
+ * @param elapsedNanos the length of the interval
+ * @param updates the row updates generated in the interval
+ * @param targetUpdates the row updates due in the interval according to the profile
+ * @param busyNanos the time the data thread spent generating updates and propagating them through
+ *     the topology
+ * @param batchLatency per batch, the time from when the batch was due until the topology finished
+ *     processing it. This includes the time a batch waited because the data thread was busy.
+ * @param arrivals per measured output, the time from the table fire until the update arrived
+ */
+public record LoadReport(
+        long elapsedNanos,
+        long updates,
+        long targetUpdates,
+        long busyNanos,
+        LatencyHistogram batchLatency,
+        List<Arrival> arrivals) {
+
+    /** The latency of updates arriving at one of the outputs returned by the LoadTopology. */
+    public record Arrival(String name, long rows, LatencyHistogram latency) {}
+
+    public double updatesPerSecond() {
+        return elapsedNanos > 0 ? updates * 1e9 / elapsedNanos : 0;
+    }
+
+    /** The fraction of the interval during which the data thread was busy. */
+    public double saturation() {
+        return elapsedNanos > 0 ? (double) busyNanos / elapsedNanos : 0;
+    }
+
+    public String format() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(
+                String.format(
+                        "updates/s=%.0f target=%.0f saturation=%.1f%%%n",
+                        updatesPerSecond(),
+                        elapsedNanos > 0 ? targetUpdates * 1e9 / elapsedNanos : 0,
+                        saturation() * 100));
+        sb.append("  batch latency: ").append(batchLatency).append(System.lineSeparator());
+        for (Arrival arrival : arrivals) {
+            sb.append(
+                    String.format(
+                            "  arrival at %s: rows/s=%.0f %s%n",
+                            arrival.name(),
+                            elapsedNanos > 0 ? arrival.rows() * 1e9 / elapsedNanos : 0,
+                            arrival.latency()));
+        }
+        return sb.toString();
+    }
+}
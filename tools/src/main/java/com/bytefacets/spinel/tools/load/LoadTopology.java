@@ -0,0 +1,34 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.tools.load;
+
+import com.bytefacets.spinel.TransformOutput;
+import java.util.List;
+
+/**
+ * Builds the topology under load on the output of the generated table. To be named with {@code
+ * load --topology}, an implementation needs a public no-arg constructor.
+ *
+ * <pre>{@code
+ * public final class SpreadTopology implements LoadTopology {
+ *     public List<TransformOutput> build(final TransformOutput source) {
+ *         final Filter wide = filter("Wide").where(...).build();
+ *         source.attachInput(wide.input());
+ *         return List.of(wide.output());
+ *     }
+ * }
+ * }</pre>
+ */
+@FunctionalInterface
+public interface LoadTopology {
+    /**
+     * Connects the topology to the source, and returns the outputs at which the arrival latency of
+     * updates is measured, usually the leaves of the topology.
+     */
+    List<TransformOutput> build(TransformOutput source);
+
+    /** Measures arrival at the generated table itself. */
+    static LoadTopology sourceOnly() {
+        return source -> List.of(source);
+    }
+}
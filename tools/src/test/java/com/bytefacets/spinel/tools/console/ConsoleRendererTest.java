@@ -14,11 +14,13 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.bytefacets.collections.functional.IntIterable;
 import com.bytefacets.spinel.common.Connector;
 import com.bytefacets.spinel.schema.Schema;
 import com.bytefacets.spinel.schema.TypeId;
 import com.bytefacets.spinel.table.IntIndexedStructTable;
-import com.bytefacets.spinel.ui.Pager;
+import com.bytefacets.spinel.ui.ViewportSource;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,7 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ConsoleRendererTest {
     private @Mock Control control;
     private @Mock Presenter presenter;
-    private @Mock Pager pager;
+    private @Mock ViewportSource viewportSource;
     private @Captor ArgumentCaptor<Integer> rowCaptor;
     final IntIndexedStructTable<Data> table = intIndexedStructTable(Data.class).build();
     final Data facade = table.createFacade();
@@ -42,7 +44,7 @@ class ConsoleRendererTest {
 
     @BeforeEach
     void setUp() {
-        renderer = new ConsoleRenderer("title", presenter, pager, control);
+        renderer = new ConsoleRenderer("title", presenter, viewportSource, control);
         verify(control, times(1)).setTitle("title");
         Connector.connectInputToOutput(renderer, table);
     }
@@ -85,7 +87,7 @@ class ConsoleRendererTest {
         void shouldResetRowMappingWhenSchemaReset() {
             resetMocks();
             renderer.input().schemaUpdated(null);
-            verify(pager, times(1)).clear();
+            verify(viewportSource, times(1)).reset();
         }
 
         @Test
@@ -112,11 +114,19 @@ class ConsoleRendererTest {
 
         @Test
         void shouldMapAddedRows() {
+            final List<Integer> added = new ArrayList<>();
+            doAnswer(
+                            inv -> {
+                                inv.<IntIterable>getArgument(0).forEach(added::add);
+                                return null;
+                            })
+                    .when(viewportSource)
+                    .rowsAdded(any());
             final int r1 = upsert(10, 20, "foo");
             final int r2 = upsert(12, 30, "bar");
             table.fireChanges();
-            verify(pager, times(2)).add(rowCaptor.capture());
-            assertThat(rowCaptor.getAllValues(), containsInAnyOrder(r1, r2));
+            verify(viewportSource, times(1)).rowsAdded(any());
+            assertThat(added, containsInAnyOrder(r1, r2));
         }
 
         @Test
@@ -204,12 +214,12 @@ class ConsoleRendererTest {
         @Test
         void shouldUnmapRows() {
             fireRemoves();
-            verify(pager, times(1)).remove(any());
+            verify(viewportSource, times(1)).rowsRemoved(any());
         }
     }
 
     private void resetMocks() {
-        reset(presenter, pager, control);
+        reset(presenter, viewportSource, control);
     }
 
     private int upsert(final int key, final int value1, final String value2) {
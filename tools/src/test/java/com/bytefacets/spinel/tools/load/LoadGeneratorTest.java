@@ -0,0 +1,192 @@
+// SPDX-FileCopyrightText: Copyright (c) 2025 Byte Facets
+// SPDX-License-Identifier: MIT
+package com.bytefacets.spinel.tools.load;
+
+import static com.bytefacets.spinel.tools.load.LoadGenerator.loadGenerator;
+import static com.bytefacets.spinel.tools.load.LoadProfile.loadProfile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bytefacets.collections.functional.IntIterable;
+import com.bytefacets.spinel.TransformInput;
+import com.bytefacets.spinel.TransformOutput;
+import com.bytefacets.spinel.schema.ChangedFieldSet;
+import com.bytefacets.spinel.schema.IntField;
+import com.bytefacets.spinel.schema.Schema;
+import io.netty.channel.EventLoop;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LoadGeneratorTest {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private final Recorder recorder = new Recorder();
+    private @Mock EventLoop eventLoop;
+    private LoadGenerator generator;
+
+    @Test
+    void shouldPopulateKeysBeforeBuildingTopology() {
+        generator = generator(loadProfile().keyCardinality(50).build());
+        assertThat(recorder.added, equalTo(50));
+        assertThat(countRows(generator.table().output()), equalTo(50));
+    }
+
+    @Test
+    void shouldEmitUpdatesDueAtTargetRate() {
+        generator = generator(loadProfile().updatesPerSecond(1000).build());
+        generator.begin(0);
+        assertThat(generator.tick(0, 10 * MS), equalTo(10));
+        assertThat(generator.tick(10 * MS, 15 * MS), equalTo(5));
+        assertThat(recorder.changed, equalTo(15));
+    }
+
+    @Test
+    void shouldCarryFractionalUpdatesBetweenTicks() {
+        generator = generator(loadProfile().updatesPerSecond(250).build());
+        generator.begin(0);
+        int total = 0;
+        for (int i = 1; i <= 4; i++) {
+            total += generator.tick((i - 1) * MS, i * MS);
+        }
+        assertThat(total, equalTo(1));
+    }
+
+    @Test
+    void shouldMultiplyRateDuringBursts() {
+        generator =
+                generator(
+                        loadProfile()
+                                .updatesPerSecond(1000)
+                                .burst(4, Duration.ofMillis(10), Duration.ofMillis(100))
+                                .build());
+        generator.begin(0);
+        assertThat(generator.tick(0, 5 * MS), equalTo(20));
+        assertThat(generator.tick(5 * MS, 20 * MS), equalTo(15));
+        assertThat(generator.tick(20 * MS, 105 * MS), equalTo(340));
+    }
+
+    @Test
+    void shouldWriteFractionOfFieldsPerUpdate() {
+        generator =
+                generator(loadProfile().updatesPerSecond(1000).changedFieldFraction(0.25).build());
+        generator.begin(0);
+        generator.tick(0, MS);
+        generator.tick(MS, 2 * MS);
+        assertThat(recorder.changedFieldCounts, equalTo(List.of(2, 2)));
+        assertThat(recorder.changedFieldNames.get(0), containsInAnyOrder("Bid", "Ask"));
+        assertThat(recorder.changedFieldNames.get(1), containsInAnyOrder("Ask", "BidSize"));
+    }
+
+    @Test
+    void shouldReplaceKeysAtKeyChangeRate() {
+        generator =
+                generator(
+                        loadProfile()
+                                .updatesPerSecond(1000)
+                                .keyCardinality(10_000)
+                                .keyChangeRate(1)
+                                .build());
+        generator.begin(0);
+        generator.tick(0, 5 * MS);
+        assertThat(recorder.removed, equalTo(5));
+        assertThat(recorder.added, equalTo(10_005));
+        assertThat(recorder.changed, equalTo(0));
+        assertThat(countRows(generator.table().output()), equalTo(10_000));
+        assertThat(recorder.keys, hasItem(10_004));
+    }
+
+    @Test
+    void shouldReportIntervalAndReset() {
+        generator = generator(loadProfile().updatesPerSecond(1000).build());
+        generator.begin(0);
+        generator.tick(0, 10 * MS);
+        final LoadReport report = generator.report(20 * MS);
+        assertThat(report.elapsedNanos(), equalTo(20 * MS));
+        assertThat(report.updates(), equalTo(10L));
+        assertThat(report.targetUpdates(), equalTo(10L));
+        assertThat(report.batchLatency().count(), equalTo(1L));
+        assertThat(report.arrivals().size(), equalTo(1));
+        assertThat(report.arrivals().get(0).name(), equalTo("MarketData"));
+        assertThat(report.arrivals().get(0).rows(), equalTo(10L));
+        final LoadReport next = generator.report(30 * MS);
+        assertThat(next.elapsedNanos(), equalTo(10 * MS));
+        assertThat(next.updates(), equalTo(0L));
+        assertThat(next.batchLatency().count(), equalTo(0L));
+    }
+
+    @Test
+    void shouldRejectInvalidProfile() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> loadProfile().changedFieldFraction(0).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> loadProfile().burst(2, Duration.ofSeconds(2), Duration.ofSeconds(1)).build());
+    }
+
+    private LoadGenerator generator(final LoadProfile profile) {
+        return loadGenerator(
+                profile,
+                source -> {
+                    source.attachInput(recorder);
+                    return List.of(source);
+                },
+                eventLoop);
+    }
+
+    private static int countRows(final TransformOutput output) {
+        final int[] count = new int[1];
+        output.rowProvider().forEach(row -> count[0]++);
+        return count[0];
+    }
+
+    private static final class Recorder implements TransformInput {
+        private final List<Integer> changedFieldCounts = new ArrayList<>();
+        private final List<List<String>> changedFieldNames = new ArrayList<>();
+        private final List<Integer> keys = new ArrayList<>();
+        private Schema schema;
+        private IntField keyField;
+        private int added;
+        private int changed;
+        private int removed;
+
+        @Override
+        public void schemaUpdated(@Nullable final Schema schema) {
+            this.schema = schema;
+            keyField = schema != null ? (IntField) schema.field("InstrumentId").field() : null;
+        }
+
+        @Override
+        public void rowsAdded(final IntIterable rows) {
+            rows.forEach(
+                    row -> {
+                        added++;
+                        keys.add(keyField.valueAt(row));
+                    });
+        }
+
+        @Override
+        public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
+            rows.forEach(row -> changed++);
+            changedFieldCounts.add(changedFields.size());
+            final List<String> names = new ArrayList<>();
+            changedFields.forEach(fieldId -> names.add(schema.fieldAt(fieldId).name()));
+            changedFieldNames.add(names);
+        }
+
+        @Override
+        public void rowsRemoved(final IntIterable rows) {
+            rows.forEach(row -> removed++);
+        }
+    }
+}
@@ -11,6 +11,8 @@ import com.bytefacets.spinel.TransformInput;
 import com.bytefacets.spinel.cache.Cache;
 import com.bytefacets.spinel.schema.ChangedFieldSet;
 import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.trace.LatencyHistogram;
+import com.bytefacets.spinel.trace.UpdateTrace;
 import jakarta.annotation.Nullable;
 
 /**
@@ -21,18 +23,29 @@ import jakarta.annotation.Nullable;
  * more safe than trying to traverse back up the transform graph from another thread. What is
  * guarded carefully, however, is the active row set, since that will definitely cause problems if
  * the event loop changes that while the UI is doing something.
+ *
+ * <p>When given a LatencyHistogram and {@link UpdateTrace} is enabled, the time from the earliest
+ * pending source fire until the pending rows are applied on the UI thread is recorded.
  */
 final class TransformConsumer implements TransformInput {
     private final Object lock = new Object();
     private final IntIndexedSet pendingRemove = new IntIndexedSet(16);
     private final IntIndexedSet pendingAdd = new IntIndexedSet(16);
     private final UIThreadConsumer uiThreadConsumer;
+    private final LatencyHistogram latency;
     private Schema pendingSchema;
     private Cache cache;
     private boolean reset;
+    private long pendingOriginNanos = UpdateTrace.NO_ORIGIN;
 
     TransformConsumer(final UIThreadConsumer uiThreadConsumer) {
+        this(uiThreadConsumer, null);
+    }
+
+    TransformConsumer(
+            final UIThreadConsumer uiThreadConsumer, final @Nullable LatencyHistogram latency) {
         this.uiThreadConsumer = requireNonNull(uiThreadConsumer, "uiThreadConsumer");
+        this.latency = latency;
     }
 
     @Override
@@ -66,6 +79,20 @@ final class TransformConsumer implements TransformInput {
             pendingAdd.clear();
             pendingRemove.clear();
             reset = false;
+            recordLatency();
+        }
+    }
+
+    private void recordLatency() {
+        if (latency != null && pendingOriginNanos != UpdateTrace.NO_ORIGIN) {
+            latency.record(System.nanoTime() - pendingOriginNanos);
+            pendingOriginNanos = UpdateTrace.NO_ORIGIN;
+        }
+    }
+
+    private void captureOrigin() {
+        if (latency != null && pendingOriginNanos == UpdateTrace.NO_ORIGIN) {
+            pendingOriginNanos = UpdateTrace.originNanos();
         }
     }
 
@@ -91,6 +118,7 @@ final class TransformConsumer implements TransformInput {
         synchronized (lock) {
             cache.updateAll(rows);
             rows.forEach(this::internalAdd);
+            captureOrigin();
         }
     }
 
@@ -98,6 +126,7 @@ final class TransformConsumer implements TransformInput {
     public void rowsChanged(final IntIterable rows, final ChangedFieldSet changedFields) {
         synchronized (lock) {
             cache.updateSelected(rows, changedFields); // fieldIds should be aligned
+            captureOrigin();
         }
     }
 
@@ -105,6 +134,7 @@ final class TransformConsumer implements TransformInput {
     public void rowsRemoved(final IntIterable rows) {
         synchronized (lock) {
             rows.forEach(this::internalRemove);
+            captureOrigin();
         }
     }
 
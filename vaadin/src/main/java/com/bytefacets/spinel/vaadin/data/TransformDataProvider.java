@@ -9,10 +9,12 @@ import com.bytefacets.spinel.comms.send.ModificationResponse;
 import com.bytefacets.spinel.comms.send.SubscriptionContainer;
 import com.bytefacets.spinel.comms.subscription.ModificationRequest;
 import com.bytefacets.spinel.schema.Schema;
+import com.bytefacets.spinel.trace.LatencyHistogram;
 import com.bytefacets.spinel.ui.Pager;
 import com.vaadin.flow.data.provider.AbstractDataProvider;
 import com.vaadin.flow.data.provider.Query;
 import io.netty.channel.EventLoop;
+import jakarta.annotation.Nullable;
 import java.io.Serial;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
@@ -53,8 +55,31 @@ public final class TransformDataProvider
             final Pager pager,
             final Consumer<Schema> schemaConsumer,
             final EventLoop eventLoop) {
+        return transformDataProvider(subscription, pager, schemaConsumer, eventLoop, null);
+    }
+
+    /**
+     * Factory method for this DataProvider which records update latency.
+     *
+     * @param subscription the subscription producing data for this DataProvider
+     * @param pager a pager instance (user-provided to accommodate user-specified sizing)
+     * @param schemaConsumer callback for schema processing on the UI thread
+     * @param eventLoop the event loop that is handling the data processing to manage connection and
+     *     disconnection
+     * @param latency when not null and UpdateTrace is enabled, records the time from the source
+     *     fire until rows are applied on the UI thread
+     * @return the provider
+     * @see com.bytefacets.spinel.trace.UpdateTrace
+     */
+    public static TransformDataProvider transformDataProvider(
+            final SubscriptionContainer subscription,
+            final Pager pager,
+            final Consumer<Schema> schemaConsumer,
+            final EventLoop eventLoop,
+            final @Nullable LatencyHistogram latency) {
         final UIThreadConsumer uiThreadConsumer = new UIThreadConsumer(schemaConsumer, pager);
-        final TransformConsumer eventLoopConsumer = new TransformConsumer(uiThreadConsumer);
+        final TransformConsumer eventLoopConsumer =
+                new TransformConsumer(uiThreadConsumer, latency);
         return new TransformDataProvider(
                 subscription, eventLoopConsumer, uiThreadConsumer, eventLoop);
     }